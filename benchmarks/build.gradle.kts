@@ -0,0 +1,32 @@
+plugins {
+    id("jnoise.common-conventions")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":pipeline"))
+    jmh(project(":simd"))
+}
+
+// The simd module is built on the incubating Vector API, see simd/build.gradle.kts.
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile> {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+jmh {
+    // Report throughput alongside allocation rates (gc.alloc.rate.norm) for every benchmark.
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("ms")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    jvmArgsAppend.set(vectorModule)
+    // Allows filtering from the command line, e.g. ./gradlew :benchmarks:jmh -PjmhIncludes=PerlinNoise
+    if (project.hasProperty("jmhIncludes")) {
+        includes.set(listOf(project.property("jmhIncludes") as String))
+    }
+}
@@ -0,0 +1,35 @@
+package de.articdive.jnoise.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Random;
+
+/**
+ * Deterministic pool of sample coordinates shared by all benchmarks.
+ * Cycling through a fixed pool of non-lattice coordinates prevents the JIT from constant-folding the noise evaluation.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class BenchmarkCoordinates {
+    /**
+     * Amount of samples evaluated per benchmark invocation, must be a power of two.
+     */
+    static final int SAMPLES = 1024;
+    private static final double RANGE = 1024.0;
+
+    final double[] x = new double[SAMPLES];
+    final double[] y = new double[SAMPLES];
+    final double[] z = new double[SAMPLES];
+    final double[] w = new double[SAMPLES];
+
+    BenchmarkCoordinates(long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < SAMPLES; i++) {
+            x[i] = (random.nextDouble() - 0.5) * RANGE;
+            y[i] = (random.nextDouble() - 0.5) * RANGE;
+            z[i] = (random.nextDouble() - 0.5) * RANGE;
+            w[i] = (random.nextDouble() - 0.5) * RANGE;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.transformers.domain_warp.DomainWarpTransformer;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static de.articdive.jnoise.benchmarks.BenchmarkCoordinates.SAMPLES;
+
+/**
+ * Measures the {@link DomainWarpTransformer} in isolation, transforming a reused coordinate vector.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class DomainWarpTransformerBenchmarks {
+    private DomainWarpTransformer transformer = DomainWarpTransformer.newBuilder()
+        .setNoiseSource(FastSimplexNoiseGenerator.newBuilder())
+        .build();
+    private BenchmarkCoordinates coordinates = new BenchmarkCoordinates(0);
+    private final double[] vec2D = new double[2];
+    private final double[] vec3D = new double[3];
+    private final double[] vec4D = new double[4];
+
+    @Setup
+    public void setup() {
+        transformer = DomainWarpTransformer.newBuilder()
+            .setNoiseSource(FastSimplexNoiseGenerator.newBuilder().setSeed(1729))
+            .build();
+        coordinates = new BenchmarkCoordinates(1729);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void transform2D(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            vec2D[0] = coordinates.x[i];
+            vec2D[1] = coordinates.y[i];
+            transformer.transform2D(vec2D);
+            blackhole.consume(vec2D[0]);
+            blackhole.consume(vec2D[1]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void transform3D(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            vec3D[0] = coordinates.x[i];
+            vec3D[1] = coordinates.y[i];
+            vec3D[2] = coordinates.z[i];
+            transformer.transform3D(vec3D);
+            blackhole.consume(vec3D[0]);
+            blackhole.consume(vec3D[1]);
+            blackhole.consume(vec3D[2]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void transform4D(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            vec4D[0] = coordinates.x[i];
+            vec4D[1] = coordinates.y[i];
+            vec4D[2] = coordinates.z[i];
+            vec4D[3] = coordinates.w[i];
+            transformer.transform4D(vec4D);
+            blackhole.consume(vec4D[0]);
+            blackhole.consume(vec4D[1]);
+            blackhole.consume(vec4D[2]);
+            blackhole.consume(vec4D[3]);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noise_parameters.feature_points.FeaturePointPlacement;
+import de.articdive.jnoise.generators.noise_parameters.gaussian_sampling.GaussianSampling;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.random.gaussian.GaussianWhiteNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.random.white.WhiteNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.function.Supplier;
+
+import static de.articdive.jnoise.benchmarks.BenchmarkCoordinates.SAMPLES;
+
+/**
+ * Measures the raw single-sample throughput of every noise generator in 1D, 2D, 3D and 4D.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class GeneratorBenchmarks {
+    @Param
+    public Generator generator = Generator.PERLIN;
+
+    private NoiseSource noiseSource = Generator.PERLIN.create();
+    private BenchmarkCoordinates coordinates = new BenchmarkCoordinates(0);
+    private final double[] region = new double[SAMPLES];
+    private final float[] floatRegion = new float[SAMPLES];
+
+    @Setup
+    public void setup() {
+        noiseSource = generator.create();
+        coordinates = new BenchmarkCoordinates(1729);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate1D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noiseSource.evaluateNoise(x[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate2D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noiseSource.evaluateNoise(x[i], y[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate3D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        double[] z = coordinates.z;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noiseSource.evaluateNoise(x[i], y[i], z[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate4D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        double[] z = coordinates.z;
+        double[] w = coordinates.w;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noiseSource.evaluateNoise(x[i], y[i], z[i], w[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double[] fill2D() {
+        // 32 x 32 samples at a quarter unit spacing, a typical tile.
+        noiseSource.fill2D(region, coordinates.x[0], coordinates.y[0], 0.25, 0.25, 32, 32);
+        return region;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double[] fill3D() {
+        // 16 x 16 x 4 samples at a quarter unit spacing.
+        noiseSource.fill3D(region, coordinates.x[0], coordinates.y[0], coordinates.z[0], 0.25, 0.25, 0.25, 16, 16, 4);
+        return region;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float[] fillFloat2D() {
+        noiseSource.fill2D(floatRegion, coordinates.x[0], coordinates.y[0], 0.25, 0.25, 32, 32);
+        return floatRegion;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float[] fillFloat3D() {
+        noiseSource.fill3D(floatRegion, coordinates.x[0], coordinates.y[0], coordinates.z[0], 0.25, 0.25, 0.25, 16, 16, 4);
+        return floatRegion;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double[] fillLattice2D() {
+        // The same tile as fill2D, addressed by integer block coordinates.
+        noiseSource.fillLattice2D(region, (long) coordinates.x[0], (long) coordinates.y[0], 0.25, 32, 32);
+        return region;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double[] fillLattice3D() {
+        noiseSource.fillLattice3D(region, (long) coordinates.x[0], (long) coordinates.y[0], (long) coordinates.z[0], 0.25, 16, 16, 4);
+        return region;
+    }
+
+    public enum Generator {
+        PERLIN(() -> PerlinNoiseGenerator.newBuilder().setSeed(1729).build()),
+        VALUE(() -> ValueNoiseGenerator.newBuilder().setSeed(1729).build()),
+        FAST_SIMPLEX(() -> FastSimplexNoiseGenerator.newBuilder().setSeed(1729).build()),
+        SUPER_SIMPLEX(() -> SuperSimplexNoiseGenerator.newBuilder().setSeed(1729).build()),
+        WORLEY(() -> WorleyNoiseGenerator.newBuilder().setSeed(1729).build()),
+        WORLEY_HASHED(() -> WorleyNoiseGenerator.newBuilder().setSeed(1729).setFeaturePointPlacement(FeaturePointPlacement.HASHED).build()),
+        WORLEY_CACHED(() -> WorleyNoiseGenerator.newBuilder().setSeed(1729).setFeaturePointCacheSize(256).build()),
+        WHITE(() -> WhiteNoiseGenerator.newBuilder().setSeed(1729).build()),
+        GAUSSIAN_WHITE(() -> GaussianWhiteNoiseGenerator.newBuilder().setSeed(1729).build()),
+        GAUSSIAN_WHITE_ZIGGURAT(() -> GaussianWhiteNoiseGenerator.newBuilder().setSeed(1729).setSampling(GaussianSampling.ZIGGURAT).build());
+
+        private final Supplier<NoiseSource> factory;
+
+        Generator(Supplier<NoiseSource> factory) {
+            this.factory = factory;
+        }
+
+        NoiseSource create() {
+            return factory.get();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.modules.octavation.OctavationModule;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static de.articdive.jnoise.benchmarks.BenchmarkCoordinates.SAMPLES;
+
+/**
+ * Measures the {@link OctavationModule} on top of perlin noise for varying octave counts and sampling footprints.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class OctavationModuleBenchmarks {
+    @Param({"1", "4", "8"})
+    public int octaves = 4;
+    @Param({"false", "true"})
+    public boolean incrementSeed = false;
+    // 0 evaluates every octave, 0.1 skips the octaves above a frequency of 10 as for a distant level of detail.
+    @Param({"0", "0.1"})
+    public double footprint = 0;
+
+    private OctavationModule module = OctavationModule.newBuilder().setNoiseSource(PerlinNoiseGenerator.newBuilder()).build();
+    private BenchmarkCoordinates coordinates = new BenchmarkCoordinates(0);
+
+    @Setup
+    public void setup() {
+        module = OctavationModule.newBuilder()
+            .setNoiseSource(PerlinNoiseGenerator.newBuilder().setSeed(1729))
+            .setOctaves(octaves)
+            .setFractalFunction(FractalFunction.FBM)
+            .setIncrementSeed(incrementSeed)
+            .setFootprint(footprint)
+            .build();
+        coordinates = new BenchmarkCoordinates(1729);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate2D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(module.evaluateNoise(x[i], y[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate3D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        double[] z = coordinates.z;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(module.evaluateNoise(x[i], y[i], z[i]));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
+import de.articdive.jnoise.modules.blend.BlendModule;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import de.articdive.jnoise.pipeline.JNoise;
+import de.articdive.jnoise.transformers.affine.AffineTransformer;
+import de.articdive.jnoise.transformers.affine.RotationPlane;
+import de.articdive.jnoise.transformers.domain_warp.DomainWarpTransformer;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.function.Supplier;
+
+import static de.articdive.jnoise.benchmarks.BenchmarkCoordinates.SAMPLES;
+
+/**
+ * Measures full {@link JNoise} pipelines, including transformer, module and modifier overhead.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class PipelineBenchmarks {
+    @Param
+    public Chain chain = Chain.SCALED_PERLIN;
+
+    /**
+     * Whether every other chain is evaluated before the measurement,
+     * which makes the call sites shared between pipelines megamorphic like in a process running many pipelines.
+     */
+    @Param({"false", "true"})
+    public boolean polluted;
+
+    private NoiseSource noise = Chain.SCALED_PERLIN.create();
+    private BenchmarkCoordinates coordinates = new BenchmarkCoordinates(0);
+
+    @Setup
+    public void setup() {
+        noise = chain.create();
+        coordinates = new BenchmarkCoordinates(1729);
+        if (polluted) {
+            for (Chain other : Chain.values()) {
+                NoiseSource otherNoise = other.create();
+                for (int i = 0; i < 20_000; i++) {
+                    otherNoise.evaluateNoise(coordinates.x[i % SAMPLES], coordinates.y[i % SAMPLES], coordinates.z[i % SAMPLES]);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate2D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noise.evaluateNoise(x[i], y[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate3D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        double[] z = coordinates.z;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noise.evaluateNoise(x[i], y[i], z[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void evaluate4D(Blackhole blackhole) {
+        double[] x = coordinates.x;
+        double[] y = coordinates.y;
+        double[] z = coordinates.z;
+        double[] w = coordinates.w;
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(noise.evaluateNoise(x[i], y[i], z[i], w[i]));
+        }
+    }
+
+    public enum Chain {
+        /**
+         * A single generator behind a scale transformer, measures the bare pipeline overhead.
+         */
+        SCALED_PERLIN(() -> scaledPerlin().build()),
+        /**
+         * {@link #SCALED_PERLIN} compiled with {@link JNoise.JNoiseBuilder#compile()}.
+         */
+        COMPILED_SCALED_PERLIN(() -> scaledPerlin().compile()),
+        /**
+         * Scale, rotation and translation as consecutive affine transformers, which are fused into one step.
+         */
+        ROTATED_PERLIN(() -> JNoise.newBuilder()
+            .perlin(1729, Interpolation.COSINE, FadeFunction.QUINTIC_POLY)
+            .addDetailedTransformer(AffineTransformer.newBuilder().scale(1 / 16.0).build())
+            .addDetailedTransformer(AffineTransformer.newBuilder().rotate(RotationPlane.XY, 0.5).rotate(RotationPlane.XZ, 0.5).build())
+            .addDetailedTransformer(AffineTransformer.newBuilder().translate(0.5, 0.5, 0.5, 0.5).build())
+            .build()
+        ),
+        /**
+         * A typical terrain chain: scale, domain warp, octavation and a clamp modifier.
+         */
+        TERRAIN(() -> terrain().build()),
+        /**
+         * {@link #TERRAIN} compiled with {@link JNoise.JNoiseBuilder#compile()}.
+         */
+        COMPILED_TERRAIN(() -> terrain().compile()),
+        /**
+         * A detailed worley pipeline, measures the {@link de.articdive.jnoise.pipeline.JNoiseDetailed} result path.
+         */
+        DETAILED_WORLEY(() -> JNoise.newBuilder()
+            .worley(WorleyNoiseGenerator.newBuilder().setSeed(1729))
+            .scale(1 / 16.0)
+            .abs()
+            .buildDetailed()
+        ),
+        /**
+         * A blend whose control is an equal but distinct instance of one of its operands, so both are evaluated.
+         */
+        EQUAL_CONTROL_BLEND(() -> blend(false).build()),
+        /**
+         * A blend whose control is also one of its operands, which the pipeline evaluates once per sample.
+         */
+        SHARED_CONTROL_BLEND(() -> blend(true).build());
+
+        private final Supplier<NoiseSource> factory;
+
+        Chain(Supplier<NoiseSource> factory) {
+            this.factory = factory;
+        }
+
+        NoiseSource create() {
+            return factory.get();
+        }
+
+        private static JNoise.JNoiseBuilder<?> scaledPerlin() {
+            return JNoise.newBuilder()
+                .perlin(1729, Interpolation.COSINE, FadeFunction.QUINTIC_POLY)
+                .scale(1 / 16.0);
+        }
+
+        private static JNoise.JNoiseBuilder<?> blend(boolean sharedControl) {
+            PerlinNoiseGenerator.PerlinNoiseBuilder perlin = PerlinNoiseGenerator.newBuilder()
+                .setSeed(1729)
+                .setInterpolation(Interpolation.COSINE)
+                .setFadeFunction(FadeFunction.QUINTIC_POLY);
+            PerlinNoiseGenerator a = perlin.build();
+            return JNoise.newBuilder()
+                .setNoiseSource(BlendModule.newBuilder()
+                    .setA(a)
+                    .setB(FastSimplexNoiseGenerator.newBuilder().setSeed(1729))
+                    .setControl(sharedControl ? a : perlin.build())
+                )
+                .scale(1 / 16.0);
+        }
+
+        private static JNoise.JNoiseBuilder<?> terrain() {
+            return JNoise.newBuilder()
+                .perlin(1729, Interpolation.COSINE, FadeFunction.QUINTIC_POLY)
+                .scale(1 / 64.0)
+                .addDetailedTransformer(DomainWarpTransformer.newBuilder()
+                    .setNoiseSource(FastSimplexNoiseGenerator.newBuilder().setSeed(1729))
+                    .build()
+                )
+                .octavate(6, 0.5, 2.0, FractalFunction.FBM, true)
+                .clamp(-1, 1);
+        }
+    }
+}
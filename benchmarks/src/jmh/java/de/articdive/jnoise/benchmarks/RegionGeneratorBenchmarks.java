@@ -0,0 +1,56 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.modules.octavation.OctavationModule;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import de.articdive.jnoise.pipeline.RegionGenerator;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@link RegionGenerator} against a single threaded bulk evaluation of the same region.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class RegionGeneratorBenchmarks {
+    private static final int SIZE = 512;
+
+    @Param({"8", "16", "64"})
+    public int tileSize = 16;
+
+    private final double[] out = new double[SIZE * SIZE];
+    private NoiseSource source = PerlinNoiseGenerator.newBuilder().build();
+    private RegionGenerator generator = RegionGenerator.newBuilder().setNoiseSource(source).build();
+
+    @Setup
+    public void setup() {
+        source = OctavationModule.newBuilder()
+            .setNoiseSource(PerlinNoiseGenerator.newBuilder().setSeed(1729))
+            .setOctaves(4)
+            .setFractalFunction(FractalFunction.FBM)
+            .build();
+        generator = RegionGenerator.newBuilder().setNoiseSource(source).setTileSize(tileSize).build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE * SIZE)
+    public double[] serial2D() {
+        source.fill2D(out, 0, 0, 1 / 64.0, 1 / 64.0, SIZE, SIZE);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE * SIZE)
+    public double[] parallel2D() {
+        generator.fill2D(out, 0, 0, 1 / 64.0, 1 / 64.0, SIZE, SIZE);
+        return out;
+    }
+}
@@ -0,0 +1,56 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.modules.octavation.OctavationModule;
+import de.articdive.jnoise.modules.upsampling.UpsamplingModule;
+import de.articdive.jnoise.pipeline.JNoise;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures filling a voxel chunk with an {@link OctavationModule} evaluated on coarse cells of an {@link UpsamplingModule}
+ * against evaluating it at every voxel.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class UpsamplingModuleBenchmarks {
+    private static final int SIZE_XZ = 16;
+    private static final int SIZE_Y = 64;
+    private static final int VOXELS = SIZE_XZ * SIZE_Y * SIZE_XZ;
+
+    @Param({"false", "true"})
+    public boolean upsampled = true;
+
+    private NoiseSource source = PerlinNoiseGenerator.newBuilder().build();
+    private final double[] out = new double[VOXELS];
+
+    @Setup
+    public void setup() {
+        // Smooth density sampled at block coordinates.
+        JNoise density = JNoise.newBuilder()
+            .setNoiseSource(OctavationModule.newBuilder()
+                .setNoiseSource(PerlinNoiseGenerator.newBuilder().setSeed(1729))
+                .setOctaves(4)
+                .build())
+            .scale(1.0 / 64)
+            .build();
+        source = upsampled
+            ? UpsamplingModule.newBuilder().setNoiseSource(density).setCellSize(4, 8, 4).build()
+            : density;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VOXELS)
+    public double[] fillChunk() {
+        source.fill3D(out, 0, 0, 0, 1, 1, 1, SIZE_XZ, SIZE_Y, SIZE_XZ);
+        return out;
+    }
+}
@@ -0,0 +1,93 @@
+package de.articdive.jnoise.benchmarks;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
+import de.articdive.jnoise.simd.VectorizedFastSimplexNoise;
+import de.articdive.jnoise.simd.VectorizedPerlinNoise;
+import de.articdive.jnoise.simd.VectorizedSuperSimplexNoise;
+import de.articdive.jnoise.simd.VectorizedValueNoise;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the Vector API implementations of the simd module against the scalar generators they reproduce.
+ *
+ * @author Articdive
+ */
+@NullMarked
+@State(Scope.Thread)
+public class VectorizedNoiseBenchmarks {
+    private static final int SIZE_2D = 256;
+    private static final int SIZE_3D = 32;
+    private static final double STEP = 0.37;
+
+    @Param
+    public Generator generator = Generator.PERLIN;
+
+    @Param({"false", "true"})
+    public boolean vectorized;
+
+    private final double[] out2D = new double[SIZE_2D * SIZE_2D];
+    private final double[] out3D = new double[SIZE_3D * SIZE_3D * SIZE_3D];
+    private NoiseSource noiseSource = PerlinNoiseGenerator.newBuilder().build();
+
+    @Setup
+    public void setup() {
+        noiseSource = generator.create(vectorized);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE_2D * SIZE_2D)
+    public double[] fill2D() {
+        noiseSource.fill2D(out2D, -17.3, 42.1, STEP, STEP, SIZE_2D, SIZE_2D);
+        return out2D;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE_3D * SIZE_3D * SIZE_3D)
+    public double[] fill3D() {
+        noiseSource.fill3D(out3D, -17.3, 42.1, 5.9, STEP, STEP, STEP, SIZE_3D, SIZE_3D, SIZE_3D);
+        return out3D;
+    }
+
+    public enum Generator {
+        PERLIN {
+            @Override
+            NoiseSource create(boolean vectorized) {
+                PerlinNoiseGenerator perlin = PerlinNoiseGenerator.newBuilder().setSeed(1729).build();
+                return vectorized ? new VectorizedPerlinNoise(perlin) : perlin;
+            }
+        },
+        VALUE {
+            @Override
+            NoiseSource create(boolean vectorized) {
+                ValueNoiseGenerator value = ValueNoiseGenerator.newBuilder().setSeed(1729).build();
+                return vectorized ? new VectorizedValueNoise(value) : value;
+            }
+        },
+        FAST_SIMPLEX {
+            @Override
+            NoiseSource create(boolean vectorized) {
+                FastSimplexNoiseGenerator fastSimplex = FastSimplexNoiseGenerator.newBuilder().setSeed(1729).build();
+                return vectorized ? new VectorizedFastSimplexNoise(fastSimplex) : fastSimplex;
+            }
+        },
+        SUPER_SIMPLEX {
+            @Override
+            NoiseSource create(boolean vectorized) {
+                SuperSimplexNoiseGenerator superSimplex = SuperSimplexNoiseGenerator.newBuilder().setSeed(1729).build();
+                return vectorized ? new VectorizedSuperSimplexNoise(superSimplex) : superSimplex;
+            }
+        };
+
+        abstract NoiseSource create(boolean vectorized);
+    }
+}
@@ -0,0 +1,262 @@
+package de.articdive.jnoise.core.api.definition;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The binary format of {@link NoiseDefinition}s.
+ * <p>
+ * It starts with the magic "JNDF" and the version, followed by the root definition.
+ * A definition is a varint, which is 0 for a new definition and i + 1 for a reference to the i-th previously read definition.
+ * New definitions consist of their type, the amount of properties and the properties, i.e. name, tag and value.
+ * Strings are the varint length of their UTF-8 bytes and the bytes, longs are zigzag encoded varints
+ * and doubles their 8 big-endian IEEE 754 bytes.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class BinaryDefinitionCodec {
+    private static final int MAGIC = 0x4A4E4446;
+    private static final int VERSION = 1;
+    // Deeper definitions are rejected, so malformed input cannot overflow the stack.
+    private static final int MAX_DEPTH = 512;
+
+    // Tags of the kinds of properties, they are part of the format.
+    private static final int LONG = 0;
+    private static final int DOUBLE = 1;
+    private static final int BOOLEAN = 2;
+    private static final int CONSTANT = 3;
+    private static final int DOUBLES = 4;
+    private static final int DEFINITION = 5;
+    private static final int DEFINITIONS = 6;
+
+    private BinaryDefinitionCodec() {
+
+    }
+
+    static int tagOf(Object value) {
+        if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof String) {
+            return CONSTANT;
+        } else if (value instanceof double[]) {
+            return DOUBLES;
+        } else if (value instanceof NoiseDefinition) {
+            return DEFINITION;
+        }
+        return DEFINITIONS;
+    }
+
+    static byte[] write(NoiseDefinition definition) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.write(MAGIC >>> shift);
+        }
+        out.write(VERSION);
+        writeDefinition(out, definition, new HashMap<>());
+        return out.toByteArray();
+    }
+
+    static NoiseDefinition read(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            magic = magic << 8 | reader.readByte();
+        }
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Not a serialized noise definition.");
+        }
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of serialized noise definitions: " + version + ".");
+        }
+        NoiseDefinition definition = reader.readDefinition(0);
+        if (reader.position != bytes.length) {
+            throw new IllegalArgumentException("Serialized noise definition is followed by trailing bytes.");
+        }
+        return definition;
+    }
+
+    private static void writeDefinition(ByteArrayOutputStream out, NoiseDefinition definition, Map<NoiseDefinition, Integer> written) {
+        Integer reference = written.get(definition);
+        if (reference != null) {
+            writeVarint(out, reference + 1);
+            return;
+        }
+        writeVarint(out, 0);
+        writeString(out, definition.getType());
+        SortedMap<String, Object> properties = definition.getProperties();
+        writeVarint(out, properties.size());
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            Object value = property.getValue();
+            int tag = tagOf(value);
+            writeString(out, property.getKey());
+            out.write(tag);
+            switch (tag) {
+                case LONG -> writeVarint(out, (Long) value);
+                case DOUBLE -> writeDouble(out, (Double) value);
+                case BOOLEAN -> out.write((Boolean) value ? 1 : 0);
+                case CONSTANT -> writeString(out, (String) value);
+                case DOUBLES -> {
+                    double[] doubles = (double[]) value;
+                    writeVarint(out, doubles.length);
+                    for (double element : doubles) {
+                        writeDouble(out, element);
+                    }
+                }
+                case DEFINITION -> writeDefinition(out, (NoiseDefinition) value, written);
+                default -> {
+                    List<?> definitions = (List<?>) value;
+                    writeVarint(out, definitions.size());
+                    for (Object element : definitions) {
+                        writeDefinition(out, (NoiseDefinition) element, written);
+                    }
+                }
+            }
+        }
+        // Definitions are numbered once they are complete, like when they are read.
+        written.putIfAbsent(definition, written.size());
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) (zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static void writeDouble(ByteArrayOutputStream out, double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (bits >>> shift));
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    @NullMarked
+    private static final class Reader {
+        private final byte[] bytes;
+        private final List<NoiseDefinition> definitions = new ArrayList<>();
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private NoiseDefinition readDefinition(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("Serialized noise definition is nested too deeply.");
+            }
+            int reference = readLength();
+            if (reference != 0) {
+                if (reference > definitions.size()) {
+                    throw new IllegalArgumentException("Serialized noise definition references an unknown definition.");
+                }
+                return definitions.get(reference - 1);
+            }
+            String type = readString();
+            int count = readLength();
+            SortedMap<String, Object> properties = new TreeMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                int tag = readByte();
+                Object value = switch (tag) {
+                    case LONG -> readVarint();
+                    case DOUBLE -> readDouble();
+                    case BOOLEAN -> readByte() != 0;
+                    case CONSTANT -> readString();
+                    case DOUBLES -> {
+                        double[] doubles = new double[readLength(Double.BYTES)];
+                        for (int j = 0; j < doubles.length; j++) {
+                            doubles[j] = readDouble();
+                        }
+                        yield doubles;
+                    }
+                    case DEFINITION -> readDefinition(depth + 1);
+                    case DEFINITIONS -> {
+                        int size = readLength(1);
+                        List<NoiseDefinition> elements = new ArrayList<>(size);
+                        for (int j = 0; j < size; j++) {
+                            elements.add(readDefinition(depth + 1));
+                        }
+                        yield Collections.unmodifiableList(elements);
+                    }
+                    default -> throw new IllegalArgumentException("Serialized noise definition has an unknown property tag: " + tag + ".");
+                };
+                if (properties.put(name, value) != null) {
+                    throw new IllegalArgumentException("Serialized noise definition has a duplicate property: " + name + ".");
+                }
+            }
+            NoiseDefinition definition = NoiseDefinition.of(type, properties);
+            definitions.add(definition);
+            return definition;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Serialized noise definition is truncated.");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private long readVarint() {
+            long zigzag = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalArgumentException("Serialized noise definition has a malformed varint.");
+        }
+
+        private int readLength() {
+            return readLength(0);
+        }
+
+        // Lengths of elements taking bytes each must fit into the remaining bytes.
+        private int readLength(int elementBytes) {
+            long length = readVarint();
+            if (length < 0 || length > Integer.MAX_VALUE || length * elementBytes > bytes.length - position) {
+                throw new IllegalArgumentException("Serialized noise definition has an invalid length.");
+            }
+            return (int) length;
+        }
+
+        private double readDouble() {
+            long bits = 0;
+            for (int i = 0; i < Double.BYTES; i++) {
+                bits = bits << 8 | readByte();
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        private String readString() {
+            int length = readLength(1);
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package de.articdive.jnoise.core.api.definition;
+
+/**
+ * Interface that denotes a component of a pipeline, which can describe itself as a {@link NoiseDefinition}.
+ * Definitions can be serialized, sent to other processes and rebuilt there, e.g. by the pipeline module.
+ *
+ * @author Articdive
+ */
+public interface Definable {
+    /**
+     * Describes this component and all components it evaluates as a {@link NoiseDefinition}.
+     *
+     * @return the {@link NoiseDefinition} of this component.
+     * @throws IllegalArgumentException if the component uses functions, which are not predefined constants.
+     */
+    NoiseDefinition getDefinition();
+}
@@ -0,0 +1,318 @@
+package de.articdive.jnoise.core.api.definition;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The JSON format of {@link NoiseDefinition}s.
+ * <p>
+ * A definition is an object with its type in "type" and one member per property.
+ * Longs are integers, doubles always have a fraction or an exponent, constants are strings
+ * and nested definitions are objects. Arrays of numbers are double arrays and arrays of objects lists of definitions.
+ * JSON has no non-finite numbers, they are written as the strings "NaN", "Infinity" and "-Infinity".
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class JsonDefinitionCodec {
+    // Deeper definitions are rejected, so malformed input cannot overflow the stack.
+    private static final int MAX_DEPTH = 512;
+
+    private JsonDefinitionCodec() {
+
+    }
+
+    static String write(NoiseDefinition definition) {
+        StringBuilder out = new StringBuilder();
+        writeDefinition(out, definition);
+        return out.toString();
+    }
+
+    static NoiseDefinition read(String json) {
+        Parser parser = new Parser(json);
+        parser.skipWhitespace();
+        NoiseDefinition definition = parser.readDefinition(0);
+        parser.skipWhitespace();
+        if (parser.position != json.length()) {
+            throw parser.error("trailing characters");
+        }
+        return definition;
+    }
+
+    private static void writeDefinition(StringBuilder out, NoiseDefinition definition) {
+        out.append("{\"type\":");
+        writeString(out, definition.getType());
+        for (Map.Entry<String, Object> property : definition.getProperties().entrySet()) {
+            out.append(',');
+            writeString(out, property.getKey());
+            out.append(':');
+            Object value = property.getValue();
+            if (value instanceof Double doubleValue) {
+                writeDouble(out, doubleValue);
+            } else if (value instanceof String constant) {
+                writeString(out, constant);
+            } else if (value instanceof double[] doubles) {
+                out.append('[');
+                for (int i = 0; i < doubles.length; i++) {
+                    if (i != 0) {
+                        out.append(',');
+                    }
+                    writeDouble(out, doubles[i]);
+                }
+                out.append(']');
+            } else if (value instanceof NoiseDefinition nested) {
+                writeDefinition(out, nested);
+            } else if (value instanceof List<?> definitions) {
+                out.append('[');
+                for (int i = 0; i < definitions.size(); i++) {
+                    if (i != 0) {
+                        out.append(',');
+                    }
+                    writeDefinition(out, (NoiseDefinition) definitions.get(i));
+                }
+                out.append(']');
+            } else {
+                // Longs and booleans.
+                out.append(value);
+            }
+        }
+        out.append('}');
+    }
+
+    // Double.toString always writes a fraction or an exponent, so doubles are read back as doubles.
+    private static void writeDouble(StringBuilder out, double value) {
+        if (Double.isFinite(value)) {
+            out.append(value);
+        } else {
+            out.append('"').append(value).append('"');
+        }
+    }
+
+    private static void writeString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    @NullMarked
+    private static final class Parser {
+        private final String json;
+        private int position;
+
+        private Parser(String json) {
+            this.json = json;
+        }
+
+        private NoiseDefinition readDefinition(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw error("definitions nested too deeply");
+            }
+            expect('{');
+            @Nullable String type = null;
+            SortedMap<String, Object> properties = new TreeMap<>();
+            skipWhitespace();
+            if (peek() != '}') {
+                do {
+                    skipWhitespace();
+                    String name = readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    if (name.equals("type")) {
+                        if (type != null || peek() != '"') {
+                            throw error("\"type\" must be a single string");
+                        }
+                        type = readString();
+                    } else if (properties.put(name, readValue(depth)) != null) {
+                        throw error("duplicate property \"" + name + "\"");
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+            }
+            expect('}');
+            if (type == null) {
+                throw error("definition without \"type\"");
+            }
+            return NoiseDefinition.of(type, properties);
+        }
+
+        private Object readValue(int depth) {
+            char c = peek();
+            if (c == '{') {
+                return readDefinition(depth + 1);
+            } else if (c == '[') {
+                return readArray(depth + 1);
+            } else if (c == '"') {
+                String value = readString();
+                return switch (value) {
+                    case "NaN" -> Double.NaN;
+                    case "Infinity" -> Double.POSITIVE_INFINITY;
+                    case "-Infinity" -> Double.NEGATIVE_INFINITY;
+                    default -> value;
+                };
+            } else if (json.startsWith("true", position)) {
+                position += 4;
+                return true;
+            } else if (json.startsWith("false", position)) {
+                position += 5;
+                return false;
+            }
+            return readNumber();
+        }
+
+        // Empty arrays are double arrays, empty lists of definitions are not written at all.
+        private Object readArray(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw error("arrays nested too deeply");
+            }
+            expect('[');
+            List<Object> elements = new ArrayList<>();
+            skipWhitespace();
+            if (peek() != ']') {
+                do {
+                    skipWhitespace();
+                    elements.add(readValue(depth));
+                    skipWhitespace();
+                } while (consume(','));
+            }
+            expect(']');
+            if (!elements.isEmpty() && elements.get(0) instanceof NoiseDefinition) {
+                List<NoiseDefinition> definitions = new ArrayList<>(elements.size());
+                for (Object element : elements) {
+                    if (!(element instanceof NoiseDefinition definition)) {
+                        throw error("arrays must only contain definitions or numbers");
+                    }
+                    definitions.add(definition);
+                }
+                return Collections.unmodifiableList(definitions);
+            }
+            double[] doubles = new double[elements.size()];
+            for (int i = 0; i < doubles.length; i++) {
+                if (!(elements.get(i) instanceof Number number)) {
+                    throw error("arrays must only contain definitions or numbers");
+                }
+                doubles[i] = number.doubleValue();
+            }
+            return doubles;
+        }
+
+        private Object readNumber() {
+            int start = position;
+            boolean integral = true;
+            while (position < json.length()) {
+                char c = json.charAt(position);
+                if (c == '.' || c == 'e' || c == 'E') {
+                    integral = false;
+                } else if (c != '-' && c != '+' && (c < '0' || c > '9')) {
+                    break;
+                }
+                position++;
+            }
+            String number = json.substring(start, position);
+            try {
+                if (number.isEmpty()) {
+                    throw error("unexpected character");
+                }
+                return integral ? (Object) Long.parseLong(number) : (Object) Double.parseDouble(number);
+            } catch (NumberFormatException e) {
+                throw error("invalid number " + number);
+            }
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append(escaped);
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > json.length()) {
+                            throw error("truncated escape");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("invalid escape");
+                        }
+                        position += 4;
+                    }
+                    default -> throw error("invalid escape");
+                }
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char c) {
+            if (position < json.length() && json.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw error("expected '" + c + "'");
+            }
+        }
+
+        private char peek() {
+            if (position >= json.length()) {
+                throw error("unexpected end");
+            }
+            return json.charAt(position);
+        }
+
+        private char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid noise definition JSON at " + position + ": " + message + ".");
+        }
+    }
+}
@@ -0,0 +1,521 @@
+package de.articdive.jnoise.core.api.definition;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable description of a component of a pipeline, i.e. its type and its named properties.
+ * Properties are longs, doubles, booleans, names of predefined constants, double arrays or the definitions of nested components,
+ * so the definition of a pipeline describes all of its sources, transformers and modifiers.
+ * <p>
+ * Definitions are serialized with {@link #toBytes()} into a compact binary format or with {@link #toJson()} into JSON.
+ * Properties are kept sorted by name, so equal definitions are always serialized to the same bytes
+ * and have the same {@link #getStructuralHash()}, which makes it usable as a key for caches of generated noise.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class NoiseDefinition {
+    private final String type;
+    private final SortedMap<String, Object> properties;
+    private final long structuralHash;
+
+    private NoiseDefinition(String type, SortedMap<String, Object> properties) {
+        this.type = type;
+        this.properties = Collections.unmodifiableSortedMap(properties);
+        this.structuralHash = hash(type, properties);
+    }
+
+    /**
+     * Gets the type of the defined component, e.g. "perlin", which determines how the component is rebuilt.
+     *
+     * @return the type of the component.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the names of the properties of this definition.
+     *
+     * @return the sorted names of all properties.
+     */
+    public Set<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    /**
+     * Checks whether this definition has a property.
+     *
+     * @param name name of the property.
+     * @return true if the property is defined.
+     */
+    public boolean hasProperty(String name) {
+        return properties.containsKey(name);
+    }
+
+    /**
+     * Gets a long property.
+     *
+     * @param name name of the property.
+     * @return the value of the property.
+     * @throws IllegalArgumentException if the property is missing or not a long.
+     */
+    public long getLong(String name) {
+        return getProperty(name, Long.class, "a long");
+    }
+
+    /**
+     * Gets a long property, which has to fit into an int.
+     *
+     * @param name name of the property.
+     * @return the value of the property.
+     * @throws IllegalArgumentException if the property is missing, not a long or does not fit into an int.
+     */
+    public int getInt(String name) {
+        long value = getLong(name);
+        if (value != (int) value) {
+            throw new IllegalArgumentException("Property \"" + name + "\" of \"" + type + "\" must be an int.");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Gets a double property, long properties are converted to doubles.
+     *
+     * @param name name of the property.
+     * @return the value of the property.
+     * @throws IllegalArgumentException if the property is missing or not a number.
+     */
+    public double getDouble(String name) {
+        if (properties.get(name) instanceof Long value) {
+            return value;
+        }
+        return getProperty(name, Double.class, "a double");
+    }
+
+    /**
+     * Gets a boolean property.
+     *
+     * @param name name of the property.
+     * @return the value of the property.
+     * @throws IllegalArgumentException if the property is missing or not a boolean.
+     */
+    public boolean getBoolean(String name) {
+        return getProperty(name, Boolean.class, "a boolean");
+    }
+
+    /**
+     * Gets a constant property, i.e. the public static field of the holder with the stored name.
+     *
+     * @param name   name of the property.
+     * @param holder class or interface declaring the constant, e.g. an enum or {@code FadeFunction}.
+     * @param <T>    type of the constant.
+     * @return the value of the constant.
+     * @throws IllegalArgumentException if the property is missing, not a constant or the holder has no such constant.
+     */
+    public <T> T getConstant(String name, Class<T> holder) {
+        String constant = getProperty(name, String.class, "a constant");
+        try {
+            Field field = holder.getField(constant);
+            Object value = Modifier.isStatic(field.getModifiers()) ? field.get(null) : null;
+            if (holder.isInstance(value)) {
+                return holder.cast(value);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+            // Handled below, like fields of the wrong type.
+        }
+        throw new IllegalArgumentException(
+            "Property \"" + name + "\" of \"" + type + "\" is not a constant of " + holder.getSimpleName() + ": " + constant + "."
+        );
+    }
+
+    /**
+     * Checks whether a property is the definition of a nested component, e.g. to tell it apart from a constant.
+     *
+     * @param name name of the property.
+     * @return true if the property is a {@link NoiseDefinition}.
+     */
+    public boolean isDefinition(String name) {
+        return properties.get(name) instanceof NoiseDefinition;
+    }
+
+    /**
+     * Gets a double array property.
+     *
+     * @param name name of the property.
+     * @return a copy of the value of the property.
+     * @throws IllegalArgumentException if the property is missing or not a double array.
+     */
+    public double[] getDoubles(String name) {
+        return getProperty(name, double[].class, "a double array").clone();
+    }
+
+    /**
+     * Gets the definition of a nested component.
+     *
+     * @param name name of the property.
+     * @return the {@link NoiseDefinition} of the component.
+     * @throws IllegalArgumentException if the property is missing or not a definition.
+     */
+    public NoiseDefinition getDefinition(String name) {
+        return getProperty(name, NoiseDefinition.class, "a definition");
+    }
+
+    /**
+     * Gets the definitions of a list of nested components, missing properties are empty lists.
+     *
+     * @param name name of the property.
+     * @return the unmodifiable list of {@link NoiseDefinition}s.
+     * @throws IllegalArgumentException if the property is not a list of definitions.
+     */
+    @SuppressWarnings("unchecked")
+    public List<NoiseDefinition> getDefinitions(String name) {
+        if (!properties.containsKey(name)) {
+            return List.of();
+        }
+        return getProperty(name, List.class, "a list of definitions");
+    }
+
+    /**
+     * Gets the structural hash of this definition, a 64-bit hash of its type and all properties, including nested definitions.
+     * Equal definitions have equal hashes, no matter in which process or from which format they were created,
+     * so it identifies e.g. pregenerated noise of a pipeline.
+     *
+     * @return the structural hash of this definition.
+     */
+    public long getStructuralHash() {
+        return structuralHash;
+    }
+
+    /**
+     * Serializes this definition into the binary format, which stores equal nested definitions only once.
+     *
+     * @return the serialized definition.
+     */
+    public byte[] toBytes() {
+        return BinaryDefinitionCodec.write(this);
+    }
+
+    /**
+     * Serializes this definition into JSON, where every definition is an object with a "type" and its properties.
+     * Constants are stored as strings, non-finite doubles as the strings "NaN", "Infinity" and "-Infinity".
+     *
+     * @return the serialized definition.
+     */
+    public String toJson() {
+        return JsonDefinitionCodec.write(this);
+    }
+
+    /**
+     * Deserializes a definition from the binary format, see {@link #toBytes()}.
+     *
+     * @param bytes the serialized definition.
+     * @return the deserialized {@link NoiseDefinition}.
+     * @throws IllegalArgumentException if the bytes are not a serialized definition.
+     */
+    public static NoiseDefinition fromBytes(byte[] bytes) {
+        return BinaryDefinitionCodec.read(bytes);
+    }
+
+    /**
+     * Deserializes a definition from JSON, see {@link #toJson()}.
+     * Numbers with a fraction or an exponent are doubles, all other numbers are longs.
+     *
+     * @param json the serialized definition.
+     * @return the deserialized {@link NoiseDefinition}.
+     * @throws IllegalArgumentException if the JSON is not a serialized definition.
+     */
+    public static NoiseDefinition fromJson(String json) {
+        return JsonDefinitionCodec.read(json);
+    }
+
+    SortedMap<String, Object> getProperties() {
+        return properties;
+    }
+
+    // Used by the codecs, which only create values of the supported kinds.
+    static NoiseDefinition of(String type, SortedMap<String, Object> properties) {
+        if (type.isEmpty()) {
+            throw new IllegalArgumentException("Type must not be empty.");
+        }
+        for (String name : properties.keySet()) {
+            NoiseDefinitionBuilder.checkName(name);
+        }
+        return new NoiseDefinition(type, properties);
+    }
+
+    private <T> T getProperty(String name, Class<T> kind, String description) {
+        Object value = properties.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Property \"" + name + "\" of \"" + type + "\" must be defined.");
+        }
+        if (!kind.isInstance(value)) {
+            throw new IllegalArgumentException("Property \"" + name + "\" of \"" + type + "\" must be " + description + ".");
+        }
+        return kind.cast(value);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NoiseDefinition that) || structuralHash != that.structuralHash || !type.equals(that.type)
+            || !properties.keySet().equals(that.properties.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            Object value = property.getValue();
+            Object other = that.properties.get(property.getKey());
+            if (value instanceof double[] doubles ? !(other instanceof double[] otherDoubles) || !Arrays.equals(doubles, otherDoubles) : !value.equals(other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(structuralHash);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    // FNV-1a over the type and properties followed by the finalizer of MurmurHash3, nested definitions contribute their hash.
+    // The hash is part of the format, so it must not change between versions.
+    private static long hash(String type, SortedMap<String, Object> properties) {
+        long hash = 0xCBF29CE484222325L;
+        hash = hash(hash, type);
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            hash = hash(hash, property.getKey());
+            Object value = property.getValue();
+            hash = hash(hash, BinaryDefinitionCodec.tagOf(value));
+            if (value instanceof Long longValue) {
+                hash = hash(hash, longValue);
+            } else if (value instanceof Double doubleValue) {
+                hash = hash(hash, Double.doubleToLongBits(doubleValue));
+            } else if (value instanceof Boolean booleanValue) {
+                hash = hash(hash, booleanValue ? 1 : 0);
+            } else if (value instanceof String constant) {
+                hash = hash(hash, constant);
+            } else if (value instanceof double[] doubles) {
+                hash = hash(hash, doubles.length);
+                for (double element : doubles) {
+                    hash = hash(hash, Double.doubleToLongBits(element));
+                }
+            } else if (value instanceof NoiseDefinition definition) {
+                hash = hash(hash, definition.structuralHash);
+            } else {
+                List<?> definitions = (List<?>) value;
+                hash = hash(hash, definitions.size());
+                for (Object definition : definitions) {
+                    hash = hash(hash, ((NoiseDefinition) definition).structuralHash);
+                }
+            }
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long hash(long hash, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        hash = hash(hash, bytes.length);
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Gets a {@link NoiseDefinitionBuilder} to build a {@link NoiseDefinition}.
+     *
+     * @param type the type of the defined component.
+     * @return {@link NoiseDefinitionBuilder}.
+     */
+    public static NoiseDefinitionBuilder newBuilder(String type) {
+        return new NoiseDefinitionBuilder(type);
+    }
+
+    @NullMarked
+    public static final class NoiseDefinitionBuilder {
+        private final String type;
+        private final SortedMap<String, Object> properties = new TreeMap<>();
+
+        private NoiseDefinitionBuilder(String type) {
+            if (type.isEmpty()) {
+                throw new IllegalArgumentException("Type must not be empty.");
+            }
+            this.type = type;
+        }
+
+        /**
+         * Sets a long property.
+         *
+         * @param name  name of the property.
+         * @param value value of the property.
+         * @return {@link NoiseDefinitionBuilder} this
+         */
+        public NoiseDefinitionBuilder setLong(String name, long value) {
+            return setProperty(name, value);
+        }
+
+        /**
+         * Sets a double property.
+         *
+         * @param name  name of the property.
+         * @param value value of the property.
+         * @return {@link NoiseDefinitionBuilder} this
+         */
+        public NoiseDefinitionBuilder setDouble(String name, double value) {
+            return setProperty(name, value);
+        }
+
+        /**
+         * Sets a boolean property.
+         *
+         * @param name  name of the property.
+         * @param value value of the property.
+         * @return {@link NoiseDefinitionBuilder} this
+         */
+        public NoiseDefinitionBuilder setBoolean(String name, boolean value) {
+            return setProperty(name, value);
+        }
+
+        /**
+         * Sets a constant property, which stores the name of the public static field of the holder holding the value.
+         * Non-deprecated fields are preferred, if the value is held by several fields.
+         *
+         * @param name   name of the property.
+         * @param holder class or interface declaring the constant, e.g. an enum or {@code FadeFunction}.
+         * @param value  value of the constant.
+         * @return {@link NoiseDefinitionBuilder} this
+         * @throws IllegalArgumentException if the value is not a constant of the holder, e.g. a custom lambda.
+         */
+        public NoiseDefinitionBuilder setConstant(String name, Class<?> holder, Object value) {
+            @Nullable Field constant = null;
+            for (Field field : holder.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || (constant != null && field.isAnnotationPresent(Deprecated.class))) {
+                    continue;
+                }
+                try {
+                    if (field.get(null) == value && (constant == null || constant.isAnnotationPresent(Deprecated.class))) {
+                        constant = field;
+                    }
+                } catch (IllegalAccessException ignored) {
+                    // Inaccessible fields cannot be read back either.
+                }
+            }
+            if (constant == null) {
+                throw new IllegalArgumentException(
+                    "Property \"" + name + "\" of \"" + type + "\" must be a constant of " + holder.getSimpleName() + ", custom functions cannot be defined."
+                );
+            }
+            return setProperty(name, constant.getName());
+        }
+
+        /**
+         * Sets a double array property.
+         *
+         * @param name  name of the property.
+         * @param value value of the property, it is copied.
+         * @return {@link NoiseDefinitionBuilder} this
+         */
+        public NoiseDefinitionBuilder setDoubles(String name, double... value) {
+            return setProperty(name, value.clone());
+        }
+
+        /**
+         * Sets the definition of a nested component.
+         *
+         * @param name      name of the property.
+         * @param component the component, it has to be {@link Definable} or a {@link NoiseDefinition}.
+         * @return {@link NoiseDefinitionBuilder} this
+         * @throws IllegalArgumentException if the component is not {@link Definable}.
+         */
+        public NoiseDefinitionBuilder setDefinition(String name, Object component) {
+            return setProperty(name, define(name, component));
+        }
+
+        /**
+         * Sets the definitions of a list of nested components, empty lists are omitted.
+         *
+         * @param name       name of the property.
+         * @param components the components, they have to be {@link Definable} or {@link NoiseDefinition}s.
+         * @return {@link NoiseDefinitionBuilder} this
+         * @throws IllegalArgumentException if a component is not {@link Definable}.
+         */
+        public NoiseDefinitionBuilder setDefinitions(String name, List<?> components) {
+            if (components.isEmpty()) {
+                checkName(name);
+                properties.remove(name);
+                return this;
+            }
+            List<NoiseDefinition> definitions = new ArrayList<>(components.size());
+            for (Object component : components) {
+                definitions.add(define(name, component));
+            }
+            return setProperty(name, Collections.unmodifiableList(definitions));
+        }
+
+        /**
+         * Builds the {@link NoiseDefinition}.
+         *
+         * @return the {@link NoiseDefinition}.
+         */
+        public NoiseDefinition build() {
+            return new NoiseDefinition(type, new TreeMap<>(properties));
+        }
+
+        private NoiseDefinition define(String name, Object component) {
+            if (component instanceof NoiseDefinition definition) {
+                return definition;
+            }
+            if (component instanceof Definable definable) {
+                return definable.getDefinition();
+            }
+            throw new IllegalArgumentException(
+                "Property \"" + name + "\" of \"" + type + "\" cannot be defined, " + component.getClass().getName() + " is not definable."
+            );
+        }
+
+        private NoiseDefinitionBuilder setProperty(String name, Object value) {
+            checkName(name);
+            properties.put(name, Objects.requireNonNull(value));
+            return this;
+        }
+
+        // The type is stored next to the properties in JSON.
+        static void checkName(String name) {
+            if (name.isEmpty() || name.equals("type")) {
+                throw new IllegalArgumentException("Property names must neither be empty nor \"type\".");
+            }
+        }
+    }
+}
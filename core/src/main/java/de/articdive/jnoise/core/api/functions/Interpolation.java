@@ -27,6 +27,8 @@ public interface Interpolation {
      * Interpolates between an unknown number of values.
      * The amount of positions repsents the dimension
      * The amount of values must be 2^(amount of position).
+     * Generators may evaluate this multilinear scheme directly through {@link #lerp(double, double, double)},
+     * so overriding implementations must remain equivalent to it.
      *
      * @param positions A list of positions starting with the first stage position and going up in order.
      * @param values    A list of values starting with the first stage values and going up in order.
@@ -44,4 +46,78 @@ public interface Interpolation {
         // This should only have 1 element, the final value!
         return values[0];
     }
+
+    /**
+     * Computes the derivative of {@link #lerp(double, double, double)} with respect to the position.
+     * The predefined interpolations are differentiated analytically, others are approximated by central differences.
+     *
+     * @param x Position for the data to be interpolated.
+     * @param a The first known value.
+     * @param b The second known value.
+     * @return the derivative of the interpolated value with respect to x.
+     */
+    default double lerpDerivative(double x, double a, double b) {
+        if (this == LINEAR) {
+            return b - a;
+        } else if (this == QUADRATIC) {
+            return (b - a) * 2 * x;
+        } else if (this == CUBIC) {
+            return (b - a) * 3 * x * x;
+        } else if (this == QUARTIC) {
+            return (b - a) * 4 * x * x * x;
+        } else if (this == COSINE) {
+            return (Math.PI / 2.0) * Math.sin(x * Math.PI) * (b - a);
+        }
+        double step = 1e-6;
+        return (lerp(x + step, a, b) - lerp(x - step, a, b)) / (2 * step);
+    }
+
+    /**
+     * Interpolates between an unknown number of values like {@link #lerp(double[], double[])},
+     * additionally computing the partial derivatives of the interpolated value in the same pass.
+     * The position of every stage may only depend on the coordinate of that stage,
+     * and the interpolation must be of the form a + w(x) * (b - a), like all predefined interpolations,
+     * so the derivatives of the values can be interpolated like the values themselves.
+     *
+     * @param positions           A list of positions starting with the first stage position and going up in order.
+     * @param positionDerivatives The derivatives of the positions with respect to the coordinate of their stage.
+     * @param values              A list of values starting with the first stage values and going up in order.
+     * @param derivatives         The partial derivatives of the values, one list per stage coordinate, overwritten during the interpolation.
+     * @param output              Array receiving the partial derivatives of the interpolated value, one per stage coordinate.
+     * @return an interpolated value between all the given positions, equal to {@link #lerp(double[], double[])}.
+     */
+    default double lerp(double[] positions, double[] positionDerivatives, double[] values, double[][] derivatives, double[] output) {
+        if (values.length != 1 << positions.length) {
+            throw new IllegalArgumentException("The amount of values must be 2^(amount of fractals).");
+        }
+        for (int i = 0; i < positions.length; i++) {
+            double position = positions[i];
+            for (int j = 0; j < ((1 << positions.length) - i); j += 2) {
+                double a = values[j];
+                double b = values[j + 1];
+                for (double[] axisDerivatives : derivatives) {
+                    axisDerivatives[j / 2] = lerp(position, axisDerivatives[j], axisDerivatives[j + 1]);
+                }
+                // Chain rule for the position of this stage, which only moves along its own coordinate.
+                derivatives[i][j / 2] += lerpDerivative(position, a, b) * positionDerivatives[i];
+                values[j / 2] = lerp(position, a, b);
+            }
+        }
+        for (int i = 0; i < output.length; i++) {
+            output[i] = derivatives[i][0];
+        }
+        return values[0];
+    }
+
+    /**
+     * Checks whether an interpolation is one of the predefined ones,
+     * which stay between the two known values for positions between 0 and 1.
+     *
+     * @param interpolation interpolation to check.
+     * @return true if the interpolation is predefined.
+     */
+    static boolean isPredefined(Interpolation interpolation) {
+        return interpolation == LINEAR || interpolation == QUADRATIC || interpolation == CUBIC
+            || interpolation == QUARTIC || interpolation == COSINE;
+    }
 }
@@ -1,5 +1,7 @@
 package de.articdive.jnoise.core.api.modifiers;
 
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+
 /**
  * Interface that denotes a noise modifier. A small algorithm that modifies the noise value in the final noise generation step.
  *
@@ -14,4 +16,38 @@ public interface NoiseModifier {
      * @return modified noise value.
      */
     double apply(double result);
-}
\ No newline at end of file
+
+    /**
+     * Modifies the bounds of noise values, the result must contain every modified value within the bounds.
+     * Modifiers without known output bounds return {@link NoiseBounds#UNBOUNDED}.
+     *
+     * @param bounds bounds of the noise values to modify.
+     * @return bounds of the modified noise values.
+     */
+    default NoiseBounds apply(NoiseBounds bounds) {
+        return NoiseBounds.UNBOUNDED;
+    }
+
+    /**
+     * Checks whether this modifier returns every noise value within the specified bounds unchanged,
+     * in which case pipelines may skip it.
+     *
+     * @param bounds bounds of the noise values to modify.
+     * @return true if {@link #apply(double)} is the identity for all values within the bounds.
+     */
+    default boolean isIdentity(NoiseBounds bounds) {
+        return false;
+    }
+
+    /**
+     * Gets the derivative of {@link #apply(double)} at a noise value,
+     * by which pipelines multiply the partial derivatives of the noise to apply the chain rule.
+     * Modifiers without a known derivative return {@link Double#NaN}.
+     *
+     * @param result noise value to modify.
+     * @return the derivative of the modified noise value with respect to the noise value.
+     */
+    default double derivative(double result) {
+        return Double.NaN;
+    }
+}
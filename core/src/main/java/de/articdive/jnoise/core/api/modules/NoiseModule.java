@@ -2,10 +2,36 @@ package de.articdive.jnoise.core.api.modules;
 
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 
+import java.util.List;
+
 /**
  * Interface that denotes a noise module, which is a {@link NoiseSource} that uses {@link NoiseSource}s to create noise.
  *
  * @author Articdive
  */
 public interface NoiseModule extends NoiseSource {
+    /**
+     * Gets the {@link NoiseSource}s this module evaluates, in the order {@link #withSources(List)} expects them.
+     * Pipelines use these to find sources which are shared by several modules.
+     * By default a module does not expose its sources.
+     *
+     * @return the sources of this module.
+     */
+    default List<NoiseSource> getSources() {
+        return List.of();
+    }
+
+    /**
+     * Creates a copy of this module, which evaluates the specified sources instead of its own.
+     *
+     * @param sources replacements for the sources of this module, in the order of {@link #getSources()}.
+     * @return a {@link NoiseModule} evaluating the specified sources.
+     * @throws IllegalArgumentException if the sources do not match the sources of this module.
+     */
+    default NoiseModule withSources(List<NoiseSource> sources) {
+        if (!sources.isEmpty()) {
+            throw new IllegalArgumentException("This module does not expose any sources.");
+        }
+        return this;
+    }
 }
@@ -0,0 +1,67 @@
+package de.articdive.jnoise.core.api.noisegen;
+
+import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * This class wraps a noise value together with its partial derivatives, i.e. the gradient of the noise at the evaluated point.
+ * The partial derivatives are computed analytically during the evaluation, instead of evaluating the noise again at offset points.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class DerivativeNoiseResult implements NoiseResult {
+    private final double unmodifiedValue;
+    private final double[] derivatives;
+    private double value;
+
+    /**
+     * @param value       the noise value.
+     * @param derivatives the partial derivatives of the noise value, one per dimension in the order X, Y, Z, W.
+     */
+    public DerivativeNoiseResult(double value, double[] derivatives) {
+        this.unmodifiedValue = value;
+        this.value = value;
+        this.derivatives = derivatives;
+    }
+
+    /**
+     * Gets the current (already modified) noise value.
+     *
+     * @return the current, possibly modified, noise value.
+     */
+    @Override
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Sets the noise value, usually used by {@link NoiseModifier} in post-processing.
+     *
+     * @param value new output for the pure mathematical value of the noise result.
+     */
+    @Override
+    public void setValue(double value) {
+        this.value = value;
+    }
+
+    /**
+     * The unmodified noise value. (The noise before modifiers were run).
+     *
+     * @return the unmodified noise value.
+     */
+    public double getUnmodifiedValue() {
+        return unmodifiedValue;
+    }
+
+    /**
+     * Returns the partial derivatives of the unmodified noise value, modifiers do not change them.
+     * The array is not copied, pipelines update it in place when propagating the derivatives through their transformers.
+     * Derivatives which cannot be propagated, e.g. through detailed transformers, are NaN.
+     *
+     * @return array of double with one partial derivative per dimension, in the order X, Y, Z, W.
+     */
+    public double[] getDerivatives() {
+        return derivatives;
+    }
+}
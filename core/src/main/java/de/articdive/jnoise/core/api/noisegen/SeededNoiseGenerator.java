@@ -1,5 +1,7 @@
 package de.articdive.jnoise.core.api.noisegen;
 
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+
 /**
  * Interface that denotes a seeded {@link NoiseGenerator}.
  * A seeded {@link NoiseGenerator} has reproducability and should return the same value for the same seed at the same location.
@@ -50,6 +52,46 @@ public interface SeededNoiseGenerator extends NoiseGenerator {
      */
     double evaluateNoise(double x, double y, double z, double w, long seed);
 
+    /**
+     * Gets the range of the values within a 2D box for a seed, see {@link #getBounds2D(double, double, double, double)}.
+     *
+     * @param minX smallest X-Coordinate of the box.
+     * @param minY smallest Y-Coordinate of the box.
+     * @param maxX largest X-Coordinate of the box.
+     * @param maxY largest Y-Coordinate of the box.
+     * @param seed seed for the {@link SeededNoiseGenerator} to use.
+     * @return {@link NoiseBounds} containing every value within the box.
+     */
+    default NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY, long seed) {
+        return getBounds();
+    }
+
+    /**
+     * Gets the range of the values within a 3D box for a seed, see {@link #getBounds3D(double, double, double, double, double, double)}.
+     *
+     * @param minX smallest X-Coordinate of the box.
+     * @param minY smallest Y-Coordinate of the box.
+     * @param minZ smallest Z-Coordinate of the box.
+     * @param maxX largest X-Coordinate of the box.
+     * @param maxY largest Y-Coordinate of the box.
+     * @param maxZ largest Z-Coordinate of the box.
+     * @param seed seed for the {@link SeededNoiseGenerator} to use.
+     * @return {@link NoiseBounds} containing every value within the box.
+     */
+    default NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, long seed) {
+        return getBounds();
+    }
+
+    @Override
+    default NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return getBounds2D(minX, minY, maxX, maxY, getSeed());
+    }
+
+    @Override
+    default NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return getBounds3D(minX, minY, minZ, maxX, maxY, maxZ, getSeed());
+    }
+
     /**
      * Returns the seed of the seeded noise generator.
      *
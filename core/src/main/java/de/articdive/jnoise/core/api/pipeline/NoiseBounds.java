@@ -0,0 +1,142 @@
+package de.articdive.jnoise.core.api.pipeline;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable closed range [min, max] containing every value a {@link NoiseSource} can output.
+ * Bounds are conservative, the values of a source may span only a part of its bounds.
+ * NaN is never part of a range.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class NoiseBounds {
+    /**
+     * Bounds of sources without a known range, i.e. [-infinity, infinity].
+     */
+    public static final NoiseBounds UNBOUNDED = new NoiseBounds(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+    private final double min;
+    private final double max;
+
+    private NoiseBounds(double min, double max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates bounds ranging from min to max.
+     *
+     * @param min the smallest possible value, may be negative infinity.
+     * @param max the largest possible value, may be positive infinity.
+     * @return {@link NoiseBounds} ranging from min to max.
+     * @throws IllegalArgumentException if min is larger than max or either is NaN.
+     */
+    public static NoiseBounds of(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("The minimum of bounds must not be larger than their maximum.");
+        }
+        return new NoiseBounds(min, max);
+    }
+
+    /**
+     * Creates bounds ranging from min to max, or {@link #UNBOUNDED} if they cannot be determined,
+     * e.g. when min or max are the NaN result of propagating infinite bounds.
+     *
+     * @param min the smallest possible value.
+     * @param max the largest possible value.
+     * @return {@link NoiseBounds} ranging from min to max, or {@link #UNBOUNDED}.
+     */
+    public static NoiseBounds ofOrUnbounded(double min, double max) {
+        return min <= max ? new NoiseBounds(min, max) : UNBOUNDED;
+    }
+
+    /**
+     * Gets the smallest possible value.
+     *
+     * @return the lower end of these bounds.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the largest possible value.
+     *
+     * @return the upper end of these bounds.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Checks whether both ends of these bounds are finite.
+     *
+     * @return true if the range of the values is known.
+     */
+    public boolean isBounded() {
+        return min != Double.NEGATIVE_INFINITY && max != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Checks whether a value lies within these bounds.
+     *
+     * @param value value to check.
+     * @return true if min &lt;= value &lt;= max.
+     */
+    public boolean contains(double value) {
+        return min <= value && value <= max;
+    }
+
+    /**
+     * Checks whether every value within these bounds is at least the specified value.
+     *
+     * @param value value to compare to.
+     * @return true if min &gt;= value.
+     */
+    public boolean isAtLeast(double value) {
+        return min >= value;
+    }
+
+    /**
+     * Checks whether every value within these bounds is below the specified value.
+     *
+     * @param value value to compare to.
+     * @return true if max &lt; value.
+     */
+    public boolean isBelow(double value) {
+        return max < value;
+    }
+
+    /**
+     * Creates the smallest bounds containing these and the specified bounds.
+     *
+     * @param other bounds to combine with.
+     * @return {@link NoiseBounds} containing the values of both bounds.
+     */
+    public NoiseBounds union(NoiseBounds other) {
+        return new NoiseBounds(Math.min(min, other.min), Math.max(max, other.max));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NoiseBounds other)) {
+            return false;
+        }
+        return Double.compare(min, other.min) == 0 && Double.compare(max, other.max) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(min) + Double.hashCode(max);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + min + ", " + max + "]";
+    }
+}
@@ -1,5 +1,7 @@
 package de.articdive.jnoise.core.api.pipeline;
 
+import de.articdive.jnoise.core.util.RegionUtil;
+
 /**
  * Interface that denotes a source of noise, which can evaluate a value at a specified location.
  *
@@ -44,4 +46,440 @@ public interface NoiseSource {
      * @return noise value at the 4D point.
      */
     double evaluateNoise(double x, double y, double z, double w);
-}
\ No newline at end of file
+
+    /**
+     * Gets the range of the values of this source at finite coordinates.
+     * The bounds are conservative, so modules and pipelines may skip work that cannot change the result,
+     * e.g. a branch that can never be selected or a clamp that can never clamp.
+     * Sources without a known range return {@link NoiseBounds#UNBOUNDED}.
+     *
+     * @return {@link NoiseBounds} containing every value of this source.
+     */
+    default NoiseBounds getBounds() {
+        return NoiseBounds.UNBOUNDED;
+    }
+
+    /**
+     * Gets the range of the values of this source within a 2D box, see {@link #getBounds()}.
+     * The bounds only have to hold for points inside the box, so they are usually much narrower than the bounds of the source,
+     * e.g. modules can skip the evaluation of a source for whole tiles of a region.
+     * The coordinates of the box must be finite. By default the bounds of the whole source are returned.
+     *
+     * @param minX smallest X-Coordinate of the box.
+     * @param minY smallest Y-Coordinate of the box.
+     * @param maxX largest X-Coordinate of the box.
+     * @param maxY largest Y-Coordinate of the box.
+     * @return {@link NoiseBounds} containing every value of this source within the box.
+     */
+    default NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return getBounds();
+    }
+
+    /**
+     * Gets the range of the values of this source within a 3D box, see {@link #getBounds2D(double, double, double, double)}.
+     *
+     * @param minX smallest X-Coordinate of the box.
+     * @param minY smallest Y-Coordinate of the box.
+     * @param minZ smallest Z-Coordinate of the box.
+     * @param maxX largest X-Coordinate of the box.
+     * @param maxY largest Y-Coordinate of the box.
+     * @param maxZ largest Z-Coordinate of the box.
+     * @return {@link NoiseBounds} containing every value of this source within the box.
+     */
+    default NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return getBounds();
+    }
+
+    /**
+     * Evaluates noise for a 1D region of evenly spaced points.
+     * The sample at index {@code i} is located at {@code x0 + i * dx}.
+     * Implementations must yield exactly the same values as {@link #evaluateNoise(double)} at those points.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param nx  amount of points along the X axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill1D(double[] out, double x0, double dx, int nx) {
+        RegionUtil.checkRegion(out.length, nx);
+        for (int i = 0; i < nx; i++) {
+            out[i] = evaluateNoise(x0 + i * dx);
+        }
+    }
+
+    /**
+     * Evaluates noise for a 2D region of evenly spaced points.
+     * The output is laid out with X varying fastest, the sample at {@code (i, j)} is stored at index {@code i + nx * j}
+     * and located at {@code (x0 + i * dx, y0 + j * dy)}.
+     * Implementations must yield exactly the same values as {@link #evaluateNoise(double, double)} at those points.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        int index = 0;
+        for (int j = 0; j < ny; j++) {
+            double y = y0 + j * dy;
+            for (int i = 0; i < nx; i++) {
+                out[index++] = evaluateNoise(x0 + i * dx, y);
+            }
+        }
+    }
+
+    /**
+     * Evaluates noise for a 3D region of evenly spaced points.
+     * The output is laid out with X varying fastest and Z slowest,
+     * the sample at {@code (i, j, k)} is stored at index {@code i + nx * (j + ny * k)}
+     * and located at {@code (x0 + i * dx, y0 + j * dy, z0 + k * dz)}.
+     * Implementations must yield exactly the same values as {@link #evaluateNoise(double, double, double)} at those points.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param z0  Z-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param dz  spacing between points along the Z axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @param nz  amount of points along the Z axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        int index = 0;
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            for (int j = 0; j < ny; j++) {
+                double y = y0 + j * dy;
+                for (int i = 0; i < nx; i++) {
+                    out[index++] = evaluateNoise(x0 + i * dx, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates noise for a 4D region of evenly spaced points.
+     * The output is laid out with X varying fastest and W slowest,
+     * the sample at {@code (i, j, k, l)} is stored at index {@code i + nx * (j + ny * (k + nz * l))}
+     * and located at {@code (x0 + i * dx, y0 + j * dy, z0 + k * dz, w0 + l * dw)}.
+     * Implementations must yield exactly the same values as {@link #evaluateNoise(double, double, double, double)} at those points.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param z0  Z-Coordinate of the first point.
+     * @param w0  W-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param dz  spacing between points along the Z axis.
+     * @param dw  spacing between points along the W axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @param nz  amount of points along the Z axis.
+     * @param nw  amount of points along the W axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz, nw);
+        int index = 0;
+        for (int l = 0; l < nw; l++) {
+            double w = w0 + l * dw;
+            for (int k = 0; k < nz; k++) {
+                double z = z0 + k * dz;
+                for (int j = 0; j < ny; j++) {
+                    double y = y0 + j * dy;
+                    for (int i = 0; i < nx; i++) {
+                        out[index++] = evaluateNoise(x0 + i * dx, y, z, w);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates noise for a 1D region of evenly spaced points with single precision, see {@link #fill1D(double[], double, double, int)}.
+     * Implementations must yield exactly the same values as {@code (float) evaluateNoise(x)} at those points.
+     * Sources computing their noise with single precision should override this to skip the double precision values.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param nx  amount of points along the X axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill1D(float[] out, double x0, double dx, int nx) {
+        RegionUtil.checkRegion(out.length, nx);
+        double[] values = new double[nx];
+        fill1D(values, x0, dx, nx);
+        narrow(values, out, 0);
+    }
+
+    /**
+     * Evaluates noise for a 2D region of evenly spaced points with single precision,
+     * see {@link #fill2D(double[], double, double, double, double, int, int)} for the layout.
+     * Implementations must yield exactly the same values as {@code (float) evaluateNoise(x, y)} at those points.
+     * By default the region is evaluated with double precision and narrowed,
+     * as a whole if it has at most {@link RegionUtil#MAX_BUFFERED_SAMPLES} samples and one row at a time otherwise.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        int size = RegionUtil.checkRegion(out.length, nx, ny);
+        if (size <= RegionUtil.MAX_BUFFERED_SAMPLES) {
+            double[] values = new double[size];
+            fill2D(values, x0, y0, dx, dy, nx, ny);
+            narrow(values, out, 0);
+            return;
+        }
+        // Rows cannot be grouped, as a group starting at a later row would place its samples differently.
+        double[] row = new double[nx];
+        for (int j = 0; j < ny; j++) {
+            // A spacing of -0.0 places the single row exactly at y, since y + 0 * -0.0 is y even for -0.0.
+            fill2D(row, x0, y0 + j * dy, dx, -0.0, nx, 1);
+            narrow(row, out, nx * j);
+        }
+    }
+
+    /**
+     * Evaluates noise for a 3D region of evenly spaced points with single precision,
+     * see {@link #fill3D(double[], double, double, double, double, double, double, int, int, int)} for the layout.
+     * Implementations must yield exactly the same values as {@code (float) evaluateNoise(x, y, z)} at those points.
+     * By default the region is evaluated with double precision and narrowed, as a whole, one XY slice or one row at a time,
+     * whichever is the largest with at most {@link RegionUtil#MAX_BUFFERED_SAMPLES} samples.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param z0  Z-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param dz  spacing between points along the Z axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @param nz  amount of points along the Z axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        int size = RegionUtil.checkRegion(out.length, nx, ny, nz);
+        if (size <= RegionUtil.MAX_BUFFERED_SAMPLES) {
+            double[] values = new double[size];
+            fill3D(values, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            narrow(values, out, 0);
+            return;
+        }
+        int slice = nx * ny;
+        if (slice <= RegionUtil.MAX_BUFFERED_SAMPLES) {
+            double[] values = new double[slice];
+            for (int k = 0; k < nz; k++) {
+                fill3D(values, x0, y0, z0 + k * dz, dx, dy, -0.0, nx, ny, 1);
+                narrow(values, out, slice * k);
+            }
+            return;
+        }
+        double[] row = new double[nx];
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            for (int j = 0; j < ny; j++) {
+                fill3D(row, x0, y0 + j * dy, z, dx, -0.0, -0.0, nx, 1, 1);
+                narrow(row, out, nx * (j + ny * k));
+            }
+        }
+    }
+
+    /**
+     * Evaluates noise for a 4D region of evenly spaced points with single precision,
+     * see {@link #fill4D(double[], double, double, double, double, double, double, double, double, int, int, int, int)} for the layout.
+     * Implementations must yield exactly the same values as {@code (float) evaluateNoise(x, y, z, w)} at those points.
+     * By default the region is evaluated with double precision and narrowed, as a whole, one XY slice or one row at a time,
+     * whichever is the largest with at most {@link RegionUtil#MAX_BUFFERED_SAMPLES} samples.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param z0  Z-Coordinate of the first point.
+     * @param w0  W-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param dz  spacing between points along the Z axis.
+     * @param dw  spacing between points along the W axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @param nz  amount of points along the Z axis.
+     * @param nw  amount of points along the W axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        int size = RegionUtil.checkRegion(out.length, nx, ny, nz, nw);
+        if (size <= RegionUtil.MAX_BUFFERED_SAMPLES) {
+            double[] values = new double[size];
+            fill4D(values, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+            narrow(values, out, 0);
+            return;
+        }
+        int slice = nx * ny;
+        if (slice <= RegionUtil.MAX_BUFFERED_SAMPLES) {
+            double[] values = new double[slice];
+            for (int l = 0; l < nw; l++) {
+                double w = w0 + l * dw;
+                for (int k = 0; k < nz; k++) {
+                    fill4D(values, x0, y0, z0 + k * dz, w, dx, dy, -0.0, -0.0, nx, ny, 1, 1);
+                    narrow(values, out, slice * (k + nz * l));
+                }
+            }
+            return;
+        }
+        double[] row = new double[nx];
+        for (int l = 0; l < nw; l++) {
+            double w = w0 + l * dw;
+            for (int k = 0; k < nz; k++) {
+                double z = z0 + k * dz;
+                for (int j = 0; j < ny; j++) {
+                    fill4D(row, x0, y0 + j * dy, z, w, dx, -0.0, -0.0, -0.0, nx, 1, 1, 1);
+                    narrow(row, out, nx * (j + ny * (k + nz * l)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates noise at a 1D point of a lattice, i.e. at the integer coordinate scaled by the spacing.
+     * Implementations must yield exactly the same values as {@code evaluateNoise(x * spacing)}.
+     * Sources working on unit cells should override this to determine the cell without a floating point floor.
+     *
+     * @param x       X-Coordinate of the 1D lattice point.
+     * @param spacing distance between lattice points.
+     * @return noise value at the 1D point.
+     */
+    default double evaluateLattice(long x, double spacing) {
+        return evaluateNoise(x * spacing);
+    }
+
+    /**
+     * Evaluates noise at a 2D point of a lattice, i.e. at the integer coordinates scaled by the spacing.
+     * Implementations must yield exactly the same values as {@code evaluateNoise(x * spacing, y * spacing)}.
+     *
+     * @param x       X-Coordinate of the 2D lattice point.
+     * @param y       Y-Coordinate of the 2D lattice point.
+     * @param spacing distance between lattice points.
+     * @return noise value at the 2D point.
+     */
+    default double evaluateLattice(long x, long y, double spacing) {
+        return evaluateNoise(x * spacing, y * spacing);
+    }
+
+    /**
+     * Evaluates noise at a 3D point of a lattice, i.e. at the integer coordinates scaled by the spacing.
+     * Implementations must yield exactly the same values as {@code evaluateNoise(x * spacing, y * spacing, z * spacing)}.
+     *
+     * @param x       X-Coordinate of the 3D lattice point.
+     * @param y       Y-Coordinate of the 3D lattice point.
+     * @param z       Z-Coordinate of the 3D lattice point.
+     * @param spacing distance between lattice points.
+     * @return noise value at the 3D point.
+     */
+    default double evaluateLattice(long x, long y, long z, double spacing) {
+        return evaluateNoise(x * spacing, y * spacing, z * spacing);
+    }
+
+    /**
+     * Evaluates noise at a 4D point of a lattice, i.e. at the integer coordinates scaled by the spacing.
+     * Implementations must yield exactly the same values as
+     * {@code evaluateNoise(x * spacing, y * spacing, z * spacing, w * spacing)}.
+     *
+     * @param x       X-Coordinate of the 4D lattice point.
+     * @param y       Y-Coordinate of the 4D lattice point.
+     * @param z       Z-Coordinate of the 4D lattice point.
+     * @param w       W-Coordinate of the 4D lattice point.
+     * @param spacing distance between lattice points.
+     * @return noise value at the 4D point.
+     */
+    default double evaluateLattice(long x, long y, long z, long w, double spacing) {
+        return evaluateNoise(x * spacing, y * spacing, z * spacing, w * spacing);
+    }
+
+    /**
+     * Evaluates noise for a 2D region of a lattice.
+     * The output is laid out like {@link #fill2D(double[], double, double, double, double, int, int)},
+     * but the sample at {@code (i, j)} is located at {@code ((x0 + i) * spacing, (y0 + j) * spacing)}.
+     * Unlike the evenly spaced regions, every sample is rounded only once, so adjacent lattice regions line up exactly.
+     * Implementations must yield exactly the same values as {@link #evaluateLattice(long, long, double)} at those points.
+     *
+     * @param out     array to write the noise values into, starting at index 0.
+     * @param x0      X-Coordinate of the first lattice point.
+     * @param y0      Y-Coordinate of the first lattice point.
+     * @param spacing distance between lattice points.
+     * @param nx      amount of points along the X axis.
+     * @param ny      amount of points along the Y axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        int index = 0;
+        for (int j = 0; j < ny; j++) {
+            for (int i = 0; i < nx; i++) {
+                out[index++] = evaluateLattice(x0 + i, y0 + j, spacing);
+            }
+        }
+    }
+
+    /**
+     * Evaluates noise for a 3D region of a lattice.
+     * The output is laid out like {@link #fill3D(double[], double, double, double, double, double, double, int, int, int)},
+     * but the sample at {@code (i, j, k)} is located at {@code ((x0 + i) * spacing, (y0 + j) * spacing, (z0 + k) * spacing)}.
+     * Implementations must yield exactly the same values as {@link #evaluateLattice(long, long, long, double)} at those points.
+     *
+     * @param out     array to write the noise values into, starting at index 0.
+     * @param x0      X-Coordinate of the first lattice point.
+     * @param y0      Y-Coordinate of the first lattice point.
+     * @param z0      Z-Coordinate of the first lattice point.
+     * @param spacing distance between lattice points.
+     * @param nx      amount of points along the X axis.
+     * @param ny      amount of points along the Y axis.
+     * @param nz      amount of points along the Z axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    default void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        int index = 0;
+        for (int k = 0; k < nz; k++) {
+            for (int j = 0; j < ny; j++) {
+                for (int i = 0; i < nx; i++) {
+                    out[index++] = evaluateLattice(x0 + i, y0 + j, z0 + k, spacing);
+                }
+            }
+        }
+    }
+
+    private static void narrow(double[] values, float[] out, int offset) {
+        for (int i = 0; i < values.length; i++) {
+            out[offset + i] = (float) values[i];
+        }
+    }
+}
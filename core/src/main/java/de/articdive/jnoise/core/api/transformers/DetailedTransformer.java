@@ -4,8 +4,11 @@ import de.articdive.jnoise.core.api.annotations.Vector1D;
 import de.articdive.jnoise.core.api.annotations.Vector2D;
 import de.articdive.jnoise.core.api.annotations.Vector3D;
 import de.articdive.jnoise.core.api.annotations.Vector4D;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.List;
+
 /**
  * Interface that denotes a detailed transformer, which is used to transform coordinate tuples parts before the noise generation step.
  * For a more efficient transform for transforming singular coordinate parts see {@link SimpleTransformer}.
@@ -41,4 +44,72 @@ public interface DetailedTransformer {
      * @param vec4D a double array representing a 4D vector containing the x, y, z and w coordinate to transform.
      */
     void transform4D(@Vector4D double[] vec4D);
+
+    /**
+     * Propagates the partial derivatives of noise with respect to the transformed x coordinate
+     * to the x coordinate before the transformation via a side-effect, i.e. multiplies them by the transposed Jacobian of
+     * {@link #transform1D(double[])}. This is only supported by transformers whose Jacobian does not depend on the coordinates.
+     * By default a transformer does not support it.
+     *
+     * @param derivatives1D a double array representing a 1D vector containing the partial derivative to propagate.
+     * @return true if the derivatives were propagated, false if they are left unchanged as this transformer does not support it.
+     */
+    default boolean propagateDerivatives1D(@Vector1D double[] derivatives1D) {
+        return false;
+    }
+
+    /**
+     * 2D version of {@link #propagateDerivatives1D(double[])}.
+     *
+     * @param derivatives2D a double array representing a 2D vector containing the partial derivatives to propagate.
+     * @return true if the derivatives were propagated, false if they are left unchanged.
+     */
+    default boolean propagateDerivatives2D(@Vector2D double[] derivatives2D) {
+        return false;
+    }
+
+    /**
+     * 3D version of {@link #propagateDerivatives1D(double[])}.
+     *
+     * @param derivatives3D a double array representing a 3D vector containing the partial derivatives to propagate.
+     * @return true if the derivatives were propagated, false if they are left unchanged.
+     */
+    default boolean propagateDerivatives3D(@Vector3D double[] derivatives3D) {
+        return false;
+    }
+
+    /**
+     * 4D version of {@link #propagateDerivatives1D(double[])}.
+     *
+     * @param derivatives4D a double array representing a 4D vector containing the partial derivatives to propagate.
+     * @return true if the derivatives were propagated, false if they are left unchanged.
+     */
+    default boolean propagateDerivatives4D(@Vector4D double[] derivatives4D) {
+        return false;
+    }
+
+    /**
+     * Gets the {@link NoiseSource}s this transformer evaluates, in the order {@link #withSources(List)} expects them.
+     * Pipelines use these to find sources which are shared by several stages.
+     * By default a transformer does not expose any sources.
+     *
+     * @return the sources of this transformer.
+     */
+    default List<NoiseSource> getSources() {
+        return List.of();
+    }
+
+    /**
+     * Creates a copy of this transformer, which evaluates the specified sources instead of its own.
+     *
+     * @param sources replacements for the sources of this transformer, in the order of {@link #getSources()}.
+     * @return a {@link DetailedTransformer} evaluating the specified sources.
+     * @throws IllegalArgumentException if the sources do not match the sources of this transformer.
+     */
+    default DetailedTransformer withSources(List<NoiseSource> sources) {
+        if (!sources.isEmpty()) {
+            throw new IllegalArgumentException("This transformer does not expose any sources.");
+        }
+        return this;
+    }
 }
@@ -38,4 +38,54 @@ public interface SimpleTransformer {
      * @return transformed w coordinate.
      */
     double transformW(double w);
+
+    /**
+     * Checks whether every coordinate is transformed by a monotonic function, so boxes are transformed into boxes.
+     * Pipelines use this to bound the values of their source within a box.
+     *
+     * @return true if the transformation of every coordinate is monotonic.
+     */
+    default boolean isMonotonic() {
+        return false;
+    }
+
+    /**
+     * Computes the derivative of {@link #transformX(double)}, used to propagate partial derivatives of the noise by the chain rule.
+     *
+     * @param x coordinate the transformation is differentiated at.
+     * @return the derivative of the transformed x coordinate, NaN if it is unknown.
+     */
+    default double derivativeX(double x) {
+        return Double.NaN;
+    }
+
+    /**
+     * Computes the derivative of {@link #transformY(double)}, used to propagate partial derivatives of the noise by the chain rule.
+     *
+     * @param y coordinate the transformation is differentiated at.
+     * @return the derivative of the transformed y coordinate, NaN if it is unknown.
+     */
+    default double derivativeY(double y) {
+        return Double.NaN;
+    }
+
+    /**
+     * Computes the derivative of {@link #transformZ(double)}, used to propagate partial derivatives of the noise by the chain rule.
+     *
+     * @param z coordinate the transformation is differentiated at.
+     * @return the derivative of the transformed z coordinate, NaN if it is unknown.
+     */
+    default double derivativeZ(double z) {
+        return Double.NaN;
+    }
+
+    /**
+     * Computes the derivative of {@link #transformW(double)}, used to propagate partial derivatives of the noise by the chain rule.
+     *
+     * @param w coordinate the transformation is differentiated at.
+     * @return the derivative of the transformed w coordinate, NaN if it is unknown.
+     */
+    default double derivativeW(double w) {
+        return Double.NaN;
+    }
 }
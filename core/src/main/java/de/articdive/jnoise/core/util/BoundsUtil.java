@@ -0,0 +1,103 @@
+package de.articdive.jnoise.core.util;
+
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+
+/**
+ * Utility class for evaluating {@link NoiseBounds} over regions with interval arithmetic.
+ *
+ * @author Articdive
+ */
+public final class BoundsUtil {
+    /**
+     * Absolute margin covering the rounding errors of interval evaluations of noise values with magnitudes around 1.
+     */
+    public static final double ROUNDING_MARGIN = 1e-9;
+    // Beyond 2^52 doubles have no fractional part, so coordinates relative to their cell are only exact below it.
+    private static final double MAX_CELL_COORDINATE = 0x1p52;
+
+    private BoundsUtil() {
+
+    }
+
+    /**
+     * Counts the unit cells of a lattice a range of coordinates overlaps.
+     *
+     * @param min smallest coordinate of the range.
+     * @param max largest coordinate of the range.
+     * @return the amount of cells, or {@link Long#MAX_VALUE} if the range is empty, not finite or too large.
+     */
+    public static long cellSpan(double min, double max) {
+        if (!(min <= max && Math.abs(min) < MAX_CELL_COORDINATE && Math.abs(max) < MAX_CELL_COORDINATE)) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.floor(max) - (long) Math.floor(min) + 1;
+    }
+
+    /**
+     * Checks whether all coordinates of a 2D box are finite.
+     *
+     * @param minX smallest X-Coordinate of the box.
+     * @param minY smallest Y-Coordinate of the box.
+     * @param maxX largest X-Coordinate of the box.
+     * @param maxY largest Y-Coordinate of the box.
+     * @return true if no coordinate is infinite or NaN.
+     */
+    public static boolean isFinite(double minX, double minY, double maxX, double maxY) {
+        return Double.isFinite(minX) && Double.isFinite(minY) && Double.isFinite(maxX) && Double.isFinite(maxY);
+    }
+
+    /**
+     * Checks whether all coordinates of a 3D box are finite.
+     *
+     * @param minX smallest X-Coordinate of the box.
+     * @param minY smallest Y-Coordinate of the box.
+     * @param minZ smallest Z-Coordinate of the box.
+     * @param maxX largest X-Coordinate of the box.
+     * @param maxY largest Y-Coordinate of the box.
+     * @param maxZ largest Z-Coordinate of the box.
+     * @return true if no coordinate is infinite or NaN.
+     */
+    public static boolean isFinite(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return isFinite(minX, minY, maxX, maxY) && Double.isFinite(minZ) && Double.isFinite(maxZ);
+    }
+
+    /**
+     * Bounds the interpolation between two values for a range of positions.
+     * The interpolation must stay between the two known values for positions between 0 and 1,
+     * see {@link Interpolation#isPredefined(Interpolation)}. The result ignores rounding errors.
+     *
+     * @param interpolation interpolation to bound.
+     * @param minPosition   smallest position, at least 0.
+     * @param maxPosition   largest position, at most 1.
+     * @param a             bounds of the first known value.
+     * @param b             bounds of the second known value.
+     * @return {@link NoiseBounds} of the interpolated values.
+     */
+    public static NoiseBounds lerp(Interpolation interpolation, double minPosition, double maxPosition, NoiseBounds a, NoiseBounds b) {
+        double minWeight = Math.max(interpolation.lerp(minPosition, 0, 1), 0);
+        double maxWeight = Math.min(interpolation.lerp(maxPosition, 0, 1), 1);
+        // The interpolated value is linear in the weight, so its extremes lie at the smallest or largest weight.
+        double min = Math.min(mix(minWeight, a.getMin(), b.getMin()), mix(maxWeight, a.getMin(), b.getMin()));
+        double max = Math.max(mix(minWeight, a.getMax(), b.getMax()), mix(maxWeight, a.getMax(), b.getMax()));
+        return NoiseBounds.ofOrUnbounded(min, max);
+    }
+
+    /**
+     * Widens bounds by a margin for rounding errors, without exceeding limits that are known to hold.
+     *
+     * @param bounds bounds to widen.
+     * @param margin absolute margin to add on both ends.
+     * @param limits bounds which are known to contain every value, e.g. the bounds of the whole source.
+     * @return the widened {@link NoiseBounds}.
+     */
+    public static NoiseBounds widen(NoiseBounds bounds, double margin, NoiseBounds limits) {
+        double min = Math.max(bounds.getMin() - margin, limits.getMin());
+        double max = Math.min(bounds.getMax() + margin, limits.getMax());
+        return min <= max ? NoiseBounds.of(min, max) : limits;
+    }
+
+    private static double mix(double weight, double a, double b) {
+        return a + weight * (b - a);
+    }
+}
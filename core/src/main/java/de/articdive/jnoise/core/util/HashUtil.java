@@ -91,8 +91,50 @@ public final class HashUtil {
         return (int) finalizeHash(hash);
     }
 
-    private static long finalizeHash(long hash) {
+    /**
+     * Derives a uniformly distributed value in the interval [0, 1) from a hash and a counter.
+     * Every counter value yields an independent value, so a single hash can be expanded into a stream of values
+     * without the allocation and synchronization of a {@link java.util.Random}.
+     *
+     * @param hash    hash to derive the value from, e.g. the hash of a point.
+     * @param counter index of the value in the stream belonging to the hash.
+     * @return uniformly distributed value in the interval [0, 1).
+     */
+    public static double uniformDouble(long hash, long counter) {
+        return (uniformLong(hash, counter) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Derives 64 uniformly distributed bits from a hash and a counter.
+     * This is the stream {@link #uniformDouble(long, long)} draws from,
+     * use it when a single draw has to provide more than one value.
+     *
+     * @param hash    hash to derive the bits from, e.g. the hash of a point.
+     * @param counter index of the bits in the stream belonging to the hash.
+     * @return uniformly distributed 64 bits.
+     */
+    public static long uniformLong(long hash, long counter) {
+        // SplitMix64: the mixed hash is the stream's state, the counter advances it.
+        long state = mix64(hash) + (counter + 1) * 0x9E3779B97F4A7C15L;
+        return mix64(state);
+    }
+
+    /**
+     * Finalizes a combined hash, i.e. {@code seed ^ (X_PRIME * x) ^ (Y_PRIME * y) ^ ...}.
+     * Exposed so that bulk evaluations can combine the axis terms shared between neighbouring samples once
+     * and still produce exactly the same value as the hashND methods.
+     *
+     * @param hash the combined hash.
+     * @return the finalized hash value, cast it to an int to match the hashND methods.
+     */
+    public static long finalizeHash(long hash) {
         hash = hash * hash * hash * 60493;
         return (hash >> 13) ^ hash;
     }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
 }
@@ -0,0 +1,250 @@
+package de.articdive.jnoise.core.util;
+
+/**
+ * Utility class for validating and sampling regions passed to the bulk evaluation methods of a
+ * {@link de.articdive.jnoise.core.api.pipeline.NoiseSource}.
+ *
+ * @author Articdive
+ */
+public final class RegionUtil {
+    /**
+     * The largest magnitude of the lattice coordinates {@link #latticeCoordinate(double, double)} detects,
+     * lattice coordinates within it stay exact doubles when regions of them are stepped through.
+     */
+    public static final long MAX_LATTICE_COORDINATE = 1L << 52;
+    /**
+     * Returned by {@link #latticeCoordinate(double, double)} for coordinates which are not on the lattice.
+     */
+    public static final long NOT_ON_LATTICE = Long.MIN_VALUE;
+    /**
+     * The largest amount of double precision samples the single precision fills of
+     * {@link de.articdive.jnoise.core.api.pipeline.NoiseSource} buffer at once, i.e. 2 MiB.
+     */
+    public static final int MAX_BUFFERED_SAMPLES = 1 << 18;
+    // Longs up to 2^53 in magnitude are converted to doubles exactly.
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    private RegionUtil() {
+
+    }
+
+    /**
+     * Validates a 1D region and returns the amount of samples in it.
+     *
+     * @param length length of the output array.
+     * @param nx     amount of samples along the X axis.
+     * @return the amount of samples in the region.
+     * @throws IllegalArgumentException if the region is invalid or does not fit in the output array.
+     */
+    public static int checkRegion(int length, int nx) {
+        return checkSize(length, nx);
+    }
+
+    /**
+     * Validates a 2D region and returns the amount of samples in it.
+     *
+     * @param length length of the output array.
+     * @param nx     amount of samples along the X axis.
+     * @param ny     amount of samples along the Y axis.
+     * @return the amount of samples in the region.
+     * @throws IllegalArgumentException if the region is invalid or does not fit in the output array.
+     */
+    public static int checkRegion(int length, int nx, int ny) {
+        checkCount(nx);
+        checkCount(ny);
+        return checkSize(length, (long) nx * ny);
+    }
+
+    /**
+     * Validates a 3D region and returns the amount of samples in it.
+     *
+     * @param length length of the output array.
+     * @param nx     amount of samples along the X axis.
+     * @param ny     amount of samples along the Y axis.
+     * @param nz     amount of samples along the Z axis.
+     * @return the amount of samples in the region.
+     * @throws IllegalArgumentException if the region is invalid or does not fit in the output array.
+     */
+    public static int checkRegion(int length, int nx, int ny, int nz) {
+        checkCount(nx);
+        checkCount(ny);
+        checkCount(nz);
+        return checkSize(length, (long) nx * ny * nz);
+    }
+
+    /**
+     * Validates a 4D region and returns the amount of samples in it.
+     *
+     * @param length length of the output array.
+     * @param nx     amount of samples along the X axis.
+     * @param ny     amount of samples along the Y axis.
+     * @param nz     amount of samples along the Z axis.
+     * @param nw     amount of samples along the W axis.
+     * @return the amount of samples in the region.
+     * @throws IllegalArgumentException if the region is invalid or does not fit in the output array.
+     */
+    public static int checkRegion(int length, int nx, int ny, int nz, int nw) {
+        checkCount(nx);
+        checkCount(ny);
+        checkCount(nz);
+        checkCount(nw);
+        return checkSize(length, (long) nx * ny * nz * nw);
+    }
+
+    /**
+     * Computes the coordinates of the samples along an axis of a region.
+     *
+     * @param start coordinate of the first sample.
+     * @param step  spacing between samples.
+     * @param count amount of samples.
+     * @return the coordinates {@code start + i * step}.
+     */
+    public static double[] coordinates(double start, double step, int count) {
+        double[] coordinates = new double[count];
+        for (int i = 0; i < count; i++) {
+            coordinates[i] = start + i * step;
+        }
+        return coordinates;
+    }
+
+    /**
+     * Computes the unit cells of the samples along an axis of a region.
+     *
+     * @param start coordinate of the first sample.
+     * @param step  spacing between samples.
+     * @param count amount of samples.
+     * @return the unit cells {@code (long) Math.floor(start + i * step)}.
+     */
+    public static long[] cells(double start, double step, int count) {
+        long[] cells = new long[count];
+        for (int i = 0; i < count; i++) {
+            cells[i] = (long) Math.floor(start + i * step);
+        }
+        return cells;
+    }
+
+    /**
+     * Computes the coordinates of the samples along an axis of a lattice region.
+     *
+     * @param start   lattice coordinate of the first sample.
+     * @param spacing distance between lattice coordinates.
+     * @param count   amount of samples.
+     * @return the coordinates {@code (start + i) * spacing}.
+     */
+    public static double[] latticeCoordinates(long start, double spacing, int count) {
+        double[] coordinates = new double[count];
+        for (int i = 0; i < count; i++) {
+            coordinates[i] = (start + i) * spacing;
+        }
+        return coordinates;
+    }
+
+    /**
+     * Computes the unit cells of the samples along an axis of a lattice region, see {@link #latticeFloor(long, double)}.
+     *
+     * @param start   lattice coordinate of the first sample.
+     * @param spacing distance between lattice coordinates.
+     * @param count   amount of samples.
+     * @return the unit cells {@code (long) Math.floor((start + i) * spacing)}.
+     */
+    public static long[] latticeCells(long start, double spacing, int count) {
+        long[] cells = new long[count];
+        int shift = latticeShift(spacing);
+        for (int i = 0; i < count; i++) {
+            long x = start + i;
+            cells[i] = shift >= 0 && Math.abs(x) <= MAX_EXACT_LONG ? x >> shift : (long) Math.floor(x * spacing);
+        }
+        return cells;
+    }
+
+    /**
+     * Computes the unit cell containing a lattice coordinate, i.e. {@code (long) Math.floor(x * spacing)}.
+     * If the spacing is a power of two of at most 1 and x is converted to a double exactly,
+     * the product is exact and its floor is an arithmetic shift of x, so no floating point operations are performed.
+     *
+     * @param x       lattice coordinate.
+     * @param spacing distance between lattice coordinates.
+     * @return the unit cell containing {@code x * spacing}.
+     */
+    public static long latticeFloor(long x, double spacing) {
+        int shift = latticeShift(spacing);
+        if (shift >= 0 && Math.abs(x) <= MAX_EXACT_LONG) {
+            return x >> shift;
+        }
+        return (long) Math.floor(x * spacing);
+    }
+
+    /**
+     * Computes the lattice coordinate of a coordinate, i.e. the inverse of {@code x * spacing}.
+     * The coordinate is only on the lattice if scaling its lattice coordinate by the spacing yields exactly the coordinate.
+     *
+     * @param coordinate coordinate of a sample.
+     * @param spacing    distance between lattice coordinates.
+     * @return the lattice coordinate of the coordinate, {@link #NOT_ON_LATTICE} if it is not on the lattice
+     * or further than {@link #MAX_LATTICE_COORDINATE} lattice points from the origin.
+     */
+    public static long latticeCoordinate(double coordinate, double spacing) {
+        double scaled = Math.rint(coordinate / spacing);
+        if (!(Math.abs(scaled) <= MAX_LATTICE_COORDINATE)) {
+            return NOT_ON_LATTICE;
+        }
+        long lattice = (long) scaled;
+        if (Double.doubleToRawLongBits(lattice * spacing) != Double.doubleToRawLongBits(coordinate)) {
+            return NOT_ON_LATTICE;
+        }
+        return lattice;
+    }
+
+    /**
+     * Checks whether a lattice coordinate lies within {@link #MAX_LATTICE_COORDINATE} lattice points of the origin.
+     *
+     * @param x lattice coordinate.
+     * @return true if the lattice coordinate is within the bounds, false for {@link #NOT_ON_LATTICE}.
+     */
+    public static boolean isLatticeCoordinate(long x) {
+        return x >= -MAX_LATTICE_COORDINATE && x <= MAX_LATTICE_COORDINATE;
+    }
+
+    /**
+     * Computes the lattice coordinate of the first sample along an axis of an evenly spaced region,
+     * if the samples {@code start + i * step} are exactly the lattice points {@code (latticeCoordinate(start) + i) * spacing}.
+     * This is the case if the region starts on the lattice and steps by the spacing, which has to be a power of two,
+     * as otherwise the sums drift away from the products.
+     *
+     * @param start   coordinate of the first sample.
+     * @param step    spacing between samples.
+     * @param spacing distance between lattice coordinates.
+     * @return the lattice coordinate of the first sample, {@link #NOT_ON_LATTICE} if the samples are not exactly lattice points.
+     */
+    public static long latticeRegionStart(double start, double step, double spacing) {
+        if (step != spacing || spacing != Math.scalb(1.0, Math.getExponent(spacing))) {
+            return NOT_ON_LATTICE;
+        }
+        return latticeCoordinate(start, spacing);
+    }
+
+    // Returns n if the spacing is 2^-n with 0 <= n <= 62, otherwise -1.
+    private static int latticeShift(double spacing) {
+        int exponent = Math.getExponent(spacing);
+        if (spacing > 0 && exponent <= 0 && exponent >= -62 && spacing == Math.scalb(1.0, exponent)) {
+            return -exponent;
+        }
+        return -1;
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The amount of samples along an axis must not be negative.");
+        }
+    }
+
+    private static int checkSize(int length, long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The amount of samples along an axis must not be negative.");
+        }
+        if (size > length) {
+            throw new IllegalArgumentException("The output array is too small for the region, it requires " + size + " elements.");
+        }
+        return (int) size;
+    }
+}
@@ -4,6 +4,7 @@
  * Requires JSpecify.
  */
 module de.articdive.jnoise.core {
+  exports de.articdive.jnoise.core.api.definition;
   exports de.articdive.jnoise.core.api.functions;
   exports de.articdive.jnoise.core.api.modifiers;
   exports de.articdive.jnoise.core.api.modules;
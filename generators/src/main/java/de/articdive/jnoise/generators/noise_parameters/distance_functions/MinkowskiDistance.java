@@ -1,12 +1,15 @@
 package de.articdive.jnoise.generators.noise_parameters.distance_functions;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+
 /**
  * Interesting distance function that will be a bit more expensive to compute (especially for large values of p)
  * Also to note: p = 1 is the same as {@link DistanceFunctionType#MANHATTAN} and p = 2 is the same as {@link DistanceFunctionType#EUCLIDEAN_SQUARED}, so don't use this for p = 1 and p = 2!
  *
  * @author Articdive
  */
-public final class MinkowskiDistance implements DistanceFunction {
+public final class MinkowskiDistance implements DistanceFunction, Definable {
     private final long p;
 
     /**
@@ -18,6 +21,11 @@ public final class MinkowskiDistance implements DistanceFunction {
         this.p = p;
     }
 
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("minkowski").setLong("p", p).build();
+    }
+
     @Override
     public double distance(double x0, double x1) {
         return Math.abs(x0 - x1);
@@ -44,4 +44,47 @@ public interface FadeFunction {
      * @return the faded value at t.
      */
     double fade(double t);
+
+    /**
+     * Computes the derivative of {@link #fade(double)}.
+     * The predefined fade functions are differentiated analytically, others are approximated by central differences.
+     *
+     * @param t value (position) in the unit cube to fade.
+     * @return the derivative of the faded value at t.
+     */
+    default double fadeDerivative(double t) {
+        if (this == NONE) {
+            return 1;
+        } else if (this == CUBIC_POLY) {
+            return 6 * t * (1 - t);
+        } else if (this == SQUARTIC_POLY) {
+            return 4 * t * (1 - t * t);
+        } else if (this == QUINTIC_POLY) {
+            return 30 * t * t * (t - 1) * (t - 1);
+        } else if (this == QUADRATIC_RATIONAL) {
+            double denominator = 2 * t * t - 2 * t + 1;
+            return 2 * t * (1 - t) / (denominator * denominator);
+        } else if (this == CUBIC_RATIONAL) {
+            double denominator = 3 * t * t - 3 * t + 1;
+            return 3 * t * t * (t - 1) * (t - 1) / (denominator * denominator);
+        } else if (this == QUADRATIC_PIECEWISE) {
+            return (t < 0.5) ? (4 * t) : (4 - 4 * t);
+        } else if (this == TRIGONOMETRIC) {
+            return 0.5 * Math.PI * Math.sin(Math.PI * t);
+        }
+        double step = 1e-6;
+        return (fade(t + step) - fade(t - step)) / (2 * step);
+    }
+
+    /**
+     * Checks whether a fade function is one of the predefined ones, which map positions between 0 and 1 onto [0, 1].
+     *
+     * @param fadeFunction fade function to check.
+     * @return true if the fade function is predefined.
+     */
+    static boolean isPredefined(FadeFunction fadeFunction) {
+        return fadeFunction == NONE || fadeFunction == CUBIC_POLY || fadeFunction == SQUARTIC_POLY
+            || fadeFunction == QUINTIC_POLY || fadeFunction == QUADRATIC_RATIONAL || fadeFunction == CUBIC_RATIONAL
+            || fadeFunction == QUADRATIC_PIECEWISE || fadeFunction == TRIGONOMETRIC;
+    }
 }
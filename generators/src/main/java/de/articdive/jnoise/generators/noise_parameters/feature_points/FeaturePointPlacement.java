@@ -0,0 +1,20 @@
+package de.articdive.jnoise.generators.noise_parameters.feature_points;
+
+/**
+ * Enum representing the different ways feature points are placed inside a unit section of cellular (worley) noise.
+ *
+ * @author Articdive
+ */
+public enum FeaturePointPlacement {
+    /**
+     * Feature points are drawn from a {@link java.util.Random} seeded with the hash of the unit section.
+     * This is the original placement, it reproduces all noise generated by previous versions.
+     */
+    RANDOM,
+    /**
+     * Feature points are derived directly from a counter-based hash of the unit section's hash and the point's index.
+     * This allocates nothing and is considerably faster than {@link #RANDOM},
+     * however the feature points end up in different places.
+     */
+    HASHED
+}
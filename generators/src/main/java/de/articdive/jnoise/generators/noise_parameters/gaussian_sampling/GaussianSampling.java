@@ -0,0 +1,20 @@
+package de.articdive.jnoise.generators.noise_parameters.gaussian_sampling;
+
+/**
+ * Enum representing the different ways a normally distributed value is sampled for a unit section of gaussian white noise.
+ *
+ * @author Articdive
+ */
+public enum GaussianSampling {
+    /**
+     * Values are drawn from a {@link java.util.Random} seeded with the hash of the unit section.
+     * This is the original sampling, it reproduces all noise generated by previous versions.
+     */
+    RANDOM,
+    /**
+     * Values are drawn with the ziggurat method from a counter-based hash of the unit section's hash.
+     * This allocates nothing and is considerably faster than {@link #RANDOM},
+     * however the unit sections end up with different values.
+     */
+    ZIGGURAT
+}
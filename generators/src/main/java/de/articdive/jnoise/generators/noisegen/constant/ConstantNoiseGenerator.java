@@ -1,16 +1,22 @@
 package de.articdive.jnoise.generators.noisegen.constant;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.noisegen.NoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.RegionUtil;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.Arrays;
+
 /**
  * A noise generator that always returns the constant specified.
  *
  * @author Articdive
  */
 @NullMarked
-public final class ConstantNoiseGenerator implements NoiseGenerator {
+public final class ConstantNoiseGenerator implements NoiseGenerator, Definable {
     private final double constant;
 
     private ConstantNoiseGenerator(double constant) {
@@ -37,6 +43,66 @@ public final class ConstantNoiseGenerator implements NoiseGenerator {
         return constant;
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        return NoiseBounds.ofOrUnbounded(constant, constant);
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx), constant);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx, ny), constant);
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx, ny, nz), constant);
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx, ny, nz, nw), constant);
+    }
+
+    @Override
+    public void fill1D(float[] out, double x0, double dx, int nx) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx), (float) constant);
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx, ny), (float) constant);
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx, ny, nz), (float) constant);
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        Arrays.fill(out, 0, RegionUtil.checkRegion(out.length, nx, ny, nz, nw), (float) constant);
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("constant").setDouble("constant", constant).build();
+    }
+
     /**
      * Gets a {@link ConstantNoiseBuilder} to build a {@link ConstantNoiseGenerator}.
      *
@@ -1,5 +1,9 @@
 package de.articdive.jnoise.generators.noisegen.opensimplex;
 
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex4DVariant;
+
 /**
  * K.jpg's OpenSimplex 2, faster variant
  *
@@ -58,12 +62,26 @@ class OpenSimplex2F {
      * 2D Simplex noise, standard lattice orientation.
      */
     public static float noise2(long seed, double x, double y) {
+        return noise2(seed, x, y, null);
+    }
+
+    /**
+     * {@link #noise2(long, double, double)}, additionally writing the partial derivatives
+     * with respect to x and y into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise2(long seed, double x, double y, double[] derivatives) {
 
         // Get points for A2* lattice
         double s = SKEW_2D * (x + y);
         double xs = x + s, ys = y + s;
 
-        return noise2_UnskewedBase(seed, xs, ys);
+        float value = noise2_UnskewedBase(seed, xs, ys, derivatives);
+        if (derivatives != null) {
+            double skew = SKEW_2D * (derivatives[0] + derivatives[1]);
+            derivatives[0] += skew;
+            derivatives[1] += skew;
+        }
+        return value;
     }
 
     /**
@@ -74,18 +92,32 @@ class OpenSimplex2F {
      * difference, but the option is here to make it an easy choice.
      */
     public static float noise2_ImproveX(long seed, double x, double y) {
+        return noise2_ImproveX(seed, x, y, null);
+    }
+
+    /**
+     * {@link #noise2_ImproveX(long, double, double)}, additionally writing the partial derivatives
+     * with respect to x and y into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise2_ImproveX(long seed, double x, double y, double[] derivatives) {
 
         // Skew transform and rotation baked into one.
         double xx = x * ROOT2OVER2;
         double yy = y * (ROOT2OVER2 * (1 + 2 * SKEW_2D));
 
-        return noise2_UnskewedBase(seed, yy + xx, yy - xx);
+        float value = noise2_UnskewedBase(seed, yy + xx, yy - xx, derivatives);
+        if (derivatives != null) {
+            double dxs = derivatives[0], dys = derivatives[1];
+            derivatives[0] = ROOT2OVER2 * (dxs - dys);
+            derivatives[1] = (ROOT2OVER2 * (1 + 2 * SKEW_2D)) * (dxs + dys);
+        }
+        return value;
     }
 
     /**
      * 2D Simplex noise base.
      */
-    private static float noise2_UnskewedBase(long seed, double xs, double ys) {
+    private static float noise2_UnskewedBase(long seed, double xs, double ys, double[] derivatives) {
 
         // Get base points and offsets.
         int xsb = fastFloor(xs), ysb = fastFloor(ys);
@@ -102,7 +134,7 @@ class OpenSimplex2F {
         float value = 0;
         float a0 = RSQUARED_2D - dx0 * dx0 - dy0 * dy0;
         if (a0 > 0) {
-            value = (a0 * a0) * (a0 * a0) * grad(seed, xsbp, ysbp, dx0, dy0);
+            value = contribute(seed, xsbp, ysbp, dx0, dy0, a0, derivatives);
         }
 
         // Second vertex.
@@ -110,7 +142,7 @@ class OpenSimplex2F {
         if (a1 > 0) {
             float dx1 = dx0 - (float)(1 + 2 * UNSKEW_2D);
             float dy1 = dy0 - (float)(1 + 2 * UNSKEW_2D);
-            value += (a1 * a1) * (a1 * a1) * grad(seed, xsbp + PRIME_X, ysbp + PRIME_Y, dx1, dy1);
+            value += contribute(seed, xsbp + PRIME_X, ysbp + PRIME_Y, dx1, dy1, a1, derivatives);
         }
 
         // Third vertex.
@@ -119,7 +151,7 @@ class OpenSimplex2F {
             float dy2 = dy0 - (float)(UNSKEW_2D + 1);
             float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
             if (a2 > 0) {
-                value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp, ysbp + PRIME_Y, dx2, dy2);
+                value += contribute(seed, xsbp, ysbp + PRIME_Y, dx2, dy2, a2, derivatives);
             }
         }
         else
@@ -128,10 +160,17 @@ class OpenSimplex2F {
             float dy2 = dy0 - (float)UNSKEW_2D;
             float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
             if (a2 > 0) {
-                value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp + PRIME_X, ysbp, dx2, dy2);
+                value += contribute(seed, xsbp + PRIME_X, ysbp, dx2, dy2, a2, derivatives);
             }
         }
 
+
+        if (derivatives != null) {
+            // The displacements are unskewed, d = s + UNSKEW_2D * (xs + ys) for the skewed offsets s.
+            double unskew = UNSKEW_2D * (derivatives[0] + derivatives[1]);
+            derivatives[0] += unskew;
+            derivatives[1] += unskew;
+        }
         return value;
     }
 
@@ -144,6 +183,14 @@ class OpenSimplex2F {
      * For a time varied animation, call noise3_ImproveXY(x, y, T).
      */
     public static float noise3_ImproveXY(long seed, double x, double y, double z) {
+        return noise3_ImproveXY(seed, x, y, z, null);
+    }
+
+    /**
+     * {@link #noise3_ImproveXY(long, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y and z into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise3_ImproveXY(long seed, double x, double y, double z, double[] derivatives) {
 
         // Re-orient the cubic lattices without skewing, so Z points up the main lattice diagonal,
         // and the planes formed by XY are moved far out of alignment with the cube faces.
@@ -156,7 +203,15 @@ class OpenSimplex2F {
         double zr = xy * -ROOT3OVER3 + zz;
 
         // Evaluate both lattices to form a BCC lattice.
-        return noise3_UnrotatedBase(seed, xr, yr, zr);
+        float value = noise3_UnrotatedBase(seed, xr, yr, zr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2];
+            double ds2 = (dxr + dyr) * ROTATE_3D_ORTHOGONALIZER - dzr * ROOT3OVER3;
+            derivatives[0] = dxr + ds2;
+            derivatives[1] = dyr + ds2;
+            derivatives[2] = (dxr + dyr + dzr) * ROOT3OVER3;
+        }
+        return value;
     }
 
     /**
@@ -168,6 +223,14 @@ class OpenSimplex2F {
      * For a time varied animation, call noise3_ImproveXZ(x, T, y) or use noise3_ImproveXY.
      */
     public static float noise3_ImproveXZ(long seed, double x, double y, double z) {
+        return noise3_ImproveXZ(seed, x, y, z, null);
+    }
+
+    /**
+     * {@link #noise3_ImproveXZ(long, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y and z into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise3_ImproveXZ(long seed, double x, double y, double z, double[] derivatives) {
 
         // Re-orient the cubic lattices without skewing, so Y points up the main lattice diagonal,
         // and the planes formed by XZ are moved far out of alignment with the cube faces.
@@ -180,7 +243,15 @@ class OpenSimplex2F {
         double yr = xz * -ROOT3OVER3 + yy;
 
         // Evaluate both lattices to form a BCC lattice.
-        return noise3_UnrotatedBase(seed, xr, yr, zr);
+        float value = noise3_UnrotatedBase(seed, xr, yr, zr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2];
+            double ds2 = (dxr + dzr) * ROTATE_3D_ORTHOGONALIZER - dyr * ROOT3OVER3;
+            derivatives[0] = dxr + ds2;
+            derivatives[1] = (dxr + dyr + dzr) * ROOT3OVER3;
+            derivatives[2] = dzr + ds2;
+        }
+        return value;
     }
 
     /**
@@ -189,6 +260,14 @@ class OpenSimplex2F {
      * They have less diagonal bias. This function's best use is as a fallback.
      */
     public static float noise3_Fallback(long seed, double x, double y, double z) {
+        return noise3_Fallback(seed, x, y, z, null);
+    }
+
+    /**
+     * {@link #noise3_Fallback(long, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y and z into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise3_Fallback(long seed, double x, double y, double z, double[] derivatives) {
 
         // Re-orient the cubic lattices via rotation, to produce a familiar look.
         // Orthonormal rotation. Not a skew transform.
@@ -196,13 +275,20 @@ class OpenSimplex2F {
         double xr = r - x, yr = r - y, zr = r - z;
 
         // Evaluate both lattices to form a BCC lattice.
-        return noise3_UnrotatedBase(seed, xr, yr, zr);
+        float value = noise3_UnrotatedBase(seed, xr, yr, zr, derivatives);
+        if (derivatives != null) {
+            double dr = FALLBACK_ROTATE_3D * (derivatives[0] + derivatives[1] + derivatives[2]);
+            derivatives[0] = dr - derivatives[0];
+            derivatives[1] = dr - derivatives[1];
+            derivatives[2] = dr - derivatives[2];
+        }
+        return value;
     }
 
     /**
      * Generate overlapping cubic lattices for 3D OpenSimplex2 noise.
      */
-    private static float noise3_UnrotatedBase(long seed, double xr, double yr, double zr) {
+    private static float noise3_UnrotatedBase(long seed, double xr, double yr, double zr, double[] derivatives) {
 
         // Get base points and offsets.
         int xrb = fastRound(xr), yrb = fastRound(yr), zrb = fastRound(zr);
@@ -224,7 +310,7 @@ class OpenSimplex2F {
 
             // Closest point on cube.
             if (a > 0) {
-                value += (a * a) * (a * a) * grad(seed, xrbp, yrbp, zrbp, xri, yri, zri);
+                value += contribute(seed, xrbp, yrbp, zrbp, xri, yri, zri, a, derivatives);
             }
 
             // Second-closest point.
@@ -232,14 +318,14 @@ class OpenSimplex2F {
                 float b = a + ax0 + ax0;
                 if (b > 1) {
                     b -= 1;
-                    value += (b * b) * (b * b) * grad(seed, xrbp - xNSign * PRIME_X, yrbp, zrbp, xri + xNSign, yri, zri);
+                    value += contribute(seed, xrbp - xNSign * PRIME_X, yrbp, zrbp, xri + xNSign, yri, zri, b, derivatives);
                 }
             }
             else if (ay0 > ax0 && ay0 >= az0) {
                 float b = a + ay0 + ay0;
                 if (b > 1) {
                     b -= 1;
-                    value += (b * b) * (b * b) * grad(seed, xrbp, yrbp - yNSign * PRIME_Y, zrbp, xri, yri + yNSign, zri);
+                    value += contribute(seed, xrbp, yrbp - yNSign * PRIME_Y, zrbp, xri, yri + yNSign, zri, b, derivatives);
                 }
             }
             else
@@ -247,7 +333,7 @@ class OpenSimplex2F {
                 float b = a + az0 + az0;
                 if (b > 1) {
                     b -= 1;
-                    value += (b * b) * (b * b) * grad(seed, xrbp, yrbp, zrbp - zNSign * PRIME_Z, xri, yri, zri + zNSign);
+                    value += contribute(seed, xrbp, yrbp, zrbp - zNSign * PRIME_Z, xri, yri, zri + zNSign, b, derivatives);
                 }
             }
 
@@ -291,6 +377,14 @@ class OpenSimplex2F {
      * in a space where Z is vertical
      */
     public static float noise4_ImproveXYZ_ImproveXY(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXYZ_ImproveXY(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXYZ_ImproveXY(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXYZ_ImproveXY(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         double xy = x + y;
         double s2 = xy * -0.21132486540518699998;
@@ -300,7 +394,16 @@ class OpenSimplex2F {
         double zr = xy * -0.57735026918962599998 + (zz + ww);
         double wr = z * -0.866025403784439 + ww;
 
-        return noise4_UnskewedBase(seed, xr, yr, zr, wr);
+        float value = noise4_UnskewedBase(seed, xr, yr, zr, wr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2], dwr = derivatives[3];
+            double dxy = (dxr + dyr) * -0.21132486540518699998 + dzr * -0.57735026918962599998;
+            derivatives[0] = dxr + dxy;
+            derivatives[1] = dyr + dxy;
+            derivatives[2] = (dxr + dyr + dzr) * 0.28867513459481294226 + dwr * -0.866025403784439;
+            derivatives[3] = (dxr + dyr + dzr + dwr) * 0.2236067977499788;
+        }
+        return value;
     }
 
     /**
@@ -310,6 +413,14 @@ class OpenSimplex2F {
      * in a space where Y is vertical
      */
     public static float noise4_ImproveXYZ_ImproveXZ(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXYZ_ImproveXZ(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXYZ_ImproveXZ(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXYZ_ImproveXZ(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         double xz = x + z;
         double s2 = xz * -0.21132486540518699998;
@@ -319,7 +430,16 @@ class OpenSimplex2F {
         double yr = xz * -0.57735026918962599998 + (yy + ww);
         double wr = y * -0.866025403784439 + ww;
 
-        return noise4_UnskewedBase(seed, xr, yr, zr, wr);
+        float value = noise4_UnskewedBase(seed, xr, yr, zr, wr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2], dwr = derivatives[3];
+            double dxz = (dxr + dzr) * -0.21132486540518699998 + dyr * -0.57735026918962599998;
+            derivatives[0] = dxr + dxz;
+            derivatives[1] = (dxr + dyr + dzr) * 0.28867513459481294226 + dwr * -0.866025403784439;
+            derivatives[2] = dzr + dxz;
+            derivatives[3] = (dxr + dyr + dzr + dwr) * 0.2236067977499788;
+        }
+        return value;
     }
 
     /**
@@ -329,13 +449,30 @@ class OpenSimplex2F {
      * where there isn't a clear distinction between horizontal and vertical
      */
     public static float noise4_ImproveXYZ(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXYZ(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXYZ(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXYZ(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         double xyz = x + y + z;
         double ww = w * 0.2236067977499788;
         double s2 = xyz * -0.16666666666666666 + ww;
         double xs = x + s2, ys = y + s2, zs = z + s2, ws = -0.5 * xyz + ww;
 
-        return noise4_UnskewedBase(seed, xs, ys, zs, ws);
+        float value = noise4_UnskewedBase(seed, xs, ys, zs, ws, derivatives);
+        if (derivatives != null) {
+            double dxs = derivatives[0], dys = derivatives[1], dzs = derivatives[2], dws = derivatives[3];
+            double dxyz = (dxs + dys + dzs) * -0.16666666666666666 + dws * -0.5;
+            derivatives[0] = dxs + dxyz;
+            derivatives[1] = dys + dxyz;
+            derivatives[2] = dzs + dxyz;
+            derivatives[3] = (dxs + dys + dzs + dws) * 0.2236067977499788;
+        }
+        return value;
     }
 
     /**
@@ -344,30 +481,64 @@ class OpenSimplex2F {
      * Recommended for noise(x, y, sin(time), cos(time)) trick.
      */
     public static float noise4_ImproveXY_ImproveZW(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXY_ImproveZW(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXY_ImproveZW(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXY_ImproveZW(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         double s2 = (x + y) * -0.178275657951399372 + (z + w) * 0.215623393288842828;
         double t2 = (z + w) * -0.403949762580207112 + (x + y) * -0.375199083010075342;
         double xs = x + s2, ys = y + s2, zs = z + t2, ws = w + t2;
 
-        return noise4_UnskewedBase(seed, xs, ys, zs, ws);
+        float value = noise4_UnskewedBase(seed, xs, ys, zs, ws, derivatives);
+        if (derivatives != null) {
+            double dxs = derivatives[0], dys = derivatives[1], dzs = derivatives[2], dws = derivatives[3];
+            double dxy = (dxs + dys) * -0.178275657951399372 + (dzs + dws) * -0.375199083010075342;
+            double dzw = (dxs + dys) * 0.215623393288842828 + (dzs + dws) * -0.403949762580207112;
+            derivatives[0] = dxs + dxy;
+            derivatives[1] = dys + dxy;
+            derivatives[2] = dzs + dzw;
+            derivatives[3] = dws + dzw;
+        }
+        return value;
     }
 
     /**
      * 4D OpenSimplex2 noise, fallback lattice orientation.
      */
     public static float noise4_Fallback(long seed, double x, double y, double z, double w) {
+        return noise4_Fallback(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_Fallback(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_Fallback(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         // Get points for A4 lattice
         double s = SKEW_4D * (x + y + z + w);
         double xs = x + s, ys = y + s, zs = z + s, ws = w + s;
 
-        return noise4_UnskewedBase(seed, xs, ys, zs, ws);
+        float value = noise4_UnskewedBase(seed, xs, ys, zs, ws, derivatives);
+        if (derivatives != null) {
+            double skew = SKEW_4D * ((derivatives[0] + derivatives[1]) + (derivatives[2] + derivatives[3]));
+            derivatives[0] += skew;
+            derivatives[1] += skew;
+            derivatives[2] += skew;
+            derivatives[3] += skew;
+        }
+        return value;
     }
 
     /**
      * 4D OpenSimplex2 noise base.
      */
-    private static float noise4_UnskewedBase(long seed, double xs, double ys, double zs, double ws) {
+    private static float noise4_UnskewedBase(long seed, double xs, double ys, double zs, double ws, double[] derivatives) {
 
         // Get base points and offsets
         int xsb = fastFloor(xs), ysb = fastFloor(ys), zsb = fastFloor(zs), wsb = fastFloor(ws);
@@ -423,8 +594,7 @@ class OpenSimplex2F {
             float a = (dx * dx + dy * dy) + (dz * dz + dw * dw);
             if (a < RSQUARED_4D) {
                 a -= RSQUARED_4D;
-                a *= a;
-                value += a * a * grad(seed, xsvp, ysvp, zsvp, wsvp, dx, dy, dz, dw);
+                value += contribute(seed, xsvp, ysvp, zsvp, wsvp, dx, dy, dz, dw, a, derivatives);
             }
 
             // Break from loop if we're done, skipping updates below.
@@ -445,35 +615,195 @@ class OpenSimplex2F {
             }
         }
 
+
+        if (derivatives != null) {
+            // The displacements are unskewed, d = s + UNSKEW_4D * (xs + ys + zs + ws) for the skewed offsets s.
+            double unskew = UNSKEW_4D * ((derivatives[0] + derivatives[1]) + (derivatives[2] + derivatives[3]));
+            derivatives[0] += unskew;
+            derivatives[1] += unskew;
+            derivatives[2] += unskew;
+            derivatives[3] += unskew;
+        }
         return value;
     }
 
+    /*
+     * Batch Evaluators
+     */
+
+    /**
+     * 2D noise of the points (x[i], y[i]) for i below count, written to out[offset + i].
+     * The variant is selected once for all points, rather than once per point.
+     */
+    static void noise2(long seed, Simplex2DVariant variant, double[] x, double[] y, float[] out, int offset, int count) {
+        switch (variant) {
+            case IMPROVE_X -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise2_ImproveX(seed, x[i], y[i]);
+                }
+            }
+            case CLASSIC -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise2(seed, x[i], y[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 3D noise of the points (x[i], y[i], z[i]) for i below count, written to out[offset + i].
+     * The variant is selected once for all points, rather than once per point.
+     */
+    static void noise3(long seed, Simplex3DVariant variant, double[] x, double[] y, double[] z, float[] out, int offset, int count) {
+        switch (variant) {
+            case IMPROVE_XY -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise3_ImproveXY(seed, x[i], y[i], z[i]);
+                }
+            }
+            case IMPROVE_XZ -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise3_ImproveXZ(seed, x[i], y[i], z[i]);
+                }
+            }
+            case CLASSIC -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise3_Fallback(seed, x[i], y[i], z[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 4D noise of the points (x[i], y[i], z[i], w[i]) for i below count, written to out[offset + i].
+     * The variant is selected once for all points, rather than once per point.
+     */
+    static void noise4(
+        long seed, Simplex4DVariant variant,
+        double[] x, double[] y, double[] z, double[] w, float[] out, int offset, int count
+    ) {
+        switch (variant) {
+            case IMPROVE_XY_IMPROVE_ZW -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXY_ImproveZW(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case IMPROVE_XYZ_IMPROVE_XZ -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXYZ_ImproveXZ(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case IMPROVE_XYZ_IMPROVE_XY -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXYZ_ImproveXY(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case IMRPOVE_XYZ -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXYZ(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case CLASSIC -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_Fallback(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+        }
+    }
+
     /*
      * Utility
      */
 
     private static float grad(long seed, long xsvp, long ysvp, float dx, float dy) {
+        int gi = gradientIndex(seed, xsvp, ysvp);
+        return GRADIENTS_2D[gi | 0] * dx + GRADIENTS_2D[gi | 1] * dy;
+    }
+
+    private static float grad(long seed, long xrvp, long yrvp, long zrvp, float dx, float dy, float dz) {
+        int gi = gradientIndex(seed, xrvp, yrvp, zrvp);
+        return GRADIENTS_3D[gi | 0] * dx + GRADIENTS_3D[gi | 1] * dy + GRADIENTS_3D[gi | 2] * dz;
+    }
+
+    private static float grad(long seed, long xsvp, long ysvp, long zsvp, long wsvp, float dx, float dy, float dz, float dw) {
+        int gi = gradientIndex(seed, xsvp, ysvp, zsvp, wsvp);
+        return (GRADIENTS_4D[gi | 0] * dx + GRADIENTS_4D[gi | 1] * dy) + (GRADIENTS_4D[gi | 2] * dz + GRADIENTS_4D[gi | 3] * dw);
+    }
+
+    private static int gradientIndex(long seed, long xsvp, long ysvp) {
         long hash = seed ^ xsvp ^ ysvp;
         hash *= HASH_MULTIPLIER;
         hash ^= hash >> (64 - N_GRADS_2D_EXPONENT + 1);
-        int gi = (int)hash & ((N_GRADS_2D - 1) << 1);
-        return GRADIENTS_2D[gi | 0] * dx + GRADIENTS_2D[gi | 1] * dy;
+        return (int)hash & ((N_GRADS_2D - 1) << 1);
     }
 
-    private static float grad(long seed, long xrvp, long yrvp, long zrvp, float dx, float dy, float dz) {
+    private static int gradientIndex(long seed, long xrvp, long yrvp, long zrvp) {
         long hash = (seed ^ xrvp) ^ (yrvp ^ zrvp);
         hash *= HASH_MULTIPLIER;
         hash ^= hash >> (64 - N_GRADS_3D_EXPONENT + 2);
-        int gi = (int)hash & ((N_GRADS_3D - 1) << 2);
-        return GRADIENTS_3D[gi | 0] * dx + GRADIENTS_3D[gi | 1] * dy + GRADIENTS_3D[gi | 2] * dz;
+        return (int)hash & ((N_GRADS_3D - 1) << 2);
     }
 
-    private static float grad(long seed, long xsvp, long ysvp, long zsvp, long wsvp, float dx, float dy, float dz, float dw) {
+    private static int gradientIndex(long seed, long xsvp, long ysvp, long zsvp, long wsvp) {
         long hash = seed ^ (xsvp ^ ysvp) ^ (zsvp ^ wsvp);
         hash *= HASH_MULTIPLIER;
         hash ^= hash >> (64 - N_GRADS_4D_EXPONENT + 2);
-        int gi = (int)hash & ((N_GRADS_4D - 1) << 2);
-        return (GRADIENTS_4D[gi | 0] * dx + GRADIENTS_4D[gi | 1] * dy) + (GRADIENTS_4D[gi | 2] * dz + GRADIENTS_4D[gi | 3] * dw);
+        return (int)hash & ((N_GRADS_4D - 1) << 2);
+    }
+
+    /**
+     * Contribution a^4 * (g . d) of a vertex, with the falloff a = r^2 - |d|^2 of the displacement d.
+     * If derivatives is not null, the partial derivatives of the contribution with respect to d are added to it,
+     * i.e. a^4 * g - 8 * a^3 * (g . d) * d.
+     */
+    private static float contribute(long seed, long xsvp, long ysvp, float dx, float dy, float a, double[] derivatives) {
+        float gradient = grad(seed, xsvp, ysvp, dx, dy);
+        if (derivatives != null) {
+            int gi = gradientIndex(seed, xsvp, ysvp);
+            double a3 = (double) a * a * a;
+            double slope = -8 * a3 * gradient;
+            derivatives[0] += a3 * a * GRADIENTS_2D[gi | 0] + slope * dx;
+            derivatives[1] += a3 * a * GRADIENTS_2D[gi | 1] + slope * dy;
+        }
+        return (a * a) * (a * a) * gradient;
+    }
+
+    /**
+     * 3D version of {@link #contribute(long, long, long, float, float, float, double[])}.
+     */
+    private static float contribute(long seed, long xrvp, long yrvp, long zrvp, float dx, float dy, float dz, float a, double[] derivatives) {
+        float gradient = grad(seed, xrvp, yrvp, zrvp, dx, dy, dz);
+        if (derivatives != null) {
+            int gi = gradientIndex(seed, xrvp, yrvp, zrvp);
+            double a3 = (double) a * a * a;
+            double slope = -8 * a3 * gradient;
+            derivatives[0] += a3 * a * GRADIENTS_3D[gi | 0] + slope * dx;
+            derivatives[1] += a3 * a * GRADIENTS_3D[gi | 1] + slope * dy;
+            derivatives[2] += a3 * a * GRADIENTS_3D[gi | 2] + slope * dz;
+        }
+        return (a * a) * (a * a) * gradient;
+    }
+
+    /**
+     * 4D version of {@link #contribute(long, long, long, float, float, float, double[])},
+     * the falloff is passed negated as |d|^2 - r^2, which leaves a^4 unchanged and flips the sign of a^3.
+     */
+    private static float contribute(
+        long seed, long xsvp, long ysvp, long zsvp, long wsvp,
+        float dx, float dy, float dz, float dw, float a, double[] derivatives
+    ) {
+        float gradient = grad(seed, xsvp, ysvp, zsvp, wsvp, dx, dy, dz, dw);
+        if (derivatives != null) {
+            int gi = gradientIndex(seed, xsvp, ysvp, zsvp, wsvp);
+            double a3 = (double) a * a * a;
+            double slope = 8 * a3 * gradient;
+            derivatives[0] += a3 * a * GRADIENTS_4D[gi | 0] + slope * dx;
+            derivatives[1] += a3 * a * GRADIENTS_4D[gi | 1] + slope * dy;
+            derivatives[2] += a3 * a * GRADIENTS_4D[gi | 2] + slope * dz;
+            derivatives[3] += a3 * a * GRADIENTS_4D[gi | 3] + slope * dw;
+        }
+        a *= a;
+        return a * a * gradient;
     }
 
     private static int fastFloor(double x) {
@@ -489,8 +819,8 @@ class OpenSimplex2F {
      * gradients
      */
 
-    private static final float[] GRADIENTS_2D = new float[N_GRADS_2D * 2];
-    private static final float[] GRADIENTS_3D = new float[N_GRADS_3D * 4];
+    static final float[] GRADIENTS_2D = new float[N_GRADS_2D * 2];
+    static final float[] GRADIENTS_3D = new float[N_GRADS_3D * 4];
     private static final float[] GRADIENTS_4D = new float[N_GRADS_4D * 4];
     static {
         float[] grad2 = {
@@ -758,4 +1088,27 @@ class OpenSimplex2F {
             GRADIENTS_4D[i] = grad4[j];
         }
     }
+
+    /*
+     * bounds
+     */
+
+    // Lipschitz constants of the noise, see SimplexBounds. The skews and rotations of every variant preserve distances.
+    // In 2D only the three vertices of the containing triangle can lie within the radius,
+    // every other vertex is at least the height of the triangle away, which equals the radius.
+    static final double SLOPE_2D = 3 * SimplexBounds.kernelSlope(
+        SimplexBounds.longestGradient(GRADIENTS_2D, 2, 2), RSQUARED_2D, RSQUARED_2D
+    );
+    // In 3D at most four corners of the containing cube of each of the two lattices can lie within the radius,
+    // as opposite corners are sqrt(3) apart. Only the closest two of each lattice are evaluated,
+    // the others are at least sqrt(0.5) away, so their falloff is at most r^2 - 0.5.
+    private static final double SKIPPED_FALLOFF_3D = RSQUARED_3D - 0.5;
+    static final double SLOPE_3D = 2 * (
+        2 * SimplexBounds.kernelSlope(SimplexBounds.longestGradient(GRADIENTS_3D, 4, 3), RSQUARED_3D, RSQUARED_3D)
+            + 2 * SimplexBounds.kernelSlope(SimplexBounds.longestGradient(GRADIENTS_3D, 4, 3), RSQUARED_3D, SKIPPED_FALLOFF_3D)
+    );
+    // Skipping these vertices makes the 3D noise discontinuous, so two values can differ by twice their kernels beyond the slope.
+    static final double SEAMS_3D = 2 * 4 * SimplexBounds.kernelValue(
+        SimplexBounds.longestGradient(GRADIENTS_3D, 4, 3), RSQUARED_3D, SKIPPED_FALLOFF_3D
+    );
 }
\ No newline at end of file
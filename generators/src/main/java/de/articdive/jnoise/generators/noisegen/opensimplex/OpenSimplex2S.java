@@ -1,5 +1,9 @@
 package de.articdive.jnoise.generators.noisegen.opensimplex;
 
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex4DVariant;
+
 /**
  * K.jpg's OpenSimplex 2, smooth variant ("SuperSimplex")
  *
@@ -55,12 +59,26 @@ class OpenSimplex2S {
      * 2D OpenSimplex2S/SuperSimplex noise, standard lattice orientation.
      */
     public static float noise2(long seed, double x, double y) {
+        return noise2(seed, x, y, null);
+    }
+
+    /**
+     * {@link #noise2(long, double, double)}, additionally writing the partial derivatives
+     * with respect to x and y into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise2(long seed, double x, double y, double[] derivatives) {
 
         // Get points for A2* lattice
         double s = SKEW_2D * (x + y);
         double xs = x + s, ys = y + s;
 
-        return noise2_UnskewedBase(seed, xs, ys);
+        float value = noise2_UnskewedBase(seed, xs, ys, derivatives);
+        if (derivatives != null) {
+            double skew = SKEW_2D * (derivatives[0] + derivatives[1]);
+            derivatives[0] += skew;
+            derivatives[1] += skew;
+        }
+        return value;
     }
 
     /**
@@ -71,18 +89,32 @@ class OpenSimplex2S {
      * difference, but the option is here to make it easy.
      */
     public static float noise2_ImproveX(long seed, double x, double y) {
+        return noise2_ImproveX(seed, x, y, null);
+    }
+
+    /**
+     * {@link #noise2_ImproveX(long, double, double)}, additionally writing the partial derivatives
+     * with respect to x and y into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise2_ImproveX(long seed, double x, double y, double[] derivatives) {
 
         // Skew transform and rotation baked into one.
         double xx = x * ROOT2OVER2;
         double yy = y * (ROOT2OVER2 * (1 + 2 * SKEW_2D));
 
-        return noise2_UnskewedBase(seed, yy + xx, yy - xx);
+        float value = noise2_UnskewedBase(seed, yy + xx, yy - xx, derivatives);
+        if (derivatives != null) {
+            double dxs = derivatives[0], dys = derivatives[1];
+            derivatives[0] = ROOT2OVER2 * (dxs - dys);
+            derivatives[1] = (ROOT2OVER2 * (1 + 2 * SKEW_2D)) * (dxs + dys);
+        }
+        return value;
     }
 
     /**
      * 2D  OpenSimplex2S/SuperSimplex noise base.
      */
-    private static float noise2_UnskewedBase(long seed, double xs, double ys) {
+    private static float noise2_UnskewedBase(long seed, double xs, double ys, double[] derivatives) {
 
         // Get base points and offsets.
         int xsb = fastFloor(xs), ysb = fastFloor(ys);
@@ -97,13 +129,13 @@ class OpenSimplex2S {
 
         // First vertex.
         float a0 = RSQUARED_2D - dx0 * dx0 - dy0 * dy0;
-        float value = (a0 * a0) * (a0 * a0) * grad(seed, xsbp, ysbp, dx0, dy0);
+        float value = contribute(seed, xsbp, ysbp, dx0, dy0, a0, derivatives);
 
         // Second vertex.
         float a1 = (float)(2 * (1 + 2 * UNSKEW_2D) * (1 / UNSKEW_2D + 2)) * t + ((float)(-2 * (1 + 2 * UNSKEW_2D) * (1 + 2 * UNSKEW_2D)) + a0);
         float dx1 = dx0 - (float)(1 + 2 * UNSKEW_2D);
         float dy1 = dy0 - (float)(1 + 2 * UNSKEW_2D);
-        value += (a1 * a1) * (a1 * a1) * grad(seed, xsbp + PRIME_X, ysbp + PRIME_Y, dx1, dy1);
+        value += contribute(seed, xsbp + PRIME_X, ysbp + PRIME_Y, dx1, dy1, a1, derivatives);
 
         // Third and fourth vertices.
         // Nested conditionals were faster than compact bit logic/arithmetic.
@@ -114,7 +146,7 @@ class OpenSimplex2S {
                 float dy2 = dy0 - (float)(3 * UNSKEW_2D + 1);
                 float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
                 if (a2 > 0) {
-                    value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp + (PRIME_X << 1), ysbp + PRIME_Y, dx2, dy2);
+                    value += contribute(seed, xsbp + (PRIME_X << 1), ysbp + PRIME_Y, dx2, dy2, a2, derivatives);
                 }
             }
             else
@@ -123,7 +155,7 @@ class OpenSimplex2S {
                 float dy2 = dy0 - (float)(UNSKEW_2D + 1);
                 float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
                 if (a2 > 0) {
-                    value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp, ysbp + PRIME_Y, dx2, dy2);
+                    value += contribute(seed, xsbp, ysbp + PRIME_Y, dx2, dy2, a2, derivatives);
                 }
             }
 
@@ -132,7 +164,7 @@ class OpenSimplex2S {
                 float dy3 = dy0 - (float)(3 * UNSKEW_2D + 2);
                 float a3 = RSQUARED_2D - dx3 * dx3 - dy3 * dy3;
                 if (a3 > 0) {
-                    value += (a3 * a3) * (a3 * a3) * grad(seed, xsbp + PRIME_X, ysbp + (PRIME_Y << 1), dx3, dy3);
+                    value += contribute(seed, xsbp + PRIME_X, ysbp + (PRIME_Y << 1), dx3, dy3, a3, derivatives);
                 }
             }
             else
@@ -141,7 +173,7 @@ class OpenSimplex2S {
                 float dy3 = dy0 - (float)UNSKEW_2D;
                 float a3 = RSQUARED_2D - dx3 * dx3 - dy3 * dy3;
                 if (a3 > 0) {
-                    value += (a3 * a3) * (a3 * a3) * grad(seed, xsbp + PRIME_X, ysbp, dx3, dy3);
+                    value += contribute(seed, xsbp + PRIME_X, ysbp, dx3, dy3, a3, derivatives);
                 }
             }
         }
@@ -152,7 +184,7 @@ class OpenSimplex2S {
                 float dy2 = dy0 + (float)UNSKEW_2D;
                 float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
                 if (a2 > 0) {
-                    value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp - PRIME_X, ysbp, dx2, dy2);
+                    value += contribute(seed, xsbp - PRIME_X, ysbp, dx2, dy2, a2, derivatives);
                 }
             }
             else
@@ -161,7 +193,7 @@ class OpenSimplex2S {
                 float dy2 = dy0 - (float)UNSKEW_2D;
                 float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
                 if (a2 > 0) {
-                    value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp + PRIME_X, ysbp, dx2, dy2);
+                    value += contribute(seed, xsbp + PRIME_X, ysbp, dx2, dy2, a2, derivatives);
                 }
             }
 
@@ -170,7 +202,7 @@ class OpenSimplex2S {
                 float dy2 = dy0 + (float)(UNSKEW_2D + 1);
                 float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
                 if (a2 > 0) {
-                    value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp, ysbp - PRIME_Y, dx2, dy2);
+                    value += contribute(seed, xsbp, ysbp - PRIME_Y, dx2, dy2, a2, derivatives);
                 }
             }
             else
@@ -179,11 +211,18 @@ class OpenSimplex2S {
                 float dy2 = dy0 - (float)(UNSKEW_2D + 1);
                 float a2 = RSQUARED_2D - dx2 * dx2 - dy2 * dy2;
                 if (a2 > 0) {
-                    value += (a2 * a2) * (a2 * a2) * grad(seed, xsbp, ysbp + PRIME_Y, dx2, dy2);
+                    value += contribute(seed, xsbp, ysbp + PRIME_Y, dx2, dy2, a2, derivatives);
                 }
             }
         }
 
+
+        if (derivatives != null) {
+            // The displacements are unskewed, d = s + UNSKEW_2D * (xs + ys) for the skewed offsets s.
+            double unskew = UNSKEW_2D * (derivatives[0] + derivatives[1]);
+            derivatives[0] += unskew;
+            derivatives[1] += unskew;
+        }
         return value;
     }
 
@@ -196,6 +235,14 @@ class OpenSimplex2S {
      * For a time varied animation, call noise3_ImproveXY(x, y, T).
      */
     public static float noise3_ImproveXY(long seed, double x, double y, double z) {
+        return noise3_ImproveXY(seed, x, y, z, null);
+    }
+
+    /**
+     * {@link #noise3_ImproveXY(long, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y and z into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise3_ImproveXY(long seed, double x, double y, double z, double[] derivatives) {
 
         // Re-orient the cubic lattices without skewing, so Z points up the main lattice diagonal,
         // and the planes formed by XY are moved far out of alignment with the cube faces.
@@ -208,7 +255,15 @@ class OpenSimplex2S {
         double zr = xy * -ROOT3OVER3 + zz;
 
         // Evaluate both lattices to form a BCC lattice.
-        return noise3_UnrotatedBase(seed, xr, yr, zr);
+        float value = noise3_UnrotatedBase(seed, xr, yr, zr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2];
+            double ds2 = (dxr + dyr) * ROTATE3_ORTHOGONALIZER - dzr * ROOT3OVER3;
+            derivatives[0] = dxr + ds2;
+            derivatives[1] = dyr + ds2;
+            derivatives[2] = (dxr + dyr + dzr) * ROOT3OVER3;
+        }
+        return value;
     }
 
     /**
@@ -220,6 +275,14 @@ class OpenSimplex2S {
      * For a time varied animation, call noise3_ImproveXZ(x, T, y) or use noise3_ImproveXY.
      */
     public static float noise3_ImproveXZ(long seed, double x, double y, double z) {
+        return noise3_ImproveXZ(seed, x, y, z, null);
+    }
+
+    /**
+     * {@link #noise3_ImproveXZ(long, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y and z into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise3_ImproveXZ(long seed, double x, double y, double z, double[] derivatives) {
 
         // Re-orient the cubic lattices without skewing, so Y points up the main lattice diagonal,
         // and the planes formed by XZ are moved far out of alignment with the cube faces.
@@ -232,7 +295,15 @@ class OpenSimplex2S {
         double yr = xz * -ROOT3OVER3 + yy;
 
         // Evaluate both lattices to form a BCC lattice.
-        return noise3_UnrotatedBase(seed, xr, yr, zr);
+        float value = noise3_UnrotatedBase(seed, xr, yr, zr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2];
+            double ds2 = (dxr + dzr) * ROTATE3_ORTHOGONALIZER - dyr * ROOT3OVER3;
+            derivatives[0] = dxr + ds2;
+            derivatives[1] = (dxr + dyr + dzr) * ROOT3OVER3;
+            derivatives[2] = dzr + ds2;
+        }
+        return value;
     }
 
     /**
@@ -241,6 +312,14 @@ class OpenSimplex2S {
      * They have less diagonal bias. This function's best use is as a fallback.
      */
     public static float noise3_Fallback(long seed, double x, double y, double z) {
+        return noise3_Fallback(seed, x, y, z, null);
+    }
+
+    /**
+     * {@link #noise3_Fallback(long, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y and z into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise3_Fallback(long seed, double x, double y, double z, double[] derivatives) {
 
         // Re-orient the cubic lattices via rotation, to produce a familiar look.
         // Orthonormal rotation. Not a skew transform.
@@ -248,7 +327,14 @@ class OpenSimplex2S {
         double xr = r - x, yr = r - y, zr = r - z;
 
         // Evaluate both lattices to form a BCC lattice.
-        return noise3_UnrotatedBase(seed, xr, yr, zr);
+        float value = noise3_UnrotatedBase(seed, xr, yr, zr, derivatives);
+        if (derivatives != null) {
+            double dr = FALLBACK_ROTATE3 * (derivatives[0] + derivatives[1] + derivatives[2]);
+            derivatives[0] = dr - derivatives[0];
+            derivatives[1] = dr - derivatives[1];
+            derivatives[2] = dr - derivatives[2];
+        }
+        return value;
     }
 
     /**
@@ -257,7 +343,7 @@ class OpenSimplex2S {
      * It was actually faster to narrow down the points in the loop itself,
      * than to build up the index with enough info to isolate 8 points.
      */
-    private static float noise3_UnrotatedBase(long seed, double xr, double yr, double zr) {
+    private static float noise3_UnrotatedBase(long seed, double xr, double yr, double zr, double[] derivatives) {
 
         // Get base points and offsets.
         int xrb = fastFloor(xr), yrb = fastFloor(yr), zrb = fastFloor(zr);
@@ -275,16 +361,16 @@ class OpenSimplex2S {
         float y0 = yi + yNMask;
         float z0 = zi + zNMask;
         float a0 = RSQUARED_3D - x0 * x0 - y0 * y0 - z0 * z0;
-        float value = (a0 * a0) * (a0 * a0) * grad(seed,
-            xrbp + (xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), x0, y0, z0);
+        float value = contribute(seed,
+            xrbp + (xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), x0, y0, z0, a0, derivatives);
 
         // Second vertex.
         float x1 = xi - 0.5f;
         float y1 = yi - 0.5f;
         float z1 = zi - 0.5f;
         float a1 = RSQUARED_3D - x1 * x1 - y1 * y1 - z1 * z1;
-        value += (a1 * a1) * (a1 * a1) * grad(seed2,
-            xrbp + PRIME_X, yrbp + PRIME_Y, zrbp + PRIME_Z, x1, y1, z1);
+        value += contribute(seed2,
+            xrbp + PRIME_X, yrbp + PRIME_Y, zrbp + PRIME_Z, x1, y1, z1, a1, derivatives);
 
         // Shortcuts for building the remaining falloffs.
         // Derived by subtracting the polynomials with the offsets plugged in.
@@ -301,8 +387,8 @@ class OpenSimplex2S {
             float x2 = x0 - (xNMask | 1);
             float y2 = y0;
             float z2 = z0;
-            value += (a2 * a2) * (a2 * a2) * grad(seed,
-                xrbp + (~xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), x2, y2, z2);
+            value += contribute(seed,
+                xrbp + (~xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), x2, y2, z2, a2, derivatives);
         }
         else
         {
@@ -311,8 +397,8 @@ class OpenSimplex2S {
                 float x3 = x0;
                 float y3 = y0 - (yNMask | 1);
                 float z3 = z0 - (zNMask | 1);
-                value += (a3 * a3) * (a3 * a3) * grad(seed,
-                    xrbp + (xNMask & PRIME_X), yrbp + (~yNMask & PRIME_Y), zrbp + (~zNMask & PRIME_Z), x3, y3, z3);
+                value += contribute(seed,
+                    xrbp + (xNMask & PRIME_X), yrbp + (~yNMask & PRIME_Y), zrbp + (~zNMask & PRIME_Z), x3, y3, z3, a3, derivatives);
             }
 
             float a4 = xAFlipMask1 + a1;
@@ -320,8 +406,8 @@ class OpenSimplex2S {
                 float x4 = (xNMask | 1) + x1;
                 float y4 = y1;
                 float z4 = z1;
-                value += (a4 * a4) * (a4 * a4) * grad(seed2,
-                    xrbp + (xNMask & (PRIME_X * 2)), yrbp + PRIME_Y, zrbp + PRIME_Z, x4, y4, z4);
+                value += contribute(seed2,
+                    xrbp + (xNMask & (PRIME_X * 2)), yrbp + PRIME_Y, zrbp + PRIME_Z, x4, y4, z4, a4, derivatives);
                 skip5 = true;
             }
         }
@@ -332,8 +418,8 @@ class OpenSimplex2S {
             float x6 = x0;
             float y6 = y0 - (yNMask | 1);
             float z6 = z0;
-            value += (a6 * a6) * (a6 * a6) * grad(seed,
-                xrbp + (xNMask & PRIME_X), yrbp + (~yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), x6, y6, z6);
+            value += contribute(seed,
+                xrbp + (xNMask & PRIME_X), yrbp + (~yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), x6, y6, z6, a6, derivatives);
         }
         else
         {
@@ -342,8 +428,8 @@ class OpenSimplex2S {
                 float x7 = x0 - (xNMask | 1);
                 float y7 = y0;
                 float z7 = z0 - (zNMask | 1);
-                value += (a7 * a7) * (a7 * a7) * grad(seed,
-                    xrbp + (~xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (~zNMask & PRIME_Z), x7, y7, z7);
+                value += contribute(seed,
+                    xrbp + (~xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (~zNMask & PRIME_Z), x7, y7, z7, a7, derivatives);
             }
 
             float a8 = yAFlipMask1 + a1;
@@ -351,8 +437,8 @@ class OpenSimplex2S {
                 float x8 = x1;
                 float y8 = (yNMask | 1) + y1;
                 float z8 = z1;
-                value += (a8 * a8) * (a8 * a8) * grad(seed2,
-                    xrbp + PRIME_X, yrbp + (yNMask & (PRIME_Y << 1)), zrbp + PRIME_Z, x8, y8, z8);
+                value += contribute(seed2,
+                    xrbp + PRIME_X, yrbp + (yNMask & (PRIME_Y << 1)), zrbp + PRIME_Z, x8, y8, z8, a8, derivatives);
                 skip9 = true;
             }
         }
@@ -363,8 +449,8 @@ class OpenSimplex2S {
             float xA = x0;
             float yA = y0;
             float zA = z0 - (zNMask | 1);
-            value += (aA * aA) * (aA * aA) * grad(seed,
-                xrbp + (xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (~zNMask & PRIME_Z), xA, yA, zA);
+            value += contribute(seed,
+                xrbp + (xNMask & PRIME_X), yrbp + (yNMask & PRIME_Y), zrbp + (~zNMask & PRIME_Z), xA, yA, zA, aA, derivatives);
         }
         else
         {
@@ -373,8 +459,8 @@ class OpenSimplex2S {
                 float xB = x0 - (xNMask | 1);
                 float yB = y0 - (yNMask | 1);
                 float zB = z0;
-                value += (aB * aB) * (aB * aB) * grad(seed,
-                    xrbp + (~xNMask & PRIME_X), yrbp + (~yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), xB, yB, zB);
+                value += contribute(seed,
+                    xrbp + (~xNMask & PRIME_X), yrbp + (~yNMask & PRIME_Y), zrbp + (zNMask & PRIME_Z), xB, yB, zB, aB, derivatives);
             }
 
             float aC = zAFlipMask1 + a1;
@@ -382,8 +468,8 @@ class OpenSimplex2S {
                 float xC = x1;
                 float yC = y1;
                 float zC = (zNMask | 1) + z1;
-                value += (aC * aC) * (aC * aC) * grad(seed2,
-                    xrbp + PRIME_X, yrbp + PRIME_Y, zrbp + (zNMask & (PRIME_Z << 1)), xC, yC, zC);
+                value += contribute(seed2,
+                    xrbp + PRIME_X, yrbp + PRIME_Y, zrbp + (zNMask & (PRIME_Z << 1)), xC, yC, zC, aC, derivatives);
                 skipD = true;
             }
         }
@@ -394,8 +480,8 @@ class OpenSimplex2S {
                 float x5 = x1;
                 float y5 = (yNMask | 1) + y1;
                 float z5 = (zNMask | 1) + z1;
-                value += (a5 * a5) * (a5 * a5) * grad(seed2,
-                    xrbp + PRIME_X, yrbp + (yNMask & (PRIME_Y << 1)), zrbp + (zNMask & (PRIME_Z << 1)), x5, y5, z5);
+                value += contribute(seed2,
+                    xrbp + PRIME_X, yrbp + (yNMask & (PRIME_Y << 1)), zrbp + (zNMask & (PRIME_Z << 1)), x5, y5, z5, a5, derivatives);
             }
         }
 
@@ -405,8 +491,8 @@ class OpenSimplex2S {
                 float x9 = (xNMask | 1) + x1;
                 float y9 = y1;
                 float z9 = (zNMask | 1) + z1;
-                value += (a9 * a9) * (a9 * a9) * grad(seed2,
-                    xrbp + (xNMask & (PRIME_X * 2)), yrbp + PRIME_Y, zrbp + (zNMask & (PRIME_Z << 1)), x9, y9, z9);
+                value += contribute(seed2,
+                    xrbp + (xNMask & (PRIME_X * 2)), yrbp + PRIME_Y, zrbp + (zNMask & (PRIME_Z << 1)), x9, y9, z9, a9, derivatives);
             }
         }
 
@@ -416,8 +502,8 @@ class OpenSimplex2S {
                 float xD = (xNMask | 1) + x1;
                 float yD = (yNMask | 1) + y1;
                 float zD = z1;
-                value += (aD * aD) * (aD * aD) * grad(seed2,
-                    xrbp + (xNMask & (PRIME_X << 1)), yrbp + (yNMask & (PRIME_Y << 1)), zrbp + PRIME_Z, xD, yD, zD);
+                value += contribute(seed2,
+                    xrbp + (xNMask & (PRIME_X << 1)), yrbp + (yNMask & (PRIME_Y << 1)), zrbp + PRIME_Z, xD, yD, zD, aD, derivatives);
             }
         }
 
@@ -431,6 +517,14 @@ class OpenSimplex2S {
      * in a space where Z is vertical
      */
     public static float noise4_ImproveXYZ_ImproveXY(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXYZ_ImproveXY(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXYZ_ImproveXY(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXYZ_ImproveXY(long seed, double x, double y, double z, double w, double[] derivatives) {
         double xy = x + y;
         double s2 = xy * -0.21132486540518699998;
         double zz = z * 0.28867513459481294226;
@@ -439,7 +533,16 @@ class OpenSimplex2S {
         double zr = xy * -0.57735026918962599998 + (zz + ww);
         double wr = z * -0.866025403784439 + ww;
 
-        return noise4_UnskewedBase(seed, xr, yr, zr, wr);
+        float value = noise4_UnskewedBase(seed, xr, yr, zr, wr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2], dwr = derivatives[3];
+            double dxy = (dxr + dyr) * -0.21132486540518699998 + dzr * -0.57735026918962599998;
+            derivatives[0] = dxr + dxy;
+            derivatives[1] = dyr + dxy;
+            derivatives[2] = (dxr + dyr + dzr) * 0.28867513459481294226 + dwr * -0.866025403784439;
+            derivatives[3] = (dxr + dyr + dzr + dwr) * 1.118033988749894;
+        }
+        return value;
     }
 
     /**
@@ -449,6 +552,14 @@ class OpenSimplex2S {
      * in a space where Y is vertical
      */
     public static float noise4_ImproveXYZ_ImproveXZ(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXYZ_ImproveXZ(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXYZ_ImproveXZ(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXYZ_ImproveXZ(long seed, double x, double y, double z, double w, double[] derivatives) {
         double xz = x + z;
         double s2 = xz * -0.21132486540518699998;
         double yy = y * 0.28867513459481294226;
@@ -457,7 +568,16 @@ class OpenSimplex2S {
         double yr = xz * -0.57735026918962599998 + (yy + ww);
         double wr = y * -0.866025403784439 + ww;
 
-        return noise4_UnskewedBase(seed, xr, yr, zr, wr);
+        float value = noise4_UnskewedBase(seed, xr, yr, zr, wr, derivatives);
+        if (derivatives != null) {
+            double dxr = derivatives[0], dyr = derivatives[1], dzr = derivatives[2], dwr = derivatives[3];
+            double dxz = (dxr + dzr) * -0.21132486540518699998 + dyr * -0.57735026918962599998;
+            derivatives[0] = dxr + dxz;
+            derivatives[1] = (dxr + dyr + dzr) * 0.28867513459481294226 + dwr * -0.866025403784439;
+            derivatives[2] = dzr + dxz;
+            derivatives[3] = (dxr + dyr + dzr + dwr) * 1.118033988749894;
+        }
+        return value;
     }
 
     /**
@@ -467,12 +587,29 @@ class OpenSimplex2S {
      * where there isn't a clear distinction between horizontal and vertical
      */
     public static float noise4_ImproveXYZ(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXYZ(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXYZ(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXYZ(long seed, double x, double y, double z, double w, double[] derivatives) {
         double xyz = x + y + z;
         double ww = w * 1.118033988749894;
         double s2 = xyz * -0.16666666666666666 + ww;
         double xs = x + s2, ys = y + s2, zs = z + s2, ws = -0.5 * xyz + ww;
 
-        return noise4_UnskewedBase(seed, xs, ys, zs, ws);
+        float value = noise4_UnskewedBase(seed, xs, ys, zs, ws, derivatives);
+        if (derivatives != null) {
+            double dxs = derivatives[0], dys = derivatives[1], dzs = derivatives[2], dws = derivatives[3];
+            double dxyz = (dxs + dys + dzs) * -0.16666666666666666 + dws * -0.5;
+            derivatives[0] = dxs + dxyz;
+            derivatives[1] = dys + dxyz;
+            derivatives[2] = dzs + dxyz;
+            derivatives[3] = (dxs + dys + dzs + dws) * 1.118033988749894;
+        }
+        return value;
     }
 
     /**
@@ -481,24 +618,58 @@ class OpenSimplex2S {
      * Recommended for noise(x, y, sin(time), cos(time)) trick.
      */
     public static float noise4_ImproveXY_ImproveZW(long seed, double x, double y, double z, double w) {
+        return noise4_ImproveXY_ImproveZW(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_ImproveXY_ImproveZW(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_ImproveXY_ImproveZW(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         double s2 = (x + y) * -0.28522513987434876941 + (z + w) * 0.83897065470611435718;
         double t2 = (z + w) * 0.21939749883706435719 + (x + y) * -0.48214856493302476942;
         double xs = x + s2, ys = y + s2, zs = z + t2, ws = w + t2;
 
-        return noise4_UnskewedBase(seed, xs, ys, zs, ws);
+        float value = noise4_UnskewedBase(seed, xs, ys, zs, ws, derivatives);
+        if (derivatives != null) {
+            double dxs = derivatives[0], dys = derivatives[1], dzs = derivatives[2], dws = derivatives[3];
+            double dxy = (dxs + dys) * -0.28522513987434876941 + (dzs + dws) * -0.48214856493302476942;
+            double dzw = (dxs + dys) * 0.83897065470611435718 + (dzs + dws) * 0.21939749883706435719;
+            derivatives[0] = dxs + dxy;
+            derivatives[1] = dys + dxy;
+            derivatives[2] = dzs + dzw;
+            derivatives[3] = dws + dzw;
+        }
+        return value;
     }
 
     /**
      * 4D SuperSimplex noise, fallback lattice orientation.
      */
     public static float noise4_Fallback(long seed, double x, double y, double z, double w) {
+        return noise4_Fallback(seed, x, y, z, w, null);
+    }
+
+    /**
+     * {@link #noise4_Fallback(long, double, double, double, double)}, additionally writing the partial derivatives
+     * with respect to x, y, z and w into derivatives, which must be zeroed, unless it is null.
+     */
+    static float noise4_Fallback(long seed, double x, double y, double z, double w, double[] derivatives) {
 
         // Get points for A4 lattice
         double s = SKEW_4D * (x + y + z + w);
         double xs = x + s, ys = y + s, zs = z + s, ws = w + s;
 
-        return noise4_UnskewedBase(seed, xs, ys, zs, ws);
+        float value = noise4_UnskewedBase(seed, xs, ys, zs, ws, derivatives);
+        if (derivatives != null) {
+            double skew = SKEW_4D * ((derivatives[0] + derivatives[1]) + (derivatives[2] + derivatives[3]));
+            derivatives[0] += skew;
+            derivatives[1] += skew;
+            derivatives[2] += skew;
+            derivatives[3] += skew;
+        }
+        return value;
     }
 
     /**
@@ -507,7 +678,7 @@ class OpenSimplex2S {
      * This isn't as elegant or SIMD/GPU/etc. portable as other approaches,
      * but it competes performance-wise with optimized 2014 OpenSimplex.
      */
-    private static float noise4_UnskewedBase(long seed, double xs, double ys, double zs, double ws) {
+    private static float noise4_UnskewedBase(long seed, double xs, double ys, double zs, double ws, double[] derivatives) {
 
         // Get base points and offsets
         int xsb = fastFloor(xs), ysb = fastFloor(ys), zsb = fastFloor(zs), wsb = fastFloor(ws);
@@ -528,48 +699,212 @@ class OpenSimplex2S {
 
         // Point contributions
         float value = 0;
-        int secondaryIndexStartAndStop = LOOKUP_4D_A[index];
+        int secondaryIndexStartAndStop = Tables4D.LOOKUP_4D_A[index];
         int secondaryIndexStart = secondaryIndexStartAndStop & 0xFFFF;
         int secondaryIndexStop = secondaryIndexStartAndStop >> 16;
+        float[] lookupDx = Tables4D.LOOKUP_4D_DX, lookupDy = Tables4D.LOOKUP_4D_DY;
+        float[] lookupDz = Tables4D.LOOKUP_4D_DZ, lookupDw = Tables4D.LOOKUP_4D_DW;
+        byte[] vertexCodes = Tables4D.LOOKUP_4D_B;
+        long[] vertexPrimes = Tables4D.VERTEX_PRIMES_4D;
         for (int i = secondaryIndexStart; i < secondaryIndexStop; i++) {
-            LatticeVertex4D c = LOOKUP_4D_B[i];
-            float dx = xi + c.dx, dy = yi + c.dy, dz = zi + c.dz, dw = wi + c.dw;
+            float dx = xi + lookupDx[i], dy = yi + lookupDy[i], dz = zi + lookupDz[i], dw = wi + lookupDw[i];
             float a = (dx * dx + dy * dy) + (dz * dz + dw * dw);
             if (a < RSQUARED_4D) {
                 a -= RSQUARED_4D;
-                a *= a;
-                value += a * a * grad(seed, xsvp + c.xsvp, ysvp + c.ysvp, zsvp + c.zsvp, wsvp + c.wsvp, dx, dy, dz, dw);
+                // Only the vertices within range are hashed, so their primes are looked up by vertex code.
+                int c = (vertexCodes[i] & 0xFF) << 2;
+                value += contribute(seed, xsvp + vertexPrimes[c | 0], ysvp + vertexPrimes[c | 1], zsvp + vertexPrimes[c | 2], wsvp + vertexPrimes[c | 3], dx, dy, dz, dw, a, derivatives);
             }
         }
+
+        if (derivatives != null) {
+            // The displacements are unskewed, d = s + UNSKEW_4D * (xs + ys + zs + ws) for the skewed offsets s.
+            double unskew = UNSKEW_4D * ((derivatives[0] + derivatives[1]) + (derivatives[2] + derivatives[3]));
+            derivatives[0] += unskew;
+            derivatives[1] += unskew;
+            derivatives[2] += unskew;
+            derivatives[3] += unskew;
+        }
         return value;
     }
 
+    /*
+     * Batch Evaluators
+     */
+
+    /**
+     * 2D noise of the points (x[i], y[i]) for i below count, written to out[offset + i].
+     * The variant is selected once for all points, rather than once per point.
+     */
+    static void noise2(long seed, Simplex2DVariant variant, double[] x, double[] y, float[] out, int offset, int count) {
+        switch (variant) {
+            case IMPROVE_X -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise2_ImproveX(seed, x[i], y[i]);
+                }
+            }
+            case CLASSIC -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise2(seed, x[i], y[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 3D noise of the points (x[i], y[i], z[i]) for i below count, written to out[offset + i].
+     * The variant is selected once for all points, rather than once per point.
+     */
+    static void noise3(long seed, Simplex3DVariant variant, double[] x, double[] y, double[] z, float[] out, int offset, int count) {
+        switch (variant) {
+            case IMPROVE_XY -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise3_ImproveXY(seed, x[i], y[i], z[i]);
+                }
+            }
+            case IMPROVE_XZ -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise3_ImproveXZ(seed, x[i], y[i], z[i]);
+                }
+            }
+            case CLASSIC -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise3_Fallback(seed, x[i], y[i], z[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 4D noise of the points (x[i], y[i], z[i], w[i]) for i below count, written to out[offset + i].
+     * The variant is selected once for all points, rather than once per point.
+     */
+    static void noise4(
+        long seed, Simplex4DVariant variant,
+        double[] x, double[] y, double[] z, double[] w, float[] out, int offset, int count
+    ) {
+        switch (variant) {
+            case IMPROVE_XY_IMPROVE_ZW -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXY_ImproveZW(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case IMPROVE_XYZ_IMPROVE_XZ -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXYZ_ImproveXZ(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case IMPROVE_XYZ_IMPROVE_XY -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXYZ_ImproveXY(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case IMRPOVE_XYZ -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_ImproveXYZ(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+            case CLASSIC -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = noise4_Fallback(seed, x[i], y[i], z[i], w[i]);
+                }
+            }
+        }
+    }
+
     /*
      * Utility
      */
 
     private static float grad(long seed, long xsvp, long ysvp, float dx, float dy) {
+        int gi = gradientIndex(seed, xsvp, ysvp);
+        return Tables2D.GRADIENTS_2D[gi | 0] * dx + Tables2D.GRADIENTS_2D[gi | 1] * dy;
+    }
+
+    private static float grad(long seed, long xrvp, long yrvp, long zrvp, float dx, float dy, float dz) {
+        int gi = gradientIndex(seed, xrvp, yrvp, zrvp);
+        return Tables3D.GRADIENTS_3D[gi | 0] * dx + Tables3D.GRADIENTS_3D[gi | 1] * dy + Tables3D.GRADIENTS_3D[gi | 2] * dz;
+    }
+
+    private static float grad(long seed, long xsvp, long ysvp, long zsvp, long wsvp, float dx, float dy, float dz, float dw) {
+        int gi = gradientIndex(seed, xsvp, ysvp, zsvp, wsvp);
+        return (Tables4D.GRADIENTS_4D[gi | 0] * dx + Tables4D.GRADIENTS_4D[gi | 1] * dy) + (Tables4D.GRADIENTS_4D[gi | 2] * dz + Tables4D.GRADIENTS_4D[gi | 3] * dw);
+    }
+
+    private static int gradientIndex(long seed, long xsvp, long ysvp) {
         long hash = seed ^ xsvp ^ ysvp;
         hash *= HASH_MULTIPLIER;
         hash ^= hash >> (64 - N_GRADS_2D_EXPONENT + 1);
-        int gi = (int)hash & ((N_GRADS_2D - 1) << 1);
-        return GRADIENTS_2D[gi | 0] * dx + GRADIENTS_2D[gi | 1] * dy;
+        return (int)hash & ((N_GRADS_2D - 1) << 1);
     }
 
-    private static float grad(long seed, long xrvp, long yrvp, long zrvp, float dx, float dy, float dz) {
+    private static int gradientIndex(long seed, long xrvp, long yrvp, long zrvp) {
         long hash = (seed ^ xrvp) ^ (yrvp ^ zrvp);
         hash *= HASH_MULTIPLIER;
         hash ^= hash >> (64 - N_GRADS_3D_EXPONENT + 2);
-        int gi = (int)hash & ((N_GRADS_3D - 1) << 2);
-        return GRADIENTS_3D[gi | 0] * dx + GRADIENTS_3D[gi | 1] * dy + GRADIENTS_3D[gi | 2] * dz;
+        return (int)hash & ((N_GRADS_3D - 1) << 2);
     }
 
-    private static float grad(long seed, long xsvp, long ysvp, long zsvp, long wsvp, float dx, float dy, float dz, float dw) {
+    private static int gradientIndex(long seed, long xsvp, long ysvp, long zsvp, long wsvp) {
         long hash = seed ^ (xsvp ^ ysvp) ^ (zsvp ^ wsvp);
         hash *= HASH_MULTIPLIER;
         hash ^= hash >> (64 - N_GRADS_4D_EXPONENT + 2);
-        int gi = (int)hash & ((N_GRADS_4D - 1) << 2);
-        return (GRADIENTS_4D[gi | 0] * dx + GRADIENTS_4D[gi | 1] * dy) + (GRADIENTS_4D[gi | 2] * dz + GRADIENTS_4D[gi | 3] * dw);
+        return (int)hash & ((N_GRADS_4D - 1) << 2);
+    }
+
+    /**
+     * Contribution a^4 * (g . d) of a vertex, with the falloff a = r^2 - |d|^2 of the displacement d.
+     * If derivatives is not null, the partial derivatives of the contribution with respect to d are added to it,
+     * i.e. a^4 * g - 8 * a^3 * (g . d) * d.
+     */
+    private static float contribute(long seed, long xsvp, long ysvp, float dx, float dy, float a, double[] derivatives) {
+        float gradient = grad(seed, xsvp, ysvp, dx, dy);
+        if (derivatives != null) {
+            int gi = gradientIndex(seed, xsvp, ysvp);
+            double a3 = (double) a * a * a;
+            double slope = -8 * a3 * gradient;
+            derivatives[0] += a3 * a * Tables2D.GRADIENTS_2D[gi | 0] + slope * dx;
+            derivatives[1] += a3 * a * Tables2D.GRADIENTS_2D[gi | 1] + slope * dy;
+        }
+        return (a * a) * (a * a) * gradient;
+    }
+
+    /**
+     * 3D version of {@link #contribute(long, long, long, float, float, float, double[])}.
+     */
+    private static float contribute(long seed, long xrvp, long yrvp, long zrvp, float dx, float dy, float dz, float a, double[] derivatives) {
+        float gradient = grad(seed, xrvp, yrvp, zrvp, dx, dy, dz);
+        if (derivatives != null) {
+            int gi = gradientIndex(seed, xrvp, yrvp, zrvp);
+            double a3 = (double) a * a * a;
+            double slope = -8 * a3 * gradient;
+            derivatives[0] += a3 * a * Tables3D.GRADIENTS_3D[gi | 0] + slope * dx;
+            derivatives[1] += a3 * a * Tables3D.GRADIENTS_3D[gi | 1] + slope * dy;
+            derivatives[2] += a3 * a * Tables3D.GRADIENTS_3D[gi | 2] + slope * dz;
+        }
+        return (a * a) * (a * a) * gradient;
+    }
+
+    /**
+     * 4D version of {@link #contribute(long, long, long, float, float, float, double[])},
+     * the falloff is passed negated as |d|^2 - r^2, which leaves a^4 unchanged and flips the sign of a^3.
+     */
+    private static float contribute(
+        long seed, long xsvp, long ysvp, long zsvp, long wsvp,
+        float dx, float dy, float dz, float dw, float a, double[] derivatives
+    ) {
+        float gradient = grad(seed, xsvp, ysvp, zsvp, wsvp, dx, dy, dz, dw);
+        if (derivatives != null) {
+            int gi = gradientIndex(seed, xsvp, ysvp, zsvp, wsvp);
+            double a3 = (double) a * a * a;
+            double slope = 8 * a3 * gradient;
+            derivatives[0] += a3 * a * Tables4D.GRADIENTS_4D[gi | 0] + slope * dx;
+            derivatives[1] += a3 * a * Tables4D.GRADIENTS_4D[gi | 1] + slope * dy;
+            derivatives[2] += a3 * a * Tables4D.GRADIENTS_4D[gi | 2] + slope * dz;
+            derivatives[3] += a3 * a * Tables4D.GRADIENTS_4D[gi | 3] + slope * dw;
+        }
+        a *= a;
+        return a * a * gradient;
     }
 
     private static int fastFloor(double x) {
@@ -578,572 +913,635 @@ class OpenSimplex2S {
     }
 
     /*
-     * Lookup Tables & Gradients
+     * bounds
      */
 
-    private static final float[] GRADIENTS_2D = new float[N_GRADS_2D * 2];
-    private static final float[] GRADIENTS_3D = new float[N_GRADS_3D * 4];
-    private static final float[] GRADIENTS_4D = new float[N_GRADS_4D * 4];
-    private static final int[] LOOKUP_4D_A;
-    private static final LatticeVertex4D[] LOOKUP_4D_B;
-    static {
-
-        float[] grad2 = {
-            0.38268343236509f,   0.923879532511287f,
-            0.923879532511287f,  0.38268343236509f,
-            0.923879532511287f, -0.38268343236509f,
-            0.38268343236509f,  -0.923879532511287f,
-            -0.38268343236509f,  -0.923879532511287f,
-            -0.923879532511287f, -0.38268343236509f,
-            -0.923879532511287f,  0.38268343236509f,
-            -0.38268343236509f,   0.923879532511287f,
-            //-------------------------------------//
-            0.130526192220052f,  0.99144486137381f,
-            0.608761429008721f,  0.793353340291235f,
-            0.793353340291235f,  0.608761429008721f,
-            0.99144486137381f,   0.130526192220051f,
-            0.99144486137381f,  -0.130526192220051f,
-            0.793353340291235f, -0.60876142900872f,
-            0.608761429008721f, -0.793353340291235f,
-            0.130526192220052f, -0.99144486137381f,
-            -0.130526192220052f, -0.99144486137381f,
-            -0.608761429008721f, -0.793353340291235f,
-            -0.793353340291235f, -0.608761429008721f,
-            -0.99144486137381f,  -0.130526192220052f,
-            -0.99144486137381f,   0.130526192220051f,
-            -0.793353340291235f,  0.608761429008721f,
-            -0.608761429008721f,  0.793353340291235f,
-            -0.130526192220052f,  0.99144486137381f,
-        };
-        for (int i = 0; i < grad2.length; i++) {
-            grad2[i] = (float)(grad2[i] / NORMALIZER_2D);
-        }
-        for (int i = 0, j = 0; i < GRADIENTS_2D.length; i++, j++) {
-            if (j == grad2.length) j = 0;
-            GRADIENTS_2D[i] = grad2[j];
-        }
+    /**
+     * Gets the Lipschitz constant of the 2D noise, see {@link SimplexBounds}.
+     * The skews and rotations of every variant preserve distances.
+     */
+    static double slope2D() {
+        return Tables2D.SLOPE_2D;
+    }
 
-        float[] grad3 = {
-            2.22474487139f,       2.22474487139f,      -1.0f,                 0.0f,
-            2.22474487139f,       2.22474487139f,       1.0f,                 0.0f,
-            3.0862664687972017f,  1.1721513422464978f,  0.0f,                 0.0f,
-            1.1721513422464978f,  3.0862664687972017f,  0.0f,                 0.0f,
-            -2.22474487139f,       2.22474487139f,      -1.0f,                 0.0f,
-            -2.22474487139f,       2.22474487139f,       1.0f,                 0.0f,
-            -1.1721513422464978f,  3.0862664687972017f,  0.0f,                 0.0f,
-            -3.0862664687972017f,  1.1721513422464978f,  0.0f,                 0.0f,
-            -1.0f,                -2.22474487139f,      -2.22474487139f,       0.0f,
-            1.0f,                -2.22474487139f,      -2.22474487139f,       0.0f,
-            0.0f,                -3.0862664687972017f, -1.1721513422464978f,  0.0f,
-            0.0f,                -1.1721513422464978f, -3.0862664687972017f,  0.0f,
-            -1.0f,                -2.22474487139f,       2.22474487139f,       0.0f,
-            1.0f,                -2.22474487139f,       2.22474487139f,       0.0f,
-            0.0f,                -1.1721513422464978f,  3.0862664687972017f,  0.0f,
-            0.0f,                -3.0862664687972017f,  1.1721513422464978f,  0.0f,
-            //--------------------------------------------------------------------//
-            -2.22474487139f,      -2.22474487139f,      -1.0f,                 0.0f,
-            -2.22474487139f,      -2.22474487139f,       1.0f,                 0.0f,
-            -3.0862664687972017f, -1.1721513422464978f,  0.0f,                 0.0f,
-            -1.1721513422464978f, -3.0862664687972017f,  0.0f,                 0.0f,
-            -2.22474487139f,      -1.0f,                -2.22474487139f,       0.0f,
-            -2.22474487139f,       1.0f,                -2.22474487139f,       0.0f,
-            -1.1721513422464978f,  0.0f,                -3.0862664687972017f,  0.0f,
-            -3.0862664687972017f,  0.0f,                -1.1721513422464978f,  0.0f,
-            -2.22474487139f,      -1.0f,                 2.22474487139f,       0.0f,
-            -2.22474487139f,       1.0f,                 2.22474487139f,       0.0f,
-            -3.0862664687972017f,  0.0f,                 1.1721513422464978f,  0.0f,
-            -1.1721513422464978f,  0.0f,                 3.0862664687972017f,  0.0f,
-            -1.0f,                 2.22474487139f,      -2.22474487139f,       0.0f,
-            1.0f,                 2.22474487139f,      -2.22474487139f,       0.0f,
-            0.0f,                 1.1721513422464978f, -3.0862664687972017f,  0.0f,
-            0.0f,                 3.0862664687972017f, -1.1721513422464978f,  0.0f,
-            -1.0f,                 2.22474487139f,       2.22474487139f,       0.0f,
-            1.0f,                 2.22474487139f,       2.22474487139f,       0.0f,
-            0.0f,                 3.0862664687972017f,  1.1721513422464978f,  0.0f,
-            0.0f,                 1.1721513422464978f,  3.0862664687972017f,  0.0f,
-            2.22474487139f,      -2.22474487139f,      -1.0f,                 0.0f,
-            2.22474487139f,      -2.22474487139f,       1.0f,                 0.0f,
-            1.1721513422464978f, -3.0862664687972017f,  0.0f,                 0.0f,
-            3.0862664687972017f, -1.1721513422464978f,  0.0f,                 0.0f,
-            2.22474487139f,      -1.0f,                -2.22474487139f,       0.0f,
-            2.22474487139f,       1.0f,                -2.22474487139f,       0.0f,
-            3.0862664687972017f,  0.0f,                -1.1721513422464978f,  0.0f,
-            1.1721513422464978f,  0.0f,                -3.0862664687972017f,  0.0f,
-            2.22474487139f,      -1.0f,                 2.22474487139f,       0.0f,
-            2.22474487139f,       1.0f,                 2.22474487139f,       0.0f,
-            1.1721513422464978f,  0.0f,                 3.0862664687972017f,  0.0f,
-            3.0862664687972017f,  0.0f,                 1.1721513422464978f,  0.0f,
-        };
-        for (int i = 0; i < grad3.length; i++) {
-            grad3[i] = (float)(grad3[i] / NORMALIZER_3D);
-        }
-        for (int i = 0, j = 0; i < GRADIENTS_3D.length; i++, j++) {
-            if (j == grad3.length) j = 0;
-            GRADIENTS_3D[i] = grad3[j];
-        }
+    /**
+     * Gets the Lipschitz constant of the 3D noise, see {@link SimplexBounds}.
+     * The rotations of every variant preserve distances.
+     */
+    static double slope3D() {
+        return Tables3D.SLOPE_3D;
+    }
 
-        float[] grad4 = {
-            -0.6740059517812944f,   -0.3239847771997537f,   -0.3239847771997537f,    0.5794684678643381f,
-            -0.7504883828755602f,   -0.4004672082940195f,    0.15296486218853164f,   0.5029860367700724f,
-            -0.7504883828755602f,    0.15296486218853164f,  -0.4004672082940195f,    0.5029860367700724f,
-            -0.8828161875373585f,    0.08164729285680945f,   0.08164729285680945f,   0.4553054119602712f,
-            -0.4553054119602712f,   -0.08164729285680945f,  -0.08164729285680945f,   0.8828161875373585f,
-            -0.5029860367700724f,   -0.15296486218853164f,   0.4004672082940195f,    0.7504883828755602f,
-            -0.5029860367700724f,    0.4004672082940195f,   -0.15296486218853164f,   0.7504883828755602f,
-            -0.5794684678643381f,    0.3239847771997537f,    0.3239847771997537f,    0.6740059517812944f,
-            -0.6740059517812944f,   -0.3239847771997537f,    0.5794684678643381f,   -0.3239847771997537f,
-            -0.7504883828755602f,   -0.4004672082940195f,    0.5029860367700724f,    0.15296486218853164f,
-            -0.7504883828755602f,    0.15296486218853164f,   0.5029860367700724f,   -0.4004672082940195f,
-            -0.8828161875373585f,    0.08164729285680945f,   0.4553054119602712f,    0.08164729285680945f,
-            -0.4553054119602712f,   -0.08164729285680945f,   0.8828161875373585f,   -0.08164729285680945f,
-            -0.5029860367700724f,   -0.15296486218853164f,   0.7504883828755602f,    0.4004672082940195f,
-            -0.5029860367700724f,    0.4004672082940195f,    0.7504883828755602f,   -0.15296486218853164f,
-            -0.5794684678643381f,    0.3239847771997537f,    0.6740059517812944f,    0.3239847771997537f,
-            -0.6740059517812944f,    0.5794684678643381f,   -0.3239847771997537f,   -0.3239847771997537f,
-            -0.7504883828755602f,    0.5029860367700724f,   -0.4004672082940195f,    0.15296486218853164f,
-            -0.7504883828755602f,    0.5029860367700724f,    0.15296486218853164f,  -0.4004672082940195f,
-            -0.8828161875373585f,    0.4553054119602712f,    0.08164729285680945f,   0.08164729285680945f,
-            -0.4553054119602712f,    0.8828161875373585f,   -0.08164729285680945f,  -0.08164729285680945f,
-            -0.5029860367700724f,    0.7504883828755602f,   -0.15296486218853164f,   0.4004672082940195f,
-            -0.5029860367700724f,    0.7504883828755602f,    0.4004672082940195f,   -0.15296486218853164f,
-            -0.5794684678643381f,    0.6740059517812944f,    0.3239847771997537f,    0.3239847771997537f,
-            0.5794684678643381f,   -0.6740059517812944f,   -0.3239847771997537f,   -0.3239847771997537f,
-            0.5029860367700724f,   -0.7504883828755602f,   -0.4004672082940195f,    0.15296486218853164f,
-            0.5029860367700724f,   -0.7504883828755602f,    0.15296486218853164f,  -0.4004672082940195f,
-            0.4553054119602712f,   -0.8828161875373585f,    0.08164729285680945f,   0.08164729285680945f,
-            0.8828161875373585f,   -0.4553054119602712f,   -0.08164729285680945f,  -0.08164729285680945f,
-            0.7504883828755602f,   -0.5029860367700724f,   -0.15296486218853164f,   0.4004672082940195f,
-            0.7504883828755602f,   -0.5029860367700724f,    0.4004672082940195f,   -0.15296486218853164f,
-            0.6740059517812944f,   -0.5794684678643381f,    0.3239847771997537f,    0.3239847771997537f,
-            //------------------------------------------------------------------------------------------//
-            -0.753341017856078f,    -0.37968289875261624f,  -0.37968289875261624f,  -0.37968289875261624f,
-            -0.7821684431180708f,   -0.4321472685365301f,   -0.4321472685365301f,    0.12128480194602098f,
-            -0.7821684431180708f,   -0.4321472685365301f,    0.12128480194602098f,  -0.4321472685365301f,
-            -0.7821684431180708f,    0.12128480194602098f,  -0.4321472685365301f,   -0.4321472685365301f,
-            -0.8586508742123365f,   -0.508629699630796f,     0.044802370851755174f,  0.044802370851755174f,
-            -0.8586508742123365f,    0.044802370851755174f, -0.508629699630796f,     0.044802370851755174f,
-            -0.8586508742123365f,    0.044802370851755174f,  0.044802370851755174f, -0.508629699630796f,
-            -0.9982828964265062f,   -0.03381941603233842f,  -0.03381941603233842f,  -0.03381941603233842f,
-            -0.37968289875261624f,  -0.753341017856078f,    -0.37968289875261624f,  -0.37968289875261624f,
-            -0.4321472685365301f,   -0.7821684431180708f,   -0.4321472685365301f,    0.12128480194602098f,
-            -0.4321472685365301f,   -0.7821684431180708f,    0.12128480194602098f,  -0.4321472685365301f,
-            0.12128480194602098f,  -0.7821684431180708f,   -0.4321472685365301f,   -0.4321472685365301f,
-            -0.508629699630796f,    -0.8586508742123365f,    0.044802370851755174f,  0.044802370851755174f,
-            0.044802370851755174f, -0.8586508742123365f,   -0.508629699630796f,     0.044802370851755174f,
-            0.044802370851755174f, -0.8586508742123365f,    0.044802370851755174f, -0.508629699630796f,
-            -0.03381941603233842f,  -0.9982828964265062f,   -0.03381941603233842f,  -0.03381941603233842f,
-            -0.37968289875261624f,  -0.37968289875261624f,  -0.753341017856078f,    -0.37968289875261624f,
-            -0.4321472685365301f,   -0.4321472685365301f,   -0.7821684431180708f,    0.12128480194602098f,
-            -0.4321472685365301f,    0.12128480194602098f,  -0.7821684431180708f,   -0.4321472685365301f,
-            0.12128480194602098f,  -0.4321472685365301f,   -0.7821684431180708f,   -0.4321472685365301f,
-            -0.508629699630796f,     0.044802370851755174f, -0.8586508742123365f,    0.044802370851755174f,
-            0.044802370851755174f, -0.508629699630796f,    -0.8586508742123365f,    0.044802370851755174f,
-            0.044802370851755174f,  0.044802370851755174f, -0.8586508742123365f,   -0.508629699630796f,
-            -0.03381941603233842f,  -0.03381941603233842f,  -0.9982828964265062f,   -0.03381941603233842f,
-            -0.37968289875261624f,  -0.37968289875261624f,  -0.37968289875261624f,  -0.753341017856078f,
-            -0.4321472685365301f,   -0.4321472685365301f,    0.12128480194602098f,  -0.7821684431180708f,
-            -0.4321472685365301f,    0.12128480194602098f,  -0.4321472685365301f,   -0.7821684431180708f,
-            0.12128480194602098f,  -0.4321472685365301f,   -0.4321472685365301f,   -0.7821684431180708f,
-            -0.508629699630796f,     0.044802370851755174f,  0.044802370851755174f, -0.8586508742123365f,
-            0.044802370851755174f, -0.508629699630796f,     0.044802370851755174f, -0.8586508742123365f,
-            0.044802370851755174f,  0.044802370851755174f, -0.508629699630796f,    -0.8586508742123365f,
-            -0.03381941603233842f,  -0.03381941603233842f,  -0.03381941603233842f,  -0.9982828964265062f,
-            -0.3239847771997537f,   -0.6740059517812944f,   -0.3239847771997537f,    0.5794684678643381f,
-            -0.4004672082940195f,   -0.7504883828755602f,    0.15296486218853164f,   0.5029860367700724f,
-            0.15296486218853164f,  -0.7504883828755602f,   -0.4004672082940195f,    0.5029860367700724f,
-            0.08164729285680945f,  -0.8828161875373585f,    0.08164729285680945f,   0.4553054119602712f,
-            -0.08164729285680945f,  -0.4553054119602712f,   -0.08164729285680945f,   0.8828161875373585f,
-            -0.15296486218853164f,  -0.5029860367700724f,    0.4004672082940195f,    0.7504883828755602f,
-            0.4004672082940195f,   -0.5029860367700724f,   -0.15296486218853164f,   0.7504883828755602f,
-            0.3239847771997537f,   -0.5794684678643381f,    0.3239847771997537f,    0.6740059517812944f,
-            -0.3239847771997537f,   -0.3239847771997537f,   -0.6740059517812944f,    0.5794684678643381f,
-            -0.4004672082940195f,    0.15296486218853164f,  -0.7504883828755602f,    0.5029860367700724f,
-            0.15296486218853164f,  -0.4004672082940195f,   -0.7504883828755602f,    0.5029860367700724f,
-            0.08164729285680945f,   0.08164729285680945f,  -0.8828161875373585f,    0.4553054119602712f,
-            -0.08164729285680945f,  -0.08164729285680945f,  -0.4553054119602712f,    0.8828161875373585f,
-            -0.15296486218853164f,   0.4004672082940195f,   -0.5029860367700724f,    0.7504883828755602f,
-            0.4004672082940195f,   -0.15296486218853164f,  -0.5029860367700724f,    0.7504883828755602f,
-            0.3239847771997537f,    0.3239847771997537f,   -0.5794684678643381f,    0.6740059517812944f,
-            -0.3239847771997537f,   -0.6740059517812944f,    0.5794684678643381f,   -0.3239847771997537f,
-            -0.4004672082940195f,   -0.7504883828755602f,    0.5029860367700724f,    0.15296486218853164f,
-            0.15296486218853164f,  -0.7504883828755602f,    0.5029860367700724f,   -0.4004672082940195f,
-            0.08164729285680945f,  -0.8828161875373585f,    0.4553054119602712f,    0.08164729285680945f,
-            -0.08164729285680945f,  -0.4553054119602712f,    0.8828161875373585f,   -0.08164729285680945f,
-            -0.15296486218853164f,  -0.5029860367700724f,    0.7504883828755602f,    0.4004672082940195f,
-            0.4004672082940195f,   -0.5029860367700724f,    0.7504883828755602f,   -0.15296486218853164f,
-            0.3239847771997537f,   -0.5794684678643381f,    0.6740059517812944f,    0.3239847771997537f,
-            -0.3239847771997537f,   -0.3239847771997537f,    0.5794684678643381f,   -0.6740059517812944f,
-            -0.4004672082940195f,    0.15296486218853164f,   0.5029860367700724f,   -0.7504883828755602f,
-            0.15296486218853164f,  -0.4004672082940195f,    0.5029860367700724f,   -0.7504883828755602f,
-            0.08164729285680945f,   0.08164729285680945f,   0.4553054119602712f,   -0.8828161875373585f,
-            -0.08164729285680945f,  -0.08164729285680945f,   0.8828161875373585f,   -0.4553054119602712f,
-            -0.15296486218853164f,   0.4004672082940195f,    0.7504883828755602f,   -0.5029860367700724f,
-            0.4004672082940195f,   -0.15296486218853164f,   0.7504883828755602f,   -0.5029860367700724f,
-            0.3239847771997537f,    0.3239847771997537f,    0.6740059517812944f,   -0.5794684678643381f,
-            -0.3239847771997537f,    0.5794684678643381f,   -0.6740059517812944f,   -0.3239847771997537f,
-            -0.4004672082940195f,    0.5029860367700724f,   -0.7504883828755602f,    0.15296486218853164f,
-            0.15296486218853164f,   0.5029860367700724f,   -0.7504883828755602f,   -0.4004672082940195f,
-            0.08164729285680945f,   0.4553054119602712f,   -0.8828161875373585f,    0.08164729285680945f,
-            -0.08164729285680945f,   0.8828161875373585f,   -0.4553054119602712f,   -0.08164729285680945f,
-            -0.15296486218853164f,   0.7504883828755602f,   -0.5029860367700724f,    0.4004672082940195f,
-            0.4004672082940195f,    0.7504883828755602f,   -0.5029860367700724f,   -0.15296486218853164f,
-            0.3239847771997537f,    0.6740059517812944f,   -0.5794684678643381f,    0.3239847771997537f,
-            -0.3239847771997537f,    0.5794684678643381f,   -0.3239847771997537f,   -0.6740059517812944f,
-            -0.4004672082940195f,    0.5029860367700724f,    0.15296486218853164f,  -0.7504883828755602f,
-            0.15296486218853164f,   0.5029860367700724f,   -0.4004672082940195f,   -0.7504883828755602f,
-            0.08164729285680945f,   0.4553054119602712f,    0.08164729285680945f,  -0.8828161875373585f,
-            -0.08164729285680945f,   0.8828161875373585f,   -0.08164729285680945f,  -0.4553054119602712f,
-            -0.15296486218853164f,   0.7504883828755602f,    0.4004672082940195f,   -0.5029860367700724f,
-            0.4004672082940195f,    0.7504883828755602f,   -0.15296486218853164f,  -0.5029860367700724f,
-            0.3239847771997537f,    0.6740059517812944f,    0.3239847771997537f,   -0.5794684678643381f,
-            0.5794684678643381f,   -0.3239847771997537f,   -0.6740059517812944f,   -0.3239847771997537f,
-            0.5029860367700724f,   -0.4004672082940195f,   -0.7504883828755602f,    0.15296486218853164f,
-            0.5029860367700724f,    0.15296486218853164f,  -0.7504883828755602f,   -0.4004672082940195f,
-            0.4553054119602712f,    0.08164729285680945f,  -0.8828161875373585f,    0.08164729285680945f,
-            0.8828161875373585f,   -0.08164729285680945f,  -0.4553054119602712f,   -0.08164729285680945f,
-            0.7504883828755602f,   -0.15296486218853164f,  -0.5029860367700724f,    0.4004672082940195f,
-            0.7504883828755602f,    0.4004672082940195f,   -0.5029860367700724f,   -0.15296486218853164f,
-            0.6740059517812944f,    0.3239847771997537f,   -0.5794684678643381f,    0.3239847771997537f,
-            0.5794684678643381f,   -0.3239847771997537f,   -0.3239847771997537f,   -0.6740059517812944f,
-            0.5029860367700724f,   -0.4004672082940195f,    0.15296486218853164f,  -0.7504883828755602f,
-            0.5029860367700724f,    0.15296486218853164f,  -0.4004672082940195f,   -0.7504883828755602f,
-            0.4553054119602712f,    0.08164729285680945f,   0.08164729285680945f,  -0.8828161875373585f,
-            0.8828161875373585f,   -0.08164729285680945f,  -0.08164729285680945f,  -0.4553054119602712f,
-            0.7504883828755602f,   -0.15296486218853164f,   0.4004672082940195f,   -0.5029860367700724f,
-            0.7504883828755602f,    0.4004672082940195f,   -0.15296486218853164f,  -0.5029860367700724f,
-            0.6740059517812944f,    0.3239847771997537f,    0.3239847771997537f,   -0.5794684678643381f,
-            0.03381941603233842f,   0.03381941603233842f,   0.03381941603233842f,   0.9982828964265062f,
-            -0.044802370851755174f, -0.044802370851755174f,  0.508629699630796f,     0.8586508742123365f,
-            -0.044802370851755174f,  0.508629699630796f,    -0.044802370851755174f,  0.8586508742123365f,
-            -0.12128480194602098f,   0.4321472685365301f,    0.4321472685365301f,    0.7821684431180708f,
-            0.508629699630796f,    -0.044802370851755174f, -0.044802370851755174f,  0.8586508742123365f,
-            0.4321472685365301f,   -0.12128480194602098f,   0.4321472685365301f,    0.7821684431180708f,
-            0.4321472685365301f,    0.4321472685365301f,   -0.12128480194602098f,   0.7821684431180708f,
-            0.37968289875261624f,   0.37968289875261624f,   0.37968289875261624f,   0.753341017856078f,
-            0.03381941603233842f,   0.03381941603233842f,   0.9982828964265062f,    0.03381941603233842f,
-            -0.044802370851755174f,  0.044802370851755174f,  0.8586508742123365f,    0.508629699630796f,
-            -0.044802370851755174f,  0.508629699630796f,     0.8586508742123365f,   -0.044802370851755174f,
-            -0.12128480194602098f,   0.4321472685365301f,    0.7821684431180708f,    0.4321472685365301f,
-            0.508629699630796f,    -0.044802370851755174f,  0.8586508742123365f,   -0.044802370851755174f,
-            0.4321472685365301f,   -0.12128480194602098f,   0.7821684431180708f,    0.4321472685365301f,
-            0.4321472685365301f,    0.4321472685365301f,    0.7821684431180708f,   -0.12128480194602098f,
-            0.37968289875261624f,   0.37968289875261624f,   0.753341017856078f,     0.37968289875261624f,
-            0.03381941603233842f,   0.9982828964265062f,    0.03381941603233842f,   0.03381941603233842f,
-            -0.044802370851755174f,  0.8586508742123365f,   -0.044802370851755174f,  0.508629699630796f,
-            -0.044802370851755174f,  0.8586508742123365f,    0.508629699630796f,    -0.044802370851755174f,
-            -0.12128480194602098f,   0.7821684431180708f,    0.4321472685365301f,    0.4321472685365301f,
-            0.508629699630796f,     0.8586508742123365f,   -0.044802370851755174f, -0.044802370851755174f,
-            0.4321472685365301f,    0.7821684431180708f,   -0.12128480194602098f,   0.4321472685365301f,
-            0.4321472685365301f,    0.7821684431180708f,    0.4321472685365301f,   -0.12128480194602098f,
-            0.37968289875261624f,   0.753341017856078f,     0.37968289875261624f,   0.37968289875261624f,
-            0.9982828964265062f,    0.03381941603233842f,   0.03381941603233842f,   0.03381941603233842f,
-            0.8586508742123365f,   -0.044802370851755174f, -0.044802370851755174f,  0.508629699630796f,
-            0.8586508742123365f,   -0.044802370851755174f,  0.508629699630796f,    -0.044802370851755174f,
-            0.7821684431180708f,   -0.12128480194602098f,   0.4321472685365301f,    0.4321472685365301f,
-            0.8586508742123365f,    0.508629699630796f,    -0.044802370851755174f, -0.044802370851755174f,
-            0.7821684431180708f,    0.4321472685365301f,   -0.12128480194602098f,   0.4321472685365301f,
-            0.7821684431180708f,    0.4321472685365301f,    0.4321472685365301f,   -0.12128480194602098f,
-            0.753341017856078f,     0.37968289875261624f,   0.37968289875261624f,   0.37968289875261624f,
-        };
-        for (int i = 0; i < grad4.length; i++) {
-            grad4[i] = (float)(grad4[i] / NORMALIZER_4D);
-        }
-        for (int i = 0, j = 0; i < GRADIENTS_4D.length; i++, j++) {
-            if (j == grad4.length) j = 0;
-            GRADIENTS_4D[i] = grad4[j];
-        }
+    /**
+     * Gets the largest difference of two 3D values beyond {@link #slope3D()}, see {@link SimplexBounds}.
+     */
+    static double seams3D() {
+        return Tables3D.SEAMS_3D;
+    }
 
-        int[][] lookup4DVertexCodes = {
-            new int[] { 0x15, 0x45, 0x51, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x15, 0x45, 0x51, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA6, 0xAA },
-            new int[] { 0x01, 0x05, 0x11, 0x15, 0x41, 0x45, 0x51, 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xA6, 0xAA },
-            new int[] { 0x01, 0x15, 0x16, 0x45, 0x46, 0x51, 0x52, 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x15, 0x45, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA9, 0xAA },
-            new int[] { 0x05, 0x15, 0x45, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xAA },
-            new int[] { 0x05, 0x15, 0x45, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xAA },
-            new int[] { 0x05, 0x15, 0x16, 0x45, 0x46, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xAA, 0xAB },
-            new int[] { 0x04, 0x05, 0x14, 0x15, 0x44, 0x45, 0x54, 0x55, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA },
-            new int[] { 0x05, 0x15, 0x45, 0x55, 0x56, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xAA },
-            new int[] { 0x05, 0x15, 0x45, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x9A, 0xAA },
-            new int[] { 0x05, 0x15, 0x16, 0x45, 0x46, 0x55, 0x56, 0x59, 0x5A, 0x5B, 0x6A, 0x9A, 0xAA, 0xAB },
-            new int[] { 0x04, 0x15, 0x19, 0x45, 0x49, 0x54, 0x55, 0x58, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x05, 0x15, 0x19, 0x45, 0x49, 0x55, 0x56, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xAA, 0xAE },
-            new int[] { 0x05, 0x15, 0x19, 0x45, 0x49, 0x55, 0x56, 0x59, 0x5A, 0x5E, 0x6A, 0x9A, 0xAA, 0xAE },
-            new int[] { 0x05, 0x15, 0x1A, 0x45, 0x4A, 0x55, 0x56, 0x59, 0x5A, 0x5B, 0x5E, 0x6A, 0x9A, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x15, 0x51, 0x54, 0x55, 0x56, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x95, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x11, 0x15, 0x51, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x11, 0x15, 0x51, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x6A, 0x96, 0xA6, 0xAA },
-            new int[] { 0x11, 0x15, 0x16, 0x51, 0x52, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x6A, 0x96, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x14, 0x15, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x99, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x9A, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x15, 0x16, 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x6B, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x14, 0x15, 0x54, 0x55, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x99, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x9A, 0xAA },
-            new int[] { 0x15, 0x16, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x6A, 0x6B, 0x9A, 0xAA, 0xAB },
-            new int[] { 0x14, 0x15, 0x19, 0x54, 0x55, 0x58, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x99, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x19, 0x55, 0x59, 0x5A, 0x69, 0x6A, 0x6E, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x19, 0x55, 0x56, 0x59, 0x5A, 0x69, 0x6A, 0x6E, 0x9A, 0xAA, 0xAE },
-            new int[] { 0x15, 0x1A, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x6B, 0x6E, 0x9A, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x10, 0x11, 0x14, 0x15, 0x50, 0x51, 0x54, 0x55, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x11, 0x15, 0x51, 0x55, 0x56, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x11, 0x15, 0x51, 0x55, 0x56, 0x65, 0x66, 0x6A, 0xA6, 0xAA },
-            new int[] { 0x11, 0x15, 0x16, 0x51, 0x52, 0x55, 0x56, 0x65, 0x66, 0x67, 0x6A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x14, 0x15, 0x54, 0x55, 0x59, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xA6, 0xAA },
-            new int[] { 0x15, 0x16, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x6A, 0x6B, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x14, 0x15, 0x54, 0x55, 0x59, 0x65, 0x69, 0x6A, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xAA },
-            new int[] { 0x15, 0x16, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x6B, 0xAA, 0xAB },
-            new int[] { 0x14, 0x15, 0x19, 0x54, 0x55, 0x58, 0x59, 0x65, 0x69, 0x6A, 0x6D, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x19, 0x55, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x6E, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x19, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x6E, 0xAA, 0xAE },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x69, 0x6A, 0x6B, 0x6E, 0x9A, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x10, 0x15, 0x25, 0x51, 0x54, 0x55, 0x61, 0x64, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x11, 0x15, 0x25, 0x51, 0x55, 0x56, 0x61, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xAA, 0xBA },
-            new int[] { 0x11, 0x15, 0x25, 0x51, 0x55, 0x56, 0x61, 0x65, 0x66, 0x6A, 0x76, 0xA6, 0xAA, 0xBA },
-            new int[] { 0x11, 0x15, 0x26, 0x51, 0x55, 0x56, 0x62, 0x65, 0x66, 0x67, 0x6A, 0x76, 0xA6, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x14, 0x15, 0x25, 0x54, 0x55, 0x59, 0x64, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x25, 0x55, 0x65, 0x66, 0x69, 0x6A, 0x7A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x25, 0x55, 0x56, 0x65, 0x66, 0x69, 0x6A, 0x7A, 0xA6, 0xAA, 0xBA },
-            new int[] { 0x15, 0x26, 0x55, 0x56, 0x65, 0x66, 0x6A, 0x6B, 0x7A, 0xA6, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x14, 0x15, 0x25, 0x54, 0x55, 0x59, 0x64, 0x65, 0x69, 0x6A, 0x79, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x25, 0x55, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x7A, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x25, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x7A, 0xAA, 0xBA },
-            new int[] { 0x15, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x6B, 0x7A, 0xA6, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x14, 0x15, 0x29, 0x54, 0x55, 0x59, 0x65, 0x68, 0x69, 0x6A, 0x6D, 0x79, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x15, 0x29, 0x55, 0x59, 0x65, 0x69, 0x6A, 0x6E, 0x7A, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x15, 0x55, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x6E, 0x7A, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x6B, 0x6E, 0x7A, 0xAA, 0xAB, 0xAE, 0xBA, 0xBF },
-            new int[] { 0x45, 0x51, 0x54, 0x55, 0x56, 0x59, 0x65, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x5A, 0x66, 0x95, 0x96, 0x9A, 0xA6, 0xAA },
-            new int[] { 0x41, 0x45, 0x46, 0x51, 0x52, 0x55, 0x56, 0x5A, 0x66, 0x95, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x69, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x45, 0x46, 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0x9B, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x59, 0x5A, 0x69, 0x95, 0x99, 0x9A, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xAA },
-            new int[] { 0x45, 0x46, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x96, 0x9A, 0x9B, 0xAA, 0xAB },
-            new int[] { 0x44, 0x45, 0x49, 0x54, 0x55, 0x58, 0x59, 0x5A, 0x69, 0x95, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x49, 0x55, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0x9E, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x49, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x99, 0x9A, 0x9E, 0xAA, 0xAE },
-            new int[] { 0x45, 0x4A, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x9A, 0x9B, 0x9E, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x56, 0x59, 0x65, 0x66, 0x69, 0x95, 0x96, 0x99, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x59, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x51, 0x52, 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xA6, 0xA7, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x56, 0x59, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x15, 0x45, 0x51, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA5, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x45, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x45, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xA9, 0xAA, 0xAB, 0xAE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x66, 0x6A, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x58, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAD, 0xAE },
-            new int[] { 0x55, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x9A, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x65, 0x66, 0x69, 0x95, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x6A, 0x95, 0x96, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x51, 0x52, 0x55, 0x56, 0x65, 0x66, 0x6A, 0x96, 0xA6, 0xA7, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x99, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x51, 0x54, 0x55, 0x56, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x51, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAB, 0xBA },
-            new int[] { 0x55, 0x56, 0x5A, 0x65, 0x66, 0x6A, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x6A, 0x95, 0x99, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x15, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAE, 0xBA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x9A, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x58, 0x59, 0x65, 0x69, 0x6A, 0x99, 0xA9, 0xAA, 0xAD, 0xAE },
-            new int[] { 0x55, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x69, 0x6A, 0x9A, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x61, 0x64, 0x65, 0x66, 0x69, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x51, 0x55, 0x61, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xB6, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x61, 0x65, 0x66, 0x6A, 0xA5, 0xA6, 0xAA, 0xB6, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x62, 0x65, 0x66, 0x6A, 0xA6, 0xA7, 0xAA, 0xAB, 0xB6, 0xBA, 0xBB },
-            new int[] { 0x54, 0x55, 0x64, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xB9, 0xBA },
-            new int[] { 0x55, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x55, 0x56, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x55, 0x56, 0x65, 0x66, 0x6A, 0xA6, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x54, 0x55, 0x59, 0x64, 0x65, 0x69, 0x6A, 0xA5, 0xA9, 0xAA, 0xB9, 0xBA },
-            new int[] { 0x55, 0x59, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x15, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xA6, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x68, 0x69, 0x6A, 0xA9, 0xAA, 0xAD, 0xAE, 0xB9, 0xBA, 0xBE },
-            new int[] { 0x55, 0x59, 0x65, 0x69, 0x6A, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x15, 0x55, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0xAA, 0xAB, 0xAE, 0xBA, 0xBF },
-            new int[] { 0x40, 0x41, 0x44, 0x45, 0x50, 0x51, 0x54, 0x55, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x95, 0x96, 0x9A, 0xA6, 0xAA },
-            new int[] { 0x41, 0x45, 0x46, 0x51, 0x52, 0x55, 0x56, 0x95, 0x96, 0x97, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x59, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xAA },
-            new int[] { 0x45, 0x46, 0x55, 0x56, 0x5A, 0x95, 0x96, 0x9A, 0x9B, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x59, 0x95, 0x99, 0x9A, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xAA },
-            new int[] { 0x45, 0x46, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0x9B, 0xAA, 0xAB },
-            new int[] { 0x44, 0x45, 0x49, 0x54, 0x55, 0x58, 0x59, 0x95, 0x99, 0x9A, 0x9D, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x49, 0x55, 0x59, 0x5A, 0x95, 0x99, 0x9A, 0x9E, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x49, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0x9E, 0xAA, 0xAE },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x96, 0x99, 0x9A, 0x9B, 0x9E, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x65, 0x95, 0x96, 0x99, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x51, 0x52, 0x55, 0x56, 0x66, 0x95, 0x96, 0x9A, 0xA6, 0xA7, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x45, 0x51, 0x54, 0x55, 0x56, 0x59, 0x65, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x45, 0x51, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAB, 0xEA },
-            new int[] { 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x95, 0x99, 0x9A, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x45, 0x54, 0x55, 0x56, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAE, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x66, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x58, 0x59, 0x69, 0x95, 0x99, 0x9A, 0xA9, 0xAA, 0xAD, 0xAE },
-            new int[] { 0x55, 0x59, 0x5A, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x96, 0x99, 0x9A, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x65, 0x95, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xAA },
-            new int[] { 0x51, 0x52, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xA7, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x54, 0x55, 0x56, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x51, 0x55, 0x56, 0x5A, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA9, 0xAA },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA6, 0xA9, 0xAA, 0xAB },
-            new int[] { 0x54, 0x55, 0x58, 0x59, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA9, 0xAA, 0xAD, 0xAE },
-            new int[] { 0x54, 0x55, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA5, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA6, 0xA9, 0xAA, 0xAE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x66, 0x69, 0x6A, 0x96, 0x99, 0x9A, 0xA6, 0xA9, 0xAA, 0xAB, 0xAE, 0xAF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x61, 0x64, 0x65, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xB5, 0xBA },
-            new int[] { 0x51, 0x55, 0x61, 0x65, 0x66, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xB6, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x61, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xAA, 0xB6, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x6A, 0x96, 0xA5, 0xA6, 0xA7, 0xAA, 0xAB, 0xB6, 0xBA, 0xBB },
-            new int[] { 0x54, 0x55, 0x64, 0x65, 0x69, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xB9, 0xBA },
-            new int[] { 0x55, 0x65, 0x66, 0x69, 0x6A, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x6A, 0x96, 0xA5, 0xA6, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x54, 0x55, 0x59, 0x64, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA9, 0xAA, 0xB9, 0xBA },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x99, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x55, 0x56, 0x59, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA },
-            new int[] { 0x55, 0x56, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x96, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAB, 0xBA, 0xBB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x6A, 0x99, 0xA5, 0xA9, 0xAA, 0xAD, 0xAE, 0xB9, 0xBA, 0xBE },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x6A, 0x99, 0xA5, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x55, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAE, 0xBA, 0xBE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x9A, 0xA6, 0xA9, 0xAA, 0xAB, 0xAE, 0xBA },
-            new int[] { 0x40, 0x45, 0x51, 0x54, 0x55, 0x85, 0x91, 0x94, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x85, 0x91, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xAA, 0xEA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x85, 0x91, 0x95, 0x96, 0x9A, 0xA6, 0xAA, 0xD6, 0xEA },
-            new int[] { 0x41, 0x45, 0x51, 0x55, 0x56, 0x86, 0x92, 0x95, 0x96, 0x97, 0x9A, 0xA6, 0xAA, 0xAB, 0xD6, 0xEA, 0xEB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x59, 0x85, 0x94, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x45, 0x55, 0x85, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xDA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x85, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xAA, 0xDA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x86, 0x95, 0x96, 0x9A, 0x9B, 0xA6, 0xAA, 0xAB, 0xDA, 0xEA, 0xEB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x59, 0x85, 0x94, 0x95, 0x99, 0x9A, 0xA9, 0xAA, 0xD9, 0xEA },
-            new int[] { 0x45, 0x55, 0x59, 0x85, 0x95, 0x96, 0x99, 0x9A, 0xA9, 0xAA, 0xDA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x85, 0x95, 0x96, 0x99, 0x9A, 0xAA, 0xDA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0x9B, 0xA6, 0xAA, 0xAB, 0xDA, 0xEA, 0xEB },
-            new int[] { 0x44, 0x45, 0x54, 0x55, 0x59, 0x89, 0x95, 0x98, 0x99, 0x9A, 0x9D, 0xA9, 0xAA, 0xAE, 0xD9, 0xEA, 0xEE },
-            new int[] { 0x45, 0x55, 0x59, 0x89, 0x95, 0x99, 0x9A, 0x9E, 0xA9, 0xAA, 0xAE, 0xDA, 0xEA, 0xEE },
-            new int[] { 0x45, 0x55, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0x9E, 0xA9, 0xAA, 0xAE, 0xDA, 0xEA, 0xEE },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0x9B, 0x9E, 0xAA, 0xAB, 0xAE, 0xDA, 0xEA, 0xEF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x65, 0x91, 0x94, 0x95, 0x96, 0x99, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x51, 0x55, 0x91, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xE6, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x91, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xAA, 0xE6, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x92, 0x95, 0x96, 0x9A, 0xA6, 0xA7, 0xAA, 0xAB, 0xE6, 0xEA, 0xEB },
-            new int[] { 0x54, 0x55, 0x94, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xE9, 0xEA },
-            new int[] { 0x55, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x55, 0x56, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x55, 0x56, 0x95, 0x96, 0x9A, 0xA6, 0xAA, 0xAB, 0xEA, 0xEB },
-            new int[] { 0x54, 0x55, 0x59, 0x94, 0x95, 0x99, 0x9A, 0xA5, 0xA9, 0xAA, 0xE9, 0xEA },
-            new int[] { 0x55, 0x59, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x45, 0x55, 0x56, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xAA, 0xAB, 0xEA, 0xEB },
-            new int[] { 0x54, 0x55, 0x59, 0x95, 0x98, 0x99, 0x9A, 0xA9, 0xAA, 0xAD, 0xAE, 0xE9, 0xEA, 0xEE },
-            new int[] { 0x55, 0x59, 0x95, 0x99, 0x9A, 0xA9, 0xAA, 0xAE, 0xEA, 0xEE },
-            new int[] { 0x45, 0x55, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xA9, 0xAA, 0xAE, 0xEA, 0xEE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x95, 0x96, 0x99, 0x9A, 0xAA, 0xAB, 0xAE, 0xEA, 0xEF },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x65, 0x91, 0x94, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xE5, 0xEA },
-            new int[] { 0x51, 0x55, 0x65, 0x91, 0x95, 0x96, 0xA5, 0xA6, 0xA9, 0xAA, 0xE6, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x91, 0x95, 0x96, 0xA5, 0xA6, 0xAA, 0xE6, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x66, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xA7, 0xAA, 0xAB, 0xE6, 0xEA, 0xEB },
-            new int[] { 0x54, 0x55, 0x65, 0x94, 0x95, 0x99, 0xA5, 0xA6, 0xA9, 0xAA, 0xE9, 0xEA },
-            new int[] { 0x55, 0x65, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x51, 0x55, 0x56, 0x66, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xAA, 0xAB, 0xEA, 0xEB },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x94, 0x95, 0x99, 0xA5, 0xA9, 0xAA, 0xE9, 0xEA },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x55, 0x56, 0x59, 0x65, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xEA },
-            new int[] { 0x55, 0x56, 0x5A, 0x66, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAB, 0xEA, 0xEB },
-            new int[] { 0x54, 0x55, 0x59, 0x69, 0x95, 0x99, 0x9A, 0xA5, 0xA9, 0xAA, 0xAD, 0xAE, 0xE9, 0xEA, 0xEE },
-            new int[] { 0x54, 0x55, 0x59, 0x69, 0x95, 0x99, 0x9A, 0xA5, 0xA9, 0xAA, 0xAE, 0xEA, 0xEE },
-            new int[] { 0x55, 0x59, 0x5A, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAE, 0xEA, 0xEE },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA6, 0xA9, 0xAA, 0xAB, 0xAE, 0xEA },
-            new int[] { 0x50, 0x51, 0x54, 0x55, 0x65, 0x95, 0xA1, 0xA4, 0xA5, 0xA6, 0xA9, 0xAA, 0xB5, 0xBA, 0xE5, 0xEA, 0xFA },
-            new int[] { 0x51, 0x55, 0x65, 0x95, 0xA1, 0xA5, 0xA6, 0xA9, 0xAA, 0xB6, 0xBA, 0xE6, 0xEA, 0xFA },
-            new int[] { 0x51, 0x55, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xA9, 0xAA, 0xB6, 0xBA, 0xE6, 0xEA, 0xFA },
-            new int[] { 0x51, 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xA7, 0xAA, 0xAB, 0xB6, 0xBA, 0xE6, 0xEA, 0xFB },
-            new int[] { 0x54, 0x55, 0x65, 0x95, 0xA4, 0xA5, 0xA6, 0xA9, 0xAA, 0xB9, 0xBA, 0xE9, 0xEA, 0xFA },
-            new int[] { 0x55, 0x65, 0x95, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA, 0xEA, 0xFA },
-            new int[] { 0x51, 0x55, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA, 0xEA, 0xFA },
-            new int[] { 0x55, 0x56, 0x65, 0x66, 0x95, 0x96, 0xA5, 0xA6, 0xAA, 0xAB, 0xBA, 0xEA, 0xFB },
-            new int[] { 0x54, 0x55, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA6, 0xA9, 0xAA, 0xB9, 0xBA, 0xE9, 0xEA, 0xFA },
-            new int[] { 0x54, 0x55, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA, 0xEA, 0xFA },
-            new int[] { 0x55, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xBA, 0xEA, 0xFA },
-            new int[] { 0x55, 0x56, 0x65, 0x66, 0x6A, 0x95, 0x96, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAB, 0xBA, 0xEA },
-            new int[] { 0x54, 0x55, 0x59, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA9, 0xAA, 0xAD, 0xAE, 0xB9, 0xBA, 0xE9, 0xEA, 0xFE },
-            new int[] { 0x55, 0x59, 0x65, 0x69, 0x95, 0x99, 0xA5, 0xA9, 0xAA, 0xAE, 0xBA, 0xEA, 0xFE },
-            new int[] { 0x55, 0x59, 0x65, 0x69, 0x6A, 0x95, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAE, 0xBA, 0xEA },
-            new int[] { 0x55, 0x56, 0x59, 0x5A, 0x65, 0x66, 0x69, 0x6A, 0x95, 0x96, 0x99, 0x9A, 0xA5, 0xA6, 0xA9, 0xAA, 0xAB, 0xAE, 0xBA, 0xEA },
-        };
-        LatticeVertex4D[] latticeVerticesByCode = new LatticeVertex4D[256];
-        for (int i = 0; i < 256; i++) {
-            int cx = ((i >> 0) & 3) - 1;
-            int cy = ((i >> 2) & 3) - 1;
-            int cz = ((i >> 4) & 3) - 1;
-            int cw = ((i >> 6) & 3) - 1;
-            latticeVerticesByCode[i] = new LatticeVertex4D(cx, cy, cz, cw);
-        }
-        int nLatticeVerticesTotal = 0;
-        for (int i = 0; i < 256; i++) {
-            nLatticeVerticesTotal += lookup4DVertexCodes[i].length;
+    /*
+     * Lookup Tables & Gradients
+     */
+
+    // Each table is held by its own class, which is only initialized once it is first used,
+    // so e.g. evaluating 2D noise never builds the 3D or 4D tables.
+
+    static final class Tables2D {
+        static final float[] GRADIENTS_2D = new float[N_GRADS_2D * 2];
+
+        static {
+            float[] grad2 = {
+                0.38268343236509f,   0.923879532511287f,
+                0.923879532511287f,  0.38268343236509f,
+                0.923879532511287f, -0.38268343236509f,
+                0.38268343236509f,  -0.923879532511287f,
+                -0.38268343236509f,  -0.923879532511287f,
+                -0.923879532511287f, -0.38268343236509f,
+                -0.923879532511287f,  0.38268343236509f,
+                -0.38268343236509f,   0.923879532511287f,
+                //-------------------------------------//
+                0.130526192220052f,  0.99144486137381f,
+                0.608761429008721f,  0.793353340291235f,
+                0.793353340291235f,  0.608761429008721f,
+                0.99144486137381f,   0.130526192220051f,
+                0.99144486137381f,  -0.130526192220051f,
+                0.793353340291235f, -0.60876142900872f,
+                0.608761429008721f, -0.793353340291235f,
+                0.130526192220052f, -0.99144486137381f,
+                -0.130526192220052f, -0.99144486137381f,
+                -0.608761429008721f, -0.793353340291235f,
+                -0.793353340291235f, -0.608761429008721f,
+                -0.99144486137381f,  -0.130526192220052f,
+                -0.99144486137381f,   0.130526192220051f,
+                -0.793353340291235f,  0.608761429008721f,
+                -0.608761429008721f,  0.793353340291235f,
+                -0.130526192220052f,  0.99144486137381f,
+            };
+            for (int i = 0; i < grad2.length; i++) {
+                grad2[i] = (float)(grad2[i] / NORMALIZER_2D);
+            }
+            for (int i = 0, j = 0; i < GRADIENTS_2D.length; i++, j++) {
+                if (j == grad2.length) j = 0;
+                GRADIENTS_2D[i] = grad2[j];
+            }
         }
-        LOOKUP_4D_A = new int[256];
-        LOOKUP_4D_B = new LatticeVertex4D[nLatticeVerticesTotal];
-        for (int i = 0, j = 0; i < 256; i++) {
-            LOOKUP_4D_A[i] = j | ((j + lookup4DVertexCodes[i].length) << 16);
-            for (int k = 0; k < lookup4DVertexCodes[i].length; k++) {
-                LOOKUP_4D_B[j++] = latticeVerticesByCode[lookup4DVertexCodes[i][k]];
+
+        // At most four vertices can lie within the radius in 2D, the ends of the short diagonal of the containing rhombus
+        // and one vertex beyond each of its sides, which are the only vertices evaluated as well.
+        static final double SLOPE_2D = 4 * SimplexBounds.kernelSlope(
+            SimplexBounds.longestGradient(GRADIENTS_2D, 2, 2), RSQUARED_2D, RSQUARED_2D
+        );
+    }
+
+    private static final class Tables3D {
+        static final float[] GRADIENTS_3D = new float[N_GRADS_3D * 4];
+
+        static {
+            float[] grad3 = {
+                2.22474487139f,       2.22474487139f,      -1.0f,                 0.0f,
+                2.22474487139f,       2.22474487139f,       1.0f,                 0.0f,
+                3.0862664687972017f,  1.1721513422464978f,  0.0f,                 0.0f,
+                1.1721513422464978f,  3.0862664687972017f,  0.0f,                 0.0f,
+                -2.22474487139f,       2.22474487139f,      -1.0f,                 0.0f,
+                -2.22474487139f,       2.22474487139f,       1.0f,                 0.0f,
+                -1.1721513422464978f,  3.0862664687972017f,  0.0f,                 0.0f,
+                -3.0862664687972017f,  1.1721513422464978f,  0.0f,                 0.0f,
+                -1.0f,                -2.22474487139f,      -2.22474487139f,       0.0f,
+                1.0f,                -2.22474487139f,      -2.22474487139f,       0.0f,
+                0.0f,                -3.0862664687972017f, -1.1721513422464978f,  0.0f,
+                0.0f,                -1.1721513422464978f, -3.0862664687972017f,  0.0f,
+                -1.0f,                -2.22474487139f,       2.22474487139f,       0.0f,
+                1.0f,                -2.22474487139f,       2.22474487139f,       0.0f,
+                0.0f,                -1.1721513422464978f,  3.0862664687972017f,  0.0f,
+                0.0f,                -3.0862664687972017f,  1.1721513422464978f,  0.0f,
+                //--------------------------------------------------------------------//
+                -2.22474487139f,      -2.22474487139f,      -1.0f,                 0.0f,
+                -2.22474487139f,      -2.22474487139f,       1.0f,                 0.0f,
+                -3.0862664687972017f, -1.1721513422464978f,  0.0f,                 0.0f,
+                -1.1721513422464978f, -3.0862664687972017f,  0.0f,                 0.0f,
+                -2.22474487139f,      -1.0f,                -2.22474487139f,       0.0f,
+                -2.22474487139f,       1.0f,                -2.22474487139f,       0.0f,
+                -1.1721513422464978f,  0.0f,                -3.0862664687972017f,  0.0f,
+                -3.0862664687972017f,  0.0f,                -1.1721513422464978f,  0.0f,
+                -2.22474487139f,      -1.0f,                 2.22474487139f,       0.0f,
+                -2.22474487139f,       1.0f,                 2.22474487139f,       0.0f,
+                -3.0862664687972017f,  0.0f,                 1.1721513422464978f,  0.0f,
+                -1.1721513422464978f,  0.0f,                 3.0862664687972017f,  0.0f,
+                -1.0f,                 2.22474487139f,      -2.22474487139f,       0.0f,
+                1.0f,                 2.22474487139f,      -2.22474487139f,       0.0f,
+                0.0f,                 1.1721513422464978f, -3.0862664687972017f,  0.0f,
+                0.0f,                 3.0862664687972017f, -1.1721513422464978f,  0.0f,
+                -1.0f,                 2.22474487139f,       2.22474487139f,       0.0f,
+                1.0f,                 2.22474487139f,       2.22474487139f,       0.0f,
+                0.0f,                 3.0862664687972017f,  1.1721513422464978f,  0.0f,
+                0.0f,                 1.1721513422464978f,  3.0862664687972017f,  0.0f,
+                2.22474487139f,      -2.22474487139f,      -1.0f,                 0.0f,
+                2.22474487139f,      -2.22474487139f,       1.0f,                 0.0f,
+                1.1721513422464978f, -3.0862664687972017f,  0.0f,                 0.0f,
+                3.0862664687972017f, -1.1721513422464978f,  0.0f,                 0.0f,
+                2.22474487139f,      -1.0f,                -2.22474487139f,       0.0f,
+                2.22474487139f,       1.0f,                -2.22474487139f,       0.0f,
+                3.0862664687972017f,  0.0f,                -1.1721513422464978f,  0.0f,
+                1.1721513422464978f,  0.0f,                -3.0862664687972017f,  0.0f,
+                2.22474487139f,      -1.0f,                 2.22474487139f,       0.0f,
+                2.22474487139f,       1.0f,                 2.22474487139f,       0.0f,
+                1.1721513422464978f,  0.0f,                 3.0862664687972017f,  0.0f,
+                3.0862664687972017f,  0.0f,                 1.1721513422464978f,  0.0f,
+            };
+            for (int i = 0; i < grad3.length; i++) {
+                grad3[i] = (float)(grad3[i] / NORMALIZER_3D);
+            }
+            for (int i = 0, j = 0; i < GRADIENTS_3D.length; i++, j++) {
+                if (j == grad3.length) j = 0;
+                GRADIENTS_3D[i] = grad3[j];
             }
         }
+
+        // At most four corners of the containing cube of each of the two lattices can lie within the radius in 3D,
+        // as opposite corners are sqrt(3) apart, which is twice the radius.
+        static final double SLOPE_3D = 2 * 4 * SimplexBounds.kernelSlope(
+            SimplexBounds.longestGradient(GRADIENTS_3D, 4, 3), RSQUARED_3D, RSQUARED_3D
+        );
+        // Once the neighbor of the first vertex along an axis contributes, the neighbor of the second vertex along that axis is skipped.
+        // The two are sqrt(2.75) apart, so the skipped one is at least sqrt(2.75) - r away and at most three are skipped at once.
+        // Skipping them makes the noise discontinuous, so two values can differ by twice their kernels beyond the slope.
+        private static final double SKIPPED_DISTANCE_3D = Math.sqrt(2.75) - Math.sqrt(RSQUARED_3D);
+        static final double SEAMS_3D = 2 * 3 * SimplexBounds.kernelValue(
+            SimplexBounds.longestGradient(GRADIENTS_3D, 4, 3), RSQUARED_3D, RSQUARED_3D - SKIPPED_DISTANCE_3D * SKIPPED_DISTANCE_3D
+        );
     }
 
-    private static class LatticeVertex4D {
-        public final float dx, dy, dz, dw;
-        public final long xsvp, ysvp, zsvp, wsvp;
-        public LatticeVertex4D(int xsv, int ysv, int zsv, int wsv) {
-            this.xsvp = xsv * PRIME_X; this.ysvp = ysv * PRIME_Y;
-            this.zsvp = zsv * PRIME_Z; this.wsvp = wsv * PRIME_W;
-            float ssv = (xsv + ysv + zsv + wsv) * UNSKEW_4D;
-            this.dx = -xsv - ssv;
-            this.dy = -ysv - ssv;
-            this.dz = -zsv - ssv;
-            this.dw = -wsv - ssv;
+    private static final class Tables4D {
+        // The vertex codes of each lookup cell as hexadecimal bytes, every cell is terminated by a comma.
+        // A single string constant is far smaller to load than the equivalent array initializers.
+        private static final String LOOKUP_4D_VERTEX_CODES =
+            "154551545556595A6566696A9596999AA5A6A9AA," +
+            "1545515556595A65666A95969AA6AA," +
+            "0105111541455155565A666A969AA6AA," +
+            "0115164546515255565A666A969AA6AAAB," +
+            "1545545556595A65696A95999AA9AA," +
+            "0515455556595A6566696A9596999AAA," +
+            "0515455556595A666A969AAA," +
+            "05151645465556595A666A969AAAAB," +
+            "0405141544455455595A696A999AA9AA," +
+            "0515455556595A696A999AAA," +
+            "0515455556595A6A9AAA," +
+            "05151645465556595A5B6A9AAAAB," +
+            "0415194549545558595A696A999AA9AAAE," +
+            "05151945495556595A696A999AAAAE," +
+            "05151945495556595A5E6A9AAAAE," +
+            "05151A454A5556595A5B5E6A9AAAABAEAF," +
+            "1551545556596566696A95A5A6A9AA," +
+            "1115515556595A6566696A9596A5A6AA," +
+            "11155155565A65666A96A6AA," +
+            "111516515255565A65666A96A6AAAB," +
+            "1415545556595A6566696A9599A5A9AA," +
+            "155556595A6566696A959AA6A9AA," +
+            "155556595A6566696A969AA6AAAB," +
+            "151655565A666A6B969AA6AAAB," +
+            "14155455595A65696A99A9AA," +
+            "155556595A6566696A999AA9AAAE," +
+            "155556595A6566696A9AAA," +
+            "15165556595A666A6B9AAAAB," +
+            "141519545558595A65696A99A9AAAE," +
+            "151955595A696A6E999AA9AAAE," +
+            "15195556595A696A6E9AAAAE," +
+            "151A5556595A6A6B6E9AAAABAEAF," +
+            "10111415505154556566696AA5A6A9AA," +
+            "11155155566566696AA5A6AA," +
+            "111551555665666AA6AA," +
+            "111516515255566566676AA6AAAB," +
+            "14155455596566696AA5A9AA," +
+            "155556595A6566696AA5A6A9AABA," +
+            "155556595A6566696AA6AA," +
+            "151655565A65666A6BA6AAAB," +
+            "141554555965696AA9AA," +
+            "155556595A6566696AA9AA," +
+            "155556595A6566696AAA," +
+            "15165556595A6566696A6BAAAB," +
+            "1415195455585965696A6DA9AAAE," +
+            "151955595A65696A6EA9AAAE," +
+            "15195556595A6566696A6EAAAE," +
+            "155556595A66696A6B6E9AAAABAEAF," +
+            "10152551545561646566696AA5A6A9AABA," +
+            "111525515556616566696AA5A6AABA," +
+            "1115255155566165666A76A6AABA," +
+            "111526515556626566676A76A6AAABBABB," +
+            "141525545559646566696AA5A9AABA," +
+            "1525556566696A7AA5A6A9AABA," +
+            "152555566566696A7AA6AABA," +
+            "1526555665666A6B7AA6AAABBABB," +
+            "1415255455596465696A79A9AABA," +
+            "152555596566696A7AA9AABA," +
+            "15255556595A6566696A7AAABA," +
+            "1555565A6566696A6B7AA6AAABBABB," +
+            "1415295455596568696A6D79A9AAAEBABE," +
+            "1529555965696A6E7AA9AAAEBABE," +
+            "1555595A6566696A6E7AA9AAAEBABE," +
+            "155556595A6566696A6B6E7AAAABAEBABF," +
+            "455154555659659596999AA5A6A9AA," +
+            "4145515556595A65669596999AA5A6AA," +
+            "41455155565A6695969AA6AA," +
+            "414546515255565A6695969AA6AAAB," +
+            "4445545556595A65699596999AA5A9AA," +
+            "455556595A656A9596999AA6A9AA," +
+            "455556595A666A9596999AA6AAAB," +
+            "454655565A666A969A9BA6AAAB," +
+            "44455455595A6995999AA9AA," +
+            "455556595A696A9596999AA9AAAE," +
+            "455556595A6A9596999AAA," +
+            "45465556595A6A969A9BAAAB," +
+            "444549545558595A6995999AA9AAAE," +
+            "454955595A696A999A9EA9AAAE," +
+            "45495556595A6A999A9EAAAE," +
+            "454A5556595A6A9A9B9EAAABAEAF," +
+            "505154555659656669959699A5A6A9AA," +
+            "5155565965666A95969AA5A6A9AA," +
+            "5155565A65666A95969AA5A6AAAB," +
+            "515255565A666A969AA6A7AAAB," +
+            "5455565965696A95999AA5A6A9AA," +
+            "5556595A6566696A9596999AA5A6A9AA," +
+            "1545515556595A65666A95969AA6AAAB," +
+            "55565A666A969AA6AAAB," +
+            "5455595A65696A95999AA5A9AAAE," +
+            "1545545556595A65696A95999AA9AAAE," +
+            "15455556595A6566696A9596999AA6A9AAABAE," +
+            "5556595A666A969AA6AAAB," +
+            "545558595A696A999AA9AAADAE," +
+            "55595A696A999AA9AAAE," +
+            "5556595A696A999AA9AAAE," +
+            "5556595A6A9AAAABAEAF," +
+            "5051545565666995A5A6A9AA," +
+            "5155566566696A9596A5A6A9AABA," +
+            "51555665666A9596A5A6AA," +
+            "5152555665666A96A6A7AAAB," +
+            "5455596566696A9599A5A6A9AABA," +
+            "1551545556596566696A95A5A6A9AABA," +
+            "15515556595A6566696A95969AA5A6A9AAABBA," +
+            "55565A65666A969AA6AAAB," +
+            "54555965696A9599A5A9AA," +
+            "15545556595A6566696A95999AA5A6A9AAAEBA," +
+            "155556595A6566696A9AA6A9AA," +
+            "155556595A6566696A969AA6AAAB," +
+            "5455585965696A99A9AAADAE," +
+            "55595A65696A999AA9AAAE," +
+            "155556595A6566696A999AA9AAAE," +
+            "155556595A66696A9AAAABAEAF," +
+            "50515455616465666995A5A6A9AABA," +
+            "5155616566696AA5A6A9AAB6BA," +
+            "5155566165666AA5A6AAB6BA," +
+            "5155566265666AA6A7AAABB6BABB," +
+            "5455646566696AA5A6A9AAB9BA," +
+            "556566696AA5A6A9AABA," +
+            "55566566696AA5A6A9AABA," +
+            "555665666AA6AAABBABB," +
+            "5455596465696AA5A9AAB9BA," +
+            "55596566696AA5A6A9AABA," +
+            "155556595A6566696AA5A6A9AABA," +
+            "1555565A6566696AA6AAABBABB," +
+            "5455596568696AA9AAADAEB9BABE," +
+            "555965696AA9AAAEBABE," +
+            "1555595A6566696AA9AAAEBABE," +
+            "5556595A6566696AAAABAEBABF," +
+            "40414445505154559596999AA5A6A9AA," +
+            "41455155569596999AA5A6AA," +
+            "414551555695969AA6AA," +
+            "414546515255569596979AA6AAAB," +
+            "44455455599596999AA5A9AA," +
+            "455556595A9596999AA5A6A9AAEA," +
+            "455556595A9596999AA6AA," +
+            "454655565A95969A9BA6AAAB," +
+            "444554555995999AA9AA," +
+            "455556595A9596999AA9AA," +
+            "455556595A9596999AAA," +
+            "45465556595A9596999A9BAAAB," +
+            "4445495455585995999A9DA9AAAE," +
+            "454955595A95999A9EA9AAAE," +
+            "45495556595A9596999A9EAAAE," +
+            "455556595A6A96999A9B9EAAABAEAF," +
+            "5051545565959699A5A6A9AA," +
+            "51555665669596999AA5A6A9AAEA," +
+            "515556656695969AA5A6AA," +
+            "515255566695969AA6A7AAAB," +
+            "54555965699596999AA5A6A9AAEA," +
+            "455154555659659596999AA5A6A9AAEA," +
+            "45515556595A65666A9596999AA5A6A9AAABEA," +
+            "55565A666A95969AA6AAAB," +
+            "545559656995999AA5A9AA," +
+            "45545556595A65696A9596999AA5A6A9AAAEEA," +
+            "455556595A6A9596999AA6A9AA," +
+            "455556595A666A9596999AA6AAAB," +
+            "545558596995999AA9AAADAE," +
+            "55595A696A95999AA9AAAE," +
+            "455556595A696A9596999AA9AAAE," +
+            "455556595A6A96999AAAABAEAF," +
+            "505154556595A5A6A9AA," +
+            "51555665669596A5A6A9AA," +
+            "51555665669596A5A6AA," +
+            "5152555665669596A5A6A7AAAB," +
+            "54555965699599A5A6A9AA," +
+            "51545556596566696A9596999AA5A6A9AABAEA," +
+            "51555665666A95969AA5A6A9AA," +
+            "5155565A65666A95969AA5A6AAAB," +
+            "54555965699599A5A9AA," +
+            "54555965696A95999AA5A6A9AA," +
+            "5556595A6566696A9596999AA5A6A9AA," +
+            "5556595A65666A95969AA6A9AAAB," +
+            "5455585965699599A5A9AAADAE," +
+            "5455595A65696A95999AA5A9AAAE," +
+            "5556595A65696A95999AA6A9AAAE," +
+            "5556595A66696A96999AA6A9AAABAEAF," +
+            "5051545561646595A5A6A9AAB5BA," +
+            "515561656695A5A6A9AAB6BA," +
+            "5155566165669596A5A6AAB6BA," +
+            "51555665666A96A5A6A7AAABB6BABB," +
+            "545564656995A5A6A9AAB9BA," +
+            "556566696A95A5A6A9AABA," +
+            "5155566566696A9596A5A6A9AABA," +
+            "51555665666A96A5A6AAABBABB," +
+            "5455596465699599A5A9AAB9BA," +
+            "5455596566696A9599A5A6A9AABA," +
+            "5556596566696A959AA5A6A9AABA," +
+            "55565A6566696A969AA5A6A9AAABBABB," +
+            "54555965696A99A5A9AAADAEB9BABE," +
+            "54555965696A99A5A9AAAEBABE," +
+            "55595A6566696A999AA5A6A9AAAEBABE," +
+            "5556595A6566696A9AA6A9AAABAEBA," +
+            "40455154558591949596999AA5A6A9AAEA," +
+            "414551555685919596999AA5A6AAEA," +
+            "4145515556859195969AA6AAD6EA," +
+            "414551555686929596979AA6AAABD6EAEB," +
+            "444554555985949596999AA5A9AAEA," +
+            "4555859596999AA5A6A9AADAEA," +
+            "455556859596999AA6AADAEA," +
+            "4555568695969A9BA6AAABDAEAEB," +
+            "4445545559859495999AA9AAD9EA," +
+            "455559859596999AA9AADAEA," +
+            "455556595A859596999AAADAEA," +
+            "4555565A9596999A9BA6AAABDAEAEB," +
+            "4445545559899598999A9DA9AAAED9EAEE," +
+            "4555598995999A9EA9AAAEDAEAEE," +
+            "4555595A9596999A9EA9AAAEDAEAEE," +
+            "455556595A9596999A9B9EAAABAEDAEAEF," +
+            "50515455659194959699A5A6A9AAEA," +
+            "5155919596999AA5A6A9AAE6EA," +
+            "5155569195969AA5A6AAE6EA," +
+            "5155569295969AA6A7AAABE6EAEB," +
+            "5455949596999AA5A6A9AAE9EA," +
+            "559596999AA5A6A9AAEA," +
+            "55569596999AA5A6A9AAEA," +
+            "555695969AA6AAABEAEB," +
+            "5455599495999AA5A9AAE9EA," +
+            "55599596999AA5A6A9AAEA," +
+            "455556595A9596999AA5A6A9AAEA," +
+            "4555565A9596999AA6AAABEAEB," +
+            "5455599598999AA9AAADAEE9EAEE," +
+            "555995999AA9AAAEEAEE," +
+            "4555595A9596999AA9AAAEEAEE," +
+            "5556595A9596999AAAABAEEAEF," +
+            "5051545565919495A5A6A9AAE5EA," +
+            "515565919596A5A6A9AAE6EA," +
+            "5155566566919596A5A6AAE6EA," +
+            "5155566695969AA5A6A7AAABE6EAEB," +
+            "545565949599A5A6A9AAE9EA," +
+            "55659596999AA5A6A9AAEA," +
+            "51555665669596999AA5A6A9AAEA," +
+            "5155566695969AA5A6AAABEAEB," +
+            "5455596569949599A5A9AAE9EA," +
+            "54555965699596999AA5A6A9AAEA," +
+            "555659656A9596999AA5A6A9AAEA," +
+            "55565A666A9596999AA5A6A9AAABEAEB," +
+            "5455596995999AA5A9AAADAEE9EAEE," +
+            "5455596995999AA5A9AAAEEAEE," +
+            "55595A696A9596999AA5A6A9AAAEEAEE," +
+            "5556595A6A9596999AA6A9AAABAEEA," +
+            "505154556595A1A4A5A6A9AAB5BAE5EAFA," +
+            "51556595A1A5A6A9AAB6BAE6EAFA," +
+            "515565669596A5A6A9AAB6BAE6EAFA," +
+            "51555665669596A5A6A7AAABB6BAE6EAFB," +
+            "54556595A4A5A6A9AAB9BAE9EAFA," +
+            "556595A5A6A9AABAEAFA," +
+            "515565669596A5A6A9AABAEAFA," +
+            "555665669596A5A6AAABBAEAFB," +
+            "545565699599A5A6A9AAB9BAE9EAFA," +
+            "545565699599A5A6A9AABAEAFA," +
+            "556566696A9596999AA5A6A9AABAEAFA," +
+            "555665666A95969AA5A6A9AAABBAEA," +
+            "54555965699599A5A9AAADAEB9BAE9EAFE," +
+            "555965699599A5A9AAAEBAEAFE," +
+            "555965696A95999AA5A6A9AAAEBAEA," +
+            "5556595A6566696A9596999AA5A6A9AAABAEBAEA,";
+
+        static final float[] GRADIENTS_4D = new float[N_GRADS_4D * 4];
+        // The start and stop index of each lookup cell within LOOKUP_4D_B, packed as start | stop << 16.
+        static final int[] LOOKUP_4D_A = new int[256];
+        // The lattice vertex codes of the lookup cells, a code holds the vertex offset + 1 of each axis in 2 bits.
+        static final byte[] LOOKUP_4D_B = new byte[(LOOKUP_4D_VERTEX_CODES.length() - 256) / 2];
+        // The displacements of the lattice vertices, one array per axis indexed like LOOKUP_4D_B,
+        // so the range check of a lookup cell reads each of them contiguously.
+        static final float[] LOOKUP_4D_DX = new float[LOOKUP_4D_B.length];
+        static final float[] LOOKUP_4D_DY = new float[LOOKUP_4D_B.length];
+        static final float[] LOOKUP_4D_DZ = new float[LOOKUP_4D_B.length];
+        static final float[] LOOKUP_4D_DW = new float[LOOKUP_4D_B.length];
+        // The prime multiples of all 256 vertex codes, with the 4 components of a code next to each other.
+        static final long[] VERTEX_PRIMES_4D = new long[256 * 4];
+
+        static {
+            float[] grad4 = {
+                -0.6740059517812944f,   -0.3239847771997537f,   -0.3239847771997537f,    0.5794684678643381f,
+                -0.7504883828755602f,   -0.4004672082940195f,    0.15296486218853164f,   0.5029860367700724f,
+                -0.7504883828755602f,    0.15296486218853164f,  -0.4004672082940195f,    0.5029860367700724f,
+                -0.8828161875373585f,    0.08164729285680945f,   0.08164729285680945f,   0.4553054119602712f,
+                -0.4553054119602712f,   -0.08164729285680945f,  -0.08164729285680945f,   0.8828161875373585f,
+                -0.5029860367700724f,   -0.15296486218853164f,   0.4004672082940195f,    0.7504883828755602f,
+                -0.5029860367700724f,    0.4004672082940195f,   -0.15296486218853164f,   0.7504883828755602f,
+                -0.5794684678643381f,    0.3239847771997537f,    0.3239847771997537f,    0.6740059517812944f,
+                -0.6740059517812944f,   -0.3239847771997537f,    0.5794684678643381f,   -0.3239847771997537f,
+                -0.7504883828755602f,   -0.4004672082940195f,    0.5029860367700724f,    0.15296486218853164f,
+                -0.7504883828755602f,    0.15296486218853164f,   0.5029860367700724f,   -0.4004672082940195f,
+                -0.8828161875373585f,    0.08164729285680945f,   0.4553054119602712f,    0.08164729285680945f,
+                -0.4553054119602712f,   -0.08164729285680945f,   0.8828161875373585f,   -0.08164729285680945f,
+                -0.5029860367700724f,   -0.15296486218853164f,   0.7504883828755602f,    0.4004672082940195f,
+                -0.5029860367700724f,    0.4004672082940195f,    0.7504883828755602f,   -0.15296486218853164f,
+                -0.5794684678643381f,    0.3239847771997537f,    0.6740059517812944f,    0.3239847771997537f,
+                -0.6740059517812944f,    0.5794684678643381f,   -0.3239847771997537f,   -0.3239847771997537f,
+                -0.7504883828755602f,    0.5029860367700724f,   -0.4004672082940195f,    0.15296486218853164f,
+                -0.7504883828755602f,    0.5029860367700724f,    0.15296486218853164f,  -0.4004672082940195f,
+                -0.8828161875373585f,    0.4553054119602712f,    0.08164729285680945f,   0.08164729285680945f,
+                -0.4553054119602712f,    0.8828161875373585f,   -0.08164729285680945f,  -0.08164729285680945f,
+                -0.5029860367700724f,    0.7504883828755602f,   -0.15296486218853164f,   0.4004672082940195f,
+                -0.5029860367700724f,    0.7504883828755602f,    0.4004672082940195f,   -0.15296486218853164f,
+                -0.5794684678643381f,    0.6740059517812944f,    0.3239847771997537f,    0.3239847771997537f,
+                0.5794684678643381f,   -0.6740059517812944f,   -0.3239847771997537f,   -0.3239847771997537f,
+                0.5029860367700724f,   -0.7504883828755602f,   -0.4004672082940195f,    0.15296486218853164f,
+                0.5029860367700724f,   -0.7504883828755602f,    0.15296486218853164f,  -0.4004672082940195f,
+                0.4553054119602712f,   -0.8828161875373585f,    0.08164729285680945f,   0.08164729285680945f,
+                0.8828161875373585f,   -0.4553054119602712f,   -0.08164729285680945f,  -0.08164729285680945f,
+                0.7504883828755602f,   -0.5029860367700724f,   -0.15296486218853164f,   0.4004672082940195f,
+                0.7504883828755602f,   -0.5029860367700724f,    0.4004672082940195f,   -0.15296486218853164f,
+                0.6740059517812944f,   -0.5794684678643381f,    0.3239847771997537f,    0.3239847771997537f,
+                //------------------------------------------------------------------------------------------//
+                -0.753341017856078f,    -0.37968289875261624f,  -0.37968289875261624f,  -0.37968289875261624f,
+                -0.7821684431180708f,   -0.4321472685365301f,   -0.4321472685365301f,    0.12128480194602098f,
+                -0.7821684431180708f,   -0.4321472685365301f,    0.12128480194602098f,  -0.4321472685365301f,
+                -0.7821684431180708f,    0.12128480194602098f,  -0.4321472685365301f,   -0.4321472685365301f,
+                -0.8586508742123365f,   -0.508629699630796f,     0.044802370851755174f,  0.044802370851755174f,
+                -0.8586508742123365f,    0.044802370851755174f, -0.508629699630796f,     0.044802370851755174f,
+                -0.8586508742123365f,    0.044802370851755174f,  0.044802370851755174f, -0.508629699630796f,
+                -0.9982828964265062f,   -0.03381941603233842f,  -0.03381941603233842f,  -0.03381941603233842f,
+                -0.37968289875261624f,  -0.753341017856078f,    -0.37968289875261624f,  -0.37968289875261624f,
+                -0.4321472685365301f,   -0.7821684431180708f,   -0.4321472685365301f,    0.12128480194602098f,
+                -0.4321472685365301f,   -0.7821684431180708f,    0.12128480194602098f,  -0.4321472685365301f,
+                0.12128480194602098f,  -0.7821684431180708f,   -0.4321472685365301f,   -0.4321472685365301f,
+                -0.508629699630796f,    -0.8586508742123365f,    0.044802370851755174f,  0.044802370851755174f,
+                0.044802370851755174f, -0.8586508742123365f,   -0.508629699630796f,     0.044802370851755174f,
+                0.044802370851755174f, -0.8586508742123365f,    0.044802370851755174f, -0.508629699630796f,
+                -0.03381941603233842f,  -0.9982828964265062f,   -0.03381941603233842f,  -0.03381941603233842f,
+                -0.37968289875261624f,  -0.37968289875261624f,  -0.753341017856078f,    -0.37968289875261624f,
+                -0.4321472685365301f,   -0.4321472685365301f,   -0.7821684431180708f,    0.12128480194602098f,
+                -0.4321472685365301f,    0.12128480194602098f,  -0.7821684431180708f,   -0.4321472685365301f,
+                0.12128480194602098f,  -0.4321472685365301f,   -0.7821684431180708f,   -0.4321472685365301f,
+                -0.508629699630796f,     0.044802370851755174f, -0.8586508742123365f,    0.044802370851755174f,
+                0.044802370851755174f, -0.508629699630796f,    -0.8586508742123365f,    0.044802370851755174f,
+                0.044802370851755174f,  0.044802370851755174f, -0.8586508742123365f,   -0.508629699630796f,
+                -0.03381941603233842f,  -0.03381941603233842f,  -0.9982828964265062f,   -0.03381941603233842f,
+                -0.37968289875261624f,  -0.37968289875261624f,  -0.37968289875261624f,  -0.753341017856078f,
+                -0.4321472685365301f,   -0.4321472685365301f,    0.12128480194602098f,  -0.7821684431180708f,
+                -0.4321472685365301f,    0.12128480194602098f,  -0.4321472685365301f,   -0.7821684431180708f,
+                0.12128480194602098f,  -0.4321472685365301f,   -0.4321472685365301f,   -0.7821684431180708f,
+                -0.508629699630796f,     0.044802370851755174f,  0.044802370851755174f, -0.8586508742123365f,
+                0.044802370851755174f, -0.508629699630796f,     0.044802370851755174f, -0.8586508742123365f,
+                0.044802370851755174f,  0.044802370851755174f, -0.508629699630796f,    -0.8586508742123365f,
+                -0.03381941603233842f,  -0.03381941603233842f,  -0.03381941603233842f,  -0.9982828964265062f,
+                -0.3239847771997537f,   -0.6740059517812944f,   -0.3239847771997537f,    0.5794684678643381f,
+                -0.4004672082940195f,   -0.7504883828755602f,    0.15296486218853164f,   0.5029860367700724f,
+                0.15296486218853164f,  -0.7504883828755602f,   -0.4004672082940195f,    0.5029860367700724f,
+                0.08164729285680945f,  -0.8828161875373585f,    0.08164729285680945f,   0.4553054119602712f,
+                -0.08164729285680945f,  -0.4553054119602712f,   -0.08164729285680945f,   0.8828161875373585f,
+                -0.15296486218853164f,  -0.5029860367700724f,    0.4004672082940195f,    0.7504883828755602f,
+                0.4004672082940195f,   -0.5029860367700724f,   -0.15296486218853164f,   0.7504883828755602f,
+                0.3239847771997537f,   -0.5794684678643381f,    0.3239847771997537f,    0.6740059517812944f,
+                -0.3239847771997537f,   -0.3239847771997537f,   -0.6740059517812944f,    0.5794684678643381f,
+                -0.4004672082940195f,    0.15296486218853164f,  -0.7504883828755602f,    0.5029860367700724f,
+                0.15296486218853164f,  -0.4004672082940195f,   -0.7504883828755602f,    0.5029860367700724f,
+                0.08164729285680945f,   0.08164729285680945f,  -0.8828161875373585f,    0.4553054119602712f,
+                -0.08164729285680945f,  -0.08164729285680945f,  -0.4553054119602712f,    0.8828161875373585f,
+                -0.15296486218853164f,   0.4004672082940195f,   -0.5029860367700724f,    0.7504883828755602f,
+                0.4004672082940195f,   -0.15296486218853164f,  -0.5029860367700724f,    0.7504883828755602f,
+                0.3239847771997537f,    0.3239847771997537f,   -0.5794684678643381f,    0.6740059517812944f,
+                -0.3239847771997537f,   -0.6740059517812944f,    0.5794684678643381f,   -0.3239847771997537f,
+                -0.4004672082940195f,   -0.7504883828755602f,    0.5029860367700724f,    0.15296486218853164f,
+                0.15296486218853164f,  -0.7504883828755602f,    0.5029860367700724f,   -0.4004672082940195f,
+                0.08164729285680945f,  -0.8828161875373585f,    0.4553054119602712f,    0.08164729285680945f,
+                -0.08164729285680945f,  -0.4553054119602712f,    0.8828161875373585f,   -0.08164729285680945f,
+                -0.15296486218853164f,  -0.5029860367700724f,    0.7504883828755602f,    0.4004672082940195f,
+                0.4004672082940195f,   -0.5029860367700724f,    0.7504883828755602f,   -0.15296486218853164f,
+                0.3239847771997537f,   -0.5794684678643381f,    0.6740059517812944f,    0.3239847771997537f,
+                -0.3239847771997537f,   -0.3239847771997537f,    0.5794684678643381f,   -0.6740059517812944f,
+                -0.4004672082940195f,    0.15296486218853164f,   0.5029860367700724f,   -0.7504883828755602f,
+                0.15296486218853164f,  -0.4004672082940195f,    0.5029860367700724f,   -0.7504883828755602f,
+                0.08164729285680945f,   0.08164729285680945f,   0.4553054119602712f,   -0.8828161875373585f,
+                -0.08164729285680945f,  -0.08164729285680945f,   0.8828161875373585f,   -0.4553054119602712f,
+                -0.15296486218853164f,   0.4004672082940195f,    0.7504883828755602f,   -0.5029860367700724f,
+                0.4004672082940195f,   -0.15296486218853164f,   0.7504883828755602f,   -0.5029860367700724f,
+                0.3239847771997537f,    0.3239847771997537f,    0.6740059517812944f,   -0.5794684678643381f,
+                -0.3239847771997537f,    0.5794684678643381f,   -0.6740059517812944f,   -0.3239847771997537f,
+                -0.4004672082940195f,    0.5029860367700724f,   -0.7504883828755602f,    0.15296486218853164f,
+                0.15296486218853164f,   0.5029860367700724f,   -0.7504883828755602f,   -0.4004672082940195f,
+                0.08164729285680945f,   0.4553054119602712f,   -0.8828161875373585f,    0.08164729285680945f,
+                -0.08164729285680945f,   0.8828161875373585f,   -0.4553054119602712f,   -0.08164729285680945f,
+                -0.15296486218853164f,   0.7504883828755602f,   -0.5029860367700724f,    0.4004672082940195f,
+                0.4004672082940195f,    0.7504883828755602f,   -0.5029860367700724f,   -0.15296486218853164f,
+                0.3239847771997537f,    0.6740059517812944f,   -0.5794684678643381f,    0.3239847771997537f,
+                -0.3239847771997537f,    0.5794684678643381f,   -0.3239847771997537f,   -0.6740059517812944f,
+                -0.4004672082940195f,    0.5029860367700724f,    0.15296486218853164f,  -0.7504883828755602f,
+                0.15296486218853164f,   0.5029860367700724f,   -0.4004672082940195f,   -0.7504883828755602f,
+                0.08164729285680945f,   0.4553054119602712f,    0.08164729285680945f,  -0.8828161875373585f,
+                -0.08164729285680945f,   0.8828161875373585f,   -0.08164729285680945f,  -0.4553054119602712f,
+                -0.15296486218853164f,   0.7504883828755602f,    0.4004672082940195f,   -0.5029860367700724f,
+                0.4004672082940195f,    0.7504883828755602f,   -0.15296486218853164f,  -0.5029860367700724f,
+                0.3239847771997537f,    0.6740059517812944f,    0.3239847771997537f,   -0.5794684678643381f,
+                0.5794684678643381f,   -0.3239847771997537f,   -0.6740059517812944f,   -0.3239847771997537f,
+                0.5029860367700724f,   -0.4004672082940195f,   -0.7504883828755602f,    0.15296486218853164f,
+                0.5029860367700724f,    0.15296486218853164f,  -0.7504883828755602f,   -0.4004672082940195f,
+                0.4553054119602712f,    0.08164729285680945f,  -0.8828161875373585f,    0.08164729285680945f,
+                0.8828161875373585f,   -0.08164729285680945f,  -0.4553054119602712f,   -0.08164729285680945f,
+                0.7504883828755602f,   -0.15296486218853164f,  -0.5029860367700724f,    0.4004672082940195f,
+                0.7504883828755602f,    0.4004672082940195f,   -0.5029860367700724f,   -0.15296486218853164f,
+                0.6740059517812944f,    0.3239847771997537f,   -0.5794684678643381f,    0.3239847771997537f,
+                0.5794684678643381f,   -0.3239847771997537f,   -0.3239847771997537f,   -0.6740059517812944f,
+                0.5029860367700724f,   -0.4004672082940195f,    0.15296486218853164f,  -0.7504883828755602f,
+                0.5029860367700724f,    0.15296486218853164f,  -0.4004672082940195f,   -0.7504883828755602f,
+                0.4553054119602712f,    0.08164729285680945f,   0.08164729285680945f,  -0.8828161875373585f,
+                0.8828161875373585f,   -0.08164729285680945f,  -0.08164729285680945f,  -0.4553054119602712f,
+                0.7504883828755602f,   -0.15296486218853164f,   0.4004672082940195f,   -0.5029860367700724f,
+                0.7504883828755602f,    0.4004672082940195f,   -0.15296486218853164f,  -0.5029860367700724f,
+                0.6740059517812944f,    0.3239847771997537f,    0.3239847771997537f,   -0.5794684678643381f,
+                0.03381941603233842f,   0.03381941603233842f,   0.03381941603233842f,   0.9982828964265062f,
+                -0.044802370851755174f, -0.044802370851755174f,  0.508629699630796f,     0.8586508742123365f,
+                -0.044802370851755174f,  0.508629699630796f,    -0.044802370851755174f,  0.8586508742123365f,
+                -0.12128480194602098f,   0.4321472685365301f,    0.4321472685365301f,    0.7821684431180708f,
+                0.508629699630796f,    -0.044802370851755174f, -0.044802370851755174f,  0.8586508742123365f,
+                0.4321472685365301f,   -0.12128480194602098f,   0.4321472685365301f,    0.7821684431180708f,
+                0.4321472685365301f,    0.4321472685365301f,   -0.12128480194602098f,   0.7821684431180708f,
+                0.37968289875261624f,   0.37968289875261624f,   0.37968289875261624f,   0.753341017856078f,
+                0.03381941603233842f,   0.03381941603233842f,   0.9982828964265062f,    0.03381941603233842f,
+                -0.044802370851755174f,  0.044802370851755174f,  0.8586508742123365f,    0.508629699630796f,
+                -0.044802370851755174f,  0.508629699630796f,     0.8586508742123365f,   -0.044802370851755174f,
+                -0.12128480194602098f,   0.4321472685365301f,    0.7821684431180708f,    0.4321472685365301f,
+                0.508629699630796f,    -0.044802370851755174f,  0.8586508742123365f,   -0.044802370851755174f,
+                0.4321472685365301f,   -0.12128480194602098f,   0.7821684431180708f,    0.4321472685365301f,
+                0.4321472685365301f,    0.4321472685365301f,    0.7821684431180708f,   -0.12128480194602098f,
+                0.37968289875261624f,   0.37968289875261624f,   0.753341017856078f,     0.37968289875261624f,
+                0.03381941603233842f,   0.9982828964265062f,    0.03381941603233842f,   0.03381941603233842f,
+                -0.044802370851755174f,  0.8586508742123365f,   -0.044802370851755174f,  0.508629699630796f,
+                -0.044802370851755174f,  0.8586508742123365f,    0.508629699630796f,    -0.044802370851755174f,
+                -0.12128480194602098f,   0.7821684431180708f,    0.4321472685365301f,    0.4321472685365301f,
+                0.508629699630796f,     0.8586508742123365f,   -0.044802370851755174f, -0.044802370851755174f,
+                0.4321472685365301f,    0.7821684431180708f,   -0.12128480194602098f,   0.4321472685365301f,
+                0.4321472685365301f,    0.7821684431180708f,    0.4321472685365301f,   -0.12128480194602098f,
+                0.37968289875261624f,   0.753341017856078f,     0.37968289875261624f,   0.37968289875261624f,
+                0.9982828964265062f,    0.03381941603233842f,   0.03381941603233842f,   0.03381941603233842f,
+                0.8586508742123365f,   -0.044802370851755174f, -0.044802370851755174f,  0.508629699630796f,
+                0.8586508742123365f,   -0.044802370851755174f,  0.508629699630796f,    -0.044802370851755174f,
+                0.7821684431180708f,   -0.12128480194602098f,   0.4321472685365301f,    0.4321472685365301f,
+                0.8586508742123365f,    0.508629699630796f,    -0.044802370851755174f, -0.044802370851755174f,
+                0.7821684431180708f,    0.4321472685365301f,   -0.12128480194602098f,   0.4321472685365301f,
+                0.7821684431180708f,    0.4321472685365301f,    0.4321472685365301f,   -0.12128480194602098f,
+                0.753341017856078f,     0.37968289875261624f,   0.37968289875261624f,   0.37968289875261624f,
+            };
+            for (int i = 0; i < grad4.length; i++) {
+                grad4[i] = (float)(grad4[i] / NORMALIZER_4D);
+            }
+            for (int i = 0, j = 0; i < GRADIENTS_4D.length; i++, j++) {
+                if (j == grad4.length) j = 0;
+                GRADIENTS_4D[i] = grad4[j];
+            }
+
+            for (int i = 0, j = 0, c = 0; i < 256; i++, c++) {
+                int start = j;
+                for (; LOOKUP_4D_VERTEX_CODES.charAt(c) != ','; c += 2) {
+                    int code = Integer.parseInt(LOOKUP_4D_VERTEX_CODES, c, c + 2, 16);
+                    int xsv = ((code >> 0) & 3) - 1;
+                    int ysv = ((code >> 2) & 3) - 1;
+                    int zsv = ((code >> 4) & 3) - 1;
+                    int wsv = ((code >> 6) & 3) - 1;
+                    float ssv = (xsv + ysv + zsv + wsv) * UNSKEW_4D;
+                    LOOKUP_4D_B[j] = (byte) code;
+                    LOOKUP_4D_DX[j] = -xsv - ssv;
+                    LOOKUP_4D_DY[j] = -ysv - ssv;
+                    LOOKUP_4D_DZ[j] = -zsv - ssv;
+                    LOOKUP_4D_DW[j] = -wsv - ssv;
+                    j++;
+                }
+                LOOKUP_4D_A[i] = start | (j << 16);
+            }
+            for (int i = 0; i < 256; i++) {
+                VERTEX_PRIMES_4D[(i << 2) | 0] = (((i >> 0) & 3) - 1) * PRIME_X;
+                VERTEX_PRIMES_4D[(i << 2) | 1] = (((i >> 2) & 3) - 1) * PRIME_Y;
+                VERTEX_PRIMES_4D[(i << 2) | 2] = (((i >> 4) & 3) - 1) * PRIME_Z;
+                VERTEX_PRIMES_4D[(i << 2) | 3] = (((i >> 6) & 3) - 1) * PRIME_W;
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package de.articdive.jnoise.generators.noisegen.opensimplex;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Exposes the normalized gradient tables of the OpenSimplex2 generators,
+ * so that implementations outside of this package, e.g. ones using the Vector API, can reproduce their results exactly.
+ * <p>
+ * A 2D gradient index {@code gi} selects {@code (table[gi], table[gi | 1])},
+ * a 3D gradient index selects {@code (table[gi], table[gi | 1], table[gi | 2])}.
+ * Every method returns a new copy of the table.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class OpenSimplexGradients {
+    private OpenSimplexGradients() {
+
+    }
+
+    /**
+     * Gets the 2D gradients of the {@link FastSimplexNoiseGenerator}.
+     *
+     * @return 128 gradients with 2 components each.
+     */
+    public static float[] fast2D() {
+        return OpenSimplex2F.GRADIENTS_2D.clone();
+    }
+
+    /**
+     * Gets the 3D gradients of the {@link FastSimplexNoiseGenerator}.
+     *
+     * @return 256 gradients with 3 components each, padded to 4 components.
+     */
+    public static float[] fast3D() {
+        return OpenSimplex2F.GRADIENTS_3D.clone();
+    }
+
+    /**
+     * Gets the 2D gradients of the {@link SuperSimplexNoiseGenerator}.
+     *
+     * @return 128 gradients with 2 components each.
+     */
+    public static float[] super2D() {
+        return OpenSimplex2S.Tables2D.GRADIENTS_2D.clone();
+    }
+
+}
@@ -0,0 +1,147 @@
+package de.articdive.jnoise.generators.noisegen.opensimplex;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.util.BoundsUtil;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Bounds the OpenSimplex2 generators within boxes by their Lipschitz constants,
+ * i.e. a value differs from the value at the center of the box by at most the slope times the distance to the center.
+ * The noise is a sum of the kernels a^4 * (g . d) of the vertices around a point, with the falloff a = r^2 - |d|^2 of the displacement d.
+ * The gradient of a kernel is a^4 * g - 8 * a^3 * (g . d) * d, its magnitude is largest when d is parallel or orthogonal to g,
+ * which bounds it by |g| * max(a^4, a^3 * |9 * a - 8 * r^2|), i.e. by |g| * r^8.
+ * The slope of the noise is at most the sum of these over the vertices which can lie within the radius of a point at once.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class SimplexBounds {
+    // The lattices are indexed by ints, beyond this the skewed coordinates may overflow them.
+    private static final double MAX_COORDINATE = 0x1p30;
+
+    private SimplexBounds() {
+
+    }
+
+    /**
+     * Gets the length of the longest gradient of a gradient table.
+     *
+     * @param gradients  gradient table.
+     * @param stride     number of entries per gradient.
+     * @param dimensions number of components per gradient.
+     * @return the largest |g| of the gradient table.
+     */
+    static double longestGradient(float[] gradients, int stride, int dimensions) {
+        double longest = 0;
+        for (int i = 0; i < gradients.length; i += stride) {
+            double lengthSquared = 0;
+            for (int j = 0; j < dimensions; j++) {
+                lengthSquared += (double) gradients[i + j] * gradients[i + j];
+            }
+            longest = Math.max(longest, lengthSquared);
+        }
+        return Math.sqrt(longest);
+    }
+
+    /**
+     * Bounds the slope of the kernel of a single vertex.
+     *
+     * @param gradient   length of the longest gradient, see {@link #longestGradient(float[], int, int)}.
+     * @param rSquared   squared radius r^2 of the kernel.
+     * @param maxFalloff largest falloff a the vertex can have while it contributes.
+     * @return the largest magnitude of the gradient of the kernel.
+     */
+    static double kernelSlope(double gradient, double rSquared, double maxFalloff) {
+        double a = Math.min(maxFalloff, rSquared);
+        // a^3 * (8 * r^2 - 9 * a) increases up to a = 2 * r^2 / 3, above 8 * r^2 / 9 it is smaller than a^4.
+        double b = Math.min(a, 2 * rSquared / 3);
+        return gradient * Math.max(a * a * a * a, b * b * b * (8 * rSquared - 9 * b));
+    }
+
+    /**
+     * Bounds the magnitude of the kernel of a single vertex, i.e. a^4 * |g| * |d|.
+     *
+     * @param gradient   length of the longest gradient, see {@link #longestGradient(float[], int, int)}.
+     * @param rSquared   squared radius r^2 of the kernel.
+     * @param maxFalloff largest falloff a the vertex can have while it contributes.
+     * @return the largest magnitude of the kernel.
+     */
+    static double kernelValue(double gradient, double rSquared, double maxFalloff) {
+        // a^4 * sqrt(r^2 - a) increases up to a = 8 * r^2 / 9.
+        double a = Math.min(Math.min(maxFalloff, rSquared), 8 * rSquared / 9);
+        return gradient * a * a * a * a * Math.sqrt(rSquared - a);
+    }
+
+    /**
+     * Bounds the values within a 2D box by the value at its center.
+     *
+     * @param center value at the center of the box, see {@link #center(double, double)}.
+     * @param minX   smallest X-Coordinate of the box.
+     * @param minY   smallest Y-Coordinate of the box.
+     * @param maxX   largest X-Coordinate of the box.
+     * @param maxY   largest Y-Coordinate of the box.
+     * @param slope  Lipschitz constant of the noise.
+     * @param margin additional deviation, e.g. for rounding errors.
+     * @param limits bounds of the whole generator.
+     * @return {@link NoiseBounds} containing every value within the box.
+     */
+    static NoiseBounds bounds2D(
+        double center,
+        double minX, double minY, double maxX, double maxY,
+        double slope, double margin, NoiseBounds limits
+    ) {
+        double halfX = (maxX - minX) / 2;
+        double halfY = (maxY - minY) / 2;
+        double deviation = slope * Math.sqrt(halfX * halfX + halfY * halfY) + margin;
+        return BoundsUtil.widen(NoiseBounds.of(center, center), deviation, limits);
+    }
+
+    /**
+     * Bounds the values within a 3D box by the value at its center.
+     *
+     * @param center value at the center of the box, see {@link #center(double, double)}.
+     * @param minX   smallest X-Coordinate of the box.
+     * @param minY   smallest Y-Coordinate of the box.
+     * @param minZ   smallest Z-Coordinate of the box.
+     * @param maxX   largest X-Coordinate of the box.
+     * @param maxY   largest Y-Coordinate of the box.
+     * @param maxZ   largest Z-Coordinate of the box.
+     * @param slope  Lipschitz constant of the noise.
+     * @param margin additional deviation, e.g. for rounding errors.
+     * @param limits bounds of the whole generator.
+     * @return {@link NoiseBounds} containing every value within the box.
+     */
+    static NoiseBounds bounds3D(
+        double center,
+        double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+        double slope, double margin, NoiseBounds limits
+    ) {
+        double halfX = (maxX - minX) / 2;
+        double halfY = (maxY - minY) / 2;
+        double halfZ = (maxZ - minZ) / 2;
+        double deviation = slope * Math.sqrt(halfX * halfX + halfY * halfY + halfZ * halfZ) + margin;
+        return BoundsUtil.widen(NoiseBounds.of(center, center), deviation, limits);
+    }
+
+    /**
+     * Checks whether a range of coordinates can be bounded, i.e. it is finite and not empty.
+     *
+     * @param min smallest coordinate of the range.
+     * @param max largest coordinate of the range.
+     * @return true if the values within the range can be bounded.
+     */
+    static boolean isBoundable(double min, double max) {
+        return min <= max && Math.abs(min) < MAX_COORDINATE && Math.abs(max) < MAX_COORDINATE;
+    }
+
+    /**
+     * Gets the center of a range of coordinates.
+     *
+     * @param min smallest coordinate of the range.
+     * @param max largest coordinate of the range.
+     * @return the coordinate in the middle of the range.
+     */
+    static double center(double min, double max) {
+        return min + (max - min) / 2;
+    }
+}
@@ -1,20 +1,34 @@
 package de.articdive.jnoise.generators.noisegen.opensimplex;
 
-import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
+import de.articdive.jnoise.core.api.noisegen.SeededExplicitNoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.RegionUtil;
 import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
 import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
 import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex4DVariant;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.Arrays;
+
 /**
  * Uses KdotJPG's the super variant of OpenSimplex2 Noise located at <a href=https://github.com/KdotJPG/OpenSimplex2>https://github.com/KdotJPG/OpenSimplex2</a>.
  * The bounds of SuperOpenSimplex2 Noise are: [-1, 1].
+ * Its {@link DerivativeNoiseResult}s carry the partial derivatives, computed analytically from the kernel of every lattice vertex.
  *
  * @author Articdive
  */
 @NullMarked
-public final class SuperSimplexNoiseGenerator implements SeededNoiseGenerator {
+public final class SuperSimplexNoiseGenerator implements SeededExplicitNoiseGenerator<DerivativeNoiseResult>, Definable {
+    // The nominal bounds are [-1, 1], the single precision evaluation exceeds them by rounding errors.
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(-1.001, 1.001);
+    // Boxes are bounded by the Lipschitz constants derived from the kernels,
+    // widened by the seams of the 3D lattices and the rounding errors of the single precision evaluation.
+    private static final double ROUNDING = 0.0001;
+
     private final long seed;
     private final Simplex2DVariant variant2D;
     private final Simplex3DVariant variant3D;
@@ -86,11 +100,280 @@ public final class SuperSimplexNoiseGenerator implements SeededNoiseGenerator {
         return evaluateNoise(x, y, z, w, seed);
     }
 
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, long seed) {
+        double[] derivatives = new double[2];
+        double value = OpenSimplex2S.noise2(seed, x, 1.0, derivatives);
+        return new DerivativeNoiseResult(value, new double[]{derivatives[0]});
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, long seed) {
+        double[] derivatives = new double[2];
+        double value = switch (variant2D) {
+            case IMPROVE_X -> OpenSimplex2S.noise2_ImproveX(seed, x, y, derivatives);
+            case CLASSIC -> OpenSimplex2S.noise2(seed, x, y, derivatives);
+        };
+        return new DerivativeNoiseResult(value, derivatives);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, long seed) {
+        double[] derivatives = new double[3];
+        double value = switch (variant3D) {
+            case IMPROVE_XY -> OpenSimplex2S.noise3_ImproveXY(seed, x, y, z, derivatives);
+            case IMPROVE_XZ -> OpenSimplex2S.noise3_ImproveXZ(seed, x, y, z, derivatives);
+            case CLASSIC -> OpenSimplex2S.noise3_Fallback(seed, x, y, z, derivatives);
+        };
+        return new DerivativeNoiseResult(value, derivatives);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w, long seed) {
+        double[] derivatives = new double[4];
+        double value = switch (variant4D) {
+            case IMPROVE_XY_IMPROVE_ZW -> OpenSimplex2S.noise4_ImproveXY_ImproveZW(seed, x, y, z, w, derivatives);
+            case IMPROVE_XYZ_IMPROVE_XZ -> OpenSimplex2S.noise4_ImproveXYZ_ImproveXZ(seed, x, y, z, w, derivatives);
+            case IMPROVE_XYZ_IMPROVE_XY -> OpenSimplex2S.noise4_ImproveXYZ_ImproveXY(seed, x, y, z, w, derivatives);
+            case IMRPOVE_XYZ -> OpenSimplex2S.noise4_ImproveXYZ(seed, x, y, z, w, derivatives);
+            case CLASSIC -> OpenSimplex2S.noise4_Fallback(seed, x, y, z, w, derivatives);
+        };
+        return new DerivativeNoiseResult(value, derivatives);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x) {
+        return evaluateNoiseResult(x, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y) {
+        return evaluateNoiseResult(x, y, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z) {
+        return evaluateNoiseResult(x, y, z, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w) {
+        return evaluateNoiseResult(x, y, z, w, seed);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return BOUNDS;
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY, long seed) {
+        if (!SimplexBounds.isBoundable(minX, maxX) || !SimplexBounds.isBoundable(minY, maxY)) {
+            return BOUNDS;
+        }
+        double center = evaluateNoise(SimplexBounds.center(minX, maxX), SimplexBounds.center(minY, maxY), seed);
+        return SimplexBounds.bounds2D(center, minX, minY, maxX, maxY, OpenSimplex2S.slope2D(), ROUNDING, BOUNDS);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, long seed) {
+        if (!SimplexBounds.isBoundable(minX, maxX) || !SimplexBounds.isBoundable(minY, maxY) || !SimplexBounds.isBoundable(minZ, maxZ)) {
+            return BOUNDS;
+        }
+        double center = evaluateNoise(
+            SimplexBounds.center(minX, maxX), SimplexBounds.center(minY, maxY), SimplexBounds.center(minZ, maxZ), seed
+        );
+        return SimplexBounds.bounds3D(
+            center, minX, minY, minZ, maxX, maxY, maxZ, OpenSimplex2S.slope3D(), OpenSimplex2S.seams3D() + ROUNDING, BOUNDS
+        );
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        // Rows are evaluated in batches, which select the variant once per row instead of once per sample.
+        double[] x = RegionUtil.coordinates(x0, dx, nx);
+        double[] y = new double[nx];
+        float[] row = new float[nx];
+        for (int j = 0; j < ny; j++) {
+            Arrays.fill(y, y0 + j * dy);
+            OpenSimplex2S.noise2(seed, variant2D, x, y, row, 0, nx);
+            widen(row, out, nx * j);
+        }
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        // The noise is computed with single precision, so it is written without narrowing.
+        double[] x = RegionUtil.coordinates(x0, dx, nx);
+        double[] y = new double[nx];
+        for (int j = 0; j < ny; j++) {
+            Arrays.fill(y, y0 + j * dy);
+            OpenSimplex2S.noise2(seed, variant2D, x, y, out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        double[] x = RegionUtil.coordinates(x0, dx, nx);
+        double[] y = new double[nx];
+        double[] z = new double[nx];
+        float[] row = new float[nx];
+        for (int k = 0; k < nz; k++) {
+            Arrays.fill(z, z0 + k * dz);
+            for (int j = 0; j < ny; j++) {
+                Arrays.fill(y, y0 + j * dy);
+                OpenSimplex2S.noise3(seed, variant3D, x, y, z, row, 0, nx);
+                widen(row, out, nx * (j + ny * k));
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        double[] x = RegionUtil.coordinates(x0, dx, nx);
+        double[] y = new double[nx];
+        double[] z = new double[nx];
+        for (int k = 0; k < nz; k++) {
+            Arrays.fill(z, z0 + k * dz);
+            for (int j = 0; j < ny; j++) {
+                Arrays.fill(y, y0 + j * dy);
+                OpenSimplex2S.noise3(seed, variant3D, x, y, z, out, nx * (j + ny * k), nx);
+            }
+        }
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz, nw);
+        double[] x = RegionUtil.coordinates(x0, dx, nx);
+        double[] y = new double[nx];
+        double[] z = new double[nx];
+        double[] w = new double[nx];
+        float[] row = new float[nx];
+        for (int l = 0; l < nw; l++) {
+            Arrays.fill(w, w0 + l * dw);
+            for (int k = 0; k < nz; k++) {
+                Arrays.fill(z, z0 + k * dz);
+                for (int j = 0; j < ny; j++) {
+                    Arrays.fill(y, y0 + j * dy);
+                    OpenSimplex2S.noise4(seed, variant4D, x, y, z, w, row, 0, nx);
+                    widen(row, out, nx * (j + ny * (k + nz * l)));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz, nw);
+        double[] x = RegionUtil.coordinates(x0, dx, nx);
+        double[] y = new double[nx];
+        double[] z = new double[nx];
+        double[] w = new double[nx];
+        for (int l = 0; l < nw; l++) {
+            Arrays.fill(w, w0 + l * dw);
+            for (int k = 0; k < nz; k++) {
+                Arrays.fill(z, z0 + k * dz);
+                for (int j = 0; j < ny; j++) {
+                    Arrays.fill(y, y0 + j * dy);
+                    OpenSimplex2S.noise4(seed, variant4D, x, y, z, w, out, nx * (j + ny * (k + nz * l)), nx);
+                }
+            }
+        }
+    }
+
     @Override
     public long getSeed() {
         return seed;
     }
 
+    /**
+     * Gets the {@link Simplex2DVariant} used by this {@link SuperSimplexNoiseGenerator}.
+     *
+     * @return the {@link Simplex2DVariant} used for 2D noise.
+     */
+    public Simplex2DVariant getVariant2D() {
+        return variant2D;
+    }
+
+    /**
+     * Gets the {@link Simplex3DVariant} used by this {@link SuperSimplexNoiseGenerator}.
+     *
+     * @return the {@link Simplex3DVariant} used for 3D noise.
+     */
+    public Simplex3DVariant getVariant3D() {
+        return variant3D;
+    }
+
+    /**
+     * Gets the {@link Simplex4DVariant} used by this {@link SuperSimplexNoiseGenerator}.
+     *
+     * @return the {@link Simplex4DVariant} used for 4D noise.
+     */
+    public Simplex4DVariant getVariant4D() {
+        return variant4D;
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        double[] x = RegionUtil.latticeCoordinates(x0, spacing, nx);
+        double[] y = new double[nx];
+        float[] row = new float[nx];
+        for (int j = 0; j < ny; j++) {
+            Arrays.fill(y, (y0 + j) * spacing);
+            OpenSimplex2S.noise2(seed, variant2D, x, y, row, 0, nx);
+            widen(row, out, nx * j);
+        }
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        double[] x = RegionUtil.latticeCoordinates(x0, spacing, nx);
+        double[] y = new double[nx];
+        double[] z = new double[nx];
+        float[] row = new float[nx];
+        for (int k = 0; k < nz; k++) {
+            Arrays.fill(z, (z0 + k) * spacing);
+            for (int j = 0; j < ny; j++) {
+                Arrays.fill(y, (y0 + j) * spacing);
+                OpenSimplex2S.noise3(seed, variant3D, x, y, z, row, 0, nx);
+                widen(row, out, nx * (j + ny * k));
+            }
+        }
+    }
+
+    private static void widen(float[] row, double[] out, int offset) {
+        for (int i = 0; i < row.length; i++) {
+            out[offset + i] = row[i];
+        }
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("superSimplex")
+            .setLong("seed", seed)
+            .setConstant("variant2D", Simplex2DVariant.class, variant2D)
+            .setConstant("variant3D", Simplex3DVariant.class, variant3D)
+            .setConstant("variant4D", Simplex4DVariant.class, variant4D)
+            .build();
+    }
+
     /**
      * Gets a {@link SuperSimplexNoiseBuilder} to build a {@link SuperSimplexNoiseGenerator}.
      *
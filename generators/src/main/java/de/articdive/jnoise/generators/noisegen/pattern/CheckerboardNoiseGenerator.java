@@ -1,7 +1,11 @@
 package de.articdive.jnoise.generators.noisegen.pattern;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.noisegen.NoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.RegionUtil;
 import org.jspecify.annotations.NullMarked;
 
 /**
@@ -11,7 +15,9 @@ import org.jspecify.annotations.NullMarked;
  * @author Articdive
  */
 @NullMarked
-public final class CheckerboardNoiseGenerator implements NoiseGenerator {
+public final class CheckerboardNoiseGenerator implements NoiseGenerator, Definable {
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(0, 1);
+
     private CheckerboardNoiseGenerator() {
 
     }
@@ -46,6 +52,90 @@ public final class CheckerboardNoiseGenerator implements NoiseGenerator {
         return ((iX & 1) ^ (iY & 1) ^ (iZ & 1) ^ (iW & 1)) != 0 ? 0.0 : 1.0;
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        return BOUNDS;
+    }
+
+    @Override
+    public double evaluateLattice(long x, double spacing) {
+        return (RegionUtil.latticeFloor(x, spacing) & 1) != 0 ? 0.0 : 1.0;
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        long parity = RegionUtil.latticeFloor(x, spacing) ^ RegionUtil.latticeFloor(y, spacing);
+        return (parity & 1) != 0 ? 0.0 : 1.0;
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        long parity = RegionUtil.latticeFloor(x, spacing) ^ RegionUtil.latticeFloor(y, spacing) ^ RegionUtil.latticeFloor(z, spacing);
+        return (parity & 1) != 0 ? 0.0 : 1.0;
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, long w, double spacing) {
+        long parity = RegionUtil.latticeFloor(x, spacing) ^ RegionUtil.latticeFloor(y, spacing)
+            ^ RegionUtil.latticeFloor(z, spacing) ^ RegionUtil.latticeFloor(w, spacing);
+        return (parity & 1) != 0 ? 0.0 : 1.0;
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCells2D(out, RegionUtil.cells(x0, dx, nx), RegionUtil.cells(y0, dy, ny));
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCells3D(out, RegionUtil.cells(x0, dx, nx), RegionUtil.cells(y0, dy, ny), RegionUtil.cells(z0, dz, nz));
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCells2D(out, RegionUtil.latticeCells(x0, spacing, nx), RegionUtil.latticeCells(y0, spacing, ny));
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCells3D(
+            out,
+            RegionUtil.latticeCells(x0, spacing, nx),
+            RegionUtil.latticeCells(y0, spacing, ny),
+            RegionUtil.latticeCells(z0, spacing, nz)
+        );
+    }
+
+    private static void fillCells2D(double[] out, long[] cellsX, long[] cellsY) {
+        int index = 0;
+        for (long cellY : cellsY) {
+            for (long cellX : cellsX) {
+                out[index++] = ((cellX ^ cellY) & 1) != 0 ? 0.0 : 1.0;
+            }
+        }
+    }
+
+    private static void fillCells3D(double[] out, long[] cellsX, long[] cellsY, long[] cellsZ) {
+        int index = 0;
+        for (long cellZ : cellsZ) {
+            for (long cellY : cellsY) {
+                long parityYZ = cellY ^ cellZ;
+                for (long cellX : cellsX) {
+                    out[index++] = ((cellX ^ parityYZ) & 1) != 0 ? 0.0 : 1.0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("checkerboard").build();
+    }
+
     /**
      * Gets a {@link CheckerboardNoiseBuilder} to build a {@link CheckerboardNoiseGenerator}.
      *
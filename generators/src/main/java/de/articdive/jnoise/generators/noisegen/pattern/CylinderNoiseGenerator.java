@@ -1,6 +1,9 @@
 package de.articdive.jnoise.generators.noisegen.pattern;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.noisegen.NoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import org.jspecify.annotations.NullMarked;
 
@@ -14,7 +17,9 @@ import org.jspecify.annotations.NullMarked;
  * @author Articdive
  */
 @NullMarked
-public final class CylinderNoiseGenerator implements NoiseGenerator {
+public final class CylinderNoiseGenerator implements NoiseGenerator, Definable {
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(0, 1);
+
     private CylinderNoiseGenerator() {
 
     }
@@ -54,6 +59,17 @@ public final class CylinderNoiseGenerator implements NoiseGenerator {
         return 1 - 2 * Math.min(distFromSmallerSphere, distFromLargerSphere);
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        // The distance to the nearest cylinder is at most 0.5.
+        return BOUNDS;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("cylinder").build();
+    }
+
     /**
      * Gets a {@link CylinderNoiseBuilder} to build a {@link CylinderNoiseGenerator}.
      *
@@ -1,6 +1,9 @@
 package de.articdive.jnoise.generators.noisegen.pattern;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.noisegen.NoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import org.jspecify.annotations.NullMarked;
 
@@ -11,7 +14,9 @@ import org.jspecify.annotations.NullMarked;
  * @author Articdive
  */
 @NullMarked
-public final class SphereNoiseGenerator implements NoiseGenerator {
+public final class SphereNoiseGenerator implements NoiseGenerator, Definable {
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(0, 1);
+
     private SphereNoiseGenerator() {
 
     }
@@ -56,6 +61,17 @@ public final class SphereNoiseGenerator implements NoiseGenerator {
         return 1 - 2 * Math.min(distFromSmallerSphere, distFromLargerSphere);
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        // The distance to the nearest sphere is at most 0.5.
+        return BOUNDS;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("sphere").build();
+    }
+
     /**
      * Gets a {@link SphereNoiseBuilder} to build a {@link SphereNoiseGenerator}.
      *
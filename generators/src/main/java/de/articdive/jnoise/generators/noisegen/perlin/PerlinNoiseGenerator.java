@@ -1,24 +1,31 @@
 package de.articdive.jnoise.generators.noisegen.perlin;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.functions.Interpolation;
-import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
+import de.articdive.jnoise.core.api.noisegen.SeededExplicitNoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.BoundsUtil;
 import de.articdive.jnoise.core.util.HashUtil;
+import de.articdive.jnoise.core.util.RegionUtil;
 import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
 import org.jspecify.annotations.NullMarked;
 
-import static de.articdive.jnoise.core.util.MathUtil.dot2D;
-import static de.articdive.jnoise.core.util.MathUtil.dot3D;
-import static de.articdive.jnoise.core.util.MathUtil.dot4D;
+import static de.articdive.jnoise.core.util.HashUtil.X_PRIME;
+import static de.articdive.jnoise.core.util.HashUtil.Y_PRIME;
+import static de.articdive.jnoise.core.util.HashUtil.Z_PRIME;
 
 /**
  * Based on Ken Perlin's implementation of Perlin Noise.
  * The bounds of this Perlin Noise implementation are: [-sqrt(n/2), sqrt(n/2)] (n being the dimension).
+ * Its {@link DerivativeNoiseResult}s carry the partial derivatives, computed analytically from the gradients and fade values.
  *
  * @author Articdive
  */
 @NullMarked
-public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
+public final class PerlinNoiseGenerator implements SeededExplicitNoiseGenerator<DerivativeNoiseResult>, Definable {
     private static final double[] VECTOR_1D = new double[]{
         1, -1
     };
@@ -65,6 +72,10 @@ public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
         new double[]{-1, 1, -1, 0}, new double[]{-1, -1, -1, 0}
     };
 
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(-4, 4);
+    // Boxes spanning more cells are bounded by the bounds of the whole generator.
+    private static final int MAX_BOUNDED_CELLS = 64;
+
     private final long seed;
     private final Interpolation interpolation;
     private final FadeFunction fadeFunction;
@@ -80,19 +91,12 @@ public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
         // Find unit square
         long iX = (long) Math.floor(x);
         // Find relative X,Y,Z in the unit cube (distance vector, also: local pixel position of the unit square.).
-        // Vector1D distanceVector = new Vector2D(x - iX);
         x -= iX;
+        // (VECTOR_1D.length - 1) = 1.
+        double dot0 = x * VECTOR_1D[HashUtil.hash1D(seed, iX) & 1];
+        double dot1 = (x - 1) * VECTOR_1D[HashUtil.hash1D(seed, iX + 1) & 1];
         // Compute fade values (fractal values for interpolation to remove artifacts)
-        double[] fractals = new double[]{
-            fadeFunction.fade(x),
-        };
-        double[] dots = new double[]{
-            // (VECTOR_1D.length - 1) = 1.
-            x * VECTOR_1D[HashUtil.hash1D(seed, iX) & 1],
-            (x - 1) * VECTOR_1D[HashUtil.hash1D(seed, iX + 1) & 1]
-        };
-
-        return interpolation.lerp(fractals, dots);
+        return interpolation.lerp(fadeFunction.fade(x), dot0, dot1);
     }
 
     @Override
@@ -101,23 +105,17 @@ public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
         long iX = (long) Math.floor(x);
         long iY = (long) Math.floor(y);
         // Find relative X,Y,Z in the unit cube (distance vector, also: local pixel position of the unit square.).
-        // Vector2D distanceVector = new Vector2D(x - iX,y - iY);
         x -= iX;
         y -= iY;
-        // Compute fade values (fractal values for interpolation to remove artifacts)
-        double[] fractals = new double[]{
-            fadeFunction.fade(x),
-            fadeFunction.fade(y)
-        };
-        double[] dots = new double[]{
-            // (VECTOR_2D.length - 1) = 7.
-            dot2D(new double[]{x, y}, VECTOR_2D[HashUtil.hash2D(seed, iX, iY) & 7]),
-            dot2D(new double[]{x - 1, y}, VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY) & 7]),
-            dot2D(new double[]{x, y - 1}, VECTOR_2D[HashUtil.hash2D(seed, iX, iY + 1) & 7]),
-            dot2D(new double[]{x - 1, y - 1}, VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY + 1) & 7]),
-        };
-
-        return interpolation.lerp(fractals, dots);
+        // (VECTOR_2D.length - 1) = 7.
+        return mix2D(
+            x, y,
+            fadeFunction.fade(x), fadeFunction.fade(y),
+            VECTOR_2D[HashUtil.hash2D(seed, iX, iY) & 7],
+            VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY) & 7],
+            VECTOR_2D[HashUtil.hash2D(seed, iX, iY + 1) & 7],
+            VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY + 1) & 7]
+        );
     }
 
     @Override
@@ -130,24 +128,19 @@ public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
         x -= iX;
         y -= iY;
         z -= iZ;
-        // Compute fade values (fractal values for interpolation to remove artifacts)
-        double[] fractals = new double[]{
-            fadeFunction.fade(x),
-            fadeFunction.fade(y),
-            fadeFunction.fade(z)
-        };
-        double[] dots = new double[]{
-            // (VECTOR_3D.length - 1) = 19.
-            dot3D(new double[]{x, y, z}, VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ) & 19]),
-            dot3D(new double[]{x - 1, y, z}, VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ) & 19]),
-            dot3D(new double[]{x, y - 1, z}, VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ) & 19]),
-            dot3D(new double[]{x - 1, y - 1, z}, VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ) & 19]),
-            dot3D(new double[]{x, y, z - 1}, VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ + 1) & 19]),
-            dot3D(new double[]{x - 1, y, z - 1}, VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ + 1) & 19]),
-            dot3D(new double[]{x, y - 1, z - 1}, VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ + 1) & 19]),
-            dot3D(new double[]{x - 1, y - 1, z - 1}, VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ + 1) & 19])
-        };
-        return interpolation.lerp(fractals, dots);
+        // (VECTOR_3D.length - 1) = 19.
+        return mix3D(
+            x, y, z,
+            fadeFunction.fade(x), fadeFunction.fade(y), fadeFunction.fade(z),
+            VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ + 1) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ + 1) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ + 1) & 19],
+            VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ + 1) & 19]
+        );
     }
 
     @Override
@@ -162,33 +155,54 @@ public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
         y -= iY;
         z -= iZ;
         w -= iW;
+        // (VECTOR_4D.length - 1) = 47.
+        double[] g0000 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ, iW) & 47];
+        double[] g1000 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ, iW) & 47];
+        double[] g0100 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ, iW) & 47];
+        double[] g1100 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ, iW) & 47];
+        double[] g0010 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ + 1, iW) & 47];
+        double[] g1010 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ + 1, iW) & 47];
+        double[] g0110 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ + 1, iW) & 47];
+        double[] g1110 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ + 1, iW) & 47];
+        double[] g0001 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ, iW + 1) & 47];
+        double[] g1001 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ, iW + 1) & 47];
+        double[] g0101 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ, iW + 1) & 47];
+        double[] g1101 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ, iW + 1) & 47];
+        double[] g0011 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ + 1, iW + 1) & 47];
+        double[] g1011 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ + 1, iW + 1) & 47];
+        double[] g0111 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ + 1, iW + 1) & 47];
+        double[] g1111 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ + 1, iW + 1) & 47];
+        double x1 = x - 1;
+        double y1 = y - 1;
+        double z1 = z - 1;
+        double w1 = w - 1;
         // Compute fade values (fractal values for interpolation to remove artifacts)
-        double[] fractals = new double[]{
-            fadeFunction.fade(x),
-            fadeFunction.fade(y),
-            fadeFunction.fade(z),
-            fadeFunction.fade(w)
-        };
-        double[] dots = new double[]{
-            // (VECTOR_4D.length - 1) = 19.
-            dot4D(new double[]{x, y, z, w}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ, iW) & 47]),
-            dot4D(new double[]{x - 1, y, z, w}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ, iW) & 47]),
-            dot4D(new double[]{x, y - 1, z, w}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ, iW) & 47]),
-            dot4D(new double[]{x - 1, y - 1, z, w}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ, iW) & 47]),
-            dot4D(new double[]{x, y, z - 1, w}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ + 1, iW) & 47]),
-            dot4D(new double[]{x - 1, y, z - 1, w}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ + 1, iW) & 47]),
-            dot4D(new double[]{x, y - 1, z - 1, w}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ + 1, iW) & 47]),
-            dot4D(new double[]{x - 1, y - 1, z - 1, w}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ + 1, iW) & 47]),
-            dot4D(new double[]{x, y, z, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ, iW + 1) & 47]),
-            dot4D(new double[]{x - 1, y, z, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ, iW + 1) & 47]),
-            dot4D(new double[]{x, y - 1, z, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ, iW + 1) & 47]),
-            dot4D(new double[]{x - 1, y - 1, z, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ, iW + 1) & 47]),
-            dot4D(new double[]{x, y, z - 1, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ + 1, iW + 1) & 47]),
-            dot4D(new double[]{x - 1, y, z - 1, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ + 1, iW + 1) & 47]),
-            dot4D(new double[]{x, y - 1, z - 1, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ + 1, iW + 1) & 47]),
-            dot4D(new double[]{x - 1, y - 1, z - 1, w - 1}, VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ + 1, iW + 1) & 47])
-        };
-        return interpolation.lerp(fractals, dots);
+        double fadeX = fadeFunction.fade(x);
+        double fadeY = fadeFunction.fade(y);
+        double fadeZ = fadeFunction.fade(z);
+        double fadeW = fadeFunction.fade(w);
+        // Multilinear interpolation, X first, then Y, Z and finally W.
+        double lowerW = interpolation.lerp(fadeZ,
+            interpolation.lerp(fadeY,
+                interpolation.lerp(fadeX, gradientDot4D(x, y, z, w, g0000), gradientDot4D(x1, y, z, w, g1000)),
+                interpolation.lerp(fadeX, gradientDot4D(x, y1, z, w, g0100), gradientDot4D(x1, y1, z, w, g1100))
+            ),
+            interpolation.lerp(fadeY,
+                interpolation.lerp(fadeX, gradientDot4D(x, y, z1, w, g0010), gradientDot4D(x1, y, z1, w, g1010)),
+                interpolation.lerp(fadeX, gradientDot4D(x, y1, z1, w, g0110), gradientDot4D(x1, y1, z1, w, g1110))
+            )
+        );
+        double upperW = interpolation.lerp(fadeZ,
+            interpolation.lerp(fadeY,
+                interpolation.lerp(fadeX, gradientDot4D(x, y, z, w1, g0001), gradientDot4D(x1, y, z, w1, g1001)),
+                interpolation.lerp(fadeX, gradientDot4D(x, y1, z, w1, g0101), gradientDot4D(x1, y1, z, w1, g1101))
+            ),
+            interpolation.lerp(fadeY,
+                interpolation.lerp(fadeX, gradientDot4D(x, y, z1, w1, g0011), gradientDot4D(x1, y, z1, w1, g1011)),
+                interpolation.lerp(fadeX, gradientDot4D(x, y1, z1, w1, g0111), gradientDot4D(x1, y1, z1, w1, g1111))
+            )
+        );
+        return interpolation.lerp(fadeW, lowerW, upperW);
     }
 
     @Override
@@ -211,11 +225,674 @@ public final class PerlinNoiseGenerator implements SeededNoiseGenerator {
         return evaluateNoise(x, y, z, w, seed);
     }
 
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, long seed) {
+        long iX = (long) Math.floor(x);
+        x -= iX;
+        // (VECTOR_1D.length - 1) = 1.
+        double g0 = VECTOR_1D[HashUtil.hash1D(seed, iX) & 1];
+        double g1 = VECTOR_1D[HashUtil.hash1D(seed, iX + 1) & 1];
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        // The corner values are linear in the distance vector, so their derivatives are the gradients.
+        double v0 = x * g0;
+        double v1 = (x - 1) * g1;
+        // Interpolation along X, which yields the value and its partial derivative.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeX, v0, v1), new double[]{
+            lerpAlong(fadeX, slopeX, v0, v1, g0, g1)
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, long seed) {
+        long iX = (long) Math.floor(x);
+        long iY = (long) Math.floor(y);
+        x -= iX;
+        y -= iY;
+        // (VECTOR_2D.length - 1) = 7.
+        double[] g00 = VECTOR_2D[HashUtil.hash2D(seed, iX, iY) & 7];
+        double[] g10 = VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY) & 7];
+        double[] g01 = VECTOR_2D[HashUtil.hash2D(seed, iX, iY + 1) & 7];
+        double[] g11 = VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY + 1) & 7];
+        double x1 = x - 1;
+        double y1 = y - 1;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        double fadeY = fadeFunction.fade(y);
+        double slopeY = fadeFunction.fadeDerivative(y);
+        // The corner values are linear in the distance vector, so their derivatives are the gradients.
+        double v00 = gradientDot2D(x, y, g00);
+        double v10 = gradientDot2D(x1, y, g10);
+        double v01 = gradientDot2D(x, y1, g01);
+        double v11 = gradientDot2D(x1, y1, g11);
+        // Interpolation along X.
+        double n0 = interpolation.lerp(fadeX, v00, v10);
+        double n0X = lerpAlong(fadeX, slopeX, v00, v10, g00[0], g10[0]);
+        double n0Y = interpolation.lerp(fadeX, g00[1], g10[1]);
+        double n1 = interpolation.lerp(fadeX, v01, v11);
+        double n1X = lerpAlong(fadeX, slopeX, v01, v11, g01[0], g11[0]);
+        double n1Y = interpolation.lerp(fadeX, g01[1], g11[1]);
+        // Interpolation along Y, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeY, n0, n1), new double[]{
+            interpolation.lerp(fadeY, n0X, n1X),
+            lerpAlong(fadeY, slopeY, n0, n1, n0Y, n1Y)
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, long seed) {
+        long iX = (long) Math.floor(x);
+        long iY = (long) Math.floor(y);
+        long iZ = (long) Math.floor(z);
+        x -= iX;
+        y -= iY;
+        z -= iZ;
+        // (VECTOR_3D.length - 1) = 19.
+        double[] g000 = VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ) & 19];
+        double[] g100 = VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ) & 19];
+        double[] g010 = VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ) & 19];
+        double[] g110 = VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ) & 19];
+        double[] g001 = VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ + 1) & 19];
+        double[] g101 = VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ + 1) & 19];
+        double[] g011 = VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ + 1) & 19];
+        double[] g111 = VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ + 1) & 19];
+        double x1 = x - 1;
+        double y1 = y - 1;
+        double z1 = z - 1;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        double fadeY = fadeFunction.fade(y);
+        double slopeY = fadeFunction.fadeDerivative(y);
+        double fadeZ = fadeFunction.fade(z);
+        double slopeZ = fadeFunction.fadeDerivative(z);
+        // The corner values are linear in the distance vector, so their derivatives are the gradients.
+        double v000 = gradientDot3D(x, y, z, g000);
+        double v100 = gradientDot3D(x1, y, z, g100);
+        double v010 = gradientDot3D(x, y1, z, g010);
+        double v110 = gradientDot3D(x1, y1, z, g110);
+        double v001 = gradientDot3D(x, y, z1, g001);
+        double v101 = gradientDot3D(x1, y, z1, g101);
+        double v011 = gradientDot3D(x, y1, z1, g011);
+        double v111 = gradientDot3D(x1, y1, z1, g111);
+        // Interpolation along X.
+        double n00 = interpolation.lerp(fadeX, v000, v100);
+        double n00X = lerpAlong(fadeX, slopeX, v000, v100, g000[0], g100[0]);
+        double n00Y = interpolation.lerp(fadeX, g000[1], g100[1]);
+        double n00Z = interpolation.lerp(fadeX, g000[2], g100[2]);
+        double n10 = interpolation.lerp(fadeX, v010, v110);
+        double n10X = lerpAlong(fadeX, slopeX, v010, v110, g010[0], g110[0]);
+        double n10Y = interpolation.lerp(fadeX, g010[1], g110[1]);
+        double n10Z = interpolation.lerp(fadeX, g010[2], g110[2]);
+        double n01 = interpolation.lerp(fadeX, v001, v101);
+        double n01X = lerpAlong(fadeX, slopeX, v001, v101, g001[0], g101[0]);
+        double n01Y = interpolation.lerp(fadeX, g001[1], g101[1]);
+        double n01Z = interpolation.lerp(fadeX, g001[2], g101[2]);
+        double n11 = interpolation.lerp(fadeX, v011, v111);
+        double n11X = lerpAlong(fadeX, slopeX, v011, v111, g011[0], g111[0]);
+        double n11Y = interpolation.lerp(fadeX, g011[1], g111[1]);
+        double n11Z = interpolation.lerp(fadeX, g011[2], g111[2]);
+        // Interpolation along Y.
+        double n0 = interpolation.lerp(fadeY, n00, n10);
+        double n0X = interpolation.lerp(fadeY, n00X, n10X);
+        double n0Y = lerpAlong(fadeY, slopeY, n00, n10, n00Y, n10Y);
+        double n0Z = interpolation.lerp(fadeY, n00Z, n10Z);
+        double n1 = interpolation.lerp(fadeY, n01, n11);
+        double n1X = interpolation.lerp(fadeY, n01X, n11X);
+        double n1Y = lerpAlong(fadeY, slopeY, n01, n11, n01Y, n11Y);
+        double n1Z = interpolation.lerp(fadeY, n01Z, n11Z);
+        // Interpolation along Z, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeZ, n0, n1), new double[]{
+            interpolation.lerp(fadeZ, n0X, n1X),
+            interpolation.lerp(fadeZ, n0Y, n1Y),
+            lerpAlong(fadeZ, slopeZ, n0, n1, n0Z, n1Z)
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w, long seed) {
+        long iX = (long) Math.floor(x);
+        long iY = (long) Math.floor(y);
+        long iZ = (long) Math.floor(z);
+        long iW = (long) Math.floor(w);
+        x -= iX;
+        y -= iY;
+        z -= iZ;
+        w -= iW;
+        // (VECTOR_4D.length - 1) = 47.
+        double[] g0000 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ, iW) & 47];
+        double[] g1000 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ, iW) & 47];
+        double[] g0100 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ, iW) & 47];
+        double[] g1100 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ, iW) & 47];
+        double[] g0010 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ + 1, iW) & 47];
+        double[] g1010 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ + 1, iW) & 47];
+        double[] g0110 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ + 1, iW) & 47];
+        double[] g1110 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ + 1, iW) & 47];
+        double[] g0001 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ, iW + 1) & 47];
+        double[] g1001 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ, iW + 1) & 47];
+        double[] g0101 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ, iW + 1) & 47];
+        double[] g1101 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ, iW + 1) & 47];
+        double[] g0011 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY, iZ + 1, iW + 1) & 47];
+        double[] g1011 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY, iZ + 1, iW + 1) & 47];
+        double[] g0111 = VECTOR_4D[HashUtil.hash4D(seed, iX, iY + 1, iZ + 1, iW + 1) & 47];
+        double[] g1111 = VECTOR_4D[HashUtil.hash4D(seed, iX + 1, iY + 1, iZ + 1, iW + 1) & 47];
+        double x1 = x - 1;
+        double y1 = y - 1;
+        double z1 = z - 1;
+        double w1 = w - 1;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        double fadeY = fadeFunction.fade(y);
+        double slopeY = fadeFunction.fadeDerivative(y);
+        double fadeZ = fadeFunction.fade(z);
+        double slopeZ = fadeFunction.fadeDerivative(z);
+        double fadeW = fadeFunction.fade(w);
+        double slopeW = fadeFunction.fadeDerivative(w);
+        // The corner values are linear in the distance vector, so their derivatives are the gradients.
+        double v0000 = gradientDot4D(x, y, z, w, g0000);
+        double v1000 = gradientDot4D(x1, y, z, w, g1000);
+        double v0100 = gradientDot4D(x, y1, z, w, g0100);
+        double v1100 = gradientDot4D(x1, y1, z, w, g1100);
+        double v0010 = gradientDot4D(x, y, z1, w, g0010);
+        double v1010 = gradientDot4D(x1, y, z1, w, g1010);
+        double v0110 = gradientDot4D(x, y1, z1, w, g0110);
+        double v1110 = gradientDot4D(x1, y1, z1, w, g1110);
+        double v0001 = gradientDot4D(x, y, z, w1, g0001);
+        double v1001 = gradientDot4D(x1, y, z, w1, g1001);
+        double v0101 = gradientDot4D(x, y1, z, w1, g0101);
+        double v1101 = gradientDot4D(x1, y1, z, w1, g1101);
+        double v0011 = gradientDot4D(x, y, z1, w1, g0011);
+        double v1011 = gradientDot4D(x1, y, z1, w1, g1011);
+        double v0111 = gradientDot4D(x, y1, z1, w1, g0111);
+        double v1111 = gradientDot4D(x1, y1, z1, w1, g1111);
+        // Interpolation along X.
+        double n000 = interpolation.lerp(fadeX, v0000, v1000);
+        double n000X = lerpAlong(fadeX, slopeX, v0000, v1000, g0000[0], g1000[0]);
+        double n000Y = interpolation.lerp(fadeX, g0000[1], g1000[1]);
+        double n000Z = interpolation.lerp(fadeX, g0000[2], g1000[2]);
+        double n000W = interpolation.lerp(fadeX, g0000[3], g1000[3]);
+        double n100 = interpolation.lerp(fadeX, v0100, v1100);
+        double n100X = lerpAlong(fadeX, slopeX, v0100, v1100, g0100[0], g1100[0]);
+        double n100Y = interpolation.lerp(fadeX, g0100[1], g1100[1]);
+        double n100Z = interpolation.lerp(fadeX, g0100[2], g1100[2]);
+        double n100W = interpolation.lerp(fadeX, g0100[3], g1100[3]);
+        double n010 = interpolation.lerp(fadeX, v0010, v1010);
+        double n010X = lerpAlong(fadeX, slopeX, v0010, v1010, g0010[0], g1010[0]);
+        double n010Y = interpolation.lerp(fadeX, g0010[1], g1010[1]);
+        double n010Z = interpolation.lerp(fadeX, g0010[2], g1010[2]);
+        double n010W = interpolation.lerp(fadeX, g0010[3], g1010[3]);
+        double n110 = interpolation.lerp(fadeX, v0110, v1110);
+        double n110X = lerpAlong(fadeX, slopeX, v0110, v1110, g0110[0], g1110[0]);
+        double n110Y = interpolation.lerp(fadeX, g0110[1], g1110[1]);
+        double n110Z = interpolation.lerp(fadeX, g0110[2], g1110[2]);
+        double n110W = interpolation.lerp(fadeX, g0110[3], g1110[3]);
+        double n001 = interpolation.lerp(fadeX, v0001, v1001);
+        double n001X = lerpAlong(fadeX, slopeX, v0001, v1001, g0001[0], g1001[0]);
+        double n001Y = interpolation.lerp(fadeX, g0001[1], g1001[1]);
+        double n001Z = interpolation.lerp(fadeX, g0001[2], g1001[2]);
+        double n001W = interpolation.lerp(fadeX, g0001[3], g1001[3]);
+        double n101 = interpolation.lerp(fadeX, v0101, v1101);
+        double n101X = lerpAlong(fadeX, slopeX, v0101, v1101, g0101[0], g1101[0]);
+        double n101Y = interpolation.lerp(fadeX, g0101[1], g1101[1]);
+        double n101Z = interpolation.lerp(fadeX, g0101[2], g1101[2]);
+        double n101W = interpolation.lerp(fadeX, g0101[3], g1101[3]);
+        double n011 = interpolation.lerp(fadeX, v0011, v1011);
+        double n011X = lerpAlong(fadeX, slopeX, v0011, v1011, g0011[0], g1011[0]);
+        double n011Y = interpolation.lerp(fadeX, g0011[1], g1011[1]);
+        double n011Z = interpolation.lerp(fadeX, g0011[2], g1011[2]);
+        double n011W = interpolation.lerp(fadeX, g0011[3], g1011[3]);
+        double n111 = interpolation.lerp(fadeX, v0111, v1111);
+        double n111X = lerpAlong(fadeX, slopeX, v0111, v1111, g0111[0], g1111[0]);
+        double n111Y = interpolation.lerp(fadeX, g0111[1], g1111[1]);
+        double n111Z = interpolation.lerp(fadeX, g0111[2], g1111[2]);
+        double n111W = interpolation.lerp(fadeX, g0111[3], g1111[3]);
+        // Interpolation along Y.
+        double n00 = interpolation.lerp(fadeY, n000, n100);
+        double n00X = interpolation.lerp(fadeY, n000X, n100X);
+        double n00Y = lerpAlong(fadeY, slopeY, n000, n100, n000Y, n100Y);
+        double n00Z = interpolation.lerp(fadeY, n000Z, n100Z);
+        double n00W = interpolation.lerp(fadeY, n000W, n100W);
+        double n10 = interpolation.lerp(fadeY, n010, n110);
+        double n10X = interpolation.lerp(fadeY, n010X, n110X);
+        double n10Y = lerpAlong(fadeY, slopeY, n010, n110, n010Y, n110Y);
+        double n10Z = interpolation.lerp(fadeY, n010Z, n110Z);
+        double n10W = interpolation.lerp(fadeY, n010W, n110W);
+        double n01 = interpolation.lerp(fadeY, n001, n101);
+        double n01X = interpolation.lerp(fadeY, n001X, n101X);
+        double n01Y = lerpAlong(fadeY, slopeY, n001, n101, n001Y, n101Y);
+        double n01Z = interpolation.lerp(fadeY, n001Z, n101Z);
+        double n01W = interpolation.lerp(fadeY, n001W, n101W);
+        double n11 = interpolation.lerp(fadeY, n011, n111);
+        double n11X = interpolation.lerp(fadeY, n011X, n111X);
+        double n11Y = lerpAlong(fadeY, slopeY, n011, n111, n011Y, n111Y);
+        double n11Z = interpolation.lerp(fadeY, n011Z, n111Z);
+        double n11W = interpolation.lerp(fadeY, n011W, n111W);
+        // Interpolation along Z.
+        double n0 = interpolation.lerp(fadeZ, n00, n10);
+        double n0X = interpolation.lerp(fadeZ, n00X, n10X);
+        double n0Y = interpolation.lerp(fadeZ, n00Y, n10Y);
+        double n0Z = lerpAlong(fadeZ, slopeZ, n00, n10, n00Z, n10Z);
+        double n0W = interpolation.lerp(fadeZ, n00W, n10W);
+        double n1 = interpolation.lerp(fadeZ, n01, n11);
+        double n1X = interpolation.lerp(fadeZ, n01X, n11X);
+        double n1Y = interpolation.lerp(fadeZ, n01Y, n11Y);
+        double n1Z = lerpAlong(fadeZ, slopeZ, n01, n11, n01Z, n11Z);
+        double n1W = interpolation.lerp(fadeZ, n01W, n11W);
+        // Interpolation along W, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeW, n0, n1), new double[]{
+            interpolation.lerp(fadeW, n0X, n1X),
+            interpolation.lerp(fadeW, n0Y, n1Y),
+            interpolation.lerp(fadeW, n0Z, n1Z),
+            lerpAlong(fadeW, slopeW, n0, n1, n0W, n1W)
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x) {
+        return evaluateNoiseResult(x, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y) {
+        return evaluateNoiseResult(x, y, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z) {
+        return evaluateNoiseResult(x, y, z, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w) {
+        return evaluateNoiseResult(x, y, z, w, seed);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        if (!Interpolation.isPredefined(interpolation) || !FadeFunction.isPredefined(fadeFunction)) {
+            return NoiseBounds.UNBOUNDED;
+        }
+        // Values are convex combinations of the dot products of the corner gradients with the distance vectors.
+        // Those have at most n components of magnitude 1, so the dot products are at most n, i.e. 4 in 4D.
+        return BOUNDS;
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY, long seed) {
+        NoiseBounds bounds = getBounds();
+        long cellsX = BoundsUtil.cellSpan(minX, maxX);
+        long cellsY = BoundsUtil.cellSpan(minY, maxY);
+        if (!bounds.isBounded() || cellsX > MAX_BOUNDED_CELLS || cellsY > MAX_BOUNDED_CELLS || cellsX * cellsY > MAX_BOUNDED_CELLS) {
+            return bounds;
+        }
+        long cellX0 = (long) Math.floor(minX);
+        long cellY0 = (long) Math.floor(minY);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (long iY = cellY0; iY < cellY0 + cellsY; iY++) {
+            // Relative coordinates within the part of the cell covered by the box.
+            double lowY = iY == cellY0 ? minY - iY : 0;
+            double highY = iY == cellY0 + cellsY - 1 ? maxY - iY : 1;
+            for (long iX = cellX0; iX < cellX0 + cellsX; iX++) {
+                double lowX = iX == cellX0 ? minX - iX : 0;
+                double highX = iX == cellX0 + cellsX - 1 ? maxX - iX : 1;
+                NoiseBounds cell = mixBounds2D(
+                    lowX, lowY, highX, highY,
+                    VECTOR_2D[HashUtil.hash2D(seed, iX, iY) & 7],
+                    VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY) & 7],
+                    VECTOR_2D[HashUtil.hash2D(seed, iX, iY + 1) & 7],
+                    VECTOR_2D[HashUtil.hash2D(seed, iX + 1, iY + 1) & 7]
+                );
+                min = Math.min(min, cell.getMin());
+                max = Math.max(max, cell.getMax());
+            }
+        }
+        return BoundsUtil.widen(NoiseBounds.of(min, max), BoundsUtil.ROUNDING_MARGIN, bounds);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, long seed) {
+        NoiseBounds bounds = getBounds();
+        long cellsX = BoundsUtil.cellSpan(minX, maxX);
+        long cellsY = BoundsUtil.cellSpan(minY, maxY);
+        long cellsZ = BoundsUtil.cellSpan(minZ, maxZ);
+        if (!bounds.isBounded() || cellsX > MAX_BOUNDED_CELLS || cellsY > MAX_BOUNDED_CELLS || cellsZ > MAX_BOUNDED_CELLS
+            || cellsX * cellsY * cellsZ > MAX_BOUNDED_CELLS) {
+            return bounds;
+        }
+        long cellX0 = (long) Math.floor(minX);
+        long cellY0 = (long) Math.floor(minY);
+        long cellZ0 = (long) Math.floor(minZ);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (long iZ = cellZ0; iZ < cellZ0 + cellsZ; iZ++) {
+            // Relative coordinates within the part of the cell covered by the box.
+            double lowZ = iZ == cellZ0 ? minZ - iZ : 0;
+            double highZ = iZ == cellZ0 + cellsZ - 1 ? maxZ - iZ : 1;
+            for (long iY = cellY0; iY < cellY0 + cellsY; iY++) {
+                double lowY = iY == cellY0 ? minY - iY : 0;
+                double highY = iY == cellY0 + cellsY - 1 ? maxY - iY : 1;
+                for (long iX = cellX0; iX < cellX0 + cellsX; iX++) {
+                    double lowX = iX == cellX0 ? minX - iX : 0;
+                    double highX = iX == cellX0 + cellsX - 1 ? maxX - iX : 1;
+                    NoiseBounds cell = mixBounds3D(
+                        lowX, lowY, lowZ, highX, highY, highZ,
+                        VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX, iY, iZ + 1) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY, iZ + 1) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX, iY + 1, iZ + 1) & 19],
+                        VECTOR_3D[HashUtil.hash3D(seed, iX + 1, iY + 1, iZ + 1) & 19]
+                    );
+                    min = Math.min(min, cell.getMin());
+                    max = Math.max(max, cell.getMax());
+                }
+            }
+        }
+        return BoundsUtil.widen(NoiseBounds.of(min, max), BoundsUtil.ROUNDING_MARGIN, bounds);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCoordinates2D(out, RegionUtil.coordinates(x0, dx, nx), RegionUtil.coordinates(y0, dy, ny));
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCoordinates2D(out, RegionUtil.latticeCoordinates(x0, spacing, nx), RegionUtil.latticeCoordinates(y0, spacing, ny));
+    }
+
+    private void fillCoordinates2D(double[] out, double[] coordinatesX, double[] coordinatesY) {
+        int nx = coordinatesX.length;
+        int ny = coordinatesY.length;
+        // Unit squares, relative positions and fade values along the X axis are shared by every row.
+        long[] cellsX = new long[nx];
+        double[] relativeX = new double[nx];
+        double[] fadesX = new double[nx];
+        prepareAxis(coordinatesX, cellsX, relativeX, fadesX);
+        int index = 0;
+        for (int j = 0; j < ny; j++) {
+            double y = coordinatesY[j];
+            long iY = (long) Math.floor(y);
+            y -= iY;
+            double fadeY = fadeFunction.fade(y);
+            long hashY0 = seed ^ (Y_PRIME * iY);
+            long hashY1 = seed ^ (Y_PRIME * (iY + 1));
+            // Gradients only change when the samples cross into the next unit square.
+            double[] g00 = VECTOR_2D[0];
+            double[] g10 = g00;
+            double[] g01 = g00;
+            double[] g11 = g00;
+            for (int i = 0; i < nx; i++) {
+                long iX = cellsX[i];
+                if (i == 0 || iX != cellsX[i - 1]) {
+                    long hashX0 = X_PRIME * iX;
+                    long hashX1 = X_PRIME * (iX + 1);
+                    g00 = VECTOR_2D[(int) HashUtil.finalizeHash(hashY0 ^ hashX0) & 7];
+                    g10 = VECTOR_2D[(int) HashUtil.finalizeHash(hashY0 ^ hashX1) & 7];
+                    g01 = VECTOR_2D[(int) HashUtil.finalizeHash(hashY1 ^ hashX0) & 7];
+                    g11 = VECTOR_2D[(int) HashUtil.finalizeHash(hashY1 ^ hashX1) & 7];
+                }
+                out[index++] = mix2D(relativeX[i], y, fadesX[i], fadeY, g00, g10, g01, g11);
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCoordinates3D(
+            out,
+            RegionUtil.coordinates(x0, dx, nx),
+            RegionUtil.coordinates(y0, dy, ny),
+            RegionUtil.coordinates(z0, dz, nz)
+        );
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCoordinates3D(
+            out,
+            RegionUtil.latticeCoordinates(x0, spacing, nx),
+            RegionUtil.latticeCoordinates(y0, spacing, ny),
+            RegionUtil.latticeCoordinates(z0, spacing, nz)
+        );
+    }
+
+    private void fillCoordinates3D(double[] out, double[] coordinatesX, double[] coordinatesY, double[] coordinatesZ) {
+        int nx = coordinatesX.length;
+        int ny = coordinatesY.length;
+        int nz = coordinatesZ.length;
+        // Unit cubes, relative positions and fade values along the X axis are shared by every row.
+        long[] cellsX = new long[nx];
+        double[] relativeX = new double[nx];
+        double[] fadesX = new double[nx];
+        prepareAxis(coordinatesX, cellsX, relativeX, fadesX);
+        int index = 0;
+        for (int k = 0; k < nz; k++) {
+            double z = coordinatesZ[k];
+            long iZ = (long) Math.floor(z);
+            z -= iZ;
+            double fadeZ = fadeFunction.fade(z);
+            long hashZ0 = Z_PRIME * iZ;
+            long hashZ1 = Z_PRIME * (iZ + 1);
+            for (int j = 0; j < ny; j++) {
+                double y = coordinatesY[j];
+                long iY = (long) Math.floor(y);
+                y -= iY;
+                double fadeY = fadeFunction.fade(y);
+                long hashY0 = seed ^ (Y_PRIME * iY);
+                long hashY1 = seed ^ (Y_PRIME * (iY + 1));
+                long hashY0Z0 = hashY0 ^ hashZ0;
+                long hashY1Z0 = hashY1 ^ hashZ0;
+                long hashY0Z1 = hashY0 ^ hashZ1;
+                long hashY1Z1 = hashY1 ^ hashZ1;
+                // Gradients only change when the samples cross into the next unit cube.
+                double[] g000 = VECTOR_3D[0];
+                double[] g100 = g000;
+                double[] g010 = g000;
+                double[] g110 = g000;
+                double[] g001 = g000;
+                double[] g101 = g000;
+                double[] g011 = g000;
+                double[] g111 = g000;
+                for (int i = 0; i < nx; i++) {
+                    long iX = cellsX[i];
+                    if (i == 0 || iX != cellsX[i - 1]) {
+                        long hashX0 = X_PRIME * iX;
+                        long hashX1 = X_PRIME * (iX + 1);
+                        g000 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY0Z0 ^ hashX0) & 19];
+                        g100 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY0Z0 ^ hashX1) & 19];
+                        g010 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY1Z0 ^ hashX0) & 19];
+                        g110 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY1Z0 ^ hashX1) & 19];
+                        g001 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY0Z1 ^ hashX0) & 19];
+                        g101 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY0Z1 ^ hashX1) & 19];
+                        g011 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY1Z1 ^ hashX0) & 19];
+                        g111 = VECTOR_3D[(int) HashUtil.finalizeHash(hashY1Z1 ^ hashX1) & 19];
+                    }
+                    out[index++] = mix3D(
+                        relativeX[i], y, z,
+                        fadesX[i], fadeY, fadeZ,
+                        g000, g100, g010, g110, g001, g101, g011, g111
+                    );
+                }
+            }
+        }
+    }
+
+    private double mix2D(
+        double x, double y,
+        double fadeX, double fadeY,
+        double[] g00, double[] g10, double[] g01, double[] g11
+    ) {
+        double x1 = x - 1;
+        double y1 = y - 1;
+        // Bilinear interpolation, X first, then Y.
+        return interpolation.lerp(fadeY,
+            interpolation.lerp(fadeX, gradientDot2D(x, y, g00), gradientDot2D(x1, y, g10)),
+            interpolation.lerp(fadeX, gradientDot2D(x, y1, g01), gradientDot2D(x1, y1, g11))
+        );
+    }
+
+    private double mix3D(
+        double x, double y, double z,
+        double fadeX, double fadeY, double fadeZ,
+        double[] g000, double[] g100, double[] g010, double[] g110,
+        double[] g001, double[] g101, double[] g011, double[] g111
+    ) {
+        double x1 = x - 1;
+        double y1 = y - 1;
+        double z1 = z - 1;
+        // Trilinear interpolation, X first, then Y and finally Z.
+        return interpolation.lerp(fadeZ,
+            interpolation.lerp(fadeY,
+                interpolation.lerp(fadeX, gradientDot3D(x, y, z, g000), gradientDot3D(x1, y, z, g100)),
+                interpolation.lerp(fadeX, gradientDot3D(x, y1, z, g010), gradientDot3D(x1, y1, z, g110))
+            ),
+            interpolation.lerp(fadeY,
+                interpolation.lerp(fadeX, gradientDot3D(x, y, z1, g001), gradientDot3D(x1, y, z1, g101)),
+                interpolation.lerp(fadeX, gradientDot3D(x, y1, z1, g011), gradientDot3D(x1, y1, z1, g111))
+            )
+        );
+    }
+
+    // Interpolates a partial derivative along the axis of the interpolation stage, whose position moves with the coordinate.
+    private double lerpAlong(double fade, double fadeDerivative, double a, double b, double aDerivative, double bDerivative) {
+        return interpolation.lerp(fade, aDerivative, bDerivative) + interpolation.lerpDerivative(fade, a, b) * fadeDerivative;
+    }
+
+    // Interval version of mix2D for the relative coordinates of a part of a cell.
+    private NoiseBounds mixBounds2D(
+        double lowX, double lowY, double highX, double highY,
+        double[] g00, double[] g10, double[] g01, double[] g11
+    ) {
+        double lowX1 = lowX - 1;
+        double lowY1 = lowY - 1;
+        double highX1 = highX - 1;
+        double highY1 = highY - 1;
+        double fadeLowX = fadeFunction.fade(lowX);
+        double fadeHighX = fadeFunction.fade(highX);
+        return BoundsUtil.lerp(interpolation, fadeFunction.fade(lowY), fadeFunction.fade(highY),
+            BoundsUtil.lerp(interpolation, fadeLowX, fadeHighX,
+                gradientDotBounds2D(lowX, lowY, highX, highY, g00), gradientDotBounds2D(lowX1, lowY, highX1, highY, g10)),
+            BoundsUtil.lerp(interpolation, fadeLowX, fadeHighX,
+                gradientDotBounds2D(lowX, lowY1, highX, highY1, g01), gradientDotBounds2D(lowX1, lowY1, highX1, highY1, g11))
+        );
+    }
+
+    // Interval version of mix3D for the relative coordinates of a part of a cell.
+    private NoiseBounds mixBounds3D(
+        double lowX, double lowY, double lowZ, double highX, double highY, double highZ,
+        double[] g000, double[] g100, double[] g010, double[] g110,
+        double[] g001, double[] g101, double[] g011, double[] g111
+    ) {
+        double lowX1 = lowX - 1;
+        double lowY1 = lowY - 1;
+        double lowZ1 = lowZ - 1;
+        double highX1 = highX - 1;
+        double highY1 = highY - 1;
+        double highZ1 = highZ - 1;
+        double fadeLowX = fadeFunction.fade(lowX);
+        double fadeHighX = fadeFunction.fade(highX);
+        double fadeLowY = fadeFunction.fade(lowY);
+        double fadeHighY = fadeFunction.fade(highY);
+        return BoundsUtil.lerp(interpolation, fadeFunction.fade(lowZ), fadeFunction.fade(highZ),
+            BoundsUtil.lerp(interpolation, fadeLowY, fadeHighY,
+                BoundsUtil.lerp(interpolation, fadeLowX, fadeHighX,
+                    gradientDotBounds3D(lowX, lowY, lowZ, highX, highY, highZ, g000),
+                    gradientDotBounds3D(lowX1, lowY, lowZ, highX1, highY, highZ, g100)),
+                BoundsUtil.lerp(interpolation, fadeLowX, fadeHighX,
+                    gradientDotBounds3D(lowX, lowY1, lowZ, highX, highY1, highZ, g010),
+                    gradientDotBounds3D(lowX1, lowY1, lowZ, highX1, highY1, highZ, g110))
+            ),
+            BoundsUtil.lerp(interpolation, fadeLowY, fadeHighY,
+                BoundsUtil.lerp(interpolation, fadeLowX, fadeHighX,
+                    gradientDotBounds3D(lowX, lowY, lowZ1, highX, highY, highZ1, g001),
+                    gradientDotBounds3D(lowX1, lowY, lowZ1, highX1, highY, highZ1, g101)),
+                BoundsUtil.lerp(interpolation, fadeLowX, fadeHighX,
+                    gradientDotBounds3D(lowX, lowY1, lowZ1, highX, highY1, highZ1, g011),
+                    gradientDotBounds3D(lowX1, lowY1, lowZ1, highX1, highY1, highZ1, g111))
+            )
+        );
+    }
+
+    // The dot products are linear, so their extremes are sums of the extremes of each term.
+    private static NoiseBounds gradientDotBounds2D(double lowX, double lowY, double highX, double highY, double[] gradient) {
+        return NoiseBounds.of(
+            Math.min(lowX * gradient[0], highX * gradient[0]) + Math.min(lowY * gradient[1], highY * gradient[1]),
+            Math.max(lowX * gradient[0], highX * gradient[0]) + Math.max(lowY * gradient[1], highY * gradient[1])
+        );
+    }
+
+    private static NoiseBounds gradientDotBounds3D(
+        double lowX, double lowY, double lowZ, double highX, double highY, double highZ, double[] gradient
+    ) {
+        return NoiseBounds.of(
+            Math.min(lowX * gradient[0], highX * gradient[0]) + Math.min(lowY * gradient[1], highY * gradient[1])
+                + Math.min(lowZ * gradient[2], highZ * gradient[2]),
+            Math.max(lowX * gradient[0], highX * gradient[0]) + Math.max(lowY * gradient[1], highY * gradient[1])
+                + Math.max(lowZ * gradient[2], highZ * gradient[2])
+        );
+    }
+
+    private static double gradientDot2D(double x, double y, double[] gradient) {
+        return (x * gradient[0]) + (y * gradient[1]);
+    }
+
+    private static double gradientDot3D(double x, double y, double z, double[] gradient) {
+        return (x * gradient[0]) + (y * gradient[1]) + (z * gradient[2]);
+    }
+
+    private static double gradientDot4D(double x, double y, double z, double w, double[] gradient) {
+        return (x * gradient[0]) + (y * gradient[1]) + (z * gradient[2]) + (w * gradient[3]);
+    }
+
+    private void prepareAxis(double[] coordinates, long[] cells, double[] relative, double[] fades) {
+        for (int i = 0; i < coordinates.length; i++) {
+            double coordinate = coordinates[i];
+            long cell = (long) Math.floor(coordinate);
+            cells[i] = cell;
+            relative[i] = coordinate - cell;
+            fades[i] = fadeFunction.fade(relative[i]);
+        }
+    }
+
     @Override
     public long getSeed() {
         return seed;
     }
 
+    /**
+     * Gets the {@link Interpolation} used by this {@link PerlinNoiseGenerator}.
+     *
+     * @return the {@link Interpolation} between lattice points.
+     */
+    public Interpolation getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Gets the {@link FadeFunction} used by this {@link PerlinNoiseGenerator}.
+     *
+     * @return the {@link FadeFunction} applied to the relative positions.
+     */
+    public FadeFunction getFadeFunction() {
+        return fadeFunction;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("perlin")
+            .setLong("seed", seed)
+            .setConstant("interpolation", Interpolation.class, interpolation)
+            .setConstant("fadeFunction", FadeFunction.class, fadeFunction)
+            .build();
+    }
+
     /**
      * Gets a {@link PerlinNoiseBuilder} to build a {@link PerlinNoiseGenerator}.
      *
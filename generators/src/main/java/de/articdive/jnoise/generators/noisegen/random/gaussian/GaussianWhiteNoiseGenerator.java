@@ -1,8 +1,11 @@
 package de.articdive.jnoise.generators.noisegen.random.gaussian;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import de.articdive.jnoise.core.util.HashUtil;
+import de.articdive.jnoise.generators.noise_parameters.gaussian_sampling.GaussianSampling;
 import org.jspecify.annotations.NullMarked;
 
 import java.util.Random;
@@ -14,23 +17,23 @@ import java.util.Random;
  * @author Articdive
  */
 @NullMarked
-public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
+public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator, Definable {
     private final long seed;
     private final double mean;
     private final double stddev;
+    private final GaussianSampling sampling;
 
-    private GaussianWhiteNoiseGenerator(long seed, double mean, double stddev) {
+    private GaussianWhiteNoiseGenerator(long seed, double mean, double stddev, GaussianSampling sampling) {
         this.seed = seed;
         this.mean = mean;
         this.stddev = stddev;
+        this.sampling = sampling;
     }
 
     public double evaluateNoise(double x, long seed) {
         long iX = (long) Math.floor(x);
 
-        Random random = new Random(HashUtil.hash1D(seed, iX));
-
-        return random.nextGaussian(mean, stddev);
+        return sample(HashUtil.hash1D(seed, iX));
     }
 
     @Override
@@ -38,9 +41,7 @@ public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
         long iX = (long) Math.floor(x);
         long iY = (long) Math.floor(y);
 
-        Random random = new Random(HashUtil.hash2D(seed, iX, iY));
-
-        return random.nextGaussian(mean, stddev);
+        return sample(HashUtil.hash2D(seed, iX, iY));
     }
 
     @Override
@@ -49,9 +50,7 @@ public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
         long iY = (long) Math.floor(y);
         long iZ = (long) Math.floor(z);
 
-        Random random = new Random(HashUtil.hash3D(seed, iX, iY, iZ));
-
-        return random.nextGaussian(mean, stddev);
+        return sample(HashUtil.hash3D(seed, iX, iY, iZ));
     }
 
     @Override
@@ -61,9 +60,7 @@ public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
         long iZ = (long) Math.floor(z);
         long iW = (long) Math.floor(w);
 
-        Random random = new Random(HashUtil.hash4D(seed, iX, iY, iZ, iW));
-
-        return random.nextGaussian(mean, stddev);
+        return sample(HashUtil.hash4D(seed, iX, iY, iZ, iW));
     }
 
     @Override
@@ -86,11 +83,28 @@ public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
         return evaluateNoise(x, y, z, w, seed);
     }
 
+    private double sample(int hash) {
+        if (sampling == GaussianSampling.ZIGGURAT) {
+            return mean + stddev * ZigguratSampler.sample(hash);
+        }
+        return new Random(hash).nextGaussian(mean, stddev);
+    }
+
     @Override
     public long getSeed() {
         return seed;
     }
 
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("gaussianWhite")
+            .setLong("seed", seed)
+            .setDouble("mean", mean)
+            .setDouble("standardDeviation", stddev)
+            .setConstant("sampling", GaussianSampling.class, sampling)
+            .build();
+    }
+
     /**
      * Gets a {@link GaussianWhiteNoiseBuilder} to build a {@link GaussianWhiteNoiseGenerator}.
      *
@@ -111,6 +125,8 @@ public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
 
         private double stddev = 1 / 3.0;
 
+        private GaussianSampling sampling = GaussianSampling.RANDOM;
+
         private GaussianWhiteNoiseBuilder() {
 
         }
@@ -148,9 +164,20 @@ public final class GaussianWhiteNoiseGenerator implements SeededNoiseGenerator {
             return this;
         }
 
+        /**
+         * Sets the way the gaussian distribution is sampled in the {@link GaussianWhiteNoiseGenerator}
+         *
+         * @param sampling the new {@link GaussianSampling} for the {@link GaussianWhiteNoiseGenerator}
+         * @return {@link GaussianWhiteNoiseBuilder} this
+         */
+        public GaussianWhiteNoiseBuilder setSampling(GaussianSampling sampling) {
+            this.sampling = sampling;
+            return this;
+        }
+
         @Override
         public GaussianWhiteNoiseGenerator build() {
-            return new GaussianWhiteNoiseGenerator(seed, mean, stddev);
+            return new GaussianWhiteNoiseGenerator(seed, mean, stddev, sampling);
         }
     }
 }
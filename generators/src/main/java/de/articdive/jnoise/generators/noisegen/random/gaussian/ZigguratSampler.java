@@ -0,0 +1,83 @@
+package de.articdive.jnoise.generators.noisegen.random.gaussian;
+
+import de.articdive.jnoise.core.util.HashUtil;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Samples the standard normal distribution with the ziggurat method of Marsaglia and Tsang,
+ * in the 128 layer variant described by Doornik.
+ * The uniform values are drawn from {@link HashUtil#uniformLong(long, long)}, so a sample is fully determined by its hash.
+ * Slow paths use {@link StrictMath}, which keeps the samples identical on every platform.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class ZigguratSampler {
+    private static final int LAYERS = 128;
+    // Start of the tail (right edge of the bottom layer).
+    private static final double R = 3.442619855899;
+    // Area of every layer.
+    private static final double V = 9.91256303526217e-3;
+    // Right edge of every layer, X[0] is the width of the bottom layer including the tail area.
+    private static final double[] X = new double[LAYERS + 1];
+    // Ratio between the right edges of a layer and the layer above, the part of a layer that is fully below the curve.
+    private static final double[] RATIO = new double[LAYERS];
+
+    static {
+        double f = StrictMath.exp(-0.5 * R * R);
+        X[0] = V / f;
+        X[1] = R;
+        X[LAYERS] = 0;
+        for (int i = 2; i < LAYERS; i++) {
+            X[i] = StrictMath.sqrt(-2 * StrictMath.log(V / X[i - 1] + f));
+            f = StrictMath.exp(-0.5 * X[i] * X[i]);
+        }
+        for (int i = 0; i < LAYERS; i++) {
+            RATIO[i] = X[i + 1] / X[i];
+        }
+    }
+
+    private ZigguratSampler() {
+
+    }
+
+    /**
+     * Samples the standard normal distribution.
+     *
+     * @param hash hash determining the sample, e.g. the hash of a point.
+     * @return normally distributed value with a mean of 0 and a standard deviation of 1.
+     */
+    static double sample(long hash) {
+        long counter = 0;
+        while (true) {
+            long bits = HashUtil.uniformLong(hash, counter++);
+            // The lower 7 bits select the layer, the upper 53 bits the uniform value in [-1, 1).
+            int layer = (int) (bits & (LAYERS - 1));
+            double u = (bits >>> 11) * 0x1.0p-52 - 1;
+            // The rectangle of the layer is fully below the curve, this is the case in ~99% of all samples.
+            if (Math.abs(u) < RATIO[layer]) {
+                return u * X[layer];
+            }
+            if (layer == 0) {
+                return sampleTail(hash, counter, u < 0);
+            }
+            double x = u * X[layer];
+            double f0 = StrictMath.exp(-0.5 * (X[layer] * X[layer] - x * x));
+            double f1 = StrictMath.exp(-0.5 * (X[layer + 1] * X[layer + 1] - x * x));
+            if (f1 + HashUtil.uniformDouble(hash, counter++) * (f0 - f1) < 1.0) {
+                return x;
+            }
+        }
+    }
+
+    private static double sampleTail(long hash, long counter, boolean negative) {
+        double x;
+        double y;
+        do {
+            // 1 - u lies in (0, 1], so the logarithms stay finite.
+            x = StrictMath.log(1 - HashUtil.uniformDouble(hash, counter++)) / R;
+            y = StrictMath.log(1 - HashUtil.uniformDouble(hash, counter++));
+        } while (-2 * y < x * x);
+        return negative ? x - R : R - x;
+    }
+}
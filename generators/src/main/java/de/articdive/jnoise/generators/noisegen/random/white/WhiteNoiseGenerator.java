@@ -1,7 +1,11 @@
 package de.articdive.jnoise.generators.noisegen.random.white;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.RegionUtil;
 import org.jspecify.annotations.NullMarked;
 
 import static de.articdive.jnoise.core.util.HashUtil.W_PRIME;
@@ -15,7 +19,9 @@ import static de.articdive.jnoise.core.util.HashUtil.Z_PRIME;
  * @author Articdive
  */
 @NullMarked
-public final class WhiteNoiseGenerator implements SeededNoiseGenerator {
+public final class WhiteNoiseGenerator implements SeededNoiseGenerator, Definable {
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(-1, 1);
+
     private final long seed;
 
     private WhiteNoiseGenerator(long seed) {
@@ -61,6 +67,106 @@ public final class WhiteNoiseGenerator implements SeededNoiseGenerator {
         return evaluateNoise(x, y, z, w, seed);
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        return BOUNDS;
+    }
+
+    @Override
+    public double evaluateLattice(long x, double spacing) {
+        return evaluateCoord1D(RegionUtil.latticeFloor(x, spacing), seed);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        return evaluateCoord2D(RegionUtil.latticeFloor(x, spacing), RegionUtil.latticeFloor(y, spacing), seed);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        return evaluateCoord3D(
+            RegionUtil.latticeFloor(x, spacing),
+            RegionUtil.latticeFloor(y, spacing),
+            RegionUtil.latticeFloor(z, spacing),
+            seed
+        );
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, long w, double spacing) {
+        return evaluateCoord4D(
+            RegionUtil.latticeFloor(x, spacing),
+            RegionUtil.latticeFloor(y, spacing),
+            RegionUtil.latticeFloor(z, spacing),
+            RegionUtil.latticeFloor(w, spacing),
+            seed
+        );
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCells2D(out, RegionUtil.cells(x0, dx, nx), RegionUtil.cells(y0, dy, ny));
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCells3D(out, RegionUtil.cells(x0, dx, nx), RegionUtil.cells(y0, dy, ny), RegionUtil.cells(z0, dz, nz));
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCells2D(out, RegionUtil.latticeCells(x0, spacing, nx), RegionUtil.latticeCells(y0, spacing, ny));
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCells3D(
+            out,
+            RegionUtil.latticeCells(x0, spacing, nx),
+            RegionUtil.latticeCells(y0, spacing, ny),
+            RegionUtil.latticeCells(z0, spacing, nz)
+        );
+    }
+
+    private void fillCells2D(double[] out, long[] cellsX, long[] cellsY) {
+        // The X axis terms of the hash are shared by every row.
+        int[] hashesX = hashAxis(cellsX);
+        int index = 0;
+        for (long cellY : cellsY) {
+            int hashY = (int) (seed ^ (Y_PRIME * cellY));
+            for (int hashX : hashesX) {
+                out[index++] = evaluateHash(hashX ^ hashY);
+            }
+        }
+    }
+
+    private void fillCells3D(double[] out, long[] cellsX, long[] cellsY, long[] cellsZ) {
+        // The X axis terms of the hash are shared by every row.
+        int[] hashesX = hashAxis(cellsX);
+        int index = 0;
+        for (long cellZ : cellsZ) {
+            int hashZ = (int) (Z_PRIME * cellZ);
+            for (long cellY : cellsY) {
+                int hashYZ = (int) (seed ^ (Y_PRIME * cellY)) ^ hashZ;
+                for (int hashX : hashesX) {
+                    out[index++] = evaluateHash(hashX ^ hashYZ);
+                }
+            }
+        }
+    }
+
+    private static int[] hashAxis(long[] cells) {
+        int[] hashes = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            hashes[i] = (int) (X_PRIME * cells[i]);
+        }
+        return hashes;
+    }
+
     @Override
     public long getSeed() {
         return seed;
@@ -69,14 +175,14 @@ public final class WhiteNoiseGenerator implements SeededNoiseGenerator {
     private static double evaluateCoord1D(long x, long seed) {
         int n = (int) ((seed) ^ (X_PRIME * (x)));
 
-        return (n * n * n * 60493) / 2147483648.0;
+        return evaluateHash(n);
     }
 
     private static double evaluateCoord2D(long x, long y, long seed) {
         int n = (int) ((seed) ^ (X_PRIME * (x)));
         n ^= Y_PRIME * y;
 
-        return (n * n * n * 60493) / 2147483648.0;
+        return evaluateHash(n);
     }
 
     private static double evaluateCoord3D(long x, long y, long z, long seed) {
@@ -84,7 +190,7 @@ public final class WhiteNoiseGenerator implements SeededNoiseGenerator {
         n ^= Y_PRIME * y;
         n ^= Z_PRIME * z;
 
-        return (n * n * n * 60493) / 2147483648.0;
+        return evaluateHash(n);
     }
 
     private static double evaluateCoord4D(long x, long y, long z, long w, long seed) {
@@ -93,9 +199,18 @@ public final class WhiteNoiseGenerator implements SeededNoiseGenerator {
         n ^= Z_PRIME * z;
         n ^= W_PRIME * w;
 
+        return evaluateHash(n);
+    }
+
+    private static double evaluateHash(int n) {
         return (n * n * n * 60493) / 2147483648.0;
     }
 
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("white").setLong("seed", seed).build();
+    }
+
     /**
      * Gets a {@link WhiteNoiseBuilder} to build a {@link WhiteNoiseGenerator}.
      *
@@ -1,8 +1,14 @@
 package de.articdive.jnoise.generators.noisegen.value;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.functions.Interpolation;
-import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
+import de.articdive.jnoise.core.api.noisegen.SeededExplicitNoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.BoundsUtil;
+import de.articdive.jnoise.core.util.RegionUtil;
 import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
 import org.jspecify.annotations.NullMarked;
 
@@ -13,11 +19,16 @@ import static de.articdive.jnoise.core.util.HashUtil.Z_PRIME;
 
 /**
  * The bounds of this Value Noise implementation are: [-1, 1].
+ * Its {@link DerivativeNoiseResult}s carry the partial derivatives of the interpolation between the lattice values.
  *
  * @author Articdive
  */
 @NullMarked
-public final class ValueNoiseGenerator implements SeededNoiseGenerator {
+public final class ValueNoiseGenerator implements SeededExplicitNoiseGenerator<DerivativeNoiseResult>, Definable {
+    private static final NoiseBounds BOUNDS = NoiseBounds.of(-1, 1);
+    // Boxes spanning more cells are bounded by the bounds of the whole generator.
+    private static final int MAX_BOUNDED_CELLS = 64;
+
     private final long seed;
     private final Interpolation interpolation;
     private final FadeFunction fadeFunction;
@@ -34,11 +45,7 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
         double[] fractals = new double[]{
             fadeFunction.fade(x - iX),
         };
-        double[] vals = new double[]{
-            evaluateCoord1D((int) iX, seed),
-            evaluateCoord1D((int) iX + 1, seed),
-        };
-        return interpolation.lerp(fractals, vals);
+        return interpolation.lerp(fractals, corners1D(iX, seed));
     }
 
     @Override
@@ -49,13 +56,7 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
             fadeFunction.fade(x - iX),
             fadeFunction.fade(y - iY)
         };
-        double[] vals = new double[]{
-            evaluateCoord2D((int) iX, (int) iY, seed),
-            evaluateCoord2D((int) iX + 1, (int) iY, seed),
-            evaluateCoord2D((int) iX, (int) iY + 1, seed),
-            evaluateCoord2D((int) iX + 1, (int) iY + 1, seed)
-        };
-        return interpolation.lerp(fractals, vals);
+        return interpolation.lerp(fractals, corners2D(iX, iY, seed));
     }
 
     @Override
@@ -68,17 +69,7 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
             fadeFunction.fade(y - iY),
             fadeFunction.fade(z - iZ)
         };
-        double[] vals = new double[]{
-            evaluateCoord3D(iX, iY, iZ, seed),
-            evaluateCoord3D(iX + 1, iY, iZ, seed),
-            evaluateCoord3D(iX, iY + 1, iZ, seed),
-            evaluateCoord3D(iX + 1, iY + 1, iZ, seed),
-            evaluateCoord3D(iX, iY, iZ + 1, seed),
-            evaluateCoord3D(iX + 1, iY, iZ + 1, seed),
-            evaluateCoord3D(iX, iY + 1, iZ + 1, seed),
-            evaluateCoord3D(iX + 1, iY + 1, iZ + 1, seed)
-        };
-        return interpolation.lerp(fractals, vals);
+        return interpolation.lerp(fractals, corners3D(iX, iY, iZ, seed));
     }
 
     @Override
@@ -93,28 +84,7 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
             fadeFunction.fade(z - iZ),
             fadeFunction.fade(w - iW)
         };
-        double[] vals = new double[]{
-            evaluateCoord4D(iX, iY, iZ, iW, seed),
-            evaluateCoord4D(iX + 1, iY, iZ, iW, seed),
-            evaluateCoord4D(iX, iY + 1, iZ, iW, seed),
-            evaluateCoord4D(iX + 1, iY + 1, iZ, iW, seed),
-
-            evaluateCoord4D(iX, iY, iZ + 1, iW, seed),
-            evaluateCoord4D(iX + 1, iY, iZ + 1, iW, seed),
-            evaluateCoord4D(iX, iY + 1, iZ + 1, iW, seed),
-            evaluateCoord4D(iX + 1, iY + 1, iZ + 1, iW, seed),
-
-            evaluateCoord4D(iX, iY, iZ, iW + 1, seed),
-            evaluateCoord4D(iX + 1, iY, iZ, iW + 1, seed),
-            evaluateCoord4D(iX, iY + 1, iZ, iW + 1, seed),
-            evaluateCoord4D(iX + 1, iY + 1, iZ, iW + 1, seed),
-
-            evaluateCoord4D(iX, iY, iZ + 1, iW + 1, seed),
-            evaluateCoord4D(iX + 1, iY, iZ + 1, iW + 1, seed),
-            evaluateCoord4D(iX, iY + 1, iZ + 1, iW + 1, seed),
-            evaluateCoord4D(iX + 1, iY + 1, iZ + 1, iW + 1, seed)
-        };
-        return interpolation.lerp(fractals, vals);
+        return interpolation.lerp(fractals, corners4D(iX, iY, iZ, iW, seed));
     }
 
     @Override
@@ -137,22 +107,507 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
         return evaluateNoise(x, y, z, w, seed);
     }
 
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, long seed) {
+        long iX = (long) Math.floor(x);
+        x -= iX;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        // The lattice values are constant, so only the fade values contribute to the derivatives.
+        double v0 = evaluateCoord1D((int) iX, seed);
+        double v1 = evaluateCoord1D((int) iX + 1, seed);
+        // Interpolation along X, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeX, v0, v1), new double[]{
+            interpolation.lerpDerivative(fadeX, v0, v1) * slopeX
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, long seed) {
+        long iX = (long) Math.floor(x);
+        long iY = (long) Math.floor(y);
+        x -= iX;
+        y -= iY;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        double fadeY = fadeFunction.fade(y);
+        double slopeY = fadeFunction.fadeDerivative(y);
+        // The lattice values are constant, so only the fade values contribute to the derivatives.
+        double v00 = evaluateCoord2D((int) iX, (int) iY, seed);
+        double v10 = evaluateCoord2D((int) iX + 1, (int) iY, seed);
+        double v01 = evaluateCoord2D((int) iX, (int) iY + 1, seed);
+        double v11 = evaluateCoord2D((int) iX + 1, (int) iY + 1, seed);
+        // Interpolation along X.
+        double n0 = interpolation.lerp(fadeX, v00, v10);
+        double n0X = interpolation.lerpDerivative(fadeX, v00, v10) * slopeX;
+        double n1 = interpolation.lerp(fadeX, v01, v11);
+        double n1X = interpolation.lerpDerivative(fadeX, v01, v11) * slopeX;
+        // Interpolation along Y, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeY, n0, n1), new double[]{
+            interpolation.lerp(fadeY, n0X, n1X),
+            interpolation.lerpDerivative(fadeY, n0, n1) * slopeY
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, long seed) {
+        long iX = (long) Math.floor(x);
+        long iY = (long) Math.floor(y);
+        long iZ = (long) Math.floor(z);
+        x -= iX;
+        y -= iY;
+        z -= iZ;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        double fadeY = fadeFunction.fade(y);
+        double slopeY = fadeFunction.fadeDerivative(y);
+        double fadeZ = fadeFunction.fade(z);
+        double slopeZ = fadeFunction.fadeDerivative(z);
+        // The lattice values are constant, so only the fade values contribute to the derivatives.
+        double v000 = evaluateCoord3D(iX, iY, iZ, seed);
+        double v100 = evaluateCoord3D(iX + 1, iY, iZ, seed);
+        double v010 = evaluateCoord3D(iX, iY + 1, iZ, seed);
+        double v110 = evaluateCoord3D(iX + 1, iY + 1, iZ, seed);
+        double v001 = evaluateCoord3D(iX, iY, iZ + 1, seed);
+        double v101 = evaluateCoord3D(iX + 1, iY, iZ + 1, seed);
+        double v011 = evaluateCoord3D(iX, iY + 1, iZ + 1, seed);
+        double v111 = evaluateCoord3D(iX + 1, iY + 1, iZ + 1, seed);
+        // Interpolation along X.
+        double n00 = interpolation.lerp(fadeX, v000, v100);
+        double n00X = interpolation.lerpDerivative(fadeX, v000, v100) * slopeX;
+        double n10 = interpolation.lerp(fadeX, v010, v110);
+        double n10X = interpolation.lerpDerivative(fadeX, v010, v110) * slopeX;
+        double n01 = interpolation.lerp(fadeX, v001, v101);
+        double n01X = interpolation.lerpDerivative(fadeX, v001, v101) * slopeX;
+        double n11 = interpolation.lerp(fadeX, v011, v111);
+        double n11X = interpolation.lerpDerivative(fadeX, v011, v111) * slopeX;
+        // Interpolation along Y.
+        double n0 = interpolation.lerp(fadeY, n00, n10);
+        double n0X = interpolation.lerp(fadeY, n00X, n10X);
+        double n0Y = interpolation.lerpDerivative(fadeY, n00, n10) * slopeY;
+        double n1 = interpolation.lerp(fadeY, n01, n11);
+        double n1X = interpolation.lerp(fadeY, n01X, n11X);
+        double n1Y = interpolation.lerpDerivative(fadeY, n01, n11) * slopeY;
+        // Interpolation along Z, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeZ, n0, n1), new double[]{
+            interpolation.lerp(fadeZ, n0X, n1X),
+            interpolation.lerp(fadeZ, n0Y, n1Y),
+            interpolation.lerpDerivative(fadeZ, n0, n1) * slopeZ
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w, long seed) {
+        long iX = (long) Math.floor(x);
+        long iY = (long) Math.floor(y);
+        long iZ = (long) Math.floor(z);
+        long iW = (long) Math.floor(w);
+        x -= iX;
+        y -= iY;
+        z -= iZ;
+        w -= iW;
+        double fadeX = fadeFunction.fade(x);
+        double slopeX = fadeFunction.fadeDerivative(x);
+        double fadeY = fadeFunction.fade(y);
+        double slopeY = fadeFunction.fadeDerivative(y);
+        double fadeZ = fadeFunction.fade(z);
+        double slopeZ = fadeFunction.fadeDerivative(z);
+        double fadeW = fadeFunction.fade(w);
+        double slopeW = fadeFunction.fadeDerivative(w);
+        // The lattice values are constant, so only the fade values contribute to the derivatives.
+        double v0000 = evaluateCoord4D(iX, iY, iZ, iW, seed);
+        double v1000 = evaluateCoord4D(iX + 1, iY, iZ, iW, seed);
+        double v0100 = evaluateCoord4D(iX, iY + 1, iZ, iW, seed);
+        double v1100 = evaluateCoord4D(iX + 1, iY + 1, iZ, iW, seed);
+        double v0010 = evaluateCoord4D(iX, iY, iZ + 1, iW, seed);
+        double v1010 = evaluateCoord4D(iX + 1, iY, iZ + 1, iW, seed);
+        double v0110 = evaluateCoord4D(iX, iY + 1, iZ + 1, iW, seed);
+        double v1110 = evaluateCoord4D(iX + 1, iY + 1, iZ + 1, iW, seed);
+        double v0001 = evaluateCoord4D(iX, iY, iZ, iW + 1, seed);
+        double v1001 = evaluateCoord4D(iX + 1, iY, iZ, iW + 1, seed);
+        double v0101 = evaluateCoord4D(iX, iY + 1, iZ, iW + 1, seed);
+        double v1101 = evaluateCoord4D(iX + 1, iY + 1, iZ, iW + 1, seed);
+        double v0011 = evaluateCoord4D(iX, iY, iZ + 1, iW + 1, seed);
+        double v1011 = evaluateCoord4D(iX + 1, iY, iZ + 1, iW + 1, seed);
+        double v0111 = evaluateCoord4D(iX, iY + 1, iZ + 1, iW + 1, seed);
+        double v1111 = evaluateCoord4D(iX + 1, iY + 1, iZ + 1, iW + 1, seed);
+        // Interpolation along X.
+        double n000 = interpolation.lerp(fadeX, v0000, v1000);
+        double n000X = interpolation.lerpDerivative(fadeX, v0000, v1000) * slopeX;
+        double n100 = interpolation.lerp(fadeX, v0100, v1100);
+        double n100X = interpolation.lerpDerivative(fadeX, v0100, v1100) * slopeX;
+        double n010 = interpolation.lerp(fadeX, v0010, v1010);
+        double n010X = interpolation.lerpDerivative(fadeX, v0010, v1010) * slopeX;
+        double n110 = interpolation.lerp(fadeX, v0110, v1110);
+        double n110X = interpolation.lerpDerivative(fadeX, v0110, v1110) * slopeX;
+        double n001 = interpolation.lerp(fadeX, v0001, v1001);
+        double n001X = interpolation.lerpDerivative(fadeX, v0001, v1001) * slopeX;
+        double n101 = interpolation.lerp(fadeX, v0101, v1101);
+        double n101X = interpolation.lerpDerivative(fadeX, v0101, v1101) * slopeX;
+        double n011 = interpolation.lerp(fadeX, v0011, v1011);
+        double n011X = interpolation.lerpDerivative(fadeX, v0011, v1011) * slopeX;
+        double n111 = interpolation.lerp(fadeX, v0111, v1111);
+        double n111X = interpolation.lerpDerivative(fadeX, v0111, v1111) * slopeX;
+        // Interpolation along Y.
+        double n00 = interpolation.lerp(fadeY, n000, n100);
+        double n00X = interpolation.lerp(fadeY, n000X, n100X);
+        double n00Y = interpolation.lerpDerivative(fadeY, n000, n100) * slopeY;
+        double n10 = interpolation.lerp(fadeY, n010, n110);
+        double n10X = interpolation.lerp(fadeY, n010X, n110X);
+        double n10Y = interpolation.lerpDerivative(fadeY, n010, n110) * slopeY;
+        double n01 = interpolation.lerp(fadeY, n001, n101);
+        double n01X = interpolation.lerp(fadeY, n001X, n101X);
+        double n01Y = interpolation.lerpDerivative(fadeY, n001, n101) * slopeY;
+        double n11 = interpolation.lerp(fadeY, n011, n111);
+        double n11X = interpolation.lerp(fadeY, n011X, n111X);
+        double n11Y = interpolation.lerpDerivative(fadeY, n011, n111) * slopeY;
+        // Interpolation along Z.
+        double n0 = interpolation.lerp(fadeZ, n00, n10);
+        double n0X = interpolation.lerp(fadeZ, n00X, n10X);
+        double n0Y = interpolation.lerp(fadeZ, n00Y, n10Y);
+        double n0Z = interpolation.lerpDerivative(fadeZ, n00, n10) * slopeZ;
+        double n1 = interpolation.lerp(fadeZ, n01, n11);
+        double n1X = interpolation.lerp(fadeZ, n01X, n11X);
+        double n1Y = interpolation.lerp(fadeZ, n01Y, n11Y);
+        double n1Z = interpolation.lerpDerivative(fadeZ, n01, n11) * slopeZ;
+        // Interpolation along W, which yields the value and its partial derivatives.
+        return new DerivativeNoiseResult(interpolation.lerp(fadeW, n0, n1), new double[]{
+            interpolation.lerp(fadeW, n0X, n1X),
+            interpolation.lerp(fadeW, n0Y, n1Y),
+            interpolation.lerp(fadeW, n0Z, n1Z),
+            interpolation.lerpDerivative(fadeW, n0, n1) * slopeW
+        });
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x) {
+        return evaluateNoiseResult(x, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y) {
+        return evaluateNoiseResult(x, y, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z) {
+        return evaluateNoiseResult(x, y, z, seed);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w) {
+        return evaluateNoiseResult(x, y, z, w, seed);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        if (!Interpolation.isPredefined(interpolation) || !FadeFunction.isPredefined(fadeFunction)) {
+            return NoiseBounds.UNBOUNDED;
+        }
+        // Values are convex combinations of the lattice values.
+        return BOUNDS;
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY, long seed) {
+        NoiseBounds bounds = getBounds();
+        long cellsX = BoundsUtil.cellSpan(minX, maxX);
+        long cellsY = BoundsUtil.cellSpan(minY, maxY);
+        if (!bounds.isBounded() || cellsX > MAX_BOUNDED_CELLS || cellsY > MAX_BOUNDED_CELLS || cellsX * cellsY > MAX_BOUNDED_CELLS) {
+            return bounds;
+        }
+        long cellX0 = (long) Math.floor(minX);
+        long cellY0 = (long) Math.floor(minY);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (long iY = cellY0; iY < cellY0 + cellsY; iY++) {
+            // Fade values of the part of the cell covered by the box.
+            double fadeLowY = fadeFunction.fade(iY == cellY0 ? minY - iY : 0);
+            double fadeHighY = fadeFunction.fade(iY == cellY0 + cellsY - 1 ? maxY - iY : 1);
+            for (long iX = cellX0; iX < cellX0 + cellsX; iX++) {
+                double fadeLowX = fadeFunction.fade(iX == cellX0 ? minX - iX : 0);
+                double fadeHighX = fadeFunction.fade(iX == cellX0 + cellsX - 1 ? maxX - iX : 1);
+                NoiseBounds cell = BoundsUtil.lerp(interpolation, fadeLowY, fadeHighY,
+                    lerpBounds(fadeLowX, fadeHighX, evaluateCoord2D(iX, iY, seed), evaluateCoord2D(iX + 1, iY, seed)),
+                    lerpBounds(fadeLowX, fadeHighX, evaluateCoord2D(iX, iY + 1, seed), evaluateCoord2D(iX + 1, iY + 1, seed))
+                );
+                min = Math.min(min, cell.getMin());
+                max = Math.max(max, cell.getMax());
+            }
+        }
+        return BoundsUtil.widen(NoiseBounds.of(min, max), BoundsUtil.ROUNDING_MARGIN, bounds);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, long seed) {
+        NoiseBounds bounds = getBounds();
+        long cellsX = BoundsUtil.cellSpan(minX, maxX);
+        long cellsY = BoundsUtil.cellSpan(minY, maxY);
+        long cellsZ = BoundsUtil.cellSpan(minZ, maxZ);
+        if (!bounds.isBounded() || cellsX > MAX_BOUNDED_CELLS || cellsY > MAX_BOUNDED_CELLS || cellsZ > MAX_BOUNDED_CELLS
+            || cellsX * cellsY * cellsZ > MAX_BOUNDED_CELLS) {
+            return bounds;
+        }
+        long cellX0 = (long) Math.floor(minX);
+        long cellY0 = (long) Math.floor(minY);
+        long cellZ0 = (long) Math.floor(minZ);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (long iZ = cellZ0; iZ < cellZ0 + cellsZ; iZ++) {
+            // Fade values of the part of the cell covered by the box.
+            double fadeLowZ = fadeFunction.fade(iZ == cellZ0 ? minZ - iZ : 0);
+            double fadeHighZ = fadeFunction.fade(iZ == cellZ0 + cellsZ - 1 ? maxZ - iZ : 1);
+            for (long iY = cellY0; iY < cellY0 + cellsY; iY++) {
+                double fadeLowY = fadeFunction.fade(iY == cellY0 ? minY - iY : 0);
+                double fadeHighY = fadeFunction.fade(iY == cellY0 + cellsY - 1 ? maxY - iY : 1);
+                for (long iX = cellX0; iX < cellX0 + cellsX; iX++) {
+                    double fadeLowX = fadeFunction.fade(iX == cellX0 ? minX - iX : 0);
+                    double fadeHighX = fadeFunction.fade(iX == cellX0 + cellsX - 1 ? maxX - iX : 1);
+                    NoiseBounds cell = BoundsUtil.lerp(interpolation, fadeLowZ, fadeHighZ,
+                        BoundsUtil.lerp(interpolation, fadeLowY, fadeHighY,
+                            lerpBounds(fadeLowX, fadeHighX, evaluateCoord3D(iX, iY, iZ, seed), evaluateCoord3D(iX + 1, iY, iZ, seed)),
+                            lerpBounds(fadeLowX, fadeHighX, evaluateCoord3D(iX, iY + 1, iZ, seed), evaluateCoord3D(iX + 1, iY + 1, iZ, seed))
+                        ),
+                        BoundsUtil.lerp(interpolation, fadeLowY, fadeHighY,
+                            lerpBounds(fadeLowX, fadeHighX, evaluateCoord3D(iX, iY, iZ + 1, seed), evaluateCoord3D(iX + 1, iY, iZ + 1, seed)),
+                            lerpBounds(fadeLowX, fadeHighX, evaluateCoord3D(iX, iY + 1, iZ + 1, seed), evaluateCoord3D(iX + 1, iY + 1, iZ + 1, seed))
+                        )
+                    );
+                    min = Math.min(min, cell.getMin());
+                    max = Math.max(max, cell.getMax());
+                }
+            }
+        }
+        return BoundsUtil.widen(NoiseBounds.of(min, max), BoundsUtil.ROUNDING_MARGIN, bounds);
+    }
+
+    private NoiseBounds lerpBounds(double fadeLow, double fadeHigh, double a, double b) {
+        return BoundsUtil.lerp(interpolation, fadeLow, fadeHigh, NoiseBounds.of(a, a), NoiseBounds.of(b, b));
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCoordinates2D(out, RegionUtil.coordinates(x0, dx, nx), RegionUtil.coordinates(y0, dy, ny));
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        fillCoordinates2D(out, RegionUtil.latticeCoordinates(x0, spacing, nx), RegionUtil.latticeCoordinates(y0, spacing, ny));
+    }
+
+    private void fillCoordinates2D(double[] out, double[] coordinatesX, double[] coordinatesY) {
+        int nx = coordinatesX.length;
+        int ny = coordinatesY.length;
+        // Unit squares and fade values along the X axis are shared by every row.
+        long[] cellsX = new long[nx];
+        double[] fadesX = new double[nx];
+        prepareAxis(coordinatesX, cellsX, fadesX);
+        double[] fractals = new double[2];
+        double[] vals = new double[4];
+        int index = 0;
+        for (int j = 0; j < ny; j++) {
+            double y = coordinatesY[j];
+            long iY = (long) Math.floor(y);
+            fractals[1] = fadeFunction.fade(y - iY);
+            int hashY0 = (int) (seed ^ (Y_PRIME * iY));
+            int hashY1 = (int) (seed ^ (Y_PRIME * (iY + 1)));
+            // Lattice values only change when the samples cross into the next unit square.
+            double v00 = 0;
+            double v10 = 0;
+            double v01 = 0;
+            double v11 = 0;
+            for (int i = 0; i < nx; i++) {
+                long iX = cellsX[i];
+                if (i == 0 || iX != cellsX[i - 1]) {
+                    int hashX0 = (int) (X_PRIME * iX);
+                    int hashX1 = (int) (X_PRIME * (iX + 1));
+                    v00 = evaluateHash(hashY0 ^ hashX0);
+                    v10 = evaluateHash(hashY0 ^ hashX1);
+                    v01 = evaluateHash(hashY1 ^ hashX0);
+                    v11 = evaluateHash(hashY1 ^ hashX1);
+                }
+                fractals[0] = fadesX[i];
+                vals[0] = v00;
+                vals[1] = v10;
+                vals[2] = v01;
+                vals[3] = v11;
+                out[index++] = interpolation.lerp(fractals, vals);
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCoordinates3D(
+            out,
+            RegionUtil.coordinates(x0, dx, nx),
+            RegionUtil.coordinates(y0, dy, ny),
+            RegionUtil.coordinates(z0, dz, nz)
+        );
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        fillCoordinates3D(
+            out,
+            RegionUtil.latticeCoordinates(x0, spacing, nx),
+            RegionUtil.latticeCoordinates(y0, spacing, ny),
+            RegionUtil.latticeCoordinates(z0, spacing, nz)
+        );
+    }
+
+    private void fillCoordinates3D(double[] out, double[] coordinatesX, double[] coordinatesY, double[] coordinatesZ) {
+        int nx = coordinatesX.length;
+        int ny = coordinatesY.length;
+        int nz = coordinatesZ.length;
+        // Unit cubes and fade values along the X axis are shared by every row.
+        long[] cellsX = new long[nx];
+        double[] fadesX = new double[nx];
+        prepareAxis(coordinatesX, cellsX, fadesX);
+        double[] fractals = new double[3];
+        double[] vals = new double[8];
+        double[] corners = new double[8];
+        int index = 0;
+        for (int k = 0; k < nz; k++) {
+            double z = coordinatesZ[k];
+            long iZ = (long) Math.floor(z);
+            double fadeZ = fadeFunction.fade(z - iZ);
+            int hashZ0 = (int) (Z_PRIME * iZ);
+            int hashZ1 = (int) (Z_PRIME * (iZ + 1));
+            for (int j = 0; j < ny; j++) {
+                double y = coordinatesY[j];
+                long iY = (long) Math.floor(y);
+                fractals[1] = fadeFunction.fade(y - iY);
+                fractals[2] = fadeZ;
+                int hashY0 = (int) (seed ^ (Y_PRIME * iY));
+                int hashY1 = (int) (seed ^ (Y_PRIME * (iY + 1)));
+                int hashY0Z0 = hashY0 ^ hashZ0;
+                int hashY1Z0 = hashY1 ^ hashZ0;
+                int hashY0Z1 = hashY0 ^ hashZ1;
+                int hashY1Z1 = hashY1 ^ hashZ1;
+                for (int i = 0; i < nx; i++) {
+                    long iX = cellsX[i];
+                    // Lattice values only change when the samples cross into the next unit cube.
+                    if (i == 0 || iX != cellsX[i - 1]) {
+                        int hashX0 = (int) (X_PRIME * iX);
+                        int hashX1 = (int) (X_PRIME * (iX + 1));
+                        corners[0] = evaluateHash(hashY0Z0 ^ hashX0);
+                        corners[1] = evaluateHash(hashY0Z0 ^ hashX1);
+                        corners[2] = evaluateHash(hashY1Z0 ^ hashX0);
+                        corners[3] = evaluateHash(hashY1Z0 ^ hashX1);
+                        corners[4] = evaluateHash(hashY0Z1 ^ hashX0);
+                        corners[5] = evaluateHash(hashY0Z1 ^ hashX1);
+                        corners[6] = evaluateHash(hashY1Z1 ^ hashX0);
+                        corners[7] = evaluateHash(hashY1Z1 ^ hashX1);
+                    }
+                    fractals[0] = fadesX[i];
+                    System.arraycopy(corners, 0, vals, 0, 8);
+                    out[index++] = interpolation.lerp(fractals, vals);
+                }
+            }
+        }
+    }
+
+    private void prepareAxis(double[] coordinates, long[] cells, double[] fades) {
+        for (int i = 0; i < coordinates.length; i++) {
+            double coordinate = coordinates[i];
+            long cell = (long) Math.floor(coordinate);
+            cells[i] = cell;
+            fades[i] = fadeFunction.fade(coordinate - cell);
+        }
+    }
+
     @Override
     public long getSeed() {
         return seed;
     }
 
+    /**
+     * Gets the {@link Interpolation} used by this {@link ValueNoiseGenerator}.
+     *
+     * @return the {@link Interpolation} between lattice points.
+     */
+    public Interpolation getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Gets the {@link FadeFunction} used by this {@link ValueNoiseGenerator}.
+     *
+     * @return the {@link FadeFunction} applied to the relative positions.
+     */
+    public FadeFunction getFadeFunction() {
+        return fadeFunction;
+    }
+
+    private static double[] corners1D(long iX, long seed) {
+        return new double[]{
+            evaluateCoord1D((int) iX, seed),
+            evaluateCoord1D((int) iX + 1, seed),
+        };
+    }
+
+    private static double[] corners2D(long iX, long iY, long seed) {
+        return new double[]{
+            evaluateCoord2D((int) iX, (int) iY, seed),
+            evaluateCoord2D((int) iX + 1, (int) iY, seed),
+            evaluateCoord2D((int) iX, (int) iY + 1, seed),
+            evaluateCoord2D((int) iX + 1, (int) iY + 1, seed)
+        };
+    }
+
+    private static double[] corners3D(long iX, long iY, long iZ, long seed) {
+        return new double[]{
+            evaluateCoord3D(iX, iY, iZ, seed),
+            evaluateCoord3D(iX + 1, iY, iZ, seed),
+            evaluateCoord3D(iX, iY + 1, iZ, seed),
+            evaluateCoord3D(iX + 1, iY + 1, iZ, seed),
+            evaluateCoord3D(iX, iY, iZ + 1, seed),
+            evaluateCoord3D(iX + 1, iY, iZ + 1, seed),
+            evaluateCoord3D(iX, iY + 1, iZ + 1, seed),
+            evaluateCoord3D(iX + 1, iY + 1, iZ + 1, seed)
+        };
+    }
+
+    private static double[] corners4D(long iX, long iY, long iZ, long iW, long seed) {
+        return new double[]{
+            evaluateCoord4D(iX, iY, iZ, iW, seed),
+            evaluateCoord4D(iX + 1, iY, iZ, iW, seed),
+            evaluateCoord4D(iX, iY + 1, iZ, iW, seed),
+            evaluateCoord4D(iX + 1, iY + 1, iZ, iW, seed),
+
+            evaluateCoord4D(iX, iY, iZ + 1, iW, seed),
+            evaluateCoord4D(iX + 1, iY, iZ + 1, iW, seed),
+            evaluateCoord4D(iX, iY + 1, iZ + 1, iW, seed),
+            evaluateCoord4D(iX + 1, iY + 1, iZ + 1, iW, seed),
+
+            evaluateCoord4D(iX, iY, iZ, iW + 1, seed),
+            evaluateCoord4D(iX + 1, iY, iZ, iW + 1, seed),
+            evaluateCoord4D(iX, iY + 1, iZ, iW + 1, seed),
+            evaluateCoord4D(iX + 1, iY + 1, iZ, iW + 1, seed),
+
+            evaluateCoord4D(iX, iY, iZ + 1, iW + 1, seed),
+            evaluateCoord4D(iX + 1, iY, iZ + 1, iW + 1, seed),
+            evaluateCoord4D(iX, iY + 1, iZ + 1, iW + 1, seed),
+            evaluateCoord4D(iX + 1, iY + 1, iZ + 1, iW + 1, seed)
+        };
+    }
+
     private static double evaluateCoord1D(long x, long seed) {
         int n = (int) ((seed) ^ (X_PRIME * (x)));
 
-        return (n * n * n * 60493) / 2147483648.0;
+        return evaluateHash(n);
     }
 
     private static double evaluateCoord2D(long x, long y, long seed) {
         int n = (int) ((seed) ^ (X_PRIME * (x)));
         n ^= Y_PRIME * y;
 
-        return (n * n * n * 60493) / 2147483648.0;
+        return evaluateHash(n);
     }
 
     private static double evaluateCoord3D(long x, long y, long z, long seed) {
@@ -160,7 +615,7 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
         n ^= Y_PRIME * y;
         n ^= Z_PRIME * z;
 
-        return (n * n * n * 60493) / 2147483648.0;
+        return evaluateHash(n);
     }
 
     private static double evaluateCoord4D(long x, long y, long z, long w, long seed) {
@@ -169,9 +624,22 @@ public final class ValueNoiseGenerator implements SeededNoiseGenerator {
         n ^= Z_PRIME * z;
         n ^= W_PRIME * w;
 
+        return evaluateHash(n);
+    }
+
+    private static double evaluateHash(int n) {
         return (n * n * n * 60493) / 2147483648.0;
     }
 
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("value")
+            .setLong("seed", seed)
+            .setConstant("interpolation", Interpolation.class, interpolation)
+            .setConstant("fadeFunction", FadeFunction.class, fadeFunction)
+            .build();
+    }
+
     /**
      * Gets a {@link ValueNoiseBuilder} to build a {@link ValueNoiseGenerator}.
      *
@@ -0,0 +1,127 @@
+package de.articdive.jnoise.generators.noisegen.worley;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache holding the feature points of recently visited unit sections of a {@link WorleyNoiseGenerator}.
+ * Every thread owns a separate direct-mapped table, so lookups never lock and never contend.
+ * A table slot is selected by the unit section's hash, a colliding unit section simply replaces the previous entry.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class FeaturePointCache {
+    private final int capacity;
+    private final ThreadLocal<Table> tables;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    FeaturePointCache(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The feature point cache size must be positive.");
+        }
+        // Round up to a power of two, so slots can be selected with a mask.
+        int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.capacity = capacity;
+        this.tables = ThreadLocal.withInitial(() -> new Table(capacity));
+    }
+
+    /**
+     * Gets the cache table belonging to the current thread.
+     *
+     * @return the current thread's {@link Table}.
+     */
+    Table table() {
+        return tables.get();
+    }
+
+    /**
+     * Records the outcome of the lookups of a single evaluation.
+     *
+     * @param hits   amount of lookups that found their unit section.
+     * @param misses amount of lookups that had to generate their unit section.
+     */
+    void record(int hits, int misses) {
+        this.hits.add(hits);
+        this.misses.add(misses);
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * A direct-mapped table confined to a single thread.
+     * It does not reference its cache, so the thread local holding it can be collected with the cache.
+     */
+    @NullMarked
+    static final class Table {
+        private final int capacity;
+        private final long[] seeds;
+        // The unit section's coordinates, unused axes are 0.
+        private final long[] sections;
+        private final int[] dimensions;
+        private final double[] @Nullable [] points;
+
+        private Table(int capacity) {
+            this.capacity = capacity;
+            this.seeds = new long[capacity];
+            this.sections = new long[capacity * 4];
+            this.dimensions = new int[capacity];
+            this.points = new double[capacity][];
+        }
+
+        /**
+         * Gets the cached feature points of a unit section.
+         *
+         * @param seed    seed of the evaluation.
+         * @param section coordinates of the unit section, its length is the dimension.
+         * @param hash    hash of the unit section.
+         * @return the feature points of the unit section or null if they are not cached.
+         */
+        double @Nullable [] get(long seed, long[] section, int hash) {
+            int slot = hash & (capacity - 1);
+            double[] cached = points[slot];
+            if (cached == null || seeds[slot] != seed || dimensions[slot] != section.length) {
+                return null;
+            }
+            int offset = slot * 4;
+            for (int i = 0; i < section.length; i++) {
+                if (sections[offset + i] != section[i]) {
+                    return null;
+                }
+            }
+            return cached;
+        }
+
+        /**
+         * Caches the feature points of a unit section, replacing the section occupying the same slot.
+         *
+         * @param seed          seed of the evaluation.
+         * @param section       coordinates of the unit section, its length is the dimension.
+         * @param hash          hash of the unit section.
+         * @param featurePoints the feature points of the unit section.
+         */
+        void put(long seed, long[] section, int hash, double[] featurePoints) {
+            int slot = hash & (capacity - 1);
+            seeds[slot] = seed;
+            dimensions[slot] = section.length;
+            int offset = slot * 4;
+            for (int i = 0; i < 4; i++) {
+                sections[offset + i] = i < section.length ? section[i] : 0;
+            }
+            points[slot] = featurePoints;
+        }
+    }
+}
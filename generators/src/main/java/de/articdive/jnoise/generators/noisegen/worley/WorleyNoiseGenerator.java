@@ -1,14 +1,18 @@
 package de.articdive.jnoise.generators.noisegen.worley;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.functions.Combiner;
 import de.articdive.jnoise.core.api.noisegen.SeededExplicitNoiseGenerator;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import de.articdive.jnoise.core.util.HashUtil;
 import de.articdive.jnoise.generators.noise_parameters.distance_functions.DistanceFunction;
 import de.articdive.jnoise.generators.noise_parameters.distance_functions.DistanceFunctionType;
+import de.articdive.jnoise.generators.noise_parameters.feature_points.FeaturePointPlacement;
 import de.articdive.jnoise.generators.noise_parameters.return_type_functions.ReturnDistanceFunction;
 import de.articdive.jnoise.generators.noise_parameters.return_type_functions.ReturnDistanceFunctionType;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -23,7 +27,8 @@ import java.util.function.IntToLongFunction;
  * @author Articdive
  */
 @NullMarked
-public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<WorleyNoiseResult> {
+public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<WorleyNoiseResult>, Definable {
+    private static final IntToLongFunction SINGLE_FEATURE_POINT = i -> 1;
     private final long seed;
 
     private final int depth;
@@ -31,14 +36,29 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
     private final IntToLongFunction fpAmountFunction;
     private final ReturnDistanceFunction returnDistanceFunction;
     private final Combiner minFunction;
-
-    private WorleyNoiseGenerator(long seed, int depth, DistanceFunction distanceFunction, IntToLongFunction fpAmountFunction, ReturnDistanceFunction returnDistanceFunction, Combiner minFunction) {
+    private final FeaturePointPlacement featurePointPlacement;
+    private final int featurePointCacheSize;
+    private final @Nullable FeaturePointCache featurePointCache;
+
+    private WorleyNoiseGenerator(
+        long seed,
+        int depth,
+        DistanceFunction distanceFunction,
+        IntToLongFunction fpAmountFunction,
+        ReturnDistanceFunction returnDistanceFunction,
+        Combiner minFunction,
+        FeaturePointPlacement featurePointPlacement,
+        int featurePointCacheSize
+    ) {
         this.seed = seed;
         this.depth = depth;
         this.distanceFunction = distanceFunction;
         this.fpAmountFunction = fpAmountFunction;
         this.returnDistanceFunction = returnDistanceFunction;
         this.minFunction = minFunction;
+        this.featurePointPlacement = featurePointPlacement;
+        this.featurePointCacheSize = featurePointCacheSize;
+        this.featurePointCache = featurePointCacheSize > 0 ? new FeaturePointCache(featurePointCacheSize) : null;
     }
 
     @Override
@@ -83,6 +103,9 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
 
     @Override
     public WorleyNoiseResult evaluateNoiseResult(double x, long seed) {
+        if (featurePointCache != null) {
+            return evaluateCached(featurePointCache, seed, new double[]{x});
+        }
         long iX = (long) Math.floor(x);
         double[] distancesStack = new double[depth];
         Arrays.fill(distancesStack, Double.MAX_VALUE);
@@ -95,11 +118,12 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
 
 
             int hash = HashUtil.hash1D(seed, secX);
-            Random fpRNG = new Random(hash);
+            Random fpRNG = featurePointPlacement == FeaturePointPlacement.RANDOM ? new Random(hash) : null;
+            long counter = 0;
 
             // For performance reasons this can at most be 10:
             for (int i = 0; i < Math.max(1, fpAmountFunction.applyAsLong(hash)); i++) {
-                double pointX = fpRNG.nextDouble() + secX;
+                double pointX = featurePointOffset(fpRNG, hash, counter++) + secX;
                 double distance = distanceFunction.distance(
                     x,
                     pointX
@@ -121,6 +145,9 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
 
     @Override
     public WorleyNoiseResult evaluateNoiseResult(double x, double y, long seed) {
+        if (featurePointCache != null) {
+            return evaluateCached(featurePointCache, seed, new double[]{x, y});
+        }
         long iX = (long) Math.floor(x);
         long iY = (long) Math.floor(y);
         double[] distancesStack = new double[depth];
@@ -136,12 +163,13 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
                 long secY = iY + yOffset;
 
                 int hash = HashUtil.hash2D(seed, secX, secY);
-                Random fpRNG = new Random(hash);
+                Random fpRNG = featurePointPlacement == FeaturePointPlacement.RANDOM ? new Random(hash) : null;
+                long counter = 0;
 
                 // For performance reasons this can at most be 10:
                 for (int i = 0; i < Math.max(1, fpAmountFunction.applyAsLong(hash)); i++) {
-                    double pointX = fpRNG.nextDouble() + secX;
-                    double pointY = fpRNG.nextDouble() + secY;
+                    double pointX = featurePointOffset(fpRNG, hash, counter++) + secX;
+                    double pointY = featurePointOffset(fpRNG, hash, counter++) + secY;
                     double distance = distanceFunction.distance(
                         x,
                         y,
@@ -166,6 +194,9 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
 
     @Override
     public WorleyNoiseResult evaluateNoiseResult(double x, double y, double z, long seed) {
+        if (featurePointCache != null) {
+            return evaluateCached(featurePointCache, seed, new double[]{x, y, z});
+        }
         long iX = (long) Math.floor(x);
         long iY = (long) Math.floor(y);
         long iZ = (long) Math.floor(z);
@@ -184,13 +215,14 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
                     long secZ = iZ + zOffset;
 
                     int hash = HashUtil.hash3D(seed, secX, secY, secZ);
-                    Random fpRNG = new Random(hash);
+                    Random fpRNG = featurePointPlacement == FeaturePointPlacement.RANDOM ? new Random(hash) : null;
+                    long counter = 0;
 
                     // For performance reasons this can at most be 10:
                     for (int i = 0; i < Math.max(1, fpAmountFunction.applyAsLong(hash)); i++) {
-                        double pointX = fpRNG.nextDouble() + secX;
-                        double pointY = fpRNG.nextDouble() + secY;
-                        double pointZ = fpRNG.nextDouble() + secZ;
+                        double pointX = featurePointOffset(fpRNG, hash, counter++) + secX;
+                        double pointY = featurePointOffset(fpRNG, hash, counter++) + secY;
+                        double pointZ = featurePointOffset(fpRNG, hash, counter++) + secZ;
                         double distance = distanceFunction.distance(
                             x,
                             y,
@@ -220,6 +252,9 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
 
     @Override
     public WorleyNoiseResult evaluateNoiseResult(double x, double y, double z, double w, long seed) {
+        if (featurePointCache != null) {
+            return evaluateCached(featurePointCache, seed, new double[]{x, y, z, w});
+        }
         long iX = (long) Math.floor(x);
         long iY = (long) Math.floor(y);
         long iZ = (long) Math.floor(z);
@@ -242,14 +277,15 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
                         long secW = iW + wOffset;
 
                         int hash = HashUtil.hash4D(seed, secX, secY, secZ, secW);
-                        Random fpRNG = new Random(hash);
+                        Random fpRNG = featurePointPlacement == FeaturePointPlacement.RANDOM ? new Random(hash) : null;
+                        long counter = 0;
 
                         // For performance reasons this can at most be 10:
                         for (int i = 0; i < fpAmountFunction.applyAsLong(hash); i++) {
-                            double pointX = fpRNG.nextDouble() + secX;
-                            double pointY = fpRNG.nextDouble() + secY;
-                            double pointZ = fpRNG.nextDouble() + secZ;
-                            double pointW = fpRNG.nextDouble() + secW;
+                            double pointX = featurePointOffset(fpRNG, hash, counter++) + secX;
+                            double pointY = featurePointOffset(fpRNG, hash, counter++) + secY;
+                            double pointZ = featurePointOffset(fpRNG, hash, counter++) + secZ;
+                            double pointW = featurePointOffset(fpRNG, hash, counter++) + secW;
                             double distance = distanceFunction.distance(
                                 x,
                                 y,
@@ -306,6 +342,142 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
         return seed;
     }
 
+    /**
+     * Gets the amount of feature point cache lookups that found the feature points of their unit section.
+     *
+     * @return the amount of cache hits, 0 if the feature point cache is disabled.
+     */
+    public long getFeaturePointCacheHits() {
+        return featurePointCache != null ? featurePointCache.getHits() : 0;
+    }
+
+    /**
+     * Gets the amount of feature point cache lookups that had to generate the feature points of their unit section.
+     *
+     * @return the amount of cache misses, 0 if the feature point cache is disabled.
+     */
+    public long getFeaturePointCacheMisses() {
+        return featurePointCache != null ? featurePointCache.getMisses() : 0;
+    }
+
+    private WorleyNoiseResult evaluateCached(FeaturePointCache cache, long seed, double[] position) {
+        int dimension = position.length;
+        long[] base = new long[dimension];
+        for (int axis = 0; axis < dimension; axis++) {
+            base[axis] = (long) Math.floor(position[axis]);
+        }
+        double[] distancesStack = new double[depth];
+        Arrays.fill(distancesStack, Double.MAX_VALUE);
+        // distancesStack[0] is the shortest distance.
+        double[] closestPoint = new double[dimension];
+        long[] section = new long[dimension];
+        FeaturePointCache.Table table = cache.table();
+        int hits = 0;
+        int misses = 0;
+
+        // 3^n unit sections surround the position.
+        int sections = 1;
+        for (int axis = 0; axis < dimension; axis++) {
+            sections *= 3;
+        }
+        for (int s = 0; s < sections; s++) {
+            // The first axis changes the slowest, so the sections are visited in the same order as without a cache.
+            int digits = s;
+            for (int axis = dimension - 1; axis >= 0; axis--) {
+                section[axis] = base[axis] + (digits % 3) - 1;
+                digits /= 3;
+            }
+            int hash = hashSection(seed, section);
+            double[] featurePoints = table.get(seed, section, hash);
+            if (featurePoints == null) {
+                featurePoints = createFeaturePoints(section, hash);
+                table.put(seed, section, hash, featurePoints);
+                misses++;
+            } else {
+                hits++;
+            }
+
+            for (int p = 0; p < featurePoints.length; p += dimension) {
+                double distance = distance(position, featurePoints, p);
+
+                // Handle the distances stack from bottom up
+                for (int d = depth - 1; d >= 1; d--) {
+                    distancesStack[d] = Math.max(minFunction.applyTo(distancesStack[d], distance), distancesStack[d - 1]);
+                }
+                if (distance < distancesStack[0]) {
+                    distancesStack[0] = minFunction.applyTo(distance, distancesStack[0]);
+                    System.arraycopy(featurePoints, p, closestPoint, 0, dimension);
+                }
+            }
+        }
+        cache.record(hits, misses);
+        return new WorleyNoiseResult(returnDistanceFunction.applyAsDouble(distancesStack), closestPoint);
+    }
+
+    private double[] createFeaturePoints(long[] section, int hash) {
+        int dimension = section.length;
+        long amount = fpAmountFunction.applyAsLong(hash);
+        // Matches the uncached evaluation, which always places at least one feature point in 1D, 2D and 3D.
+        int count = (int) (dimension == 4 ? Math.max(0, amount) : Math.max(1, amount));
+        double[] featurePoints = new double[count * dimension];
+        Random fpRNG = featurePointPlacement == FeaturePointPlacement.RANDOM ? new Random(hash) : null;
+        long counter = 0;
+        for (int i = 0; i < featurePoints.length; i++) {
+            featurePoints[i] = featurePointOffset(fpRNG, hash, counter++) + section[i % dimension];
+        }
+        return featurePoints;
+    }
+
+    private double distance(double[] position, double[] featurePoints, int p) {
+        return switch (position.length) {
+            case 1 -> distanceFunction.distance(position[0], featurePoints[p]);
+            case 2 -> distanceFunction.distance(position[0], position[1], featurePoints[p], featurePoints[p + 1]);
+            case 3 -> distanceFunction.distance(
+                position[0], position[1], position[2],
+                featurePoints[p], featurePoints[p + 1], featurePoints[p + 2]
+            );
+            default -> distanceFunction.distance(
+                position[0], position[1], position[2], position[3],
+                featurePoints[p], featurePoints[p + 1], featurePoints[p + 2], featurePoints[p + 3]
+            );
+        };
+    }
+
+    private static int hashSection(long seed, long[] section) {
+        return switch (section.length) {
+            case 1 -> HashUtil.hash1D(seed, section[0]);
+            case 2 -> HashUtil.hash2D(seed, section[0], section[1]);
+            case 3 -> HashUtil.hash3D(seed, section[0], section[1], section[2]);
+            default -> HashUtil.hash4D(seed, section[0], section[1], section[2], section[3]);
+        };
+    }
+
+    private static double featurePointOffset(@Nullable Random fpRNG, int hash, long counter) {
+        // Random placement consumes its generator sequentially, hashed placement derives every offset directly.
+        return fpRNG != null ? fpRNG.nextDouble() : HashUtil.uniformDouble(hash, counter);
+    }
+
+    // Feature point amount functions cannot be serialized, so only the default of a single feature point can be defined.
+    @Override
+    public NoiseDefinition getDefinition() {
+        if (fpAmountFunction != SINGLE_FEATURE_POINT) {
+            throw new IllegalArgumentException("Worley noise with a custom feature point amount function cannot be defined.");
+        }
+        NoiseDefinition.NoiseDefinitionBuilder builder = NoiseDefinition.newBuilder("worley")
+            .setLong("seed", seed)
+            .setLong("depth", depth)
+            .setConstant("returnDistanceFunction", ReturnDistanceFunctionType.class, returnDistanceFunction)
+            .setConstant("minFunction", Combiner.class, minFunction)
+            .setConstant("featurePointPlacement", FeaturePointPlacement.class, featurePointPlacement)
+            .setLong("featurePointCacheSize", featurePointCacheSize);
+        if (distanceFunction instanceof DistanceFunctionType) {
+            builder.setConstant("distanceFunction", DistanceFunctionType.class, distanceFunction);
+        } else {
+            builder.setDefinition("distanceFunction", distanceFunction);
+        }
+        return builder.build();
+    }
+
     /**
      * Gets a {@link WorleyNoiseBuilder} to build a {@link WorleyNoiseGenerator}.
      *
@@ -323,9 +495,11 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
         private long seed = 1729;
         private int depth = 1;
         private DistanceFunction distanceFunction = DistanceFunctionType.EUCLIDEAN_SQUARED;
-        private IntToLongFunction fpAmountFunction = i -> 1;
+        private IntToLongFunction fpAmountFunction = SINGLE_FEATURE_POINT;
         private ReturnDistanceFunction returnDistanceFunction = ReturnDistanceFunctionType.DISTANCE_0;
         private Combiner minFunction = Combiner.MIN;
+        private FeaturePointPlacement featurePointPlacement = FeaturePointPlacement.RANDOM;
+        private int featurePointCacheSize = 0;
 
         private WorleyNoiseBuilder() {
 
@@ -408,12 +582,43 @@ public final class WorleyNoiseGenerator implements SeededExplicitNoiseGenerator<
             return this;
         }
 
+        /**
+         * Sets how the feature points are placed in a unit section for the {@link WorleyNoiseGenerator}.
+         * Defaults to {@link FeaturePointPlacement#RANDOM}, which reproduces noise generated by previous versions.
+         * {@link FeaturePointPlacement#HASHED} is considerably faster, but yields different noise.
+         *
+         * @param featurePointPlacement The new {@link FeaturePointPlacement} for the {@link WorleyNoiseGenerator}.
+         * @return {@link WorleyNoiseBuilder} this
+         */
+        public WorleyNoiseBuilder setFeaturePointPlacement(FeaturePointPlacement featurePointPlacement) {
+            this.featurePointPlacement = featurePointPlacement;
+            return this;
+        }
+
+        /**
+         * Sets the size of the feature point cache for the {@link WorleyNoiseGenerator}.
+         * The cache holds the feature points of the most recently visited unit sections of every thread,
+         * so that neighbouring samples do not have to generate them again.
+         * The size is rounded up to a power of two and applies to every thread separately.
+         * A size of 0 (the default) disables the cache.
+         *
+         * @param featurePointCacheSize The new feature point cache size for the {@link WorleyNoiseGenerator}.
+         * @return {@link WorleyNoiseBuilder} this
+         */
+        public WorleyNoiseBuilder setFeaturePointCacheSize(int featurePointCacheSize) {
+            this.featurePointCacheSize = featurePointCacheSize;
+            return this;
+        }
+
         @Override
         public WorleyNoiseGenerator build() {
             if (!returnDistanceFunction.isValidArrayLength(depth)) {
                 throw new IllegalArgumentException("Invalid depth for the specified return distance function!");
             }
-            return new WorleyNoiseGenerator(seed, depth, distanceFunction, fpAmountFunction, returnDistanceFunction, minFunction);
+            if (featurePointCacheSize < 0) {
+                throw new IllegalArgumentException("The feature point cache size must not be negative!");
+            }
+            return new WorleyNoiseGenerator(seed, depth, distanceFunction, fpAmountFunction, returnDistanceFunction, minFunction, featurePointPlacement, featurePointCacheSize);
         }
     }
 }
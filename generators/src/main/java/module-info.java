@@ -5,7 +5,9 @@
  */
 module de.articdive.jnoise.generators {
   exports de.articdive.jnoise.generators.noise_parameters.distance_functions;
+  exports de.articdive.jnoise.generators.noise_parameters.feature_points;
   exports de.articdive.jnoise.generators.noise_parameters.fade_functions;
+  exports de.articdive.jnoise.generators.noise_parameters.gaussian_sampling;
   exports de.articdive.jnoise.generators.noise_parameters.interpolation;
   exports de.articdive.jnoise.generators.noise_parameters.return_type_functions;
   exports de.articdive.jnoise.generators.noise_parameters.simplex_variants;
@@ -0,0 +1,69 @@
+import de.articdive.jnoise.generators.noise_parameters.gaussian_sampling.GaussianSampling;
+import de.articdive.jnoise.generators.noisegen.random.gaussian.GaussianWhiteNoiseGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Articdive
+ */
+final class GaussianWhiteNoiseTests {
+    public static final double ACCEPTABLE_DEVIATION = 1E-10;
+    private final GaussianWhiteNoiseGenerator ziggurat = GaussianWhiteNoiseGenerator.newBuilder().setSampling(GaussianSampling.ZIGGURAT).build();
+
+    @Test
+    @DisplayName("Gaussian White Noise 1D - Ziggurat Sampling")
+    void testZiggurat1D() {
+        assertAll("Is 1D Gaussian White Noise with ziggurat sampling outputting correct values?",
+            () -> assertEquals(-0.20759813414431408, ziggurat.evaluateNoise(0), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.09384778820560677, ziggurat.evaluateNoise(-1), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.08265052690475605, ziggurat.evaluateNoise(1), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.13891700822332223, ziggurat.evaluateNoise(-2), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.38795241957304194, ziggurat.evaluateNoise(2), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.42163505518718747, ziggurat.evaluateNoise(5), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.003196099528250556, ziggurat.evaluateNoise(-5), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.03221223487187872, ziggurat.evaluateNoise(100), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.5286435050652554, ziggurat.evaluateNoise(-1000), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.4791176672709121, ziggurat.evaluateNoise(24), ACCEPTABLE_DEVIATION)
+        );
+    }
+
+    @Test
+    @DisplayName("Gaussian White Noise 2D, 3D & 4D - Ziggurat Sampling")
+    void testZigguratMultiDimensional() {
+        assertAll("Is multidimensional Gaussian White Noise with ziggurat sampling outputting correct values?",
+            () -> assertEquals(-0.054655053488767535, ziggurat.evaluateNoise(0.5, 1.0), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.49670920738965735, ziggurat.evaluateNoise(-3.25, -6.5), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.24884415217866335, ziggurat.evaluateNoise(0.5, 1.0, 1.5), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.3115823052049583, ziggurat.evaluateNoise(-3.25, -6.5, -9.75), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.07075540827612074, ziggurat.evaluateNoise(0.5, 1.0, 1.5, 2.0), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(-0.018002036951741084, ziggurat.evaluateNoise(-3.25, -6.5, -9.75, -13.0), ACCEPTABLE_DEVIATION)
+        );
+    }
+
+    @Test
+    @DisplayName("Gaussian White Noise - Ziggurat Sampling Distribution")
+    void testZigguratDistribution() {
+        GaussianWhiteNoiseGenerator standard = GaussianWhiteNoiseGenerator.newBuilder()
+            .setStandardDeviation(1.0)
+            .setSampling(GaussianSampling.ZIGGURAT)
+            .build();
+        int samples = 0;
+        double sum = 0;
+        double squareSum = 0;
+        for (int x = 0; x < 500; x++) {
+            for (int y = 0; y < 500; y++) {
+                double value = standard.evaluateNoise(x, y);
+                samples++;
+                sum += value;
+                squareSum += value * value;
+            }
+        }
+        double mean = sum / samples;
+        double variance = squareSum / samples - mean * mean;
+        assertEquals(0.0, mean, 0.01, "Mean of the ziggurat samples should be 0.");
+        assertEquals(1.0, variance, 0.01, "Variance of the ziggurat samples should be 1.");
+    }
+}
@@ -0,0 +1,319 @@
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import de.articdive.jnoise.generators.noisegen.constant.ConstantNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.pattern.CheckerboardNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.random.white.WhiteNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the specialized bulk evaluations yield exactly the same values as single point evaluations.
+ *
+ * @author Articdive
+ */
+final class RegionFillTests {
+    // Powers of two take the exact lattice path, the others are rounded like evenly spaced coordinates.
+    private static final double[] SPACINGS = new double[]{1, 1.0 / 16, 1.0 / 1024, 0.37, 3, -0.5};
+    private static final NoiseSource[] SOURCES = new NoiseSource[]{
+        PerlinNoiseGenerator.newBuilder().setSeed(4096).build(),
+        PerlinNoiseGenerator.newBuilder().setSeed(-1).setInterpolation(Interpolation.COSINE).setFadeFunction(FadeFunction.CUBIC_POLY).build(),
+        ValueNoiseGenerator.newBuilder().setSeed(4096).build(),
+        WhiteNoiseGenerator.newBuilder().setSeed(4096).build(),
+        CheckerboardNoiseGenerator.newBuilder().build(),
+        ConstantNoiseGenerator.newBuilder().setConstant(0.25).build(),
+        FastSimplexNoiseGenerator.newBuilder().setSeed(4096).build(),
+        SuperSimplexNoiseGenerator.newBuilder().setSeed(4096).setVariant2D(Simplex2DVariant.IMPROVE_X).setVariant3D(Simplex3DVariant.IMPROVE_XZ).build()
+    };
+
+    @Test
+    @DisplayName("Region Fill 2D - Matches point evaluation")
+    void testFill2D() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (int t = 0; t < 10; t++) {
+                double x0 = (random.nextDouble() - 0.5) * 1000;
+                double y0 = (random.nextDouble() - 0.5) * 1000;
+                double dx = (random.nextDouble() - 0.5) * 2;
+                double dy = random.nextDouble() * 2;
+                int nx = 1 + random.nextInt(24);
+                int ny = 1 + random.nextInt(24);
+                double[] out = new double[nx * ny];
+                source.fill2D(out, x0, y0, dx, dy, nx, ny);
+                for (int j = 0; j < ny; j++) {
+                    for (int i = 0; i < nx; i++) {
+                        assertEquals(source.evaluateNoise(x0 + i * dx, y0 + j * dy), out[i + nx * j]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill 3D - Matches point evaluation")
+    void testFill3D() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (int t = 0; t < 10; t++) {
+                double x0 = (random.nextDouble() - 0.5) * 1000;
+                double y0 = (random.nextDouble() - 0.5) * 1000;
+                double z0 = (random.nextDouble() - 0.5) * 1000;
+                double dx = (random.nextDouble() - 0.5) * 2;
+                double dy = random.nextDouble() * 2;
+                double dz = random.nextDouble() * 2;
+                int nx = 1 + random.nextInt(16);
+                int ny = 1 + random.nextInt(16);
+                int nz = 1 + random.nextInt(16);
+                double[] out = new double[nx * ny * nz];
+                source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+                for (int k = 0; k < nz; k++) {
+                    for (int j = 0; j < ny; j++) {
+                        for (int i = 0; i < nx; i++) {
+                            assertEquals(source.evaluateNoise(x0 + i * dx, y0 + j * dy, z0 + k * dz), out[i + nx * (j + ny * k)]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill 2D Float - Matches narrowed point evaluation")
+    void testFillFloat2D() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (int t = 0; t < 10; t++) {
+                double x0 = (random.nextDouble() - 0.5) * 1000;
+                double y0 = t == 0 ? -0.0 : (random.nextDouble() - 0.5) * 1000;
+                double dx = (random.nextDouble() - 0.5) * 2;
+                double dy = random.nextDouble() * 2;
+                int nx = 1 + random.nextInt(24);
+                int ny = 1 + random.nextInt(24);
+                float[] out = new float[nx * ny];
+                source.fill2D(out, x0, y0, dx, dy, nx, ny);
+                for (int j = 0; j < ny; j++) {
+                    for (int i = 0; i < nx; i++) {
+                        assertEquals((float) source.evaluateNoise(x0 + i * dx, y0 + j * dy), out[i + nx * j]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill 3D Float - Matches narrowed point evaluation")
+    void testFillFloat3D() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (int t = 0; t < 10; t++) {
+                double x0 = (random.nextDouble() - 0.5) * 1000;
+                double y0 = (random.nextDouble() - 0.5) * 1000;
+                double z0 = t == 0 ? -0.0 : (random.nextDouble() - 0.5) * 1000;
+                double dx = (random.nextDouble() - 0.5) * 2;
+                double dy = random.nextDouble() * 2;
+                double dz = random.nextDouble() * 2;
+                int nx = 1 + random.nextInt(16);
+                int ny = 1 + random.nextInt(16);
+                int nz = 1 + random.nextInt(16);
+                float[] out = new float[nx * ny * nz];
+                source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+                for (int k = 0; k < nz; k++) {
+                    for (int j = 0; j < ny; j++) {
+                        for (int i = 0; i < nx; i++) {
+                            assertEquals((float) source.evaluateNoise(x0 + i * dx, y0 + j * dy, z0 + k * dz), out[i + nx * (j + ny * k)]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill Float - Matches narrowed point evaluation for regions evaluated in slices and rows")
+    void testFillFloatLargeRegions() {
+        for (NoiseSource source : new NoiseSource[]{SOURCES[0], SOURCES[2], SOURCES[3]}) {
+            // 2^18 + 2^12 samples are evaluated one row at a time.
+            int nx = 520;
+            int ny = 512;
+            float[] plane = new float[nx * ny];
+            source.fill2D(plane, -3.7, 11.1, 0.13, 0.07, nx, ny);
+            for (int j = 0; j < ny; j++) {
+                for (int i = 0; i < nx; i++) {
+                    assertEquals((float) source.evaluateNoise(-3.7 + i * 0.13, 11.1 + j * 0.07), plane[i + nx * j]);
+                }
+            }
+            // 65 slices of 2^12 samples are evaluated one slice at a time.
+            int n = 64;
+            int nz = 65;
+            float[] volume = new float[n * n * nz];
+            source.fill3D(volume, -3.7, 11.1, 0.3, 0.13, 0.07, 0.11, n, n, nz);
+            for (int k = 0; k < nz; k++) {
+                for (int j = 0; j < n; j++) {
+                    for (int i = 0; i < n; i++) {
+                        assertEquals((float) source.evaluateNoise(-3.7 + i * 0.13, 11.1 + j * 0.07, 0.3 + k * 0.11), volume[i + n * (j + n * k)]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lattice Points - Matches point evaluation")
+    void testLatticePoints() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (double spacing : SPACINGS) {
+                for (int t = 0; t < 50; t++) {
+                    // Coordinates beyond 2^53 are rounded when converted to doubles.
+                    long x = t < 40 ? random.nextInt(20000) - 10000 : random.nextLong();
+                    long y = random.nextInt(20000) - 10000;
+                    long z = random.nextInt(20000) - 10000;
+                    long w = random.nextInt(20000) - 10000;
+                    assertEquals(source.evaluateNoise(x * spacing), source.evaluateLattice(x, spacing));
+                    assertEquals(source.evaluateNoise(x * spacing, y * spacing), source.evaluateLattice(x, y, spacing));
+                    assertEquals(
+                        source.evaluateNoise(x * spacing, y * spacing, z * spacing),
+                        source.evaluateLattice(x, y, z, spacing)
+                    );
+                    assertEquals(
+                        source.evaluateNoise(x * spacing, y * spacing, z * spacing, w * spacing),
+                        source.evaluateLattice(x, y, z, w, spacing)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lattice Region Fill 2D - Matches lattice point evaluation")
+    void testFillLattice2D() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (double spacing : SPACINGS) {
+                long x0 = random.nextInt(2000) - 1000;
+                long y0 = random.nextInt(2000) - 1000;
+                int nx = 1 + random.nextInt(40);
+                int ny = 1 + random.nextInt(40);
+                double[] out = new double[nx * ny];
+                source.fillLattice2D(out, x0, y0, spacing, nx, ny);
+                for (int j = 0; j < ny; j++) {
+                    for (int i = 0; i < nx; i++) {
+                        assertEquals(source.evaluateLattice(x0 + i, y0 + j, spacing), out[i + nx * j]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lattice Region Fill 3D - Matches lattice point evaluation")
+    void testFillLattice3D() {
+        Random random = new Random(1000);
+        for (NoiseSource source : SOURCES) {
+            for (double spacing : SPACINGS) {
+                long x0 = random.nextInt(2000) - 1000;
+                long y0 = random.nextInt(2000) - 1000;
+                long z0 = random.nextInt(2000) - 1000;
+                int nx = 1 + random.nextInt(20);
+                int ny = 1 + random.nextInt(20);
+                int nz = 1 + random.nextInt(20);
+                double[] out = new double[nx * ny * nz];
+                source.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+                for (int k = 0; k < nz; k++) {
+                    for (int j = 0; j < ny; j++) {
+                        for (int i = 0; i < nx; i++) {
+                            assertEquals(source.evaluateLattice(x0 + i, y0 + j, z0 + k, spacing), out[i + nx * (j + ny * k)]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Bounds - Contain every sampled value")
+    void testBounds() {
+        for (NoiseSource source : SOURCES) {
+            NoiseBounds bounds = source.getBounds();
+            double[] out = new double[32 * 32 * 32];
+            source.fill3D(out, -12.3, 45.6, 78.9, 0.137, 0.137, 0.137, 32, 32, 32);
+            for (double value : out) {
+                assertTrue(bounds.contains(value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill - Box bounds contain every value of their box")
+    void testBoxBounds() {
+        Random random = new Random(4096);
+        for (NoiseSource source : SOURCES) {
+            for (int i = 0; i < 64; i++) {
+                double x0 = random.nextDouble(-100, 100);
+                double y0 = random.nextDouble(-100, 100);
+                double z0 = random.nextDouble(-100, 100);
+                double step = random.nextDouble(0.001, 0.5);
+                NoiseBounds bounds2D = source.getBounds2D(x0, y0, x0 + 7 * step, y0 + 7 * step);
+                NoiseBounds bounds3D = source.getBounds3D(x0, y0, z0, x0 + 7 * step, y0 + 7 * step, z0 + 7 * step);
+                double[] out2D = new double[8 * 8];
+                double[] out3D = new double[8 * 8 * 8];
+                source.fill2D(out2D, x0, y0, step, step, 8, 8);
+                source.fill3D(out3D, x0, y0, z0, step, step, step, 8, 8, 8);
+                for (double value : out2D) {
+                    assertTrue(bounds2D.contains(value));
+                }
+                for (double value : out3D) {
+                    assertTrue(bounds3D.contains(value));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill - Small simplex boxes are bounded tighter than the generator")
+    void testSimplexBoxBounds() {
+        Random random = new Random(2048);
+        for (NoiseSource source : new NoiseSource[]{SOURCES[6], SOURCES[7]}) {
+            for (int i = 0; i < 64; i++) {
+                double x0 = random.nextDouble(-100, 100);
+                double y0 = random.nextDouble(-100, 100);
+                double z0 = random.nextDouble(-100, 100);
+                NoiseBounds bounds2D = source.getBounds2D(x0, y0, x0 + 0.005, y0 + 0.005);
+                NoiseBounds bounds3D = source.getBounds3D(x0, y0, z0, x0 + 0.005, y0 + 0.005, z0 + 0.005);
+                assertTrue(bounds2D.getMax() - bounds2D.getMin() < 0.5);
+                assertTrue(bounds3D.getMax() - bounds3D.getMin() < 0.5);
+                assertTrue(bounds2D.contains(source.evaluateNoise(x0, y0)));
+                assertTrue(bounds3D.contains(source.evaluateNoise(x0 + 0.005, y0 + 0.005, z0 + 0.005)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Fill - Invalid regions")
+    void testInvalidRegions() {
+        NoiseSource perlin = SOURCES[0];
+        assertAll("Are invalid regions rejected?",
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fill2D(new double[15], 0, 0, 1, 1, 4, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fill2D(new double[16], 0, 0, 1, 1, -4, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fill3D(new double[63], 0, 0, 0, 1, 1, 1, 4, 4, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fill2D(new float[15], 0, 0, 1, 1, 4, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fill3D(new float[63], 0, 0, 0, 1, 1, 1, 4, 4, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fillLattice2D(new double[15], 0, 0, 1, 4, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> perlin.fillLattice3D(new double[63], 0, 0, 0, 1, 4, 4, 4))
+        );
+    }
+}
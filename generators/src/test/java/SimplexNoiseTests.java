@@ -1,3 +1,5 @@
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
+import de.articdive.jnoise.core.api.noisegen.SeededExplicitNoiseGenerator;
 import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
 import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
 import org.junit.jupiter.api.DisplayName;
@@ -708,4 +710,62 @@ final class SimplexNoiseTests {
             }
         }
     }
+
+    @Test
+    @DisplayName("Simplex Noise - Derivatives")
+    void testDerivatives() {
+        assertAll("Are the Simplex Noise derivatives matching the finite differences of their values?",
+            () -> assertDerivatives(simplexSuper, 2),
+            () -> assertDerivatives(simplexSuper, 3),
+            () -> assertDerivatives(simplexSuper, 4),
+            () -> assertDerivatives(simplexFast, 2),
+            () -> assertDerivatives(simplexFast, 3),
+            () -> assertDerivatives(simplexFast, 4)
+        );
+    }
+
+    // The kernels are computed in single precision, so a small share of samples is allowed to differ,
+    // e.g. where the lattice points contributing to a sample change between the two offset evaluations.
+    private static void assertDerivatives(SeededExplicitNoiseGenerator<DerivativeNoiseResult> generator, int dimensions) {
+        Random random = new Random(1000);
+        double step = 1E-4;
+        int mismatches = 0;
+        for (int i = 0; i < 1000; i++) {
+            double[] point = new double[dimensions];
+            for (int d = 0; d < dimensions; d++) {
+                point[d] = random.nextDouble() * 200 - 100;
+            }
+            DerivativeNoiseResult result = evaluateResult(generator, point);
+            assertEquals(evaluate(generator, point), result.getValue());
+            for (int d = 0; d < dimensions; d++) {
+                double[] high = point.clone();
+                double[] low = point.clone();
+                high[d] += step;
+                low[d] -= step;
+                double difference = (evaluate(generator, high) - evaluate(generator, low)) / (2 * step);
+                if (Math.abs(difference - result.getDerivatives()[d]) > 1E-2) {
+                    mismatches++;
+                }
+            }
+        }
+        if (mismatches > 10) {
+            fail("Simplex Noise derivatives differ from their finite differences at " + mismatches + " samples.");
+        }
+    }
+
+    private static double evaluate(SeededExplicitNoiseGenerator<DerivativeNoiseResult> generator, double[] point) {
+        return switch (point.length) {
+            case 2 -> generator.evaluateNoise(point[0], point[1]);
+            case 3 -> generator.evaluateNoise(point[0], point[1], point[2]);
+            default -> generator.evaluateNoise(point[0], point[1], point[2], point[3]);
+        };
+    }
+
+    private static DerivativeNoiseResult evaluateResult(SeededExplicitNoiseGenerator<DerivativeNoiseResult> generator, double[] point) {
+        return switch (point.length) {
+            case 2 -> generator.evaluateNoiseResult(point[0], point[1]);
+            case 3 -> generator.evaluateNoiseResult(point[0], point[1], point[2]);
+            default -> generator.evaluateNoiseResult(point[0], point[1], point[2], point[3]);
+        };
+    }
 }
@@ -1,4 +1,5 @@
 import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
 import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
 import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
 import org.junit.jupiter.api.DisplayName;
@@ -365,4 +366,60 @@ final class ValueNoiseTests {
             }
         }
     }
+
+    @Test
+    @DisplayName("Value Noise - Derivatives")
+    void testDerivatives() {
+        assertDerivatives(ValueNoiseGenerator.newBuilder()
+            .setSeed(3301)
+            .setInterpolation(Interpolation.CUBIC)
+            .setFadeFunction(FadeFunction.QUINTIC_POLY).build());
+    }
+
+    @Test
+    @DisplayName("Value Noise - Derivatives with the default Interpolation and FadeFunction")
+    void testDefaultDerivatives() {
+        assertDerivatives(ValueNoiseGenerator.newBuilder().setSeed(3301).build());
+    }
+
+    @Test
+    @DisplayName("Value Noise - Derivatives with the cosine Interpolation and the trigonometric FadeFunction")
+    void testCosineDerivatives() {
+        assertDerivatives(ValueNoiseGenerator.newBuilder()
+            .setSeed(3301)
+            .setInterpolation(Interpolation.COSINE)
+            .setFadeFunction(FadeFunction.TRIGONOMETRIC).build());
+    }
+
+    private static void assertDerivatives(ValueNoiseGenerator smooth) {
+        Random random = new Random(1000);
+        double step = 1E-6;
+        for (int i = 0; i < 1000; i++) {
+            double x = random.nextDouble() * 200 - 100;
+            double y = random.nextDouble() * 200 - 100;
+            double z = random.nextDouble() * 200 - 100;
+            double w = random.nextDouble() * 200 - 100;
+            DerivativeNoiseResult result1D = smooth.evaluateNoiseResult(x);
+            assertEquals(smooth.evaluateNoise(x), result1D.getValue());
+            assertEquals((smooth.evaluateNoise(x + step) - smooth.evaluateNoise(x - step)) / (2 * step), result1D.getDerivatives()[0], 1E-6);
+
+            DerivativeNoiseResult result2D = smooth.evaluateNoiseResult(x, y);
+            assertEquals(smooth.evaluateNoise(x, y), result2D.getValue());
+            assertEquals((smooth.evaluateNoise(x + step, y) - smooth.evaluateNoise(x - step, y)) / (2 * step), result2D.getDerivatives()[0], 1E-6);
+            assertEquals((smooth.evaluateNoise(x, y + step) - smooth.evaluateNoise(x, y - step)) / (2 * step), result2D.getDerivatives()[1], 1E-6);
+
+            DerivativeNoiseResult result3D = smooth.evaluateNoiseResult(x, y, z);
+            assertEquals(smooth.evaluateNoise(x, y, z), result3D.getValue());
+            assertEquals((smooth.evaluateNoise(x + step, y, z) - smooth.evaluateNoise(x - step, y, z)) / (2 * step), result3D.getDerivatives()[0], 1E-6);
+            assertEquals((smooth.evaluateNoise(x, y + step, z) - smooth.evaluateNoise(x, y - step, z)) / (2 * step), result3D.getDerivatives()[1], 1E-6);
+            assertEquals((smooth.evaluateNoise(x, y, z + step) - smooth.evaluateNoise(x, y, z - step)) / (2 * step), result3D.getDerivatives()[2], 1E-6);
+
+            DerivativeNoiseResult result4D = smooth.evaluateNoiseResult(x, y, z, w);
+            assertEquals(smooth.evaluateNoise(x, y, z, w), result4D.getValue());
+            assertEquals((smooth.evaluateNoise(x + step, y, z, w) - smooth.evaluateNoise(x - step, y, z, w)) / (2 * step), result4D.getDerivatives()[0], 1E-6);
+            assertEquals((smooth.evaluateNoise(x, y + step, z, w) - smooth.evaluateNoise(x, y - step, z, w)) / (2 * step), result4D.getDerivatives()[1], 1E-6);
+            assertEquals((smooth.evaluateNoise(x, y, z + step, w) - smooth.evaluateNoise(x, y, z - step, w)) / (2 * step), result4D.getDerivatives()[2], 1E-6);
+            assertEquals((smooth.evaluateNoise(x, y, z, w + step) - smooth.evaluateNoise(x, y, z, w - step)) / (2 * step), result4D.getDerivatives()[3], 1E-6);
+        }
+    }
 }
@@ -1,3 +1,4 @@
+import de.articdive.jnoise.generators.noise_parameters.feature_points.FeaturePointPlacement;
 import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -6,6 +7,7 @@ import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Articdive
@@ -13,6 +15,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 final class WorleyNoiseTests {
     public static final double ACCEPTABLE_DEVIATION = 1E-10;
     private final WorleyNoiseGenerator worley = WorleyNoiseGenerator.newBuilder().build();
+    private final WorleyNoiseGenerator hashedWorley = WorleyNoiseGenerator.newBuilder().setFeaturePointPlacement(FeaturePointPlacement.HASHED).build();
+    private final WorleyNoiseGenerator cachedWorley = WorleyNoiseGenerator.newBuilder().setFeaturePointCacheSize(64).build();
 
     @Test
     @DisplayName("Worley Noise 1D - Integer Coordinates")
@@ -289,4 +293,47 @@ final class WorleyNoiseTests {
             () -> assertEquals(0.7443818082348129, worley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION)
         );
     }
+
+    @Test
+    @DisplayName("Worley Noise 2D - Hashed Feature Points")
+    void testHashed2D() {
+        Random random = new Random(1000);
+        assertAll("Is 2D Worley Noise with hashed feature points outputting correct values?",
+            () -> assertEquals(0.40828712217942353, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.11108954399204471, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.5257459745040259, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.04300416522118489, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.18623119014134057, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION)
+        );
+    }
+
+    @Test
+    @DisplayName("Worley Noise 3D - Hashed Feature Points")
+    void testHashed3D() {
+        Random random = new Random(1000);
+        assertAll("Is 3D Worley Noise with hashed feature points outputting correct values?",
+            () -> assertEquals(0.20293719542612634, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.3623392058284085, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.27326668041244917, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.1143801041201016, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION),
+            () -> assertEquals(0.25834652847766176, hashedWorley.evaluateNoise(random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000), random.nextDouble() * random.nextInt(100000)), ACCEPTABLE_DEVIATION)
+        );
+    }
+
+    @Test
+    @DisplayName("Worley Noise - Cached Feature Points")
+    void testCached() {
+        for (int i = 0; i < 32; i++) {
+            for (int j = 0; j < 32; j++) {
+                double x = i * 0.25;
+                double y = j * 0.25;
+                assertEquals(worley.evaluateNoise(x), cachedWorley.evaluateNoise(x));
+                assertEquals(worley.evaluateNoise(x, y), cachedWorley.evaluateNoise(x, y));
+                assertEquals(worley.evaluateNoise(x, y, x - y), cachedWorley.evaluateNoise(x, y, x - y));
+                assertEquals(worley.evaluateNoise(x, y, x - y, x + y), cachedWorley.evaluateNoise(x, y, x - y, x + y));
+            }
+        }
+        assertTrue(cachedWorley.getFeaturePointCacheHits() > 0, "Neighbouring samples should reuse cached feature points.");
+        assertTrue(cachedWorley.getFeaturePointCacheMisses() > 0, "The first samples cannot be cached.");
+    }
 }
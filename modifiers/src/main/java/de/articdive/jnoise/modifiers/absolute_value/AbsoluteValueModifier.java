@@ -1,15 +1,45 @@
 package de.articdive.jnoise.modifiers.absolute_value;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 
 /**
  * Simple Modifier that takes the absolute value of the noise output.
  *
  * @author Articdive
  */
-public final class AbsoluteValueModifier implements NoiseModifier {
+public final class AbsoluteValueModifier implements NoiseModifier, Definable {
     @Override
     public double apply(double result) {
         return Math.abs(result);
     }
+
+    @Override
+    public NoiseBounds apply(NoiseBounds bounds) {
+        double max = Math.max(Math.abs(bounds.getMin()), Math.abs(bounds.getMax()));
+        if (bounds.getMin() >= 0) {
+            return NoiseBounds.of(Math.abs(bounds.getMin()), max);
+        } else if (bounds.getMax() <= 0) {
+            return NoiseBounds.of(Math.abs(bounds.getMax()), max);
+        }
+        return NoiseBounds.of(0, max);
+    }
+
+    @Override
+    public double derivative(double result) {
+        return Math.signum(result);
+    }
+
+    @Override
+    public boolean isIdentity(NoiseBounds bounds) {
+        // The absolute value of -0.0 is 0.0, so zeros must not be reached.
+        return bounds.getMin() > 0;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("absoluteValue").build();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,16 @@
 package de.articdive.jnoise.modifiers.clamp;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 
 /**
  * Simple Modifier that clamps the noise output between 2 values.
  *
  * @author Articdive
  */
-public final class ClampModifier implements NoiseModifier {
+public final class ClampModifier implements NoiseModifier, Definable {
     private final double lower;
     private final double upper;
 
@@ -25,4 +28,29 @@ public final class ClampModifier implements NoiseModifier {
     public double apply(double result) {
         return Math.max(lower, Math.min(upper, result));
     }
+
+    @Override
+    public NoiseBounds apply(NoiseBounds bounds) {
+        return NoiseBounds.ofOrUnbounded(apply(bounds.getMin()), apply(bounds.getMax()));
+    }
+
+    @Override
+    public double derivative(double result) {
+        return result < lower || result > upper ? 0 : 1;
+    }
+
+    @Override
+    public boolean isIdentity(NoiseBounds bounds) {
+        // Clamping to a bound of 0 may change the sign of a zero, so zero bounds must not be reached.
+        return (lower < bounds.getMin() || lower == bounds.getMin() && lower != 0)
+            && (bounds.getMax() < upper || bounds.getMax() == upper && upper != 0);
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("clamp")
+            .setDouble("lower", lower)
+            .setDouble("upper", upper)
+            .build();
+    }
 }
\ No newline at end of file
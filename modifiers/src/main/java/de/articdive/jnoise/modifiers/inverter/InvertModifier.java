@@ -1,15 +1,33 @@
 package de.articdive.jnoise.modifiers.inverter;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 
 /**
  * Simple Modifier that inverts the noise output.
  *
  * @author Articdive
  */
-public final class InvertModifier implements NoiseModifier {
+public final class InvertModifier implements NoiseModifier, Definable {
     @Override
     public double apply(double result) {
         return -result;
     }
+
+    @Override
+    public NoiseBounds apply(NoiseBounds bounds) {
+        return NoiseBounds.of(-bounds.getMax(), -bounds.getMin());
+    }
+
+    @Override
+    public double derivative(double result) {
+        return -1;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("invert").build();
+    }
 }
\ No newline at end of file
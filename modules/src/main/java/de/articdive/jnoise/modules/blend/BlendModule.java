@@ -1,13 +1,27 @@
 package de.articdive.jnoise.modules.blend;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.functions.Interpolation;
 import de.articdive.jnoise.core.api.modules.NoiseModule;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.BoundsUtil;
+import de.articdive.jnoise.core.util.RegionUtil;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 @NullMarked
-public final class BlendModule implements NoiseModule {
+public final class BlendModule implements NoiseModule, Definable {
+    // Edge lengths of the tiles regions are split into, the control is bounded once per tile.
+    private static final int TILE_SIZE_2D = 16;
+    private static final int TILE_SIZE_3D = 8;
+    // The difference of values up to this magnitude is finite, so weighting it by zero yields zero.
+    private static final double MAX_DIFFERENCE_OPERAND = 0x1p1022;
+
     private final NoiseSource a;
     private final NoiseSource b;
     private final NoiseSource controlSource;
@@ -45,6 +59,173 @@ public final class BlendModule implements NoiseModule {
         return interpolation.lerp(controlSource.evaluateNoise(x, y, z, w), a.evaluateNoise(x, y, z, w), b.evaluateNoise(x, y, z, w));
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        return blend(controlSource.getBounds(), a.getBounds(), b.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return blend(
+            controlSource.getBounds2D(minX, minY, maxX, maxY),
+            a.getBounds2D(minX, minY, maxX, maxY),
+            b.getBounds2D(minX, minY, maxX, maxY)
+        );
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return blend(
+            controlSource.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ),
+            a.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ),
+            b.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ)
+        );
+    }
+
+    @Override
+    public List<NoiseSource> getSources() {
+        return List.of(a, b, controlSource);
+    }
+
+    @Override
+    public NoiseModule withSources(List<NoiseSource> sources) {
+        if (sources.size() != 3) {
+            throw new IllegalArgumentException("A blend module evaluates exactly 3 sources.");
+        }
+        return new BlendModule(sources.get(0), sources.get(1), sources.get(2), interpolation);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        double[] coordinatesX = RegionUtil.coordinates(x0, dx, nx);
+        double[] coordinatesY = RegionUtil.coordinates(y0, dy, ny);
+        for (int tileY = 0; tileY < ny; tileY += TILE_SIZE_2D) {
+            int endY = Math.min(tileY + TILE_SIZE_2D, ny);
+            for (int tileX = 0; tileX < nx; tileX += TILE_SIZE_2D) {
+                int endX = Math.min(tileX + TILE_SIZE_2D, nx);
+                double minX = Math.min(coordinatesX[tileX], coordinatesX[endX - 1]);
+                double minY = Math.min(coordinatesY[tileY], coordinatesY[endY - 1]);
+                double maxX = Math.max(coordinatesX[tileX], coordinatesX[endX - 1]);
+                double maxY = Math.max(coordinatesY[tileY], coordinatesY[endY - 1]);
+                Saturation saturation = Saturation.NONE;
+                if (BoundsUtil.isFinite(minX, minY, maxX, maxY)) {
+                    saturation = saturation(controlSource.getBounds2D(minX, minY, maxX, maxY), () -> b.getBounds2D(minX, minY, maxX, maxY));
+                }
+                for (int j = tileY; j < endY; j++) {
+                    double y = coordinatesY[j];
+                    int index = tileX + nx * j;
+                    for (int i = tileX; i < endX; i++) {
+                        double x = coordinatesX[i];
+                        out[index++] = switch (saturation) {
+                            case ZERO -> {
+                                double value = a.evaluateNoise(x, y);
+                                yield isUnchangedByZero(value) ? value : evaluateNoise(x, y);
+                            }
+                            case ONE -> interpolation.lerp(1, a.evaluateNoise(x, y), b.evaluateNoise(x, y));
+                            case NONE -> evaluateNoise(x, y);
+                        };
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        double[] coordinatesX = RegionUtil.coordinates(x0, dx, nx);
+        double[] coordinatesY = RegionUtil.coordinates(y0, dy, ny);
+        double[] coordinatesZ = RegionUtil.coordinates(z0, dz, nz);
+        for (int tileZ = 0; tileZ < nz; tileZ += TILE_SIZE_3D) {
+            int endZ = Math.min(tileZ + TILE_SIZE_3D, nz);
+            for (int tileY = 0; tileY < ny; tileY += TILE_SIZE_3D) {
+                int endY = Math.min(tileY + TILE_SIZE_3D, ny);
+                for (int tileX = 0; tileX < nx; tileX += TILE_SIZE_3D) {
+                    int endX = Math.min(tileX + TILE_SIZE_3D, nx);
+                    double minX = Math.min(coordinatesX[tileX], coordinatesX[endX - 1]);
+                    double minY = Math.min(coordinatesY[tileY], coordinatesY[endY - 1]);
+                    double minZ = Math.min(coordinatesZ[tileZ], coordinatesZ[endZ - 1]);
+                    double maxX = Math.max(coordinatesX[tileX], coordinatesX[endX - 1]);
+                    double maxY = Math.max(coordinatesY[tileY], coordinatesY[endY - 1]);
+                    double maxZ = Math.max(coordinatesZ[tileZ], coordinatesZ[endZ - 1]);
+                    Saturation saturation = Saturation.NONE;
+                    if (BoundsUtil.isFinite(minX, minY, minZ, maxX, maxY, maxZ)) {
+                        saturation = saturation(
+                            controlSource.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ),
+                            () -> b.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ)
+                        );
+                    }
+                    for (int k = tileZ; k < endZ; k++) {
+                        double z = coordinatesZ[k];
+                        for (int j = tileY; j < endY; j++) {
+                            double y = coordinatesY[j];
+                            int index = tileX + nx * (j + ny * k);
+                            for (int i = tileX; i < endX; i++) {
+                                double x = coordinatesX[i];
+                                out[index++] = switch (saturation) {
+                                    case ZERO -> {
+                                        double value = a.evaluateNoise(x, y, z);
+                                        yield isUnchangedByZero(value) ? value : evaluateNoise(x, y, z);
+                                    }
+                                    case ONE -> interpolation.lerp(1, a.evaluateNoise(x, y, z), b.evaluateNoise(x, y, z));
+                                    case NONE -> evaluateNoise(x, y, z);
+                                };
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private NoiseBounds blend(NoiseBounds control, NoiseBounds boundsA, NoiseBounds boundsB) {
+        if (!Interpolation.isPredefined(interpolation) || control.getMin() < 0 || control.getMax() > 1) {
+            // Outside of [0, 1] the control extrapolates beyond the values of a and b.
+            return NoiseBounds.UNBOUNDED;
+        }
+        NoiseBounds values = boundsA.union(boundsB);
+        // Interpolating between a and b may exceed them by a few rounding errors.
+        double margin = 8 * Math.ulp(Math.max(Math.abs(values.getMin()), Math.abs(values.getMax())));
+        return NoiseBounds.of(values.getMin() - margin, values.getMax() + margin);
+    }
+
+    private Saturation saturation(NoiseBounds control, Supplier<NoiseBounds> boundsB) {
+        if (control.getMin() == 1 && control.getMax() == 1) {
+            return Saturation.ONE;
+        }
+        // Interpolating from a by a zero weight only yields a if the difference to b is finite.
+        if (control.getMin() == 0 && control.getMax() == 0 && Interpolation.isPredefined(interpolation)) {
+            NoiseBounds values = boundsB.get();
+            if (values.getMin() >= -MAX_DIFFERENCE_OPERAND && values.getMax() <= MAX_DIFFERENCE_OPERAND) {
+                return Saturation.ZERO;
+            }
+        }
+        return Saturation.NONE;
+    }
+
+    // Adding a signed zero, i.e. the weighted difference to b, only keeps non-zero values exactly.
+    private static boolean isUnchangedByZero(double value) {
+        return value != 0 && Math.abs(value) <= MAX_DIFFERENCE_OPERAND;
+    }
+
+    // Tiles where the control is constantly 0 only evaluate a, tiles where it is constantly 1 skip the control.
+    private enum Saturation {
+        NONE,
+        ZERO,
+        ONE
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("blend")
+            .setDefinition("a", a)
+            .setDefinition("b", b)
+            .setDefinition("control", controlSource)
+            .setConstant("interpolation", Interpolation.class, interpolation)
+            .build();
+    }
+
     public static BlendModuleBuilder newBuilder() {
         return new BlendModuleBuilder();
     }
@@ -1,13 +1,18 @@
 package de.articdive.jnoise.modules.combination;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.functions.Combiner;
 import de.articdive.jnoise.core.api.modules.NoiseModule;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.List;
+
 @NullMarked
-public final class CombinationModule implements NoiseModule {
+public final class CombinationModule implements NoiseModule, Definable {
     private final NoiseSource a;
     private final NoiseSource b;
     private final Combiner combiner;
@@ -42,6 +47,64 @@ public final class CombinationModule implements NoiseModule {
         return combiner.applyTo(a.evaluateNoise(x, y, z, w), b.evaluateNoise(x, y, z, w));
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        return combine(a.getBounds(), b.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return combine(a.getBounds2D(minX, minY, maxX, maxY), b.getBounds2D(minX, minY, maxX, maxY));
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return combine(
+            a.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ),
+            b.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ)
+        );
+    }
+
+    @Override
+    public List<NoiseSource> getSources() {
+        return List.of(a, b);
+    }
+
+    @Override
+    public NoiseModule withSources(List<NoiseSource> sources) {
+        if (sources.size() != 2) {
+            throw new IllegalArgumentException("A combination module evaluates exactly 2 sources.");
+        }
+        return new CombinationModule(sources.get(0), sources.get(1), combiner);
+    }
+
+    private NoiseBounds combine(NoiseBounds boundsA, NoiseBounds boundsB) {
+        // Only the predefined monotonic combiners are propagated, rounding preserves their order.
+        if (combiner == Combiner.ADD) {
+            return NoiseBounds.ofOrUnbounded(boundsA.getMin() + boundsB.getMin(), boundsA.getMax() + boundsB.getMax());
+        } else if (combiner == Combiner.MULTIPLY) {
+            double p0 = boundsA.getMin() * boundsB.getMin();
+            double p1 = boundsA.getMin() * boundsB.getMax();
+            double p2 = boundsA.getMax() * boundsB.getMin();
+            double p3 = boundsA.getMax() * boundsB.getMax();
+            return NoiseBounds.ofOrUnbounded(Math.min(Math.min(p0, p1), Math.min(p2, p3)), Math.max(Math.max(p0, p1), Math.max(p2, p3)));
+        } else if (combiner == Combiner.MAX) {
+            return NoiseBounds.of(Math.max(boundsA.getMin(), boundsB.getMin()), Math.max(boundsA.getMax(), boundsB.getMax()));
+        } else if (combiner == Combiner.MIN) {
+            return NoiseBounds.of(Math.min(boundsA.getMin(), boundsB.getMin()), Math.min(boundsA.getMax(), boundsB.getMax()));
+        }
+        return NoiseBounds.UNBOUNDED;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("combination")
+            .setDefinition("a", a)
+            .setDefinition("b", b)
+            .setConstant("combiner", Combiner.class, combiner)
+            .build();
+    }
+
     public static CombinationModuleBuilder newBuilder() {
         return new CombinationModuleBuilder();
     }
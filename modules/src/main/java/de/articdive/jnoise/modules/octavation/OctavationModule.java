@@ -1,22 +1,44 @@
 package de.articdive.jnoise.modules.octavation;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.modules.NoiseModule;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
+import de.articdive.jnoise.core.api.noisegen.NoiseResult;
+import de.articdive.jnoise.core.api.noisegen.SeededExplicitNoiseGenerator;
 import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.ExplicitNoiseSource;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Sums octaves of a {@link NoiseSource} at increasing frequencies and decreasing amplitudes.
+ * If the source evaluates {@link DerivativeNoiseResult}s, so does this module, propagating them through the octaves by the chain rule.
+ *
+ * @author Articdive
+ */
 @NullMarked
-public final class OctavationModule implements NoiseModule {
+public final class OctavationModule implements NoiseModule, ExplicitNoiseSource<DerivativeNoiseResult>, Definable {
     private final NoiseSource noiseSource;
     private final int octaves;
     private final double gain;
     private final double lacunarity;
     private final FractalFunction fractalFunction;
     private final boolean incrementSeed;
+    private final double footprint;
     // Special values
     private final double fractalBounding;
+    // The octaves which are resolved by the footprint, they are always consecutive.
+    private final int firstOctave;
+    private final int evaluatedOctaves;
+    private final double startFrequency;
+    private final double startAmplitude;
 
     private OctavationModule(
         NoiseSource noiseSource,
@@ -24,7 +46,8 @@ public final class OctavationModule implements NoiseModule {
         double gain,
         double lacunarity,
         FractalFunction fractalFunction,
-        boolean incrementSeed
+        boolean incrementSeed,
+        double footprint
     ) {
         this.noiseSource = noiseSource;
         this.octaves = octaves;
@@ -32,30 +55,60 @@ public final class OctavationModule implements NoiseModule {
         this.lacunarity = lacunarity;
         this.fractalFunction = fractalFunction;
         this.incrementSeed = incrementSeed;
-        double fractalBounding = 0;
+        this.footprint = footprint;
+        double[] frequencies = new double[this.octaves];
+        double[] amplitudes = new double[this.octaves];
+        double frequency = 1;
         double amplitude = this.gain;
         for (int i = 0; i < this.octaves; i++) {
-            fractalBounding += amplitude;
+            frequencies[i] = frequency;
+            amplitudes[i] = amplitude;
+            frequency *= this.lacunarity;
             amplitude *= this.gain;
         }
+        // An octave has features of size 1 / frequency, which alias to noise if they are smaller than the footprint.
+        // Frequencies are monotonic, so the resolved octaves are a prefix, or a suffix if the lacunarity is below 1.
+        int first = -1;
+        int count = 0;
+        for (int i = 0; i < this.octaves; i++) {
+            if (!(frequencies[i] * footprint > 1)) {
+                if (first < 0) {
+                    first = i;
+                }
+                count++;
+            }
+        }
+        if (count == 0) {
+            // Even if no octave is resolved, the one with the largest features is kept.
+            first = this.lacunarity < 1 ? this.octaves - 1 : 0;
+            count = 1;
+        }
+        double fractalBounding = 0;
+        for (int i = first; i < first + count; i++) {
+            fractalBounding += amplitudes[i];
+        }
         this.fractalBounding = fractalBounding;
+        this.firstOctave = first;
+        this.evaluatedOctaves = count;
+        this.startFrequency = frequencies[first];
+        this.startAmplitude = amplitudes[first];
     }
 
     @Override
     public double evaluateNoise(double x) {
-        double amplitude = gain;
-        double frequency = 1;
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
         double output = 0;
         if (incrementSeed) {
             SeededNoiseGenerator sng = (SeededNoiseGenerator) noiseSource;
-            long seed = sng.getSeed();
-            for (int i = 0; i < octaves; i++) {
+            long seed = sng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(sng.evaluateNoise(frequency * x, seed++));
                 frequency *= lacunarity;
                 amplitude *= gain;
             }
         } else {
-            for (int i = 0; i < octaves; i++) {
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(noiseSource.evaluateNoise(frequency * x));
                 frequency *= lacunarity;
                 amplitude *= gain;
@@ -66,19 +119,19 @@ public final class OctavationModule implements NoiseModule {
 
     @Override
     public double evaluateNoise(double x, double y) {
-        double amplitude = gain;
-        double frequency = 1;
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
         double output = 0;
         if (incrementSeed) {
             SeededNoiseGenerator sng = (SeededNoiseGenerator) noiseSource;
-            long seed = sng.getSeed();
-            for (int i = 0; i < octaves; i++) {
+            long seed = sng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(sng.evaluateNoise(frequency * x, frequency * y, seed++));
                 frequency *= lacunarity;
                 amplitude *= gain;
             }
         } else {
-            for (int i = 0; i < octaves; i++) {
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(noiseSource.evaluateNoise(frequency * x, frequency * y));
                 frequency *= lacunarity;
                 amplitude *= gain;
@@ -89,19 +142,19 @@ public final class OctavationModule implements NoiseModule {
 
     @Override
     public double evaluateNoise(double x, double y, double z) {
-        double amplitude = gain;
-        double frequency = 1;
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
         double output = 0;
         if (incrementSeed) {
             SeededNoiseGenerator sng = (SeededNoiseGenerator) noiseSource;
-            long seed = sng.getSeed();
-            for (int i = 0; i < octaves; i++) {
+            long seed = sng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(sng.evaluateNoise(frequency * x, frequency * y, frequency * z, seed++));
                 frequency *= lacunarity;
                 amplitude *= gain;
             }
         } else {
-            for (int i = 0; i < octaves; i++) {
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(noiseSource.evaluateNoise(frequency * x, frequency * y, frequency * z));
                 frequency *= lacunarity;
                 amplitude *= gain;
@@ -112,19 +165,19 @@ public final class OctavationModule implements NoiseModule {
 
     @Override
     public double evaluateNoise(double x, double y, double z, double w) {
-        double amplitude = gain;
-        double frequency = 1;
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
         double output = 0;
         if (incrementSeed) {
             SeededNoiseGenerator sng = (SeededNoiseGenerator) noiseSource;
-            long seed = sng.getSeed();
-            for (int i = 0; i < octaves; i++) {
+            long seed = sng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(sng.evaluateNoise(frequency * x, frequency * y, frequency * z, frequency * w, seed++));
                 frequency *= lacunarity;
                 amplitude *= gain;
             }
         } else {
-            for (int i = 0; i < octaves; i++) {
+            for (int i = 0; i < evaluatedOctaves; i++) {
                 output += amplitude * fractalFunction.fractalize(noiseSource.evaluateNoise(frequency * x, frequency * y, frequency * z, frequency * w));
                 frequency *= lacunarity;
                 amplitude *= gain;
@@ -133,6 +186,326 @@ public final class OctavationModule implements NoiseModule {
         return output / fractalBounding;
     }
 
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x) {
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
+        double output = 0;
+        double[] derivatives = new double[1];
+        if (incrementSeed) {
+            SeededExplicitNoiseGenerator<?> seng = seededExplicitSource();
+            long seed = seng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(seng.evaluateNoiseResult(frequency * x, seed++), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        } else {
+            ExplicitNoiseSource<?> ens = explicitSource();
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(ens.evaluateNoiseResult(frequency * x), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        }
+        return normalize(output, derivatives);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y) {
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
+        double output = 0;
+        double[] derivatives = new double[2];
+        if (incrementSeed) {
+            SeededExplicitNoiseGenerator<?> seng = seededExplicitSource();
+            long seed = seng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(seng.evaluateNoiseResult(frequency * x, frequency * y, seed++), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        } else {
+            ExplicitNoiseSource<?> ens = explicitSource();
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(ens.evaluateNoiseResult(frequency * x, frequency * y), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        }
+        return normalize(output, derivatives);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z) {
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
+        double output = 0;
+        double[] derivatives = new double[3];
+        if (incrementSeed) {
+            SeededExplicitNoiseGenerator<?> seng = seededExplicitSource();
+            long seed = seng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(seng.evaluateNoiseResult(frequency * x, frequency * y, frequency * z, seed++), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        } else {
+            ExplicitNoiseSource<?> ens = explicitSource();
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(ens.evaluateNoiseResult(frequency * x, frequency * y, frequency * z), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        }
+        return normalize(output, derivatives);
+    }
+
+    @Override
+    public DerivativeNoiseResult evaluateNoiseResult(double x, double y, double z, double w) {
+        double amplitude = startAmplitude;
+        double frequency = startFrequency;
+        double output = 0;
+        double[] derivatives = new double[4];
+        if (incrementSeed) {
+            SeededExplicitNoiseGenerator<?> seng = seededExplicitSource();
+            long seed = seng.getSeed() + firstOctave;
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(seng.evaluateNoiseResult(frequency * x, frequency * y, frequency * z, frequency * w, seed++), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        } else {
+            ExplicitNoiseSource<?> ens = explicitSource();
+            for (int i = 0; i < evaluatedOctaves; i++) {
+                output += addOctave(ens.evaluateNoiseResult(frequency * x, frequency * y, frequency * z, frequency * w), amplitude, frequency, derivatives);
+                frequency *= lacunarity;
+                amplitude *= gain;
+            }
+        }
+        return normalize(output, derivatives);
+    }
+
+    // Adds the derivatives of an octave, d(amplitude * f(noise(frequency * p))) = amplitude * f'(noise) * frequency * dnoise,
+    // and returns its value exactly like the value evaluation sums it.
+    private double addOctave(NoiseResult result, double amplitude, double frequency, double[] derivatives) {
+        if (!(result instanceof DerivativeNoiseResult derivativeResult)) {
+            throw new IllegalArgumentException("Noise source does not evaluate derivatives, hence octaves cannot propagate them!");
+        }
+        double value = derivativeResult.getValue();
+        double[] octaveDerivatives = derivativeResult.getDerivatives();
+        double factor = amplitude * fractalFunction.fractalizeDerivative(value) * frequency;
+        for (int i = 0; i < derivatives.length; i++) {
+            derivatives[i] += factor * octaveDerivatives[i];
+        }
+        return amplitude * fractalFunction.fractalize(value);
+    }
+
+    private DerivativeNoiseResult normalize(double output, double[] derivatives) {
+        for (int i = 0; i < derivatives.length; i++) {
+            derivatives[i] /= fractalBounding;
+        }
+        return new DerivativeNoiseResult(output / fractalBounding, derivatives);
+    }
+
+    private ExplicitNoiseSource<?> explicitSource() {
+        if (!(noiseSource instanceof ExplicitNoiseSource<?> explicitNoiseSource)) {
+            throw new IllegalArgumentException("Noise source does not evaluate noise results, hence octaves cannot propagate derivatives!");
+        }
+        return explicitNoiseSource;
+    }
+
+    private SeededExplicitNoiseGenerator<?> seededExplicitSource() {
+        if (!(noiseSource instanceof SeededExplicitNoiseGenerator<?> seededExplicitNoiseGenerator)) {
+            throw new IllegalArgumentException("Noise source does not evaluate noise results, hence octaves cannot propagate derivatives!");
+        }
+        return seededExplicitNoiseGenerator;
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        NoiseBounds bounds = noiseSource.getBounds();
+        return sumOctaves(octave -> bounds);
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        long seed = incrementSeed ? ((SeededNoiseGenerator) noiseSource).getSeed() + firstOctave : 0;
+        double[] frequencies = frequencies();
+        return sumOctaves(octave -> {
+            double frequency = frequencies[octave];
+            // Scaling by the frequency keeps the order of the coordinates, or reverses it for negative frequencies.
+            double lowX = Math.min(frequency * minX, frequency * maxX);
+            double lowY = Math.min(frequency * minY, frequency * maxY);
+            double highX = Math.max(frequency * minX, frequency * maxX);
+            double highY = Math.max(frequency * minY, frequency * maxY);
+            if (incrementSeed) {
+                return ((SeededNoiseGenerator) noiseSource).getBounds2D(lowX, lowY, highX, highY, seed + octave);
+            }
+            return noiseSource.getBounds2D(lowX, lowY, highX, highY);
+        });
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        long seed = incrementSeed ? ((SeededNoiseGenerator) noiseSource).getSeed() + firstOctave : 0;
+        double[] frequencies = frequencies();
+        return sumOctaves(octave -> {
+            double frequency = frequencies[octave];
+            // Scaling by the frequency keeps the order of the coordinates, or reverses it for negative frequencies.
+            double lowX = Math.min(frequency * minX, frequency * maxX);
+            double lowY = Math.min(frequency * minY, frequency * maxY);
+            double lowZ = Math.min(frequency * minZ, frequency * maxZ);
+            double highX = Math.max(frequency * minX, frequency * maxX);
+            double highY = Math.max(frequency * minY, frequency * maxY);
+            double highZ = Math.max(frequency * minZ, frequency * maxZ);
+            if (incrementSeed) {
+                return ((SeededNoiseGenerator) noiseSource).getBounds3D(lowX, lowY, lowZ, highX, highY, highZ, seed + octave);
+            }
+            return noiseSource.getBounds3D(lowX, lowY, lowZ, highX, highY, highZ);
+        });
+    }
+
+    @Override
+    public List<NoiseSource> getSources() {
+        return List.of(noiseSource);
+    }
+
+    @Override
+    public NoiseModule withSources(List<NoiseSource> sources) {
+        if (sources.size() != 1) {
+            throw new IllegalArgumentException("An octavation module evaluates exactly 1 source.");
+        }
+        NoiseSource source = sources.get(0);
+        if (incrementSeed && !(source instanceof SeededNoiseGenerator)) {
+            throw new IllegalArgumentException("Noise source does not have a seed, hence incrementSeed cannot be true!");
+        }
+        return new OctavationModule(source, octaves, gain, lacunarity, fractalFunction, incrementSeed, footprint);
+    }
+
+    // The frequencies of the evaluated octaves, computed exactly like during evaluation.
+    private double[] frequencies() {
+        double[] frequencies = new double[evaluatedOctaves];
+        double frequency = startFrequency;
+        for (int i = 0; i < evaluatedOctaves; i++) {
+            frequencies[i] = frequency;
+            frequency *= lacunarity;
+        }
+        return frequencies;
+    }
+
+    // Sums the bounds of the evaluated octaves like their values, rounding is monotonic so the extremes bound the sum.
+    private NoiseBounds sumOctaves(IntFunction<NoiseBounds> octaveBounds) {
+        double amplitude = startAmplitude;
+        double min = 0;
+        double max = 0;
+        for (int i = 0; i < evaluatedOctaves; i++) {
+            NoiseBounds bounds = fractalize(octaveBounds.apply(i));
+            if (amplitude >= 0) {
+                min += amplitude * bounds.getMin();
+                max += amplitude * bounds.getMax();
+            } else {
+                min += amplitude * bounds.getMax();
+                max += amplitude * bounds.getMin();
+            }
+            amplitude *= gain;
+        }
+        if (fractalBounding < 0) {
+            return NoiseBounds.ofOrUnbounded(max / fractalBounding, min / fractalBounding);
+        }
+        return NoiseBounds.ofOrUnbounded(min / fractalBounding, max / fractalBounding);
+    }
+
+    private NoiseBounds fractalize(NoiseBounds bounds) {
+        double min = bounds.getMin();
+        double max = bounds.getMax();
+        if (fractalFunction == FractalFunction.FBM) {
+            return bounds;
+        } else if (fractalFunction == FractalFunction.TURBULENCE) {
+            return absolute(min, max);
+        } else if (fractalFunction == FractalFunction.RIDGED_MULTI) {
+            NoiseBounds absolute = absolute(min, max);
+            // (1 - |a|)^2 decreases until |a| reaches 1 and increases after it.
+            NoiseBounds ridges = absolute(1 - absolute.getMax(), 1 - absolute.getMin());
+            return NoiseBounds.ofOrUnbounded(ridges.getMin() * ridges.getMin(), ridges.getMax() * ridges.getMax());
+        }
+        return NoiseBounds.UNBOUNDED;
+    }
+
+    private static NoiseBounds absolute(double min, double max) {
+        double largest = Math.max(Math.abs(min), Math.abs(max));
+        if (min >= 0) {
+            return NoiseBounds.ofOrUnbounded(min, largest);
+        } else if (max <= 0) {
+            return NoiseBounds.ofOrUnbounded(-max, largest);
+        }
+        return NoiseBounds.ofOrUnbounded(0, largest);
+    }
+
+    /**
+     * Creates a copy of this {@link OctavationModule} for a different sampling footprint,
+     * e.g. for each level of detail of a terrain.
+     *
+     * @param footprint the distance between samples in the coordinate space of this module, 0 to evaluate every octave.
+     * @return an {@link OctavationModule} skipping the octaves which are not resolved by the footprint.
+     * @throws IllegalArgumentException if the footprint is negative.
+     * @see OctavationModuleBuilder#setFootprint(double)
+     */
+    public OctavationModule withFootprint(double footprint) {
+        checkFootprint(footprint);
+        return new OctavationModule(noiseSource, octaves, gain, lacunarity, fractalFunction, incrementSeed, footprint);
+    }
+
+    /**
+     * Gets the sampling footprint of this {@link OctavationModule}.
+     *
+     * @return the distance between samples the octaves are culled for, 0 if every octave is evaluated.
+     */
+    public double getFootprint() {
+        return footprint;
+    }
+
+    /**
+     * Gets the amount of octaves this {@link OctavationModule} evaluates for its footprint.
+     *
+     * @return the amount of evaluated octaves, at least 1 and at most the configured amount of octaves.
+     */
+    public int getEvaluatedOctaves() {
+        return evaluatedOctaves;
+    }
+
+    /**
+     * Checks whether the noise source of this {@link OctavationModule} evaluates noise results,
+     * i.e. whether {@link #evaluateNoiseResult(double)} can propagate derivatives through the octaves.
+     *
+     * @return true if the noise source is explicit, seeded as well if the seed is incremented.
+     */
+    public boolean evaluatesNoiseResults() {
+        if (incrementSeed) {
+            return noiseSource instanceof SeededExplicitNoiseGenerator<?>;
+        }
+        return noiseSource instanceof ExplicitNoiseSource<?> && (!(noiseSource instanceof OctavationModule octavation) || octavation.evaluatesNoiseResults());
+    }
+
+    private static void checkFootprint(double footprint) {
+        if (!(footprint >= 0)) {
+            throw new IllegalArgumentException("The footprint must be a positive value or 0.");
+        }
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("octavation")
+            .setDefinition("noiseSource", noiseSource)
+            .setLong("octaves", octaves)
+            .setDouble("gain", gain)
+            .setDouble("lacunarity", lacunarity)
+            .setConstant("fractalFunction", FractalFunction.class, fractalFunction)
+            .setBoolean("incrementSeed", incrementSeed)
+            .setDouble("footprint", footprint)
+            .build();
+    }
+
     public static OctavationModuleBuilder newBuilder() {
         return new OctavationModuleBuilder();
     }
@@ -145,6 +518,7 @@ public final class OctavationModule implements NoiseModule {
         private double lacunarity = 2;
         private FractalFunction fractalFunction = FractalFunction.FBM;
         private boolean incrementSeed = false;
+        private double footprint = 0;
 
         private OctavationModuleBuilder() {
         }
@@ -247,6 +621,22 @@ public final class OctavationModule implements NoiseModule {
             return this;
         }
 
+        /**
+         * Sets the sampling footprint for the {@link OctavationModule}, the distance between the samples it is evaluated at.
+         * Octaves whose features are smaller than the footprint alias to noise, so they are skipped
+         * and the remaining octaves are renormalized to the same bounds.
+         * Features of an octave have a size of 1 / frequency, the first octave has a frequency of 1.
+         * A footprint of 0, the default, evaluates every octave.
+         *
+         * @param footprint the distance between samples in the coordinate space of the {@link OctavationModule}.
+         * @return {@link OctavationModuleBuilder} this
+         */
+        public OctavationModuleBuilder setFootprint(double footprint) {
+            checkFootprint(footprint);
+            this.footprint = footprint;
+            return this;
+        }
+
         @Override
         public OctavationModule build() {
             if (noiseSource == null) {
@@ -255,7 +645,7 @@ public final class OctavationModule implements NoiseModule {
             if (incrementSeed && !(noiseSource instanceof SeededNoiseGenerator)) {
                 throw new IllegalArgumentException("Noise source does not have a seed, hence incrementSeed cannot be true!");
             }
-            return new OctavationModule(noiseSource, octaves, gain, lacunarity, fractalFunction, incrementSeed);
+            return new OctavationModule(noiseSource, octaves, gain, lacunarity, fractalFunction, incrementSeed, footprint);
         }
     }
 }
\ No newline at end of file
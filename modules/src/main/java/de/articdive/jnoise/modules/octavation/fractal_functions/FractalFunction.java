@@ -28,4 +28,25 @@ public interface FractalFunction {
      * @return a fractalized value for the noise.
      */
     double fractalize(double noise);
+
+    /**
+     * Computes the derivative of {@link #fractalize(double)}.
+     * The predefined fractal functions are differentiated analytically, others are approximated by central differences.
+     *
+     * @param noise value (noise output) to fractalize.
+     * @return the derivative of the fractalized value at the noise value.
+     */
+    default double fractalizeDerivative(double noise) {
+        if (this == FBM) {
+            return 1;
+        } else if (this == BILLOW) {
+            return 2 * Math.signum(noise * 2 - 1);
+        } else if (this == TURBULENCE) {
+            return Math.signum(noise);
+        } else if (this == RIDGED_MULTI) {
+            return -2 * (1 - Math.abs(noise)) * Math.signum(noise);
+        }
+        double step = 1e-6;
+        return (fractalize(noise + step) - fractalize(noise - step)) / (2 * step);
+    }
 }
\ No newline at end of file
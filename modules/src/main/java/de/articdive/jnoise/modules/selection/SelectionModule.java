@@ -1,16 +1,30 @@
 package de.articdive.jnoise.modules.selection;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.modules.NoiseModule;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.BoundsUtil;
+import de.articdive.jnoise.core.util.RegionUtil;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
 
 @NullMarked
-public final class SelectionModule implements NoiseModule {
+public final class SelectionModule implements NoiseModule, Definable {
+    // Edge lengths of the tiles regions are split into, the control is bounded once per tile.
+    private static final int TILE_SIZE_2D = 16;
+    private static final int TILE_SIZE_3D = 8;
+
     private final NoiseSource a;
     private final NoiseSource b;
     private final NoiseSource controlSource;
     private final double boundary;
+    // The source selected everywhere if the control source can never cross the boundary, otherwise null.
+    private final @Nullable NoiseSource selected;
 
     private SelectionModule(
         NoiseSource a,
@@ -22,10 +36,14 @@ public final class SelectionModule implements NoiseModule {
         this.b = b;
         this.controlSource = controlSource;
         this.boundary = boundary;
+        this.selected = select(controlSource.getBounds());
     }
 
     @Override
     public double evaluateNoise(double x) {
+        if (selected != null) {
+            return selected.evaluateNoise(x);
+        }
         if (controlSource.evaluateNoise(x) >= boundary) {
             return a.evaluateNoise(x);
         } else {
@@ -35,6 +53,9 @@ public final class SelectionModule implements NoiseModule {
 
     @Override
     public double evaluateNoise(double x, double y) {
+        if (selected != null) {
+            return selected.evaluateNoise(x, y);
+        }
         if (controlSource.evaluateNoise(x, y) >= boundary) {
             return a.evaluateNoise(x, y);
         } else {
@@ -44,6 +65,9 @@ public final class SelectionModule implements NoiseModule {
 
     @Override
     public double evaluateNoise(double x, double y, double z) {
+        if (selected != null) {
+            return selected.evaluateNoise(x, y, z);
+        }
         if (controlSource.evaluateNoise(x, y, z) >= boundary) {
             return a.evaluateNoise(x, y, z);
         } else {
@@ -53,6 +77,9 @@ public final class SelectionModule implements NoiseModule {
 
     @Override
     public double evaluateNoise(double x, double y, double z, double w) {
+        if (selected != null) {
+            return selected.evaluateNoise(x, y, z, w);
+        }
         if (controlSource.evaluateNoise(x, y, z, w) >= boundary) {
             return a.evaluateNoise(x, y, z, w);
         } else {
@@ -60,6 +87,157 @@ public final class SelectionModule implements NoiseModule {
         }
     }
 
+    @Override
+    public NoiseBounds getBounds() {
+        if (selected != null) {
+            return selected.getBounds();
+        }
+        return a.getBounds().union(b.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        NoiseSource source = selected != null ? selected : select(controlSource.getBounds2D(minX, minY, maxX, maxY));
+        if (source != null) {
+            return source.getBounds2D(minX, minY, maxX, maxY);
+        }
+        return a.getBounds2D(minX, minY, maxX, maxY).union(b.getBounds2D(minX, minY, maxX, maxY));
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        NoiseSource source = selected != null ? selected : select(controlSource.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ));
+        if (source != null) {
+            return source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+        }
+        return a.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ).union(b.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    @Override
+    public List<NoiseSource> getSources() {
+        return List.of(a, b, controlSource);
+    }
+
+    @Override
+    public NoiseModule withSources(List<NoiseSource> sources) {
+        if (sources.size() != 3) {
+            throw new IllegalArgumentException("A selection module evaluates exactly 3 sources.");
+        }
+        return new SelectionModule(sources.get(0), sources.get(1), sources.get(2), boundary);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (RegionUtil.checkRegion(out.length, nx, ny) == 0) {
+            return;
+        }
+        double[] coordinatesX = RegionUtil.coordinates(x0, dx, nx);
+        double[] coordinatesY = RegionUtil.coordinates(y0, dy, ny);
+        NoiseSource region = selected != null ? selected : select2D(coordinatesX, coordinatesY, 0, 0, nx, ny);
+        if (region != null) {
+            region.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        // Tiles where the control cannot cross the boundary skip the control and evaluate a single source.
+        for (int tileY = 0; tileY < ny; tileY += TILE_SIZE_2D) {
+            int endY = Math.min(tileY + TILE_SIZE_2D, ny);
+            for (int tileX = 0; tileX < nx; tileX += TILE_SIZE_2D) {
+                int endX = Math.min(tileX + TILE_SIZE_2D, nx);
+                NoiseSource tile = select2D(coordinatesX, coordinatesY, tileX, tileY, endX, endY);
+                for (int j = tileY; j < endY; j++) {
+                    double y = coordinatesY[j];
+                    int index = tileX + nx * j;
+                    for (int i = tileX; i < endX; i++) {
+                        out[index++] = tile != null ? tile.evaluateNoise(coordinatesX[i], y) : evaluateNoise(coordinatesX[i], y);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (RegionUtil.checkRegion(out.length, nx, ny, nz) == 0) {
+            return;
+        }
+        double[] coordinatesX = RegionUtil.coordinates(x0, dx, nx);
+        double[] coordinatesY = RegionUtil.coordinates(y0, dy, ny);
+        double[] coordinatesZ = RegionUtil.coordinates(z0, dz, nz);
+        NoiseSource region = selected != null ? selected : select3D(coordinatesX, coordinatesY, coordinatesZ, 0, 0, 0, nx, ny, nz);
+        if (region != null) {
+            region.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        // Tiles where the control cannot cross the boundary skip the control and evaluate a single source.
+        for (int tileZ = 0; tileZ < nz; tileZ += TILE_SIZE_3D) {
+            int endZ = Math.min(tileZ + TILE_SIZE_3D, nz);
+            for (int tileY = 0; tileY < ny; tileY += TILE_SIZE_3D) {
+                int endY = Math.min(tileY + TILE_SIZE_3D, ny);
+                for (int tileX = 0; tileX < nx; tileX += TILE_SIZE_3D) {
+                    int endX = Math.min(tileX + TILE_SIZE_3D, nx);
+                    NoiseSource tile = select3D(coordinatesX, coordinatesY, coordinatesZ, tileX, tileY, tileZ, endX, endY, endZ);
+                    for (int k = tileZ; k < endZ; k++) {
+                        double z = coordinatesZ[k];
+                        for (int j = tileY; j < endY; j++) {
+                            double y = coordinatesY[j];
+                            int index = tileX + nx * (j + ny * k);
+                            for (int i = tileX; i < endX; i++) {
+                                out[index++] = tile != null ? tile.evaluateNoise(coordinatesX[i], y, z) : evaluateNoise(coordinatesX[i], y, z);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private @Nullable NoiseSource select(NoiseBounds control) {
+        if (control.isAtLeast(boundary)) {
+            return a;
+        } else if (control.isBelow(boundary)) {
+            return b;
+        }
+        return null;
+    }
+
+    // Selects the source for every sample of a tile, the coordinates along each axis are monotonic.
+    private @Nullable NoiseSource select2D(double[] coordinatesX, double[] coordinatesY, int startX, int startY, int endX, int endY) {
+        double minX = Math.min(coordinatesX[startX], coordinatesX[endX - 1]);
+        double minY = Math.min(coordinatesY[startY], coordinatesY[endY - 1]);
+        double maxX = Math.max(coordinatesX[startX], coordinatesX[endX - 1]);
+        double maxY = Math.max(coordinatesY[startY], coordinatesY[endY - 1]);
+        if (!BoundsUtil.isFinite(minX, minY, maxX, maxY)) {
+            return null;
+        }
+        return select(controlSource.getBounds2D(minX, minY, maxX, maxY));
+    }
+
+    private @Nullable NoiseSource select3D(
+        double[] coordinatesX, double[] coordinatesY, double[] coordinatesZ,
+        int startX, int startY, int startZ, int endX, int endY, int endZ
+    ) {
+        double minX = Math.min(coordinatesX[startX], coordinatesX[endX - 1]);
+        double minY = Math.min(coordinatesY[startY], coordinatesY[endY - 1]);
+        double minZ = Math.min(coordinatesZ[startZ], coordinatesZ[endZ - 1]);
+        double maxX = Math.max(coordinatesX[startX], coordinatesX[endX - 1]);
+        double maxY = Math.max(coordinatesY[startY], coordinatesY[endY - 1]);
+        double maxZ = Math.max(coordinatesZ[startZ], coordinatesZ[endZ - 1]);
+        if (!BoundsUtil.isFinite(minX, minY, minZ, maxX, maxY, maxZ)) {
+            return null;
+        }
+        return select(controlSource.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("selection")
+            .setDefinition("a", a)
+            .setDefinition("b", b)
+            .setDefinition("control", controlSource)
+            .setDouble("boundary", boundary)
+            .build();
+    }
+
     public static SelectionModuleBuilder newBuilder() {
         return new SelectionModuleBuilder();
     }
@@ -0,0 +1,429 @@
+package de.articdive.jnoise.modules.upsampling;
+
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.modules.NoiseModule;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.BoundsUtil;
+import de.articdive.jnoise.core.util.RegionUtil;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Evaluates a smooth {@link NoiseSource} only at the corners of a coarse grid of cells
+ * and interpolates between them, like the density functions of voxel terrain are commonly evaluated.
+ * The corners of a cell lie at the multiples of the cell size, its values are interpolated with an {@link Interpolation}
+ * along the X axis first, then along the Y axis and finally along the Z axis.
+ * <p>
+ * Region fills evaluate every corner within the region once, so the source is evaluated roughly once per cell
+ * instead of once per sample. A single 2D or 3D evaluation has to evaluate all corners of its cell,
+ * hence it costs 4 or 8 evaluations of the source but yields exactly the value of the region fills.
+ * 1D and 4D evaluations are passed through to the source.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class UpsamplingModule implements NoiseModule, Definable {
+    // Beyond this, adjacent cells can no longer be told apart by their index.
+    private static final double MAX_CELL = 0x1p52;
+    // Samples of sparse regions with more corners than this per sample are evaluated one by one.
+    private static final int MAX_CORNERS_PER_SAMPLE = 2;
+
+    private final NoiseSource noiseSource;
+    private final double cellSizeX;
+    private final double cellSizeY;
+    private final double cellSizeZ;
+    private final Interpolation interpolation;
+
+    private UpsamplingModule(
+        NoiseSource noiseSource,
+        double cellSizeX,
+        double cellSizeY,
+        double cellSizeZ,
+        Interpolation interpolation
+    ) {
+        this.noiseSource = noiseSource;
+        this.cellSizeX = cellSizeX;
+        this.cellSizeY = cellSizeY;
+        this.cellSizeZ = cellSizeZ;
+        this.interpolation = interpolation;
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return noiseSource.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        double scaledX = x / cellSizeX;
+        double scaledY = y / cellSizeY;
+        double cellX = Math.floor(scaledX);
+        double cellY = Math.floor(scaledY);
+        double x0 = cellX * cellSizeX;
+        double x1 = (cellX + 1) * cellSizeX;
+        double y0 = cellY * cellSizeY;
+        double y1 = (cellY + 1) * cellSizeY;
+        return interpolate(
+            scaledX - cellX, scaledY - cellY,
+            noiseSource.evaluateNoise(x0, y0), noiseSource.evaluateNoise(x1, y0),
+            noiseSource.evaluateNoise(x0, y1), noiseSource.evaluateNoise(x1, y1)
+        );
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        double scaledX = x / cellSizeX;
+        double scaledY = y / cellSizeY;
+        double scaledZ = z / cellSizeZ;
+        double cellX = Math.floor(scaledX);
+        double cellY = Math.floor(scaledY);
+        double cellZ = Math.floor(scaledZ);
+        double x0 = cellX * cellSizeX;
+        double x1 = (cellX + 1) * cellSizeX;
+        double y0 = cellY * cellSizeY;
+        double y1 = (cellY + 1) * cellSizeY;
+        double z0 = cellZ * cellSizeZ;
+        double z1 = (cellZ + 1) * cellSizeZ;
+        return interpolate(
+            scaledX - cellX, scaledY - cellY, scaledZ - cellZ,
+            noiseSource.evaluateNoise(x0, y0, z0), noiseSource.evaluateNoise(x1, y0, z0),
+            noiseSource.evaluateNoise(x0, y1, z0), noiseSource.evaluateNoise(x1, y1, z0),
+            noiseSource.evaluateNoise(x0, y0, z1), noiseSource.evaluateNoise(x1, y0, z1),
+            noiseSource.evaluateNoise(x0, y1, z1), noiseSource.evaluateNoise(x1, y1, z1)
+        );
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return noiseSource.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny);
+        if (count == 0) {
+            return;
+        }
+        Axis axisX = Axis.of(x0, dx, nx, cellSizeX);
+        Axis axisY = Axis.of(y0, dy, ny, cellSizeY);
+        if (axisX == null || axisY == null || (long) axisX.corners() * axisY.corners() > (long) count * MAX_CORNERS_PER_SAMPLE) {
+            NoiseModule.super.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        int cornersX = axisX.corners();
+        double[] corners = new double[cornersX * axisY.corners()];
+        int index = 0;
+        for (int j = 0; j < axisY.corners(); j++) {
+            double y = axisY.corner(j);
+            for (int i = 0; i < cornersX; i++) {
+                corners[index++] = noiseSource.evaluateNoise(axisX.corner(i), y);
+            }
+        }
+        index = 0;
+        for (int j = 0; j < ny; j++) {
+            int row0 = axisY.lower[j] * cornersX;
+            int row1 = row0 + cornersX;
+            double ty = axisY.positions[j];
+            for (int i = 0; i < nx; i++) {
+                int corner = axisX.lower[i];
+                out[index++] = interpolate(
+                    axisX.positions[i], ty,
+                    corners[row0 + corner], corners[row0 + corner + 1],
+                    corners[row1 + corner], corners[row1 + corner + 1]
+                );
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny, nz);
+        if (count == 0) {
+            return;
+        }
+        Axis axisX = Axis.of(x0, dx, nx, cellSizeX);
+        Axis axisY = Axis.of(y0, dy, ny, cellSizeY);
+        Axis axisZ = Axis.of(z0, dz, nz, cellSizeZ);
+        if (axisX == null || axisY == null || axisZ == null
+            || (long) axisX.corners() * axisY.corners() * axisZ.corners() > (long) count * MAX_CORNERS_PER_SAMPLE) {
+            NoiseModule.super.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        int cornersX = axisX.corners();
+        int layerSize = cornersX * axisY.corners();
+        double[] corners = new double[layerSize * axisZ.corners()];
+        int index = 0;
+        for (int k = 0; k < axisZ.corners(); k++) {
+            double z = axisZ.corner(k);
+            for (int j = 0; j < axisY.corners(); j++) {
+                double y = axisY.corner(j);
+                for (int i = 0; i < cornersX; i++) {
+                    corners[index++] = noiseSource.evaluateNoise(axisX.corner(i), y, z);
+                }
+            }
+        }
+        index = 0;
+        for (int k = 0; k < nz; k++) {
+            int layer0 = axisZ.lower[k] * layerSize;
+            int layer1 = layer0 + layerSize;
+            double tz = axisZ.positions[k];
+            for (int j = 0; j < ny; j++) {
+                int row = axisY.lower[j] * cornersX;
+                int row00 = layer0 + row;
+                int row10 = row00 + cornersX;
+                int row01 = layer1 + row;
+                int row11 = row01 + cornersX;
+                double ty = axisY.positions[j];
+                for (int i = 0; i < nx; i++) {
+                    int corner = axisX.lower[i];
+                    out[index++] = interpolate(
+                        axisX.positions[i], ty, tz,
+                        corners[row00 + corner], corners[row00 + corner + 1],
+                        corners[row10 + corner], corners[row10 + corner + 1],
+                        corners[row01 + corner], corners[row01 + corner + 1],
+                        corners[row11 + corner], corners[row11 + corner + 1]
+                    );
+                }
+            }
+        }
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return interpolated(noiseSource.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        if (!BoundsUtil.isFinite(minX, minY, maxX, maxY)) {
+            return getBounds();
+        }
+        // The box of all corners of the cells overlapping the box.
+        return interpolated(noiseSource.getBounds2D(
+            Math.floor(minX / cellSizeX) * cellSizeX,
+            Math.floor(minY / cellSizeY) * cellSizeY,
+            (Math.floor(maxX / cellSizeX) + 1) * cellSizeX,
+            (Math.floor(maxY / cellSizeY) + 1) * cellSizeY
+        ));
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (!BoundsUtil.isFinite(minX, minY, minZ, maxX, maxY, maxZ)) {
+            return getBounds();
+        }
+        return interpolated(noiseSource.getBounds3D(
+            Math.floor(minX / cellSizeX) * cellSizeX,
+            Math.floor(minY / cellSizeY) * cellSizeY,
+            Math.floor(minZ / cellSizeZ) * cellSizeZ,
+            (Math.floor(maxX / cellSizeX) + 1) * cellSizeX,
+            (Math.floor(maxY / cellSizeY) + 1) * cellSizeY,
+            (Math.floor(maxZ / cellSizeZ) + 1) * cellSizeZ
+        ));
+    }
+
+    @Override
+    public List<NoiseSource> getSources() {
+        return List.of(noiseSource);
+    }
+
+    @Override
+    public NoiseModule withSources(List<NoiseSource> sources) {
+        if (sources.size() != 1) {
+            throw new IllegalArgumentException("An upsampling module evaluates exactly 1 source.");
+        }
+        return new UpsamplingModule(sources.get(0), cellSizeX, cellSizeY, cellSizeZ, interpolation);
+    }
+
+    private double interpolate(double tx, double ty, double v00, double v10, double v01, double v11) {
+        return interpolation.lerp(ty, interpolation.lerp(tx, v00, v10), interpolation.lerp(tx, v01, v11));
+    }
+
+    private double interpolate(
+        double tx, double ty, double tz,
+        double v000, double v100, double v010, double v110,
+        double v001, double v101, double v011, double v111
+    ) {
+        return interpolation.lerp(tz, interpolate(tx, ty, v000, v100, v010, v110), interpolate(tx, ty, v001, v101, v011, v111));
+    }
+
+    // Predefined interpolations stay between the corner values up to a few rounding errors, which are added as a margin.
+    private NoiseBounds interpolated(NoiseBounds corners) {
+        double magnitude = Math.max(Math.abs(corners.getMin()), Math.abs(corners.getMax()));
+        if (!Interpolation.isPredefined(interpolation) || !(magnitude <= Double.MAX_VALUE / 4)) {
+            return NoiseBounds.UNBOUNDED;
+        }
+        double margin = 8 * Math.ulp(magnitude);
+        return NoiseBounds.of(corners.getMin() - margin, corners.getMax() + margin);
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("upsampling")
+            .setDefinition("noiseSource", noiseSource)
+            .setDoubles("cellSize", cellSizeX, cellSizeY, cellSizeZ)
+            .setConstant("interpolation", Interpolation.class, interpolation)
+            .build();
+    }
+
+    public static UpsamplingModuleBuilder newBuilder() {
+        return new UpsamplingModuleBuilder();
+    }
+
+    /**
+     * The cells a region overlaps along one axis.
+     * The corners are the distinct cell indices, every sample interpolates between its lower corner and the next one.
+     */
+    @NullMarked
+    private static final class Axis {
+        private final double[] cells;
+        private final double cellSize;
+        private final int[] lower;
+        private final double[] positions;
+
+        private Axis(double[] cells, double cellSize, int[] lower, double[] positions) {
+            this.cells = cells;
+            this.cellSize = cellSize;
+            this.lower = lower;
+            this.positions = positions;
+        }
+
+        /**
+         * Determines the cells of the samples along an axis of a region, computing positions exactly like single evaluations.
+         *
+         * @return the {@link Axis} or null if a sample is not finite or too far away to tell adjacent cells apart.
+         */
+        private static @Nullable Axis of(double start, double step, int count, double cellSize) {
+            double[] coordinates = RegionUtil.coordinates(start, step, count);
+            double[] sampleCells = new double[count];
+            double[] positions = new double[count];
+            double[] cells = new double[2 * count];
+            for (int i = 0; i < count; i++) {
+                double scaled = coordinates[i] / cellSize;
+                double cell = Math.floor(scaled);
+                if (!(Math.abs(cell) < MAX_CELL)) {
+                    return null;
+                }
+                sampleCells[i] = cell;
+                positions[i] = scaled - cell;
+                cells[2 * i] = cell;
+                cells[2 * i + 1] = cell + 1;
+            }
+            Arrays.sort(cells);
+            int distinct = 0;
+            for (int i = 0; i < cells.length; i++) {
+                if (distinct == 0 || cells[i] != cells[distinct - 1]) {
+                    cells[distinct++] = cells[i];
+                }
+            }
+            cells = Arrays.copyOf(cells, distinct);
+            int[] lower = new int[count];
+            for (int i = 0; i < count; i++) {
+                lower[i] = Arrays.binarySearch(cells, sampleCells[i]);
+            }
+            return new Axis(cells, cellSize, lower, positions);
+        }
+
+        private int corners() {
+            return cells.length;
+        }
+
+        private double corner(int index) {
+            return cells[index] * cellSize;
+        }
+    }
+
+    @NullMarked
+    public static final class UpsamplingModuleBuilder implements NoiseSourceBuilder {
+        private @Nullable NoiseSource noiseSource;
+        private double cellSizeX = 4;
+        private double cellSizeY = 4;
+        private double cellSizeZ = 4;
+        private Interpolation interpolation = Interpolation.LINEAR;
+
+        private UpsamplingModuleBuilder() {
+
+        }
+
+        /**
+         * Sets the noise source for the {@link UpsamplingModule}.
+         *
+         * @param noiseSource the new noise source for the {@link UpsamplingModule}.
+         * @return {@link UpsamplingModuleBuilder} this
+         */
+        public UpsamplingModuleBuilder setNoiseSource(NoiseSource noiseSource) {
+            this.noiseSource = noiseSource;
+            return this;
+        }
+
+        /**
+         * Sets the noise source for the {@link UpsamplingModule}.
+         *
+         * @param noiseSourceBuilder the new noise source for the {@link UpsamplingModule}.
+         * @return {@link UpsamplingModuleBuilder} this
+         */
+        public UpsamplingModuleBuilder setNoiseSource(NoiseSourceBuilder noiseSourceBuilder) {
+            this.noiseSource = noiseSourceBuilder.build();
+            return this;
+        }
+
+        /**
+         * Sets the size of the cells along every axis, defaults to 4.
+         *
+         * @param cellSize the new cell size for the {@link UpsamplingModule}.
+         * @return {@link UpsamplingModuleBuilder} this
+         */
+        public UpsamplingModuleBuilder setCellSize(double cellSize) {
+            return setCellSize(cellSize, cellSize, cellSize);
+        }
+
+        /**
+         * Sets the size of the cells along each axis, defaults to 4 along every axis.
+         * 2D evaluations only use the X and Y sizes.
+         *
+         * @param cellSizeX the new cell size along the X axis for the {@link UpsamplingModule}.
+         * @param cellSizeY the new cell size along the Y axis for the {@link UpsamplingModule}.
+         * @param cellSizeZ the new cell size along the Z axis for the {@link UpsamplingModule}.
+         * @return {@link UpsamplingModuleBuilder} this
+         */
+        public UpsamplingModuleBuilder setCellSize(double cellSizeX, double cellSizeY, double cellSizeZ) {
+            this.cellSizeX = cellSizeX;
+            this.cellSizeY = cellSizeY;
+            this.cellSizeZ = cellSizeZ;
+            return this;
+        }
+
+        /**
+         * Sets the Interpolation between the corners of a cell for the {@link UpsamplingModule}, defaults to linear.
+         *
+         * @param interpolation The new {@link Interpolation} for the {@link UpsamplingModule}.
+         * @return {@link UpsamplingModuleBuilder} this
+         */
+        public UpsamplingModuleBuilder setInterpolation(Interpolation interpolation) {
+            this.interpolation = interpolation;
+            return this;
+        }
+
+        @Override
+        public UpsamplingModule build() {
+            if (noiseSource == null) {
+                throw new IllegalArgumentException("Noise source must be defined.");
+            }
+            if (!isCellSize(cellSizeX) || !isCellSize(cellSizeY) || !isCellSize(cellSizeZ)) {
+                throw new IllegalArgumentException("Cell sizes must be positive finite values.");
+            }
+            return new UpsamplingModule(noiseSource, cellSizeX, cellSizeY, cellSizeZ, interpolation);
+        }
+
+        private static boolean isCellSize(double cellSize) {
+            return cellSize > 0 && cellSize != Double.POSITIVE_INFINITY;
+        }
+    }
+}
@@ -9,6 +9,7 @@ module de.articdive.jnoise.modules {
   exports de.articdive.jnoise.modules.octavation;
   exports de.articdive.jnoise.modules.octavation.fractal_functions;
   exports de.articdive.jnoise.modules.selection;
+  exports de.articdive.jnoise.modules.upsampling;
 
   requires transitive de.articdive.jnoise.core;
 }
@@ -0,0 +1,8 @@
+plugins {
+    id("jnoise.publishing-conventions")
+}
+
+dependencies {
+    api(project(":core"))
+    testImplementation(project(":generators"))
+}
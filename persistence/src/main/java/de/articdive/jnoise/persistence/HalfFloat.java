@@ -0,0 +1,77 @@
+package de.articdive.jnoise.persistence;
+
+/**
+ * Converts between single precision floats and IEEE 754 half precision floats stored in shorts.
+ *
+ * @author Articdive
+ */
+final class HalfFloat {
+    private HalfFloat() {
+
+    }
+
+    /**
+     * Rounds a float to the nearest half precision float, ties to even.
+     * Values beyond the half precision range become infinite, NaNs stay NaN.
+     *
+     * @param value float to convert.
+     * @return the bits of the half precision float.
+     */
+    static short fromFloat(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xFF;
+        int mantissa = bits & 0x7FFFFF;
+        if (exponent == 0xFF) {
+            return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x200 : 0));
+        }
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1F) {
+            return (short) (sign | 0x7C00);
+        }
+        if (halfExponent <= 0) {
+            if (halfExponent < -10) {
+                // Below half of the smallest subnormal half precision float.
+                return (short) sign;
+            }
+            // Subnormal, the implicit leading bit becomes explicit.
+            mantissa |= 0x800000;
+            int shift = 14 - halfExponent;
+            int half = mantissa >> shift;
+            int remainder = mantissa & ((1 << shift) - 1);
+            int halfway = 1 << (shift - 1);
+            if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+                half++;
+            }
+            return (short) (sign | half);
+        }
+        int half = sign | (halfExponent << 10) | (mantissa >> 13);
+        int remainder = mantissa & 0x1FFF;
+        // Rounding up may carry into the exponent, which yields the next power of two or infinity as intended.
+        if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+            half++;
+        }
+        return (short) half;
+    }
+
+    /**
+     * Converts a half precision float to a float, which is always exact.
+     *
+     * @param half bits of the half precision float.
+     * @return the value of the half precision float.
+     */
+    static float toFloat(short half) {
+        int bits = half & 0xFFFF;
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >>> 10) & 0x1F;
+        int mantissa = bits & 0x3FF;
+        if (exponent == 0x1F) {
+            return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            float magnitude = mantissa * 0x1p-24f;
+            return sign != 0 ? -magnitude : magnitude;
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+    }
+}
@@ -0,0 +1,711 @@
+package de.articdive.jnoise.persistence;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.RegionUtil;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * Stores square 2D or cubic 3D tiles of a lattice of a {@link NoiseSource} in a region file,
+ * so expensive layers, e.g. continent masks, are generated once and reused across restarts.
+ * The stored samples are those of {@link NoiseSource#fillLattice2D} and {@link NoiseSource#fillLattice3D} for the spacing of the store.
+ * <p>
+ * The file starts with a header holding the seed, the fingerprint of the pipeline and the layout of the tiles.
+ * Building a store whose file has exactly the same header maps the file, otherwise the tiles are generated and the file is replaced.
+ * The tiles are mapped read-only with {@link FileChannel#map}, lookups decode their samples straight from the mapping.
+ * <p>
+ * Any lookup reaching only stored lattice points is decoded from the tiles, be it a lattice evaluation, a point
+ * or an evenly spaced region whose coordinates are exactly those lattice points, see {@link RegionUtil#latticeRegionStart}.
+ * Lookups reaching beyond the stored region or off the lattice are passed through to the source.
+ * Stored samples are rounded by their {@link TileEncoding}.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class NoiseTileStore implements NoiseSource {
+    private static final int MAGIC = 0x4A4E5453;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 128;
+    // Every mapping holds whole tiles and stays below the 2 GiB limit of a buffer.
+    private static final long MAX_MAPPING_BYTES = 1L << 30;
+    // Tiles are split into a few tasks per thread, so threads which finish early can take over the remaining tasks.
+    private static final long TASKS_PER_THREAD = 4;
+
+    private final NoiseSource source;
+    private final Layout layout;
+    private final boolean generated;
+    private final ByteBuffer[] mappings;
+    private final long tilesPerMapping;
+
+    private NoiseTileStore(NoiseSource source, Layout layout, ByteBuffer[] mappings, long tilesPerMapping, boolean generated) {
+        this.source = source;
+        this.layout = layout;
+        this.generated = generated;
+        this.mappings = mappings;
+        this.tilesPerMapping = tilesPerMapping;
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return source.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        long latticeX = RegionUtil.latticeCoordinate(x, layout.spacing);
+        long latticeY = RegionUtil.latticeCoordinate(y, layout.spacing);
+        if (layout.dimensions != 2 || !isStored(latticeX, layout.minX, layout.tilesX) || !isStored(latticeY, layout.minY, layout.tilesY)) {
+            return source.evaluateNoise(x, y);
+        }
+        return storedLattice(latticeX, latticeY, layout.minZ);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        long latticeX = RegionUtil.latticeCoordinate(x, layout.spacing);
+        long latticeY = RegionUtil.latticeCoordinate(y, layout.spacing);
+        long latticeZ = RegionUtil.latticeCoordinate(z, layout.spacing);
+        if (layout.dimensions != 3 || !isStored(latticeX, layout.minX, layout.tilesX)
+            || !isStored(latticeY, layout.minY, layout.tilesY) || !isStored(latticeZ, layout.minZ, layout.tilesZ)) {
+            return source.evaluateNoise(x, y, z);
+        }
+        return storedLattice(latticeX, latticeY, latticeZ);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return source.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        if (layout.dimensions != 2 || spacing != layout.spacing
+            || !isStored(x, layout.minX, layout.tilesX) || !isStored(y, layout.minY, layout.tilesY)) {
+            return source.evaluateLattice(x, y, spacing);
+        }
+        return storedLattice(x, y, layout.minZ);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        if (layout.dimensions != 3 || spacing != layout.spacing || !isStored(x, layout.minX, layout.tilesX)
+            || !isStored(y, layout.minY, layout.tilesY) || !isStored(z, layout.minZ, layout.tilesZ)) {
+            return source.evaluateLattice(x, y, z, spacing);
+        }
+        return storedLattice(x, y, z);
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        if (layout.dimensions != 2 || spacing != layout.spacing || !isStored(x0, nx, layout.minX, layout.tilesX) || !isStored(y0, ny, layout.minY, layout.tilesY)) {
+            source.fillLattice2D(out, x0, y0, spacing, nx, ny);
+            return;
+        }
+        copyTiles(out, x0, y0, layout.minZ, nx, ny, 1);
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        if (layout.dimensions != 3 || spacing != layout.spacing || !isStored(x0, nx, layout.minX, layout.tilesX)
+            || !isStored(y0, ny, layout.minY, layout.tilesY) || !isStored(z0, nz, layout.minZ, layout.tilesZ)) {
+            source.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+            return;
+        }
+        copyTiles(out, x0, y0, z0, nx, ny, nz);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        long latticeX = RegionUtil.latticeRegionStart(x0, dx, layout.spacing);
+        long latticeY = RegionUtil.latticeRegionStart(y0, dy, layout.spacing);
+        if (layout.dimensions != 2 || !isStored(latticeX, nx, layout.minX, layout.tilesX) || !isStored(latticeY, ny, layout.minY, layout.tilesY)) {
+            source.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        copyTiles(out, latticeX, latticeY, layout.minZ, nx, ny, 1);
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        long latticeX = RegionUtil.latticeRegionStart(x0, dx, layout.spacing);
+        long latticeY = RegionUtil.latticeRegionStart(y0, dy, layout.spacing);
+        long latticeZ = RegionUtil.latticeRegionStart(z0, dz, layout.spacing);
+        if (layout.dimensions != 3 || !isStored(latticeX, nx, layout.minX, layout.tilesX) || !isStored(latticeY, ny, layout.minY, layout.tilesY)
+            || !isStored(latticeZ, nz, layout.minZ, layout.tilesZ)) {
+            source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        copyTiles(out, latticeX, latticeY, latticeZ, nx, ny, nz);
+    }
+
+    // Encoding rounds monotonically, so the encoded bounds of the source bound the stored samples as well.
+    @Override
+    public NoiseBounds getBounds() {
+        return encodeBounds(source.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return encodeBounds(source.getBounds2D(minX, minY, maxX, maxY));
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return encodeBounds(source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    /**
+     * Checks whether the tiles of this {@link NoiseTileStore} were generated when it was built,
+     * rather than loaded from an existing region file.
+     *
+     * @return true if the region file was (re)written by this store.
+     */
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    private NoiseBounds encodeBounds(NoiseBounds bounds) {
+        double min = Math.min(bounds.getMin(), layout.roundTrip(bounds.getMin()));
+        double max = Math.max(bounds.getMax(), layout.roundTrip(bounds.getMax()));
+        return NoiseBounds.ofOrUnbounded(min, max);
+    }
+
+    private boolean isStored(long coordinate, long min, int tiles) {
+        return isStored(coordinate, 1, min, tiles);
+    }
+
+    // The stored coordinates and the regions within them are bounded, so the differences cannot overflow.
+    private boolean isStored(long coordinate, int count, long min, int tiles) {
+        return RegionUtil.isLatticeCoordinate(coordinate) && coordinate >= min && coordinate - min + count <= (long) tiles * layout.tileSize;
+    }
+
+    private double storedLattice(long x, long y, long z) {
+        int tileSize = layout.tileSize;
+        long relativeX = x - layout.minX;
+        long relativeY = y - layout.minY;
+        long relativeZ = z - layout.minZ;
+        long tile = relativeX / tileSize + layout.tilesX * (relativeY / tileSize + (long) layout.tilesY * (relativeZ / tileSize));
+        int sample = (int) (relativeX % tileSize + tileSize * (relativeY % tileSize + tileSize * (relativeZ % tileSize)));
+        return decode(mapping(tile), offset(tile, sample));
+    }
+
+    private void copyTiles(double[] out, long x0, long y0, long z0, int nx, int ny, int nz) {
+        int tileSize = layout.tileSize;
+        int bytes = layout.encoding.getBytes();
+        int layers;
+        for (int k = 0; k < nz; k += layers) {
+            long relativeZ = z0 - layout.minZ + k;
+            int localZ = (int) (relativeZ % tileSize);
+            layers = layout.dimensions == 2 ? 1 : Math.min(nz - k, tileSize - localZ);
+            int rows;
+            for (int j = 0; j < ny; j += rows) {
+                long relativeY = y0 - layout.minY + j;
+                int localY = (int) (relativeY % tileSize);
+                rows = Math.min(ny - j, tileSize - localY);
+                int columns;
+                for (int i = 0; i < nx; i += columns) {
+                    long relativeX = x0 - layout.minX + i;
+                    int localX = (int) (relativeX % tileSize);
+                    columns = Math.min(nx - i, tileSize - localX);
+                    long tile = relativeX / tileSize + layout.tilesX * (relativeY / tileSize + (long) layout.tilesY * (relativeZ / tileSize));
+                    ByteBuffer mapping = mapping(tile);
+                    for (int l = 0; l < layers; l++) {
+                        for (int r = 0; r < rows; r++) {
+                            int offset = offset(tile, localX + tileSize * (localY + r + tileSize * (localZ + l)));
+                            int index = i + nx * (j + r + ny * (k + l));
+                            for (int c = 0; c < columns; c++) {
+                                out[index + c] = decode(mapping, offset + c * bytes);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private ByteBuffer mapping(long tile) {
+        return mappings[(int) (tile / tilesPerMapping)];
+    }
+
+    private int offset(long tile, int sample) {
+        return (int) (tile % tilesPerMapping) * layout.tileBytes + sample * layout.encoding.getBytes();
+    }
+
+    // Absolute reads do not move the position of the mapping, so they are safe from any thread.
+    private double decode(ByteBuffer mapping, int offset) {
+        return switch (layout.encoding) {
+            case FLOAT16 -> HalfFloat.toFloat(mapping.getShort(offset));
+            case FLOAT32 -> mapping.getFloat(offset);
+            case QUANTIZED_INT16 -> layout.dequantize(mapping.getShort(offset));
+        };
+    }
+
+    /**
+     * Gets a {@link NoiseTileStoreBuilder} to build a {@link NoiseTileStore}.
+     *
+     * @return {@link NoiseTileStoreBuilder}.
+     */
+    public static NoiseTileStoreBuilder newBuilder() {
+        return new NoiseTileStoreBuilder();
+    }
+
+    /**
+     * Everything written to the header of a region file, files with a different layout are regenerated.
+     */
+    @NullMarked
+    private static final class Layout {
+        private final int dimensions;
+        private final TileEncoding encoding;
+        private final int tileSize;
+        private final int tilesX;
+        private final int tilesY;
+        private final int tilesZ;
+        // Lattice coordinates of the first stored sample.
+        private final long minX;
+        private final long minY;
+        private final long minZ;
+        private final long seed;
+        private final long fingerprint;
+        private final double spacing;
+        private final double quantizationMin;
+        private final double quantizationMax;
+        private final double quantizationStep;
+        private final int tileSamples;
+        private final int tileBytes;
+
+        private Layout(
+            int dimensions,
+            TileEncoding encoding,
+            int tileSize,
+            int tilesX,
+            int tilesY,
+            int tilesZ,
+            long tileX,
+            long tileY,
+            long tileZ,
+            long seed,
+            long fingerprint,
+            double spacing,
+            double quantizationMin,
+            double quantizationMax
+        ) {
+            this.dimensions = dimensions;
+            this.encoding = encoding;
+            this.tileSize = tileSize;
+            this.tilesX = tilesX;
+            this.tilesY = tilesY;
+            this.tilesZ = tilesZ;
+            this.minX = tileX * tileSize;
+            this.minY = tileY * tileSize;
+            this.minZ = tileZ * tileSize;
+            this.seed = seed;
+            this.fingerprint = fingerprint;
+            this.spacing = spacing;
+            this.quantizationMin = quantizationMin;
+            this.quantizationMax = quantizationMax;
+            this.quantizationStep = (quantizationMax - quantizationMin) / 65535;
+            this.tileSamples = dimensions == 2 ? tileSize * tileSize : tileSize * tileSize * tileSize;
+            this.tileBytes = tileSamples * encoding.getBytes();
+        }
+
+        private long tiles() {
+            return (long) tilesX * tilesY * tilesZ;
+        }
+
+        private ByteBuffer header() {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(dimensions)
+                .putInt(encoding.ordinal())
+                .putInt(tileSize)
+                .putInt(tilesX)
+                .putInt(tilesY)
+                .putInt(tilesZ)
+                .putLong(minX)
+                .putLong(minY)
+                .putLong(minZ)
+                .putLong(seed)
+                .putLong(fingerprint)
+                .putDouble(spacing)
+                .putDouble(quantizationMin)
+                .putDouble(quantizationMax);
+            return header.clear();
+        }
+
+        private void encode(ByteBuffer buffer, double value) {
+            switch (encoding) {
+                case FLOAT16 -> buffer.putShort(HalfFloat.fromFloat((float) value));
+                case FLOAT32 -> buffer.putFloat((float) value);
+                case QUANTIZED_INT16 -> buffer.putShort(quantize(value));
+            }
+        }
+
+        private short quantize(double value) {
+            long level = Math.round((value - quantizationMin) / quantizationStep);
+            return (short) (Math.max(0, Math.min(65535, level)) - 32768);
+        }
+
+        private double dequantize(short level) {
+            return quantizationMin + (level + 32768) * quantizationStep;
+        }
+
+        private double roundTrip(double value) {
+            return switch (encoding) {
+                case FLOAT16 -> HalfFloat.toFloat(HalfFloat.fromFloat((float) value));
+                case FLOAT32 -> (float) value;
+                case QUANTIZED_INT16 -> dequantize(quantize(value));
+            };
+        }
+    }
+
+    @NullMarked
+    public static final class NoiseTileStoreBuilder {
+        private @Nullable Path path;
+        private @Nullable NoiseSource source;
+        private TileEncoding encoding = TileEncoding.FLOAT32;
+        private int tileSize = 64;
+        private double spacing = 1;
+        private long seed = 0;
+        private long fingerprint = 0;
+        private int dimensions = 0;
+        private long tileX;
+        private long tileY;
+        private long tileZ;
+        private int tilesX;
+        private int tilesY;
+        private int tilesZ;
+        private double quantizationMin = Double.NaN;
+        private double quantizationMax = Double.NaN;
+
+        private NoiseTileStoreBuilder() {
+
+        }
+
+        /**
+         * Sets the region file of the {@link NoiseTileStore}.
+         *
+         * @param path the {@link Path} of the region file, its directory has to exist.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * Sets the noise source for the {@link NoiseTileStore}.
+         *
+         * @param source {@link NoiseSource} to store, it also evaluates everything outside the stored tiles.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setNoiseSource(NoiseSource source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets the noise source for the {@link NoiseTileStore}.
+         *
+         * @param sourceBuilder {@link NoiseSourceBuilder} building the {@link NoiseSource} to store.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setNoiseSource(NoiseSourceBuilder sourceBuilder) {
+            this.source = sourceBuilder.build();
+            return this;
+        }
+
+        /**
+         * Sets the encoding of the stored samples, defaults to {@link TileEncoding#FLOAT32}.
+         *
+         * @param encoding the new {@link TileEncoding} for the {@link NoiseTileStore}.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setEncoding(TileEncoding encoding) {
+            this.encoding = encoding;
+            return this;
+        }
+
+        /**
+         * Sets the edge length of the stored tiles in lattice points, defaults to 64.
+         * 2D tiles are squares and 3D tiles are cubes.
+         *
+         * @param tileSize the new tile size for the {@link NoiseTileStore}.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setTileSize(int tileSize) {
+            this.tileSize = tileSize;
+            return this;
+        }
+
+        /**
+         * Sets the spacing between the points of the stored lattice, defaults to 1.
+         * Evenly spaced regions can only be served from the store if the spacing is a power of two.
+         *
+         * @param spacing the new spacing for the {@link NoiseTileStore}.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setSpacing(double spacing) {
+            this.spacing = spacing;
+            return this;
+        }
+
+        /**
+         * Sets the seed written to the header of the region file, defaults to 0.
+         * The store itself does not use the seed, a file with a different seed is regenerated.
+         *
+         * @param seed the seed of the stored {@link NoiseSource}.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the fingerprint of the pipeline written to the header of the region file, defaults to 0.
+         * It should change whenever the stored {@link NoiseSource} does, a file with a different fingerprint is regenerated.
+         * The structural hash of the source's {@link de.articdive.jnoise.core.api.definition.NoiseDefinition} is such a fingerprint.
+         *
+         * @param fingerprint the fingerprint of the stored {@link NoiseSource}.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setFingerprint(long fingerprint) {
+            this.fingerprint = fingerprint;
+            return this;
+        }
+
+        /**
+         * Stores a rectangle of 2D tiles, the tile at (tileX, tileY) starts at the lattice point (tileX * tileSize, tileY * tileSize).
+         *
+         * @param tileX  X-Coordinate of the first tile.
+         * @param tileY  Y-Coordinate of the first tile.
+         * @param tilesX amount of tiles along the X axis.
+         * @param tilesY amount of tiles along the Y axis.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setRegion2D(long tileX, long tileY, int tilesX, int tilesY) {
+            this.dimensions = 2;
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.tileZ = 0;
+            this.tilesX = tilesX;
+            this.tilesY = tilesY;
+            this.tilesZ = 1;
+            return this;
+        }
+
+        /**
+         * Stores a box of 3D tiles, the tile at (tileX, tileY, tileZ) starts at the lattice point
+         * (tileX * tileSize, tileY * tileSize, tileZ * tileSize).
+         *
+         * @param tileX  X-Coordinate of the first tile.
+         * @param tileY  Y-Coordinate of the first tile.
+         * @param tileZ  Z-Coordinate of the first tile.
+         * @param tilesX amount of tiles along the X axis.
+         * @param tilesY amount of tiles along the Y axis.
+         * @param tilesZ amount of tiles along the Z axis.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setRegion3D(long tileX, long tileY, long tileZ, int tilesX, int tilesY, int tilesZ) {
+            this.dimensions = 3;
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.tileZ = tileZ;
+            this.tilesX = tilesX;
+            this.tilesY = tilesY;
+            this.tilesZ = tilesZ;
+            return this;
+        }
+
+        /**
+         * Sets the range {@link TileEncoding#QUANTIZED_INT16} spreads its levels over.
+         * Defaults to the bounds of the source, so it has to be set for unbounded sources.
+         *
+         * @param min the value of the lowest level.
+         * @param max the value of the highest level.
+         * @return {@link NoiseTileStoreBuilder} this
+         */
+        public NoiseTileStoreBuilder setQuantizationRange(double min, double max) {
+            this.quantizationMin = min;
+            this.quantizationMax = max;
+            return this;
+        }
+
+        /**
+         * Builds the {@link NoiseTileStore}, generating and writing its region file unless it already holds the same tiles.
+         *
+         * @return the {@link NoiseTileStore}.
+         * @throws IllegalArgumentException if a parameter is invalid.
+         * @throws UncheckedIOException     if the region file cannot be read or written.
+         */
+        public NoiseTileStore build() {
+            if (path == null) {
+                throw new IllegalArgumentException("Path must be defined.");
+            }
+            if (source == null) {
+                throw new IllegalArgumentException("Source must be defined.");
+            }
+            if (dimensions == 0) {
+                throw new IllegalArgumentException("Region must be defined.");
+            }
+            if (tileSize <= 0 || tileSize > 256) {
+                throw new IllegalArgumentException("Tile size must be between 1 and 256.");
+            }
+            if (!(spacing > 0) || spacing == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("Spacing must be a positive finite value.");
+            }
+            if (tilesX <= 0 || tilesY <= 0 || tilesZ <= 0) {
+                throw new IllegalArgumentException("The amount of tiles must be positive along every axis.");
+            }
+            checkTiles(tileX, tilesX);
+            checkTiles(tileY, tilesY);
+            checkTiles(tileZ, tilesZ);
+            double min = 0;
+            double max = 0;
+            if (encoding == TileEncoding.QUANTIZED_INT16) {
+                NoiseBounds bounds = source.getBounds();
+                min = Double.isNaN(quantizationMin) ? bounds.getMin() : quantizationMin;
+                max = Double.isNaN(quantizationMax) ? bounds.getMax() : quantizationMax;
+                if (!(min < max) || !Double.isFinite(max - min)) {
+                    throw new IllegalArgumentException("Quantization range must be a finite, non-empty range.");
+                }
+            }
+            Layout layout = new Layout(
+                dimensions, encoding, tileSize, tilesX, tilesY, tilesZ, tileX, tileY, tileZ, seed, fingerprint, spacing, min, max
+            );
+            try {
+                boolean generated = !hasLayout(path, layout);
+                if (generated) {
+                    write(path, layout, source);
+                }
+                return map(path, layout, source, generated);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // The lattice coordinates of the stored samples have to be exact doubles.
+        private void checkTiles(long tile, int tiles) {
+            long min = tile * tileSize;
+            long max = min + (long) tiles * tileSize;
+            if (Math.abs(tile) > RegionUtil.MAX_LATTICE_COORDINATE / tileSize || Math.abs(max) > RegionUtil.MAX_LATTICE_COORDINATE) {
+                throw new IllegalArgumentException("The stored region must lie within 2^52 lattice points of the origin.");
+            }
+        }
+
+        private static boolean hasLayout(Path path, Layout layout) throws IOException {
+            if (!Files.isRegularFile(path) || Files.size(path) != HEADER_BYTES + layout.tiles() * layout.tileBytes) {
+                return false;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                while (header.hasRemaining() && channel.read(header) >= 0) {
+                    // Reads until the header is complete.
+                }
+            }
+            return header.clear().equals(layout.header());
+        }
+
+        // Tiles are generated in parallel and written to a temporary file, which replaces the region file once it is complete and forced to the disk.
+        private static void write(Path path, Layout layout, NoiseSource source) throws IOException {
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            boolean written = false;
+            try {
+                try (FileChannel channel = FileChannel.open(
+                    temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+                )) {
+                    writeFully(channel, layout.header(), 0);
+                    long tiles = layout.tiles();
+                    long tasks = Math.min(tiles, TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+                    long tilesPerTask = (tiles + tasks - 1) / tasks;
+                    LongStream.range(0, tasks).parallel().forEach(task -> {
+                        long firstTile = task * tilesPerTask;
+                        writeTiles(channel, layout, source, firstTile, Math.min(tiles, firstTile + tilesPerTask));
+                    });
+                    channel.force(true);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                try {
+                    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+                written = true;
+            } finally {
+                if (!written) {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+
+        // Every task generates its tiles into its own buffers, so no buffers are retained by the threads of the common pool.
+        private static void writeTiles(FileChannel channel, Layout layout, NoiseSource source, long firstTile, long endTile) {
+            double[] samples = new double[layout.tileSamples];
+            ByteBuffer buffer = ByteBuffer.allocate(layout.tileBytes).order(ByteOrder.LITTLE_ENDIAN);
+            for (long tile = firstTile; tile < endTile; tile++) {
+                long x = layout.minX + tile % layout.tilesX * layout.tileSize;
+                long y = layout.minY + tile / layout.tilesX % layout.tilesY * layout.tileSize;
+                long z = layout.minZ + tile / ((long) layout.tilesX * layout.tilesY) * layout.tileSize;
+                if (layout.dimensions == 2) {
+                    source.fillLattice2D(samples, x, y, layout.spacing, layout.tileSize, layout.tileSize);
+                } else {
+                    source.fillLattice3D(samples, x, y, z, layout.spacing, layout.tileSize, layout.tileSize, layout.tileSize);
+                }
+                buffer.clear();
+                for (double sample : samples) {
+                    layout.encode(buffer, sample);
+                }
+                try {
+                    writeFully(channel, buffer.flip(), HEADER_BYTES + tile * layout.tileBytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        // Positional writes do not share the position of the channel, so tiles can be written concurrently.
+        private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+
+        // Mappings stay valid after their channel is closed.
+        private static NoiseTileStore map(Path path, Layout layout, NoiseSource source, boolean generated) throws IOException {
+            long tilesPerMapping = Math.max(1, MAX_MAPPING_BYTES / layout.tileBytes);
+            long tiles = layout.tiles();
+            ByteBuffer[] mappings = new ByteBuffer[(int) ((tiles + tilesPerMapping - 1) / tilesPerMapping)];
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                for (int i = 0; i < mappings.length; i++) {
+                    long firstTile = i * tilesPerMapping;
+                    long mappedTiles = Math.min(tilesPerMapping, tiles - firstTile);
+                    mappings[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY, HEADER_BYTES + firstTile * layout.tileBytes, mappedTiles * layout.tileBytes
+                    ).order(ByteOrder.LITTLE_ENDIAN);
+                }
+            }
+            return new NoiseTileStore(source, layout, mappings, tilesPerMapping, generated);
+        }
+    }
+}
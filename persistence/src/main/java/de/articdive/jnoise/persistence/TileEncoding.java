@@ -0,0 +1,39 @@
+package de.articdive.jnoise.persistence;
+
+/**
+ * Enum representing the encodings the samples of a {@link NoiseTileStore} can be stored with.
+ * The order of the constants is part of the file format, new encodings have to be appended.
+ *
+ * @author Articdive
+ */
+public enum TileEncoding {
+    /**
+     * IEEE 754 half precision floats, rounded to nearest.
+     * Keeps 11 significant bits, so values in [-1, 1] are stored with an error of at most 2^-12.
+     */
+    FLOAT16(2),
+    /**
+     * IEEE 754 single precision floats, exactly like the single precision region fills of a source.
+     */
+    FLOAT32(4),
+    /**
+     * 16 bit integers, evenly spread over the quantization range of the store.
+     * Values outside of the range are clamped to it, values within it are stored with an error of at most 1 / 131070 of the range.
+     */
+    QUANTIZED_INT16(2);
+
+    private final int bytes;
+
+    TileEncoding(int bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Gets the size of a sample in this encoding.
+     *
+     * @return the amount of bytes a sample occupies.
+     */
+    public int getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * The "persistence" JNoise module.
+ * 
+ * Requires the core JNoise module.
+ */
+module de.articdive.jnoise.persistence {
+  exports de.articdive.jnoise.persistence;
+
+  requires transitive de.articdive.jnoise.core;
+}
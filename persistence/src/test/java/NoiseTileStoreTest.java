@@ -0,0 +1,181 @@
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.persistence.NoiseTileStore;
+import de.articdive.jnoise.persistence.TileEncoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NoiseTileStoreTest {
+    private final PerlinNoiseGenerator noise = PerlinNoiseGenerator.newBuilder().setSeed(1729).build();
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Noise Tile Store - Matches Source")
+    public void testMatchesSource() {
+        NoiseTileStore store = NoiseTileStore.newBuilder()
+            .setPath(directory.resolve("layer.jnt"))
+            .setNoiseSource(noise)
+            .setTileSize(16)
+            .setSpacing(0.125)
+            .setRegion2D(-2, 1, 3, 2)
+            .build();
+        assertTrue(store.isGenerated());
+
+        double[] expected = new double[45 * 29];
+        double[] actual = new double[45 * 29];
+        noise.fillLattice2D(expected, -31, 17, 0.125, 45, 29);
+        store.fillLattice2D(actual, -31, 17, 0.125, 45, 29);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals((float) expected[i], actual[i]);
+        }
+        store.fill2D(actual, -31 * 0.125, 17 * 0.125, 0.125, 0.125, 45, 29);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals((float) expected[i], actual[i]);
+        }
+        assertEquals((float) noise.evaluateLattice(-32, 16, 0.125), store.evaluateLattice(-32, 16, 0.125));
+        assertEquals((float) noise.evaluateNoise(1.5, 4.875), store.evaluateNoise(1.5, 4.875));
+    }
+
+    @Test
+    @DisplayName("Noise Tile Store - Passes Through")
+    public void testPassesThrough() {
+        NoiseTileStore store = NoiseTileStore.newBuilder()
+            .setPath(directory.resolve("layer.jnt"))
+            .setNoiseSource(noise)
+            .setTileSize(8)
+            .setSpacing(0.25)
+            .setRegion3D(0, 0, 0, 2, 2, 2)
+            .build();
+        // Outside of the stored tiles, off the lattice, at other frequencies and in other dimensions.
+        assertEquals(noise.evaluateLattice(16, 3, 4, 0.25), store.evaluateLattice(16, 3, 4, 0.25));
+        assertEquals(noise.evaluateNoise(0.3, 1.0, 2.0), store.evaluateNoise(0.3, 1.0, 2.0));
+        assertEquals(noise.evaluateLattice(1, 3, 4, 0.5), store.evaluateLattice(1, 3, 4, 0.5));
+        assertEquals(noise.evaluateNoise(1.0, 2.0), store.evaluateNoise(1.0, 2.0));
+        assertEquals(noise.evaluateNoise(1.0, 2.0, 3.0, 4.0), store.evaluateNoise(1.0, 2.0, 3.0, 4.0));
+
+        double[] expected = new double[6 * 6 * 6];
+        double[] actual = new double[6 * 6 * 6];
+        noise.fillLattice3D(expected, 12, 0, 0, 0.25, 6, 6, 6);
+        store.fillLattice3D(actual, 12, 0, 0, 0.25, 6, 6, 6);
+        assertArrayEquals(expected, actual);
+
+        noise.fillLattice3D(expected, 5, 3, 7, 0.25, 6, 6, 6);
+        store.fillLattice3D(actual, 5, 3, 7, 0.25, 6, 6, 6);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals((float) expected[i], actual[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Noise Tile Store - Reopens and Invalidates")
+    public void testReopen() {
+        Path path = directory.resolve("layer.jnt");
+        NoiseTileStore.NoiseTileStoreBuilder builder = NoiseTileStore.newBuilder()
+            .setPath(path)
+            .setNoiseSource(noise)
+            .setTileSize(8)
+            .setSeed(1729)
+            .setFingerprint(42)
+            .setRegion2D(0, 0, 2, 2);
+        NoiseTileStore generated = builder.build();
+        assertTrue(generated.isGenerated());
+        NoiseTileStore reopened = builder.build();
+        assertFalse(reopened.isGenerated());
+        assertEquals(generated.evaluateLattice(3, 9, 1), reopened.evaluateLattice(3, 9, 1));
+
+        NoiseTileStore other = builder.setNoiseSource(PerlinNoiseGenerator.newBuilder().setSeed(42).build()).setFingerprint(43).build();
+        assertTrue(other.isGenerated());
+        assertFalse(Files.exists(directory.resolve("layer.jnt.tmp")));
+        assertTrue(builder.setSeed(1).build().isGenerated());
+        assertTrue(builder.setEncoding(TileEncoding.FLOAT16).build().isGenerated());
+
+        assertThrows(IllegalStateException.class, () -> builder.setNoiseSource(failing()).setFingerprint(44).build());
+        assertFalse(Files.exists(directory.resolve("layer.jnt.tmp")));
+    }
+
+    @Test
+    @DisplayName("Noise Tile Store - Encodings")
+    public void testEncodings() {
+        double[] expected = new double[32 * 32];
+        double[] actual = new double[32 * 32];
+        noise.fillLattice2D(expected, 0, 0, 0.1, 32, 32);
+
+        NoiseTileStore half = NoiseTileStore.newBuilder()
+            .setPath(directory.resolve("half.jnt"))
+            .setNoiseSource(noise)
+            .setEncoding(TileEncoding.FLOAT16)
+            .setTileSize(32)
+            .setSpacing(0.1)
+            .setRegion2D(0, 0, 1, 1)
+            .build();
+        half.fillLattice2D(actual, 0, 0, 0.1, 32, 32);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], 1.0 / 2048);
+        }
+
+        NoiseTileStore quantized = NoiseTileStore.newBuilder()
+            .setPath(directory.resolve("quantized.jnt"))
+            .setNoiseSource(noise)
+            .setEncoding(TileEncoding.QUANTIZED_INT16)
+            .setTileSize(32)
+            .setSpacing(0.1)
+            .setRegion2D(0, 0, 1, 1)
+            .build();
+        quantized.fillLattice2D(actual, 0, 0, 0.1, 32, 32);
+        double step = (noise.getBounds().getMax() - noise.getBounds().getMin()) / 65535;
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], step / 2 + 1e-12);
+            assertTrue(actual[i] >= quantized.getBounds().getMin() && actual[i] <= quantized.getBounds().getMax());
+        }
+    }
+
+    @Test
+    @DisplayName("Noise Tile Store - Invalid Parameters")
+    public void testInvalidParameters() {
+        Path path = directory.resolve("layer.jnt");
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setNoiseSource(noise).setRegion2D(0, 0, 1, 1).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setRegion2D(0, 0, 1, 1).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setNoiseSource(noise).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setNoiseSource(noise).setRegion2D(0, 0, 0, 1).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setNoiseSource(noise).setRegion2D(0, 0, 1, 1).setTileSize(257).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setNoiseSource(noise).setRegion2D(0, 0, 1, 1).setSpacing(0).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setNoiseSource(noise).setRegion2D(1L << 60, 0, 1, 1).build());
+        assertThrows(IllegalArgumentException.class, () -> NoiseTileStore.newBuilder().setPath(path).setNoiseSource(noise).setRegion2D(0, 0, 1, 1)
+            .setEncoding(TileEncoding.QUANTIZED_INT16).setQuantizationRange(1, 1).build());
+    }
+
+    private static NoiseSource failing() {
+        return new NoiseSource() {
+            @Override
+            public double evaluateNoise(double x) {
+                throw new IllegalStateException("The noise source failed.");
+            }
+
+            @Override
+            public double evaluateNoise(double x, double y) {
+                throw new IllegalStateException("The noise source failed.");
+            }
+
+            @Override
+            public double evaluateNoise(double x, double y, double z) {
+                throw new IllegalStateException("The noise source failed.");
+            }
+
+            @Override
+            public double evaluateNoise(double x, double y, double z, double w) {
+                throw new IllegalStateException("The noise source failed.");
+            }
+        };
+    }
+}
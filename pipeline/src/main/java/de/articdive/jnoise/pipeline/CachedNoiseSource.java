@@ -0,0 +1,516 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.HashUtil;
+import de.articdive.jnoise.core.util.RegionUtil;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches square 2D and cubic 3D tiles of a lattice of a {@link NoiseSource}, so overlapping regions,
+ * e.g. the borders of neighbouring chunks, are generated only once.
+ * The lattice consists of the integer coordinates scaled by the spacing, see {@link NoiseSource#evaluateLattice}.
+ * Lattice evaluations and lattice regions at the spacing of the cache are served from its tiles,
+ * as are point evaluations and evenly spaced regions lying exactly on the lattice.
+ * Everything else is passed through to the source, the results are always exactly those of the source.
+ * <p>
+ * The tiles share a byte budget and are evicted in least recently used order.
+ * The cache is split into segments with their own lock and an equal share of the budget, so threads rarely contend.
+ * Every thread additionally remembers the tiles it used last, repeated lookups within them never lock
+ * but do not refresh their recency either.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class CachedNoiseSource implements NoiseSource, Definable {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final NoiseSource source;
+    private final int tileSize;
+    private final double spacing;
+    private final long maximumBytes;
+    private final long maximumSegmentBytes;
+    private final Segment[] segments;
+    private final ThreadLocal<LastTiles> lastTiles = ThreadLocal.withInitial(LastTiles::new);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private CachedNoiseSource(NoiseSource source, int tileSize, double spacing, long maximumBytes) {
+        this.source = source;
+        this.tileSize = tileSize;
+        this.spacing = spacing;
+        this.maximumBytes = maximumBytes;
+        // Every segment should hold a few cubic tiles, small budgets are therefore split into fewer segments.
+        long tileBytes = (long) tileSize * tileSize * tileSize * Double.BYTES;
+        long segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, Long.highestOneBit(maximumBytes / (4 * tileBytes))));
+        this.maximumSegmentBytes = maximumBytes / segmentCount;
+        this.segments = new Segment[(int) segmentCount];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return source.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        long latticeX = RegionUtil.latticeCoordinate(x, spacing);
+        long latticeY = RegionUtil.latticeCoordinate(y, spacing);
+        if (!RegionUtil.isLatticeCoordinate(latticeX) || !RegionUtil.isLatticeCoordinate(latticeY)) {
+            return source.evaluateNoise(x, y);
+        }
+        return cachedLattice(latticeX, latticeY);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        long latticeX = RegionUtil.latticeCoordinate(x, spacing);
+        long latticeY = RegionUtil.latticeCoordinate(y, spacing);
+        long latticeZ = RegionUtil.latticeCoordinate(z, spacing);
+        if (!RegionUtil.isLatticeCoordinate(latticeX) || !RegionUtil.isLatticeCoordinate(latticeY) || !RegionUtil.isLatticeCoordinate(latticeZ)) {
+            return source.evaluateNoise(x, y, z);
+        }
+        return cachedLattice(latticeX, latticeY, latticeZ);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return source.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        if (spacing != this.spacing || !RegionUtil.isLatticeCoordinate(x) || !RegionUtil.isLatticeCoordinate(y)) {
+            return source.evaluateLattice(x, y, spacing);
+        }
+        return cachedLattice(x, y);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        if (spacing != this.spacing
+            || !RegionUtil.isLatticeCoordinate(x) || !RegionUtil.isLatticeCoordinate(y) || !RegionUtil.isLatticeCoordinate(z)) {
+            return source.evaluateLattice(x, y, z, spacing);
+        }
+        return cachedLattice(x, y, z);
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        if (spacing != this.spacing || !RegionUtil.isLatticeCoordinate(x0) || !RegionUtil.isLatticeCoordinate(y0)) {
+            source.fillLattice2D(out, x0, y0, spacing, nx, ny);
+            return;
+        }
+        copyTiles2D(out, x0, y0, nx, ny);
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        if (spacing != this.spacing
+            || !RegionUtil.isLatticeCoordinate(x0) || !RegionUtil.isLatticeCoordinate(y0) || !RegionUtil.isLatticeCoordinate(z0)) {
+            source.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+            return;
+        }
+        copyTiles3D(out, x0, y0, z0, nx, ny, nz);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        long latticeX = RegionUtil.latticeRegionStart(x0, dx, spacing);
+        long latticeY = RegionUtil.latticeRegionStart(y0, dy, spacing);
+        if (!RegionUtil.isLatticeCoordinate(latticeX) || !RegionUtil.isLatticeCoordinate(latticeY)) {
+            source.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        copyTiles2D(out, latticeX, latticeY, nx, ny);
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        long latticeX = RegionUtil.latticeRegionStart(x0, dx, spacing);
+        long latticeY = RegionUtil.latticeRegionStart(y0, dy, spacing);
+        long latticeZ = RegionUtil.latticeRegionStart(z0, dz, spacing);
+        if (!RegionUtil.isLatticeCoordinate(latticeX) || !RegionUtil.isLatticeCoordinate(latticeY) || !RegionUtil.isLatticeCoordinate(latticeZ)) {
+            source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        copyTiles3D(out, latticeX, latticeY, latticeZ, nx, ny, nz);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return source.getBounds();
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return source.getBounds2D(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Gets the amount of tile lookups that found their tile in the cache.
+     *
+     * @return the amount of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of tile lookups that had to generate their tile.
+     *
+     * @return the amount of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of tiles evicted to stay within the byte budget.
+     *
+     * @return the amount of evicted tiles.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the amount of bytes the values of the cached tiles occupy.
+     *
+     * @return the size of the cached tiles in bytes.
+     */
+    public long getCachedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.getBytes();
+        }
+        return bytes;
+    }
+
+    private double cachedLattice(long x, long y) {
+        double[] tile = tile2D(Math.floorDiv(x, tileSize), Math.floorDiv(y, tileSize));
+        return tile[Math.floorMod(x, tileSize) + tileSize * Math.floorMod(y, tileSize)];
+    }
+
+    private double cachedLattice(long x, long y, long z) {
+        double[] tile = tile3D(Math.floorDiv(x, tileSize), Math.floorDiv(y, tileSize), Math.floorDiv(z, tileSize));
+        return tile[Math.floorMod(x, tileSize) + tileSize * (Math.floorMod(y, tileSize) + tileSize * Math.floorMod(z, tileSize))];
+    }
+
+    private void copyTiles2D(double[] out, long x0, long y0, int nx, int ny) {
+        int rows;
+        for (int j = 0; j < ny; j += rows) {
+            long y = y0 + j;
+            int localY = Math.floorMod(y, tileSize);
+            rows = Math.min(ny - j, tileSize - localY);
+            int columns;
+            for (int i = 0; i < nx; i += columns) {
+                long x = x0 + i;
+                int localX = Math.floorMod(x, tileSize);
+                columns = Math.min(nx - i, tileSize - localX);
+                double[] tile = tile2D(Math.floorDiv(x, tileSize), Math.floorDiv(y, tileSize));
+                for (int r = 0; r < rows; r++) {
+                    System.arraycopy(tile, localX + tileSize * (localY + r), out, i + nx * (j + r), columns);
+                }
+            }
+        }
+    }
+
+    private void copyTiles3D(double[] out, long x0, long y0, long z0, int nx, int ny, int nz) {
+        int layers;
+        for (int k = 0; k < nz; k += layers) {
+            long z = z0 + k;
+            int localZ = Math.floorMod(z, tileSize);
+            layers = Math.min(nz - k, tileSize - localZ);
+            int rows;
+            for (int j = 0; j < ny; j += rows) {
+                long y = y0 + j;
+                int localY = Math.floorMod(y, tileSize);
+                rows = Math.min(ny - j, tileSize - localY);
+                int columns;
+                for (int i = 0; i < nx; i += columns) {
+                    long x = x0 + i;
+                    int localX = Math.floorMod(x, tileSize);
+                    columns = Math.min(nx - i, tileSize - localX);
+                    double[] tile = tile3D(Math.floorDiv(x, tileSize), Math.floorDiv(y, tileSize), Math.floorDiv(z, tileSize));
+                    for (int l = 0; l < layers; l++) {
+                        for (int r = 0; r < rows; r++) {
+                            System.arraycopy(
+                                tile, localX + tileSize * (localY + r + tileSize * (localZ + l)),
+                                out, i + nx * (j + r + ny * (k + l)),
+                                columns
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private double[] tile2D(long tileX, long tileY) {
+        LastTiles last = lastTiles.get();
+        double[] tile = last.tile2D;
+        if (tile != null && last.tileX2D == tileX && last.tileY2D == tileY) {
+            hits.increment();
+            return tile;
+        }
+        TileKey key = new TileKey(2, tileX, tileY, 0);
+        tile = lookup(key);
+        if (tile == null) {
+            tile = new double[tileSize * tileSize];
+            source.fillLattice2D(tile, tileX * tileSize, tileY * tileSize, spacing, tileSize, tileSize);
+            tile = store(key, tile);
+        }
+        last.tile2D = tile;
+        last.tileX2D = tileX;
+        last.tileY2D = tileY;
+        return tile;
+    }
+
+    private double[] tile3D(long tileX, long tileY, long tileZ) {
+        LastTiles last = lastTiles.get();
+        double[] tile = last.tile3D;
+        if (tile != null && last.tileX3D == tileX && last.tileY3D == tileY && last.tileZ3D == tileZ) {
+            hits.increment();
+            return tile;
+        }
+        TileKey key = new TileKey(3, tileX, tileY, tileZ);
+        tile = lookup(key);
+        if (tile == null) {
+            tile = new double[tileSize * tileSize * tileSize];
+            source.fillLattice3D(tile, tileX * tileSize, tileY * tileSize, tileZ * tileSize, spacing, tileSize, tileSize, tileSize);
+            tile = store(key, tile);
+        }
+        last.tile3D = tile;
+        last.tileX3D = tileX;
+        last.tileY3D = tileY;
+        last.tileZ3D = tileZ;
+        return tile;
+    }
+
+    private double @Nullable [] lookup(TileKey key) {
+        double[] tile = segment(key).get(key);
+        if (tile != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return tile;
+    }
+
+    // Tiles are generated outside the segment's lock, if another thread stored the tile meanwhile its tile is kept.
+    private double[] store(TileKey key, double[] tile) {
+        return segment(key).put(key, tile);
+    }
+
+    private Segment segment(TileKey key) {
+        return segments[key.hash & (segments.length - 1)];
+    }
+
+    // The contents of the cache are not part of its definition.
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("cached")
+            .setDefinition("noiseSource", source)
+            .setLong("tileSize", tileSize)
+            .setDouble("spacing", spacing)
+            .setLong("maximumBytes", maximumBytes)
+            .build();
+    }
+
+    /**
+     * Gets a {@link CachedNoiseSourceBuilder} to build a {@link CachedNoiseSource}.
+     *
+     * @return {@link CachedNoiseSourceBuilder}.
+     */
+    public static CachedNoiseSourceBuilder newBuilder() {
+        return new CachedNoiseSourceBuilder();
+    }
+
+    /**
+     * A part of the cache with its own lock and byte budget.
+     */
+    @NullMarked
+    private final class Segment {
+        // Iterates from the least to the most recently used tile.
+        private final LinkedHashMap<TileKey, double[]> tiles = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        private synchronized double @Nullable [] get(TileKey key) {
+            return tiles.get(key);
+        }
+
+        private synchronized double[] put(TileKey key, double[] tile) {
+            double[] existing = tiles.putIfAbsent(key, tile);
+            if (existing != null) {
+                return existing;
+            }
+            bytes += (long) tile.length * Double.BYTES;
+            Iterator<double[]> iterator = tiles.values().iterator();
+            while (bytes > maximumSegmentBytes && iterator.hasNext()) {
+                bytes -= (long) iterator.next().length * Double.BYTES;
+                iterator.remove();
+                evictions.increment();
+            }
+            return tile;
+        }
+
+        private synchronized long getBytes() {
+            return bytes;
+        }
+    }
+
+    @NullMarked
+    private static final class TileKey {
+        private final int dimension;
+        private final long x;
+        private final long y;
+        private final long z;
+        private final int hash;
+
+        private TileKey(int dimension, long x, long y, long z) {
+            this.dimension = dimension;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.hash = HashUtil.hash3D(dimension, x, y, z);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TileKey other)) {
+                return false;
+            }
+            return dimension == other.dimension && x == other.x && y == other.y && z == other.z;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // The tiles a thread used last, kept per dimension.
+    private static final class LastTiles {
+        private double @Nullable [] tile2D;
+        private long tileX2D;
+        private long tileY2D;
+
+        private double @Nullable [] tile3D;
+        private long tileX3D;
+        private long tileY3D;
+        private long tileZ3D;
+    }
+
+    /**
+     * Builder for the {@link CachedNoiseSource}.
+     */
+    @NullMarked
+    public static final class CachedNoiseSourceBuilder {
+        private @Nullable NoiseSource source;
+        private int tileSize = 16;
+        private double spacing = 1;
+        private long maximumBytes = 64L << 20;
+
+        private CachedNoiseSourceBuilder() {
+
+        }
+
+        /**
+         * Sets the noise source for the {@link CachedNoiseSource}.
+         *
+         * @param source {@link NoiseSource} to cache.
+         * @return {@link CachedNoiseSourceBuilder} this
+         */
+        public CachedNoiseSourceBuilder setNoiseSource(NoiseSource source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets the noise source for the {@link CachedNoiseSource}.
+         *
+         * @param sourceBuilder {@link NoiseSourceBuilder} building the {@link NoiseSource} to cache.
+         * @return {@link CachedNoiseSourceBuilder} this
+         */
+        public CachedNoiseSourceBuilder setNoiseSource(NoiseSourceBuilder sourceBuilder) {
+            this.source = sourceBuilder.build();
+            return this;
+        }
+
+        /**
+         * Sets the edge length of the cached tiles in lattice points, defaults to 16.
+         * 2D tiles are squares and 3D tiles are cubes.
+         *
+         * @param tileSize the new tile size for the {@link CachedNoiseSource}.
+         * @return {@link CachedNoiseSourceBuilder} this
+         */
+        public CachedNoiseSourceBuilder setTileSize(int tileSize) {
+            this.tileSize = tileSize;
+            return this;
+        }
+
+        /**
+         * Sets the spacing between the points of the cached lattice, defaults to 1.
+         * Evenly spaced regions can only be served from the cache if the spacing is a power of two.
+         *
+         * @param spacing the new spacing for the {@link CachedNoiseSource}.
+         * @return {@link CachedNoiseSourceBuilder} this
+         */
+        public CachedNoiseSourceBuilder setSpacing(double spacing) {
+            this.spacing = spacing;
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of bytes the values of the cached tiles may occupy, defaults to 64 MiB.
+         *
+         * @param maximumBytes the new byte budget for the {@link CachedNoiseSource}.
+         * @return {@link CachedNoiseSourceBuilder} this
+         */
+        public CachedNoiseSourceBuilder setMaximumBytes(long maximumBytes) {
+            this.maximumBytes = maximumBytes;
+            return this;
+        }
+
+        public CachedNoiseSource build() {
+            if (source == null) {
+                throw new IllegalArgumentException("Source must be defined.");
+            }
+            if (tileSize <= 0 || tileSize > 256) {
+                throw new IllegalArgumentException("Tile size must be between 1 and 256.");
+            }
+            if (!(spacing > 0) || spacing == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("Spacing must be a positive finite value.");
+            }
+            if (maximumBytes <= 0) {
+                throw new IllegalArgumentException("The maximum amount of bytes must be positive.");
+            }
+            return new CachedNoiseSource(source, tileSize, spacing, maximumBytes);
+        }
+    }
+}
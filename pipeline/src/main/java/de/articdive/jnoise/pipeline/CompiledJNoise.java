@@ -0,0 +1,417 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
+import de.articdive.jnoise.core.api.transformers.SimpleTransformer;
+import de.articdive.jnoise.core.util.RegionUtil;
+import org.jspecify.annotations.NullMarked;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+
+/**
+ * Template of a compiled pipeline, evaluating exactly like {@link JNoise}.
+ * This class is never loaded by itself, {@link PipelineCompiler} defines a hidden copy of it for every compiled pipeline
+ * and passes the pipeline's stages as class data. They end up in static final fields, which the JIT treats as constants.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class CompiledJNoise implements NoiseSource, Definable {
+    private static final SimpleTransformer[] SIMPLE_TRANSFORMERS;
+    private static final DetailedTransformer[] DETAILED_TRANSFORMERS;
+    private static final NoiseSource SOURCE;
+    private static final NoiseModifier[] MODIFIERS;
+    private static final boolean TRANSFORMED;
+    private static final boolean PASS_THROUGH;
+    private static final boolean MONOTONIC;
+    // Scratch vectors handed to the detailed transformers, indexed by dimension - 1.
+    private static final ThreadLocal<double[][]> SCRATCH_VECTORS = ThreadLocal.withInitial(PipelineCompiler::newScratchVectors);
+
+    static {
+        Object[] stages;
+        try {
+            stages = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, Object[].class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        if (stages == null) {
+            throw new IllegalStateException("Compiled pipelines must be created by the PipelineCompiler.");
+        }
+        SIMPLE_TRANSFORMERS = (SimpleTransformer[]) stages[PipelineCompiler.SIMPLE_TRANSFORMERS];
+        DETAILED_TRANSFORMERS = (DetailedTransformer[]) stages[PipelineCompiler.DETAILED_TRANSFORMERS];
+        SOURCE = (NoiseSource) stages[PipelineCompiler.SOURCE];
+        MODIFIERS = (NoiseModifier[]) stages[PipelineCompiler.MODIFIERS];
+        TRANSFORMED = SIMPLE_TRANSFORMERS.length != 0 || DETAILED_TRANSFORMERS.length != 0;
+        PASS_THROUGH = !TRANSFORMED && MODIFIERS.length == 0;
+        MONOTONIC = DETAILED_TRANSFORMERS.length == 0 && Arrays.stream(SIMPLE_TRANSFORMERS).allMatch(SimpleTransformer::isMonotonic);
+    }
+
+    private CompiledJNoise() {
+
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        double tX = x;
+        for (SimpleTransformer simpleTransformer : SIMPLE_TRANSFORMERS) {
+            tX = simpleTransformer.transformX(tX);
+        }
+        if (DETAILED_TRANSFORMERS.length != 0) {
+            double[] vec1D = SCRATCH_VECTORS.get()[0];
+            vec1D[0] = tX;
+            for (DetailedTransformer detailedTransformer : DETAILED_TRANSFORMERS) {
+                detailedTransformer.transform1D(vec1D);
+            }
+            tX = vec1D[0];
+        }
+        return applyModifiers(SOURCE.evaluateNoise(tX));
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        double tX = x;
+        double tY = y;
+        for (SimpleTransformer simpleTransformer : SIMPLE_TRANSFORMERS) {
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+        }
+        if (DETAILED_TRANSFORMERS.length != 0) {
+            double[] vec2D = SCRATCH_VECTORS.get()[1];
+            vec2D[0] = tX;
+            vec2D[1] = tY;
+            for (DetailedTransformer detailedTransformer : DETAILED_TRANSFORMERS) {
+                detailedTransformer.transform2D(vec2D);
+            }
+            tX = vec2D[0];
+            tY = vec2D[1];
+        }
+        return applyModifiers(SOURCE.evaluateNoise(tX, tY));
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        double tX = x;
+        double tY = y;
+        double tZ = z;
+        for (SimpleTransformer simpleTransformer : SIMPLE_TRANSFORMERS) {
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+            tZ = simpleTransformer.transformZ(tZ);
+        }
+        if (DETAILED_TRANSFORMERS.length != 0) {
+            double[] vec3D = SCRATCH_VECTORS.get()[2];
+            vec3D[0] = tX;
+            vec3D[1] = tY;
+            vec3D[2] = tZ;
+            for (DetailedTransformer detailedTransformer : DETAILED_TRANSFORMERS) {
+                detailedTransformer.transform3D(vec3D);
+            }
+            tX = vec3D[0];
+            tY = vec3D[1];
+            tZ = vec3D[2];
+        }
+        return applyModifiers(SOURCE.evaluateNoise(tX, tY, tZ));
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        double tX = x;
+        double tY = y;
+        double tZ = z;
+        double tW = w;
+        for (SimpleTransformer simpleTransformer : SIMPLE_TRANSFORMERS) {
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+            tZ = simpleTransformer.transformZ(tZ);
+            tW = simpleTransformer.transformW(tW);
+        }
+        if (DETAILED_TRANSFORMERS.length != 0) {
+            double[] vec4D = SCRATCH_VECTORS.get()[3];
+            vec4D[0] = tX;
+            vec4D[1] = tY;
+            vec4D[2] = tZ;
+            vec4D[3] = tW;
+            for (DetailedTransformer detailedTransformer : DETAILED_TRANSFORMERS) {
+                detailedTransformer.transform4D(vec4D);
+            }
+            tX = vec4D[0];
+            tY = vec4D[1];
+            tZ = vec4D[2];
+            tW = vec4D[3];
+        }
+        return applyModifiers(SOURCE.evaluateNoise(tX, tY, tZ, tW));
+    }
+
+    // The region evaluations are spelled out instead of inherited from NoiseSource,
+    // a shared default method would mix the evaluations of all pipelines in one call site.
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        int count = RegionUtil.checkRegion(out.length, nx);
+        if (!TRANSFORMED) {
+            SOURCE.fill1D(out, x0, dx, nx);
+            applyModifiers(out, count);
+            return;
+        }
+        for (int i = 0; i < nx; i++) {
+            out[i] = evaluateNoise(x0 + i * dx);
+        }
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny);
+        if (!TRANSFORMED) {
+            SOURCE.fill2D(out, x0, y0, dx, dy, nx, ny);
+            applyModifiers(out, count);
+            return;
+        }
+        int index = 0;
+        for (int j = 0; j < ny; j++) {
+            double y = y0 + j * dy;
+            for (int i = 0; i < nx; i++) {
+                out[index++] = evaluateNoise(x0 + i * dx, y);
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny, nz);
+        if (!TRANSFORMED) {
+            SOURCE.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            applyModifiers(out, count);
+            return;
+        }
+        int index = 0;
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            for (int j = 0; j < ny; j++) {
+                double y = y0 + j * dy;
+                for (int i = 0; i < nx; i++) {
+                    out[index++] = evaluateNoise(x0 + i * dx, y, z);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny, nz, nw);
+        if (!TRANSFORMED) {
+            SOURCE.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+            applyModifiers(out, count);
+            return;
+        }
+        int index = 0;
+        for (int l = 0; l < nw; l++) {
+            double w = w0 + l * dw;
+            for (int k = 0; k < nz; k++) {
+                double z = z0 + k * dz;
+                for (int j = 0; j < ny; j++) {
+                    double y = y0 + j * dy;
+                    for (int i = 0; i < nx; i++) {
+                        out[index++] = evaluateNoise(x0 + i * dx, y, z, w);
+                    }
+                }
+            }
+        }
+    }
+
+    // Modifiers are applied with double precision, so only pipelines without any stages evaluate the source
+    // with single precision. The others inherit the row by row narrowing, which dispatches once per row.
+
+    @Override
+    public void fill1D(float[] out, double x0, double dx, int nx) {
+        if (PASS_THROUGH) {
+            SOURCE.fill1D(out, x0, dx, nx);
+        } else {
+            NoiseSource.super.fill1D(out, x0, dx, nx);
+        }
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (PASS_THROUGH) {
+            SOURCE.fill2D(out, x0, y0, dx, dy, nx, ny);
+        } else {
+            NoiseSource.super.fill2D(out, x0, y0, dx, dy, nx, ny);
+        }
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (PASS_THROUGH) {
+            SOURCE.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        } else {
+            NoiseSource.super.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        }
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        if (PASS_THROUGH) {
+            SOURCE.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+        } else {
+            NoiseSource.super.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+        }
+    }
+
+    @Override
+    public double evaluateLattice(long x, double spacing) {
+        if (!TRANSFORMED) {
+            return applyModifiers(SOURCE.evaluateLattice(x, spacing));
+        }
+        return evaluateNoise(x * spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        if (!TRANSFORMED) {
+            return applyModifiers(SOURCE.evaluateLattice(x, y, spacing));
+        }
+        return evaluateNoise(x * spacing, y * spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        if (!TRANSFORMED) {
+            return applyModifiers(SOURCE.evaluateLattice(x, y, z, spacing));
+        }
+        return evaluateNoise(x * spacing, y * spacing, z * spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, long w, double spacing) {
+        if (!TRANSFORMED) {
+            return applyModifiers(SOURCE.evaluateLattice(x, y, z, w, spacing));
+        }
+        return evaluateNoise(x * spacing, y * spacing, z * spacing, w * spacing);
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny);
+        if (!TRANSFORMED) {
+            SOURCE.fillLattice2D(out, x0, y0, spacing, nx, ny);
+            applyModifiers(out, count);
+            return;
+        }
+        int index = 0;
+        for (int j = 0; j < ny; j++) {
+            double y = (y0 + j) * spacing;
+            for (int i = 0; i < nx; i++) {
+                out[index++] = evaluateNoise((x0 + i) * spacing, y);
+            }
+        }
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        int count = RegionUtil.checkRegion(out.length, nx, ny, nz);
+        if (!TRANSFORMED) {
+            SOURCE.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+            applyModifiers(out, count);
+            return;
+        }
+        int index = 0;
+        for (int k = 0; k < nz; k++) {
+            double z = (z0 + k) * spacing;
+            for (int j = 0; j < ny; j++) {
+                double y = (y0 + j) * spacing;
+                for (int i = 0; i < nx; i++) {
+                    out[index++] = evaluateNoise((x0 + i) * spacing, y, z);
+                }
+            }
+        }
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return applyModifiers(SOURCE.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        if (!MONOTONIC) {
+            return getBounds();
+        }
+        for (SimpleTransformer simpleTransformer : SIMPLE_TRANSFORMERS) {
+            double x0 = simpleTransformer.transformX(minX);
+            double x1 = simpleTransformer.transformX(maxX);
+            double y0 = simpleTransformer.transformY(minY);
+            double y1 = simpleTransformer.transformY(maxY);
+            minX = Math.min(x0, x1);
+            maxX = Math.max(x0, x1);
+            minY = Math.min(y0, y1);
+            maxY = Math.max(y0, y1);
+        }
+        return applyModifiers(SOURCE.getBounds2D(minX, minY, maxX, maxY));
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (!MONOTONIC) {
+            return getBounds();
+        }
+        for (SimpleTransformer simpleTransformer : SIMPLE_TRANSFORMERS) {
+            double x0 = simpleTransformer.transformX(minX);
+            double x1 = simpleTransformer.transformX(maxX);
+            double y0 = simpleTransformer.transformY(minY);
+            double y1 = simpleTransformer.transformY(maxY);
+            double z0 = simpleTransformer.transformZ(minZ);
+            double z1 = simpleTransformer.transformZ(maxZ);
+            minX = Math.min(x0, x1);
+            maxX = Math.max(x0, x1);
+            minY = Math.min(y0, y1);
+            maxY = Math.max(y0, y1);
+            minZ = Math.min(z0, z1);
+            maxZ = Math.max(z0, z1);
+        }
+        return applyModifiers(SOURCE.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    // Compiling does not change the evaluation, so compiled pipelines are defined like built ones.
+    @Override
+    public NoiseDefinition getDefinition() {
+        return JNoise.define(SIMPLE_TRANSFORMERS, DETAILED_TRANSFORMERS, SOURCE, MODIFIERS, false);
+    }
+
+    private static NoiseBounds applyModifiers(NoiseBounds bounds) {
+        for (NoiseModifier modifier : MODIFIERS) {
+            bounds = modifier.apply(bounds);
+        }
+        return bounds;
+    }
+
+    private static double applyModifiers(double output) {
+        for (NoiseModifier modifier : MODIFIERS) {
+            output = modifier.apply(output);
+        }
+        return output;
+    }
+
+    private static void applyModifiers(double[] out, int count) {
+        for (NoiseModifier modifier : MODIFIERS) {
+            for (int i = 0; i < count; i++) {
+                out[i] = modifier.apply(out[i]);
+            }
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package de.articdive.jnoise.pipeline;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.functions.Combiner;
 import de.articdive.jnoise.core.api.functions.Interpolation;
 import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
 import de.articdive.jnoise.core.api.noisegen.NoiseResult;
 import de.articdive.jnoise.core.api.pipeline.ExplicitNoiseSource;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
 import de.articdive.jnoise.core.api.transformers.SimpleTransformer;
+import de.articdive.jnoise.core.util.RegionUtil;
 import de.articdive.jnoise.generators.noise_parameters.distance_functions.DistanceFunction;
 import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
 import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
@@ -29,10 +34,12 @@ import de.articdive.jnoise.modifiers.inverter.InvertModifier;
 import de.articdive.jnoise.modules.combination.CombinationModule;
 import de.articdive.jnoise.modules.octavation.OctavationModule;
 import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import de.articdive.jnoise.transformers.affine.AffineTransformer;
 import de.articdive.jnoise.transformers.scale.ScaleTransformer;
 import org.jspecify.annotations.NullMarked;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.IntToLongFunction;
@@ -43,11 +50,16 @@ import java.util.function.IntToLongFunction;
  * @author Articdive
  */
 @NullMarked
-public class JNoise implements NoiseSource {
+public class JNoise implements NoiseSource, Definable {
     protected final SimpleTransformer[] simpleTransformers;
     protected final DetailedTransformer[] detailedTransformers;
     protected final NoiseModifier[] modifiers;
     private final NoiseSource source;
+    // Scratch vectors handed to the detailed transformers, indexed by dimension - 1.
+    // Allocated once per thread instead of once per sample.
+    private final ThreadLocal<double[][]> scratchVectors = ThreadLocal.withInitial(
+        () -> new double[][]{new double[1], new double[2], new double[3], new double[4]}
+    );
 
     JNoise(
         SimpleTransformer[] simpleTransformers,
@@ -63,74 +75,384 @@ public class JNoise implements NoiseSource {
 
     @Override
     public double evaluateNoise(final double x) {
-        double[] vec1D = new double[]{x};
+        double tX = x;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec1D[0] = simpleTransformer.transformX(vec1D[0]);
+            tX = simpleTransformer.transformX(tX);
         }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform1D(vec1D);
-        }
-        double output = source.evaluateNoise(vec1D[0]);
-        for (NoiseModifier modifier : modifiers) {
-            output = modifier.apply(output);
+        if (detailedTransformers.length != 0) {
+            double[] vec1D = scratchVector(1);
+            vec1D[0] = tX;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform1D(vec1D);
+            }
+            tX = vec1D[0];
         }
-        return output;
+        return applyModifiers(source.evaluateNoise(tX));
     }
 
     @Override
     public double evaluateNoise(final double x, final double y) {
-        double[] vec2D = new double[]{x, y};
+        double tX = x;
+        double tY = y;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec2D[0] = simpleTransformer.transformX(vec2D[0]);
-            vec2D[1] = simpleTransformer.transformY(vec2D[1]);
-        }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform2D(vec2D);
-        }
-        double output = source.evaluateNoise(vec2D[0], vec2D[1]);
-        for (NoiseModifier modifier : modifiers) {
-            output = modifier.apply(output);
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+        }
+        if (detailedTransformers.length != 0) {
+            double[] vec2D = scratchVector(2);
+            vec2D[0] = tX;
+            vec2D[1] = tY;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform2D(vec2D);
+            }
+            tX = vec2D[0];
+            tY = vec2D[1];
         }
-        return output;
+        return applyModifiers(source.evaluateNoise(tX, tY));
     }
 
     @Override
     public double evaluateNoise(final double x, final double y, final double z) {
-        double[] vec3D = new double[]{x, y, z};
+        double tX = x;
+        double tY = y;
+        double tZ = z;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec3D[0] = simpleTransformer.transformX(vec3D[0]);
-            vec3D[1] = simpleTransformer.transformY(vec3D[1]);
-            vec3D[2] = simpleTransformer.transformZ(vec3D[2]);
-        }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform3D(vec3D);
-        }
-        double output = source.evaluateNoise(vec3D[0], vec3D[1], vec3D[2]);
-        for (NoiseModifier modifier : modifiers) {
-            output = modifier.apply(output);
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+            tZ = simpleTransformer.transformZ(tZ);
+        }
+        if (detailedTransformers.length != 0) {
+            double[] vec3D = scratchVector(3);
+            vec3D[0] = tX;
+            vec3D[1] = tY;
+            vec3D[2] = tZ;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform3D(vec3D);
+            }
+            tX = vec3D[0];
+            tY = vec3D[1];
+            tZ = vec3D[2];
         }
-        return output;
+        return applyModifiers(source.evaluateNoise(tX, tY, tZ));
     }
 
     @Override
     public double evaluateNoise(final double x, final double y, final double z, final double w) {
-        double[] vec4D = new double[]{x, y, z, w};
+        double tX = x;
+        double tY = y;
+        double tZ = z;
+        double tW = w;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec4D[0] = simpleTransformer.transformX(vec4D[0]);
-            vec4D[1] = simpleTransformer.transformY(vec4D[1]);
-            vec4D[2] = simpleTransformer.transformZ(vec4D[2]);
-            vec4D[3] = simpleTransformer.transformZ(vec4D[2]);
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+            tZ = simpleTransformer.transformZ(tZ);
+            tW = simpleTransformer.transformW(tW);
+        }
+        if (detailedTransformers.length != 0) {
+            double[] vec4D = scratchVector(4);
+            vec4D[0] = tX;
+            vec4D[1] = tY;
+            vec4D[2] = tZ;
+            vec4D[3] = tW;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform4D(vec4D);
+            }
+            tX = vec4D[0];
+            tY = vec4D[1];
+            tZ = vec4D[2];
+            tW = vec4D[3];
+        }
+        return applyModifiers(source.evaluateNoise(tX, tY, tZ, tW));
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        if (!hasTransformers()) {
+            // Without transformers the region maps 1:1 onto the source, so it can use its bulk evaluation.
+            source.fill1D(out, x0, dx, nx);
+            applyModifiers(out, RegionUtil.checkRegion(out.length, nx));
+        } else {
+            NoiseSource.super.fill1D(out, x0, dx, nx);
+        }
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!hasTransformers()) {
+            source.fill2D(out, x0, y0, dx, dy, nx, ny);
+            applyModifiers(out, RegionUtil.checkRegion(out.length, nx, ny));
+        } else {
+            NoiseSource.super.fill2D(out, x0, y0, dx, dy, nx, ny);
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (!hasTransformers()) {
+            source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            applyModifiers(out, RegionUtil.checkRegion(out.length, nx, ny, nz));
+        } else {
+            NoiseSource.super.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        }
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        if (!hasTransformers()) {
+            source.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+            applyModifiers(out, RegionUtil.checkRegion(out.length, nx, ny, nz, nw));
+        } else {
+            NoiseSource.super.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+        }
+    }
+
+    @Override
+    public void fill1D(float[] out, double x0, double dx, int nx) {
+        if (isPassThrough()) {
+            // Without any stages the values are the source's, so they can be evaluated with single precision directly.
+            source.fill1D(out, x0, dx, nx);
+        } else {
+            NoiseSource.super.fill1D(out, x0, dx, nx);
+        }
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (isPassThrough()) {
+            source.fill2D(out, x0, y0, dx, dy, nx, ny);
+        } else {
+            NoiseSource.super.fill2D(out, x0, y0, dx, dy, nx, ny);
+        }
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (isPassThrough()) {
+            source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        } else {
+            NoiseSource.super.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        }
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        if (isPassThrough()) {
+            source.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+        } else {
+            NoiseSource.super.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+        }
+    }
+
+    @Override
+    public double evaluateLattice(long x, double spacing) {
+        if (!hasTransformers()) {
+            // Without transformers lattice points map 1:1 onto the source, so it can use its lattice evaluation.
+            return applyModifiers(source.evaluateLattice(x, spacing));
+        }
+        return evaluateNoise(x * spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        if (!hasTransformers()) {
+            return applyModifiers(source.evaluateLattice(x, y, spacing));
+        }
+        return evaluateNoise(x * spacing, y * spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        if (!hasTransformers()) {
+            return applyModifiers(source.evaluateLattice(x, y, z, spacing));
+        }
+        return evaluateNoise(x * spacing, y * spacing, z * spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, long w, double spacing) {
+        if (!hasTransformers()) {
+            return applyModifiers(source.evaluateLattice(x, y, z, w, spacing));
+        }
+        return evaluateNoise(x * spacing, y * spacing, z * spacing, w * spacing);
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        if (!hasTransformers()) {
+            source.fillLattice2D(out, x0, y0, spacing, nx, ny);
+            applyModifiers(out, RegionUtil.checkRegion(out.length, nx, ny));
+        } else {
+            NoiseSource.super.fillLattice2D(out, x0, y0, spacing, nx, ny);
+        }
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        if (!hasTransformers()) {
+            source.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+            applyModifiers(out, RegionUtil.checkRegion(out.length, nx, ny, nz));
+        } else {
+            NoiseSource.super.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+        }
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return applyModifiers(source.getBounds());
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        if (!hasMonotonicTransformers()) {
+            // Detailed transformers may move the box anywhere, so only the bounds of the whole pipeline hold.
+            return getBounds();
         }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform4D(vec4D);
+        for (SimpleTransformer simpleTransformer : simpleTransformers) {
+            double x0 = simpleTransformer.transformX(minX);
+            double x1 = simpleTransformer.transformX(maxX);
+            double y0 = simpleTransformer.transformY(minY);
+            double y1 = simpleTransformer.transformY(maxY);
+            minX = Math.min(x0, x1);
+            maxX = Math.max(x0, x1);
+            minY = Math.min(y0, y1);
+            maxY = Math.max(y0, y1);
+        }
+        return applyModifiers(source.getBounds2D(minX, minY, maxX, maxY));
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (!hasMonotonicTransformers()) {
+            // Detailed transformers may move the box anywhere, so only the bounds of the whole pipeline hold.
+            return getBounds();
         }
-        double output = source.evaluateNoise(vec4D[0], vec4D[1], vec4D[2], vec4D[3]);
+        for (SimpleTransformer simpleTransformer : simpleTransformers) {
+            double x0 = simpleTransformer.transformX(minX);
+            double x1 = simpleTransformer.transformX(maxX);
+            double y0 = simpleTransformer.transformY(minY);
+            double y1 = simpleTransformer.transformY(maxY);
+            double z0 = simpleTransformer.transformZ(minZ);
+            double z1 = simpleTransformer.transformZ(maxZ);
+            minX = Math.min(x0, x1);
+            maxX = Math.max(x0, x1);
+            minY = Math.min(y0, y1);
+            maxY = Math.max(y0, y1);
+            minZ = Math.min(z0, z1);
+            maxZ = Math.max(z0, z1);
+        }
+        return applyModifiers(source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return define(simpleTransformers, detailedTransformers, source, modifiers, this instanceof JNoiseDetailed<?>);
+    }
+
+    /**
+     * Reads a pipeline from its definition, see {@link NoiseDefinitionReader}.
+     *
+     * @param definition the {@link NoiseDefinition} of a pipeline, e.g. deserialized from another process.
+     * @return the {@link JNoise} pipeline, a {@link JNoiseDetailed} if a detailed pipeline was defined.
+     * @throws IllegalArgumentException if the definition does not define a pipeline.
+     */
+    public static JNoise fromDefinition(NoiseDefinition definition) {
+        return NoiseDefinitionReader.newBuilder().build().read(definition, JNoise.class);
+    }
+
+    /**
+     * Defines the stages of a pipeline.
+     *
+     * @param simpleTransformers   simple transformers of the pipeline.
+     * @param detailedTransformers detailed transformers of the pipeline.
+     * @param source               source of the pipeline.
+     * @param modifiers            modifiers of the pipeline.
+     * @param detailed             whether the pipeline evaluates {@link NoiseResult}s.
+     * @return the {@link NoiseDefinition} of the pipeline.
+     */
+    static NoiseDefinition define(
+        SimpleTransformer[] simpleTransformers,
+        DetailedTransformer[] detailedTransformers,
+        NoiseSource source,
+        NoiseModifier[] modifiers,
+        boolean detailed
+    ) {
+        return NoiseDefinition.newBuilder("pipeline")
+            .setDefinitions("simpleTransformers", Arrays.asList(simpleTransformers))
+            .setDefinitions("detailedTransformers", Arrays.asList(detailedTransformers))
+            .setDefinition("source", source)
+            .setDefinitions("modifiers", Arrays.asList(modifiers))
+            .setBoolean("detailed", detailed)
+            .build();
+    }
+
+    /**
+     * Gets this thread's scratch vector for the detailed transformers.
+     *
+     * @param dimension dimension of the vector.
+     * @return the scratch vector, its contents are undefined.
+     */
+    protected final double[] scratchVector(int dimension) {
+        return scratchVectors.get()[dimension - 1];
+    }
+
+    /**
+     * Applies all modifiers of this pipeline to a noise value.
+     *
+     * @param output noise value to modify.
+     * @return the modified noise value.
+     */
+    protected final double applyModifiers(double output) {
         for (NoiseModifier modifier : modifiers) {
             output = modifier.apply(output);
         }
         return output;
     }
 
+    private NoiseBounds applyModifiers(NoiseBounds bounds) {
+        for (NoiseModifier modifier : modifiers) {
+            bounds = modifier.apply(bounds);
+        }
+        return bounds;
+    }
+
+    private boolean hasTransformers() {
+        return simpleTransformers.length != 0 || detailedTransformers.length != 0;
+    }
+
+    private boolean hasMonotonicTransformers() {
+        if (detailedTransformers.length != 0) {
+            return false;
+        }
+        for (SimpleTransformer simpleTransformer : simpleTransformers) {
+            if (!simpleTransformer.isMonotonic()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isPassThrough() {
+        return !hasTransformers() && modifiers.length == 0;
+    }
+
+    private void applyModifiers(double[] out, int count) {
+        for (NoiseModifier modifier : modifiers) {
+            for (int i = 0; i < count; i++) {
+                out[i] = modifier.apply(out[i]);
+            }
+        }
+    }
+
 
     public static JNoiseBuilder<NoiseResult> newBuilder() {
         return new JNoiseBuilder<>();
@@ -199,8 +521,26 @@ public class JNoise implements NoiseSource {
             );
         }
 
+        public JNoiseBuilder<DerivativeNoiseResult> octavation(
+            ExplicitNoiseSource<DerivativeNoiseResult> a,
+            int octaves,
+            double persistence,
+            double lacunarity,
+            FractalFunction fractalFunction,
+            boolean incrementSeed) {
+            return setNoiseSource(OctavationModule.newBuilder()
+                .setNoiseSource(a)
+                .setOctaves(octaves)
+                .setGain(persistence)
+                .setLacunarity(lacunarity)
+                .setFractalFunction(fractalFunction)
+                .setIncrementSeed(incrementSeed)
+                .build()
+            );
+        }
+
         public JNoiseBuilder<?> octavation(OctavationModule.OctavationModuleBuilder builder) {
-            return setNoiseSource(builder);
+            return setNoiseSource(builder.build());
         }
 
         public JNoiseBuilder<?> octavation(OctavationModule module) {
@@ -256,21 +596,21 @@ public class JNoise implements NoiseSource {
             );
         }
 
-        public JNoiseBuilder<?> perlin(long seed, Interpolation interpolation, FadeFunction fadeFunction) {
+        public JNoiseBuilder<DerivativeNoiseResult> perlin(long seed, Interpolation interpolation, FadeFunction fadeFunction) {
             return setNoiseSource(
                 PerlinNoiseGenerator.newBuilder().setSeed(seed).setInterpolation(interpolation).setFadeFunction(fadeFunction).build()
             );
         }
 
-        public JNoiseBuilder<?> perlin(PerlinNoiseGenerator.PerlinNoiseBuilder builder) {
-            return setNoiseSource(builder);
+        public JNoiseBuilder<DerivativeNoiseResult> perlin(PerlinNoiseGenerator.PerlinNoiseBuilder builder) {
+            return setNoiseSource(builder.build());
         }
 
-        public JNoiseBuilder<?> perlin(PerlinNoiseGenerator generator) {
+        public JNoiseBuilder<DerivativeNoiseResult> perlin(PerlinNoiseGenerator generator) {
             return setNoiseSource(generator);
         }
 
-        public JNoiseBuilder<?> fastSimplex(
+        public JNoiseBuilder<DerivativeNoiseResult> fastSimplex(
             long seed,
             Simplex2DVariant variant2D,
             Simplex3DVariant variant3D,
@@ -285,15 +625,15 @@ public class JNoise implements NoiseSource {
             );
         }
 
-        public JNoiseBuilder<?> fastSimplex(FastSimplexNoiseGenerator.FastSimplexNoiseBuilder builder) {
-            return setNoiseSource(builder);
+        public JNoiseBuilder<DerivativeNoiseResult> fastSimplex(FastSimplexNoiseGenerator.FastSimplexNoiseBuilder builder) {
+            return setNoiseSource(builder.build());
         }
 
-        public JNoiseBuilder<?> fastSimplex(FastSimplexNoiseGenerator generator) {
+        public JNoiseBuilder<DerivativeNoiseResult> fastSimplex(FastSimplexNoiseGenerator generator) {
             return setNoiseSource(generator);
         }
 
-        public JNoiseBuilder<?> superSimplex(
+        public JNoiseBuilder<DerivativeNoiseResult> superSimplex(
             long seed,
             Simplex2DVariant variant2D,
             Simplex3DVariant variant3D,
@@ -307,26 +647,26 @@ public class JNoise implements NoiseSource {
             );
         }
 
-        public JNoiseBuilder<?> superSimplex(SuperSimplexNoiseGenerator.SuperSimplexNoiseBuilder builder) {
-            return setNoiseSource(builder);
+        public JNoiseBuilder<DerivativeNoiseResult> superSimplex(SuperSimplexNoiseGenerator.SuperSimplexNoiseBuilder builder) {
+            return setNoiseSource(builder.build());
         }
 
-        public JNoiseBuilder<?> superSimplex(SuperSimplexNoiseGenerator generator) {
+        public JNoiseBuilder<DerivativeNoiseResult> superSimplex(SuperSimplexNoiseGenerator generator) {
             return setNoiseSource(generator);
         }
 
 
-        public JNoiseBuilder<?> value(long seed, Interpolation interpolation, FadeFunction fadeFunction) {
+        public JNoiseBuilder<DerivativeNoiseResult> value(long seed, Interpolation interpolation, FadeFunction fadeFunction) {
             return setNoiseSource(
                 ValueNoiseGenerator.newBuilder().setSeed(seed).setInterpolation(interpolation).setFadeFunction(fadeFunction).build()
             );
         }
 
-        public JNoiseBuilder<?> value(ValueNoiseGenerator.ValueNoiseBuilder builder) {
-            return setNoiseSource(builder);
+        public JNoiseBuilder<DerivativeNoiseResult> value(ValueNoiseGenerator.ValueNoiseBuilder builder) {
+            return setNoiseSource(builder.build());
         }
 
-        public JNoiseBuilder<?> value(ValueNoiseGenerator generator) {
+        public JNoiseBuilder<DerivativeNoiseResult> value(ValueNoiseGenerator generator) {
             return setNoiseSource(generator);
         }
 
@@ -404,11 +744,37 @@ public class JNoise implements NoiseSource {
             if (source == null) {
                 throw new IllegalArgumentException("Source must be defined.");
             }
+            DetailedTransformer[] transformers = fuseDetailedTransformers();
+            SourceGraph graph = new SourceGraph();
+            NoiseSource sharedSource = graph.share(source);
             return new JNoise(
                 simpleTransformers.toArray(new SimpleTransformer[0]),
-                detailedTransformers.toArray(new DetailedTransformer[0]),
-                source,
-                modifiers.toArray(new NoiseModifier[0])
+                graph.share(transformers),
+                sharedSource,
+                pruneModifiers(sharedSource)
+            );
+        }
+
+        /**
+         * Builds the pipeline as a specialized {@link NoiseSource}, which evaluates exactly like {@link #build()}.
+         * Every compiled pipeline gets its own copy of the evaluation code with the stages as constants,
+         * so the JIT can inline all of its stages even when many different pipelines are in use.
+         * Compiling defines a new hidden class, so pipelines should be compiled once and reused.
+         *
+         * @return a compiled {@link NoiseSource} evaluating this pipeline.
+         */
+        public NoiseSource compile() {
+            if (source == null) {
+                throw new IllegalArgumentException("Source must be defined.");
+            }
+            DetailedTransformer[] transformers = fuseDetailedTransformers();
+            SourceGraph graph = new SourceGraph();
+            NoiseSource sharedSource = graph.share(source);
+            return PipelineCompiler.compile(
+                simpleTransformers.toArray(new SimpleTransformer[0]),
+                graph.share(transformers),
+                sharedSource,
+                pruneModifiers(sharedSource)
             );
         }
 
@@ -419,13 +785,51 @@ public class JNoise implements NoiseSource {
             if (!(source instanceof ExplicitNoiseSource<?>)) {
                 throw new IllegalArgumentException("To use explicit NoiseResults the generator must be explicit.");
             }
+            if (source instanceof OctavationModule octavation && !octavation.evaluatesNoiseResults()) {
+                throw new IllegalArgumentException("To use explicit NoiseResults the octavated noise source must be explicit.");
+            }
             return new JNoiseDetailed<>(
                 simpleTransformers.toArray(new SimpleTransformer[0]),
-                detailedTransformers.toArray(new DetailedTransformer[0]),
+                fuseDetailedTransformers(),
                 (ExplicitNoiseSource<T>) source,
-                modifiers.toArray(new NoiseModifier[0])
+                pruneModifiers(source)
             );
         }
 
+        /**
+         * Fuses consecutive {@link AffineTransformer}s, so they are applied as a single step.
+         *
+         * @return the detailed transformers of this pipeline.
+         */
+        private DetailedTransformer[] fuseDetailedTransformers() {
+            List<DetailedTransformer> fused = new ArrayList<>(detailedTransformers.size());
+            for (DetailedTransformer transformer : detailedTransformers) {
+                int last = fused.size() - 1;
+                if (last >= 0 && fused.get(last) instanceof AffineTransformer previous && transformer instanceof AffineTransformer next) {
+                    fused.set(last, previous.andThen(next));
+                } else {
+                    fused.add(transformer);
+                }
+            }
+            return fused.toArray(new DetailedTransformer[0]);
+        }
+
+        /**
+         * Drops the modifiers, which cannot change any value within the bounds of their input, e.g. redundant clamps.
+         *
+         * @param source the source of this pipeline.
+         * @return the modifiers of this pipeline.
+         */
+        private NoiseModifier[] pruneModifiers(NoiseSource source) {
+            List<NoiseModifier> pruned = new ArrayList<>(modifiers.size());
+            NoiseBounds bounds = source.getBounds();
+            for (NoiseModifier modifier : modifiers) {
+                if (!modifier.isIdentity(bounds)) {
+                    pruned.add(modifier);
+                    bounds = modifier.apply(bounds);
+                }
+            }
+            return pruned.toArray(new NoiseModifier[0]);
+        }
     }
 }
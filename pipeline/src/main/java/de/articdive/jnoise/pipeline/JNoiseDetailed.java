@@ -1,12 +1,15 @@
 package de.articdive.jnoise.pipeline;
 
 import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
 import de.articdive.jnoise.core.api.noisegen.NoiseResult;
 import de.articdive.jnoise.core.api.pipeline.ExplicitNoiseSource;
 import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
 import de.articdive.jnoise.core.api.transformers.SimpleTransformer;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.Arrays;
+
 /**
  * Secondary class for the JNoise Pipeline for handling {@link ExplicitNoiseSource}s and their {@link NoiseResult}s.
  *
@@ -28,71 +31,193 @@ public class JNoiseDetailed<NR extends NoiseResult> extends JNoise implements Ex
 
     @Override
     public NR evaluateNoiseResult(final double x) {
-        double[] vec1D = new double[]{x};
+        double tX = x;
+        double dX = 1;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec1D[0] = simpleTransformer.transformX(vec1D[0]);
+            dX *= simpleTransformer.derivativeX(tX);
+            tX = simpleTransformer.transformX(tX);
         }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform1D(vec1D);
+        if (detailedTransformers.length != 0) {
+            double[] vec1D = scratchVector(1);
+            vec1D[0] = tX;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform1D(vec1D);
+            }
+            tX = vec1D[0];
         }
-        NR output = source.evaluateNoiseResult(vec1D[0]);
-        for (NoiseModifier modifier : modifiers) {
-            output.setValue(modifier.apply(output.getValue()));
+        NR output = source.evaluateNoiseResult(tX);
+        if (output instanceof DerivativeNoiseResult derivativeResult) {
+            double[] derivatives = derivativeResult.getDerivatives();
+            propagateDerivatives(derivatives, 1);
+            derivatives[0] *= dX;
+            applyModifiers(derivativeResult, derivatives);
+        } else {
+            output.setValue(applyModifiers(output.getValue()));
         }
         return output;
     }
 
     @Override
     public NR evaluateNoiseResult(final double x, final double y) {
-        double[] vec2D = new double[]{x, y};
+        double tX = x;
+        double tY = y;
+        double dX = 1;
+        double dY = 1;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec2D[0] = simpleTransformer.transformX(vec2D[0]);
-            vec2D[1] = simpleTransformer.transformY(vec2D[1]);
+            dX *= simpleTransformer.derivativeX(tX);
+            dY *= simpleTransformer.derivativeY(tY);
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
         }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform2D(vec2D);
+        if (detailedTransformers.length != 0) {
+            double[] vec2D = scratchVector(2);
+            vec2D[0] = tX;
+            vec2D[1] = tY;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform2D(vec2D);
+            }
+            tX = vec2D[0];
+            tY = vec2D[1];
         }
-        NR output = source.evaluateNoiseResult(vec2D[0], vec2D[1]);
-        for (NoiseModifier modifier : modifiers) {
-            output.setValue(modifier.apply(output.getValue()));
+        NR output = source.evaluateNoiseResult(tX, tY);
+        if (output instanceof DerivativeNoiseResult derivativeResult) {
+            double[] derivatives = derivativeResult.getDerivatives();
+            propagateDerivatives(derivatives, 2);
+            derivatives[0] *= dX;
+            derivatives[1] *= dY;
+            applyModifiers(derivativeResult, derivatives);
+        } else {
+            output.setValue(applyModifiers(output.getValue()));
         }
         return output;
     }
 
     @Override
     public NR evaluateNoiseResult(final double x, final double y, final double z) {
-        double[] vec3D = new double[]{x, y, z};
+        double tX = x;
+        double tY = y;
+        double tZ = z;
+        double dX = 1;
+        double dY = 1;
+        double dZ = 1;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec3D[0] = simpleTransformer.transformX(vec3D[0]);
-            vec3D[1] = simpleTransformer.transformY(vec3D[1]);
-            vec3D[2] = simpleTransformer.transformZ(vec3D[2]);
+            dX *= simpleTransformer.derivativeX(tX);
+            dY *= simpleTransformer.derivativeY(tY);
+            dZ *= simpleTransformer.derivativeZ(tZ);
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+            tZ = simpleTransformer.transformZ(tZ);
         }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform3D(vec3D);
+        if (detailedTransformers.length != 0) {
+            double[] vec3D = scratchVector(3);
+            vec3D[0] = tX;
+            vec3D[1] = tY;
+            vec3D[2] = tZ;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform3D(vec3D);
+            }
+            tX = vec3D[0];
+            tY = vec3D[1];
+            tZ = vec3D[2];
         }
-        NR output = source.evaluateNoiseResult(vec3D[0], vec3D[1], vec3D[2]);
-        for (NoiseModifier modifier : modifiers) {
-            output.setValue(modifier.apply(output.getValue()));
+        NR output = source.evaluateNoiseResult(tX, tY, tZ);
+        if (output instanceof DerivativeNoiseResult derivativeResult) {
+            double[] derivatives = derivativeResult.getDerivatives();
+            propagateDerivatives(derivatives, 3);
+            derivatives[0] *= dX;
+            derivatives[1] *= dY;
+            derivatives[2] *= dZ;
+            applyModifiers(derivativeResult, derivatives);
+        } else {
+            output.setValue(applyModifiers(output.getValue()));
         }
         return output;
     }
 
     @Override
     public NR evaluateNoiseResult(final double x, final double y, final double z, final double w) {
-        double[] vec4D = new double[]{x, y, z, w};
+        double tX = x;
+        double tY = y;
+        double tZ = z;
+        double tW = w;
+        double dX = 1;
+        double dY = 1;
+        double dZ = 1;
+        double dW = 1;
         for (SimpleTransformer simpleTransformer : simpleTransformers) {
-            vec4D[0] = simpleTransformer.transformX(vec4D[0]);
-            vec4D[1] = simpleTransformer.transformY(vec4D[1]);
-            vec4D[2] = simpleTransformer.transformZ(vec4D[2]);
-            vec4D[3] = simpleTransformer.transformZ(vec4D[2]);
+            dX *= simpleTransformer.derivativeX(tX);
+            dY *= simpleTransformer.derivativeY(tY);
+            dZ *= simpleTransformer.derivativeZ(tZ);
+            dW *= simpleTransformer.derivativeW(tW);
+            tX = simpleTransformer.transformX(tX);
+            tY = simpleTransformer.transformY(tY);
+            tZ = simpleTransformer.transformZ(tZ);
+            tW = simpleTransformer.transformW(tW);
         }
-        for (DetailedTransformer detailedTransformer : detailedTransformers) {
-            detailedTransformer.transform4D(vec4D);
+        if (detailedTransformers.length != 0) {
+            double[] vec4D = scratchVector(4);
+            vec4D[0] = tX;
+            vec4D[1] = tY;
+            vec4D[2] = tZ;
+            vec4D[3] = tW;
+            for (DetailedTransformer detailedTransformer : detailedTransformers) {
+                detailedTransformer.transform4D(vec4D);
+            }
+            tX = vec4D[0];
+            tY = vec4D[1];
+            tZ = vec4D[2];
+            tW = vec4D[3];
         }
-        NR output = source.evaluateNoiseResult(vec4D[0], vec4D[1], vec4D[2], vec4D[3]);
-        for (NoiseModifier modifier : modifiers) {
-            output.setValue(modifier.apply(output.getValue()));
+        NR output = source.evaluateNoiseResult(tX, tY, tZ, tW);
+        if (output instanceof DerivativeNoiseResult derivativeResult) {
+            double[] derivatives = derivativeResult.getDerivatives();
+            propagateDerivatives(derivatives, 4);
+            derivatives[0] *= dX;
+            derivatives[1] *= dY;
+            derivatives[2] *= dZ;
+            derivatives[3] *= dW;
+            applyModifiers(derivativeResult, derivatives);
+        } else {
+            output.setValue(applyModifiers(output.getValue()));
         }
         return output;
     }
+
+    // The coordinates pass the simple transformers and then the detailed transformers, so the chain rule multiplies
+    // the partial derivatives of the source by the transposed Jacobians of the detailed transformers in reverse order,
+    // followed by the derivative of every coordinate through the simple transformers, which transform each on its own.
+    // Detailed transformers whose Jacobian depends on the coordinates cannot propagate derivatives, which leaves them unknown.
+    private void propagateDerivatives(double[] derivatives, int dimension) {
+        for (int i = detailedTransformers.length - 1; i >= 0; i--) {
+            DetailedTransformer detailedTransformer = detailedTransformers[i];
+            boolean propagated = switch (dimension) {
+                case 1 -> detailedTransformer.propagateDerivatives1D(derivatives);
+                case 2 -> detailedTransformer.propagateDerivatives2D(derivatives);
+                case 3 -> detailedTransformer.propagateDerivatives3D(derivatives);
+                default -> detailedTransformer.propagateDerivatives4D(derivatives);
+            };
+            if (!propagated) {
+                Arrays.fill(derivatives, Double.NaN);
+                return;
+            }
+        }
+    }
+
+    // The modifiers are applied after the source, so the chain rule multiplies the partial derivatives
+    // by the derivative of every modifier at the value it is applied to.
+    private void applyModifiers(DerivativeNoiseResult result, double[] derivatives) {
+        if (modifiers.length == 0) {
+            return;
+        }
+        double value = result.getValue();
+        double derivative = 1;
+        for (NoiseModifier modifier : modifiers) {
+            derivative *= modifier.derivative(value);
+            value = modifier.apply(value);
+        }
+        for (int i = 0; i < derivatives.length; i++) {
+            derivatives[i] *= derivative;
+        }
+        result.setValue(value);
+    }
 }
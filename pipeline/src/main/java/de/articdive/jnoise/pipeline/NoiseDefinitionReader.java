@@ -0,0 +1,336 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.functions.Combiner;
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
+import de.articdive.jnoise.core.api.transformers.SimpleTransformer;
+import de.articdive.jnoise.generators.noise_parameters.distance_functions.DistanceFunction;
+import de.articdive.jnoise.generators.noise_parameters.distance_functions.DistanceFunctionType;
+import de.articdive.jnoise.generators.noise_parameters.distance_functions.MinkowskiDistance;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noise_parameters.feature_points.FeaturePointPlacement;
+import de.articdive.jnoise.generators.noise_parameters.gaussian_sampling.GaussianSampling;
+import de.articdive.jnoise.generators.noise_parameters.return_type_functions.ReturnDistanceFunctionType;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex4DVariant;
+import de.articdive.jnoise.generators.noisegen.constant.ConstantNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.pattern.CheckerboardNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.pattern.CylinderNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.pattern.SphereNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.random.gaussian.GaussianWhiteNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.random.white.WhiteNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
+import de.articdive.jnoise.modifiers.absolute_value.AbsoluteValueModifier;
+import de.articdive.jnoise.modifiers.clamp.ClampModifier;
+import de.articdive.jnoise.modifiers.inverter.InvertModifier;
+import de.articdive.jnoise.modules.blend.BlendModule;
+import de.articdive.jnoise.modules.combination.CombinationModule;
+import de.articdive.jnoise.modules.octavation.OctavationModule;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import de.articdive.jnoise.modules.selection.SelectionModule;
+import de.articdive.jnoise.modules.upsampling.UpsamplingModule;
+import de.articdive.jnoise.transformers.affine.AffineTransformer;
+import de.articdive.jnoise.transformers.domain_warp.DomainWarpTransformer;
+import de.articdive.jnoise.transformers.scale.ScaleTransformer;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads {@link NoiseDefinition}s back into the components they define, e.g. to rebuild a pipeline defined by another process.
+ * All generators, modules, transformers and modifiers of JNoise as well as {@link JNoise} and {@link CachedNoiseSource} can be read,
+ * further types are added with {@link NoiseDefinitionReaderBuilder#addType(String, ComponentFactory)}.
+ * <p>
+ * Equal definitions read by the same reader are read into the same instance, so sources shared by several stages
+ * of a pipeline are shared again once it is read. Readers are hence not thread-safe and should not be kept
+ * for longer than the components are read.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class NoiseDefinitionReader {
+    private static final Map<String, ComponentFactory> DEFAULT_TYPES = defaultTypes();
+
+    private final Map<String, ComponentFactory> types;
+    private final Map<NoiseDefinition, Object> components = new HashMap<>();
+
+    private NoiseDefinitionReader(Map<String, ComponentFactory> types) {
+        this.types = types;
+    }
+
+    /**
+     * Reads the component a definition defines.
+     *
+     * @param definition the {@link NoiseDefinition} of the component.
+     * @return the component, the same instance for equal definitions.
+     * @throws IllegalArgumentException if the type of the definition is unknown or its properties are invalid.
+     */
+    public Object read(NoiseDefinition definition) {
+        Object component = components.get(definition);
+        if (component != null) {
+            return component;
+        }
+        ComponentFactory factory = types.get(definition.getType());
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown type of noise definition: \"" + definition.getType() + "\".");
+        }
+        component = factory.create(definition, this);
+        // Nested definitions are read first, so they are never replaced by their parents.
+        components.put(definition, component);
+        return component;
+    }
+
+    /**
+     * Reads the component a definition defines, which has to be of a certain kind.
+     *
+     * @param definition the {@link NoiseDefinition} of the component.
+     * @param kind       the kind of the component, e.g. {@link NoiseSource} or {@link NoiseModifier}.
+     * @param <T>        the kind of the component.
+     * @return the component, the same instance for equal definitions.
+     * @throws IllegalArgumentException if the definition cannot be read or defines another kind of component.
+     */
+    public <T> T read(NoiseDefinition definition, Class<T> kind) {
+        Object component = read(definition);
+        if (!kind.isInstance(component)) {
+            throw new IllegalArgumentException(
+                "Noise definition of type \"" + definition.getType() + "\" does not define a " + kind.getSimpleName() + "."
+            );
+        }
+        return kind.cast(component);
+    }
+
+    /**
+     * Reads the {@link NoiseSource} a property of a definition defines.
+     *
+     * @param definition the {@link NoiseDefinition} containing the property.
+     * @param name       name of the property.
+     * @return the {@link NoiseSource}.
+     * @throws IllegalArgumentException if the property is not the definition of a {@link NoiseSource}.
+     */
+    public NoiseSource readSource(NoiseDefinition definition, String name) {
+        return read(definition.getDefinition(name), NoiseSource.class);
+    }
+
+    /**
+     * Gets a {@link NoiseDefinitionReaderBuilder} to build a {@link NoiseDefinitionReader}.
+     *
+     * @return {@link NoiseDefinitionReaderBuilder}.
+     */
+    public static NoiseDefinitionReaderBuilder newBuilder() {
+        return new NoiseDefinitionReaderBuilder();
+    }
+
+    private static Map<String, ComponentFactory> defaultTypes() {
+        Map<String, ComponentFactory> types = new HashMap<>();
+        // Generators
+        types.put("perlin", (definition, reader) -> PerlinNoiseGenerator.newBuilder()
+            .setSeed(definition.getLong("seed"))
+            .setInterpolation(definition.getConstant("interpolation", Interpolation.class))
+            .setFadeFunction(definition.getConstant("fadeFunction", FadeFunction.class))
+            .build());
+        types.put("value", (definition, reader) -> ValueNoiseGenerator.newBuilder()
+            .setSeed(definition.getLong("seed"))
+            .setInterpolation(definition.getConstant("interpolation", Interpolation.class))
+            .setFadeFunction(definition.getConstant("fadeFunction", FadeFunction.class))
+            .build());
+        types.put("fastSimplex", (definition, reader) -> FastSimplexNoiseGenerator.newBuilder()
+            .setSeed(definition.getLong("seed"))
+            .setVariant2D(definition.getConstant("variant2D", Simplex2DVariant.class))
+            .setVariant3D(definition.getConstant("variant3D", Simplex3DVariant.class))
+            .setVariant4D(definition.getConstant("variant4D", Simplex4DVariant.class))
+            .build());
+        types.put("superSimplex", (definition, reader) -> SuperSimplexNoiseGenerator.newBuilder()
+            .setSeed(definition.getLong("seed"))
+            .setVariant2D(definition.getConstant("variant2D", Simplex2DVariant.class))
+            .setVariant3D(definition.getConstant("variant3D", Simplex3DVariant.class))
+            .setVariant4D(definition.getConstant("variant4D", Simplex4DVariant.class))
+            .build());
+        types.put("white", (definition, reader) -> WhiteNoiseGenerator.newBuilder().setSeed(definition.getLong("seed")).build());
+        types.put("gaussianWhite", (definition, reader) -> GaussianWhiteNoiseGenerator.newBuilder()
+            .setSeed(definition.getLong("seed"))
+            .setMean(definition.getDouble("mean"))
+            .setStandardDeviation(definition.getDouble("standardDeviation"))
+            .setSampling(definition.getConstant("sampling", GaussianSampling.class))
+            .build());
+        types.put("constant", (definition, reader) -> ConstantNoiseGenerator.newBuilder().setConstant(definition.getDouble("constant")).build());
+        types.put("checkerboard", (definition, reader) -> CheckerboardNoiseGenerator.newBuilder().build());
+        types.put("cylinder", (definition, reader) -> CylinderNoiseGenerator.newBuilder().build());
+        types.put("sphere", (definition, reader) -> SphereNoiseGenerator.newBuilder().build());
+        types.put("worley", NoiseDefinitionReader::readWorley);
+        types.put("minkowski", (definition, reader) -> new MinkowskiDistance(definition.getLong("p")));
+        // Modules
+        types.put("blend", (definition, reader) -> BlendModule.newBuilder()
+            .setA(reader.readSource(definition, "a"))
+            .setB(reader.readSource(definition, "b"))
+            .setControl(reader.readSource(definition, "control"))
+            .setInterpolation(definition.getConstant("interpolation", Interpolation.class))
+            .build());
+        types.put("combination", (definition, reader) -> CombinationModule.newBuilder()
+            .setA(reader.readSource(definition, "a"))
+            .setB(reader.readSource(definition, "b"))
+            .setCombiner(definition.getConstant("combiner", Combiner.class))
+            .build());
+        types.put("octavation", (definition, reader) -> OctavationModule.newBuilder()
+            .setNoiseSource(reader.readSource(definition, "noiseSource"))
+            .setOctaves(definition.getInt("octaves"))
+            .setGain(definition.getDouble("gain"))
+            .setLacunarity(definition.getDouble("lacunarity"))
+            .setFractalFunction(definition.getConstant("fractalFunction", FractalFunction.class))
+            .setIncrementSeed(definition.getBoolean("incrementSeed"))
+            .setFootprint(definition.getDouble("footprint"))
+            .build());
+        types.put("selection", (definition, reader) -> SelectionModule.newBuilder()
+            .setA(reader.readSource(definition, "a"))
+            .setB(reader.readSource(definition, "b"))
+            .setControl(reader.readSource(definition, "control"))
+            .setBoundary(definition.getDouble("boundary"))
+            .build());
+        types.put("upsampling", (definition, reader) -> {
+            double[] cellSize = getVector(definition, "cellSize", 3);
+            return UpsamplingModule.newBuilder()
+                .setNoiseSource(reader.readSource(definition, "noiseSource"))
+                .setCellSize(cellSize[0], cellSize[1], cellSize[2])
+                .setInterpolation(definition.getConstant("interpolation", Interpolation.class))
+                .build();
+        });
+        // Transformers
+        types.put("scale", (definition, reader) -> {
+            double[] scale = getVector(definition, "scale", 4);
+            return new ScaleTransformer(scale[0], scale[1], scale[2], scale[3]);
+        });
+        types.put("affine", (definition, reader) -> AffineTransformer.fromMatrices(
+            definition.getDoubles("matrix1D"),
+            definition.getDoubles("matrix2D"),
+            definition.getDoubles("matrix3D"),
+            definition.getDoubles("matrix4D")
+        ));
+        types.put("domainWarp", (definition, reader) -> DomainWarpTransformer.newBuilder()
+            .setNoiseSource(reader.readSource(definition, "noiseSource"))
+            .setWarpingVector(getVector(definition, "warpingVector", 4))
+            .set2DOffset(getVector(definition, "offset2D", 2))
+            .set3DOffset(getVectors(definition, "offset3D", 2, 3))
+            .set4DOffset(getVectors(definition, "offset4D", 3, 4))
+            .build());
+        // Modifiers
+        types.put("absoluteValue", (definition, reader) -> new AbsoluteValueModifier());
+        types.put("clamp", (definition, reader) -> new ClampModifier(definition.getDouble("lower"), definition.getDouble("upper")));
+        types.put("invert", (definition, reader) -> new InvertModifier());
+        // Pipelines
+        types.put("cached", (definition, reader) -> CachedNoiseSource.newBuilder()
+            .setNoiseSource(reader.readSource(definition, "noiseSource"))
+            .setTileSize(definition.getInt("tileSize"))
+            .setSpacing(definition.getDouble("spacing"))
+            .setMaximumBytes(definition.getLong("maximumBytes"))
+            .build());
+        types.put("pipeline", NoiseDefinitionReader::readPipeline);
+        return Map.copyOf(types);
+    }
+
+    private static WorleyNoiseGenerator readWorley(NoiseDefinition definition, NoiseDefinitionReader reader) {
+        // Predefined distance functions are constants, others like the Minkowski distance are nested definitions.
+        DistanceFunction distanceFunction = definition.isDefinition("distanceFunction")
+            ? reader.read(definition.getDefinition("distanceFunction"), DistanceFunction.class)
+            : definition.getConstant("distanceFunction", DistanceFunctionType.class);
+        return WorleyNoiseGenerator.newBuilder()
+            .setSeed(definition.getLong("seed"))
+            .setDepth(definition.getInt("depth"))
+            .setDistanceFunction(distanceFunction)
+            .setReturnDistanceFunction(definition.getConstant("returnDistanceFunction", ReturnDistanceFunctionType.class))
+            .setMinFunction(definition.getConstant("minFunction", Combiner.class))
+            .setFeaturePointPlacement(definition.getConstant("featurePointPlacement", FeaturePointPlacement.class))
+            .setFeaturePointCacheSize(definition.getInt("featurePointCacheSize"))
+            .build();
+    }
+
+    private static JNoise readPipeline(NoiseDefinition definition, NoiseDefinitionReader reader) {
+        JNoise.JNoiseBuilder<?> builder = JNoise.newBuilder();
+        for (NoiseDefinition transformer : definition.getDefinitions("simpleTransformers")) {
+            builder.addSimpleTransformer(reader.read(transformer, SimpleTransformer.class));
+        }
+        for (NoiseDefinition transformer : definition.getDefinitions("detailedTransformers")) {
+            builder.addDetailedTransformer(reader.read(transformer, DetailedTransformer.class));
+        }
+        builder.setNoiseSource(reader.readSource(definition, "source"));
+        for (NoiseDefinition modifier : definition.getDefinitions("modifiers")) {
+            builder.addModifier(reader.read(modifier, NoiseModifier.class));
+        }
+        return definition.getBoolean("detailed") ? builder.buildDetailed() : builder.build();
+    }
+
+    private static double[] getVector(NoiseDefinition definition, String name, int dimension) {
+        double[] vector = definition.getDoubles(name);
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                "Property \"" + name + "\" of \"" + definition.getType() + "\" must have " + dimension + " values."
+            );
+        }
+        return vector;
+    }
+
+    // Vectors of the same dimension are defined one after another.
+    private static double[][] getVectors(NoiseDefinition definition, String name, int count, int dimension) {
+        double[] flattened = getVector(definition, name, count * dimension);
+        double[][] vectors = new double[count][dimension];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(flattened, i * dimension, vectors[i], 0, dimension);
+        }
+        return vectors;
+    }
+
+    /**
+     * Creates the component of a type from its definition.
+     */
+    @FunctionalInterface
+    public interface ComponentFactory {
+        /**
+         * Creates the component a definition defines.
+         *
+         * @param definition the {@link NoiseDefinition} of the component.
+         * @param reader     the {@link NoiseDefinitionReader} to read nested definitions with.
+         * @return the component.
+         * @throws IllegalArgumentException if the properties of the definition are invalid.
+         */
+        Object create(NoiseDefinition definition, NoiseDefinitionReader reader);
+    }
+
+    /**
+     * Builder for the {@link NoiseDefinitionReader}.
+     */
+    @NullMarked
+    public static final class NoiseDefinitionReaderBuilder {
+        private final Map<String, ComponentFactory> types = new HashMap<>(DEFAULT_TYPES);
+
+        private NoiseDefinitionReaderBuilder() {
+
+        }
+
+        /**
+         * Adds a type of component, e.g. a custom {@link NoiseSource} implementing
+         * {@link de.articdive.jnoise.core.api.definition.Definable}, replacing any factory of the same type.
+         *
+         * @param type    the type of the definitions the factory reads.
+         * @param factory the {@link ComponentFactory} creating components of the type.
+         * @return {@link NoiseDefinitionReaderBuilder} this
+         */
+        public NoiseDefinitionReaderBuilder addType(String type, ComponentFactory factory) {
+            if (type.isEmpty()) {
+                throw new IllegalArgumentException("Type must not be empty.");
+            }
+            types.put(type, factory);
+            return this;
+        }
+
+        public NoiseDefinitionReader build() {
+            return new NoiseDefinitionReader(Map.copyOf(types));
+        }
+    }
+}
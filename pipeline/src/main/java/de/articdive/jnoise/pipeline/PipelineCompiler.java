@@ -0,0 +1,90 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.modifiers.NoiseModifier;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
+import de.articdive.jnoise.core.api.transformers.SimpleTransformer;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Compiles pipelines into specialized {@link NoiseSource}s.
+ * Every compiled pipeline is a separate hidden copy of {@link CompiledJNoise} holding its stages as constants.
+ * As the copies share no bytecode, the call sites of one pipeline are never polluted by the stages of another,
+ * which keeps them monomorphic and lets the JIT inline every stage into the pipeline.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class PipelineCompiler {
+    // Indices of the stages in the class data of a compiled pipeline.
+    static final int SIMPLE_TRANSFORMERS = 0;
+    static final int DETAILED_TRANSFORMERS = 1;
+    static final int SOURCE = 2;
+    static final int MODIFIERS = 3;
+
+    private PipelineCompiler() {
+
+    }
+
+    /**
+     * Compiles a pipeline.
+     *
+     * @param simpleTransformers   simple transformers of the pipeline, applied in order.
+     * @param detailedTransformers detailed transformers of the pipeline, applied in order after the simple transformers.
+     * @param source               source of the pipeline.
+     * @param modifiers            modifiers of the pipeline, applied in order.
+     * @return a {@link NoiseSource} evaluating exactly like a {@link JNoise} with the same stages.
+     */
+    static NoiseSource compile(
+        SimpleTransformer[] simpleTransformers,
+        DetailedTransformer[] detailedTransformers,
+        NoiseSource source,
+        NoiseModifier[] modifiers
+    ) {
+        Object[] stages = new Object[]{simpleTransformers.clone(), detailedTransformers.clone(), source, modifiers.clone()};
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(
+                TemplateHolder.TEMPLATE, stages, true
+            );
+            return (NoiseSource) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not compile the pipeline.", e);
+        }
+    }
+
+    /**
+     * Creates the scratch vectors handed to the detailed transformers of a compiled pipeline,
+     * indexed by dimension - 1.
+     *
+     * @return a new set of scratch vectors for a thread.
+     */
+    static double[][] newScratchVectors() {
+        return new double[][]{new double[1], new double[2], new double[3], new double[4]};
+    }
+
+    /**
+     * Holds the class file of {@link CompiledJNoise}, it is only read once a pipeline is compiled.
+     */
+    @NullMarked
+    private static final class TemplateHolder {
+        private static final byte[] TEMPLATE = readTemplate();
+
+        private static byte[] readTemplate() {
+            try (InputStream stream = PipelineCompiler.class.getResourceAsStream("CompiledJNoise.class")) {
+                if (stream == null) {
+                    throw new IllegalStateException("The compiled pipeline template could not be found.");
+                }
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException("The compiled pipeline template could not be read.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
+import de.articdive.jnoise.core.util.RegionUtil;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generates 2D and 3D regions of a {@link NoiseSource} in parallel.
+ * A region is split into square (or cubic) tiles, which are evaluated with the bulk evaluation of the source
+ * by worker tasks on an {@link Executor} and by the calling thread itself.
+ * The tiles only depend on the tile size, so the output is identical for any executor and any amount of threads.
+ * The region layout and the sample positions match {@link NoiseSource#fill2D} and {@link NoiseSource#fill3D},
+ * however the coordinates of a tile are computed from its own origin,
+ * so samples may differ from a single bulk evaluation of the whole region by floating point rounding.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class RegionGenerator {
+    private final NoiseSource source;
+    private final Executor executor;
+    private final int parallelism;
+    private final int tileSize;
+
+    private RegionGenerator(NoiseSource source, Executor executor, int parallelism, int tileSize) {
+        this.source = source;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Generates a 2D region, see {@link NoiseSource#fill2D} for the layout.
+     *
+     * @param x0 X-Coordinate of the first point.
+     * @param y0 Y-Coordinate of the first point.
+     * @param dx spacing between points along the X axis.
+     * @param dy spacing between points along the Y axis.
+     * @param nx amount of points along the X axis.
+     * @param ny amount of points along the Y axis.
+     * @return a new array containing the noise values of the region.
+     */
+    public double[] generate2D(double x0, double y0, double dx, double dy, int nx, int ny) {
+        double[] out = new double[RegionUtil.checkRegion(Integer.MAX_VALUE, nx, ny)];
+        fill2D(out, x0, y0, dx, dy, nx, ny);
+        return out;
+    }
+
+    /**
+     * Generates a 2D region with single precision, see {@link NoiseSource#fill2D} for the layout.
+     *
+     * @param x0 X-Coordinate of the first point.
+     * @param y0 Y-Coordinate of the first point.
+     * @param dx spacing between points along the X axis.
+     * @param dy spacing between points along the Y axis.
+     * @param nx amount of points along the X axis.
+     * @param ny amount of points along the Y axis.
+     * @return a new array containing the noise values of the region.
+     */
+    public float[] generateFloat2D(double x0, double y0, double dx, double dy, int nx, int ny) {
+        float[] out = new float[RegionUtil.checkRegion(Integer.MAX_VALUE, nx, ny)];
+        fill2D(out, x0, y0, dx, dy, nx, ny);
+        return out;
+    }
+
+    /**
+     * Generates a 3D region, see {@link NoiseSource#fill3D} for the layout.
+     *
+     * @param x0 X-Coordinate of the first point.
+     * @param y0 Y-Coordinate of the first point.
+     * @param z0 Z-Coordinate of the first point.
+     * @param dx spacing between points along the X axis.
+     * @param dy spacing between points along the Y axis.
+     * @param dz spacing between points along the Z axis.
+     * @param nx amount of points along the X axis.
+     * @param ny amount of points along the Y axis.
+     * @param nz amount of points along the Z axis.
+     * @return a new array containing the noise values of the region.
+     */
+    public double[] generate3D(double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        double[] out = new double[RegionUtil.checkRegion(Integer.MAX_VALUE, nx, ny, nz)];
+        fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        return out;
+    }
+
+    /**
+     * Generates a 3D region with single precision, see {@link NoiseSource#fill3D} for the layout.
+     *
+     * @param x0 X-Coordinate of the first point.
+     * @param y0 Y-Coordinate of the first point.
+     * @param z0 Z-Coordinate of the first point.
+     * @param dx spacing between points along the X axis.
+     * @param dy spacing between points along the Y axis.
+     * @param dz spacing between points along the Z axis.
+     * @param nx amount of points along the X axis.
+     * @param ny amount of points along the Y axis.
+     * @param nz amount of points along the Z axis.
+     * @return a new array containing the noise values of the region.
+     */
+    public float[] generateFloat3D(double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        float[] out = new float[RegionUtil.checkRegion(Integer.MAX_VALUE, nx, ny, nz)];
+        fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+        return out;
+    }
+
+    /**
+     * Fills a 2D region into an existing array, see {@link NoiseSource#fill2D} for the layout.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        generate(new Region(x0, y0, 0, dx, dy, 0, nx, ny, 1, false, out, null));
+    }
+
+    /**
+     * Fills a 2D region into an existing array with single precision, see {@link NoiseSource#fill2D} for the layout.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        RegionUtil.checkRegion(out.length, nx, ny);
+        generate(new Region(x0, y0, 0, dx, dy, 0, nx, ny, 1, false, null, out));
+    }
+
+    /**
+     * Fills a 3D region into an existing array, see {@link NoiseSource#fill3D} for the layout.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param z0  Z-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param dz  spacing between points along the Z axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @param nz  amount of points along the Z axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        generate(new Region(x0, y0, z0, dx, dy, dz, nx, ny, nz, true, out, null));
+    }
+
+    /**
+     * Fills a 3D region into an existing array with single precision, see {@link NoiseSource#fill3D} for the layout.
+     *
+     * @param out array to write the noise values into, starting at index 0.
+     * @param x0  X-Coordinate of the first point.
+     * @param y0  Y-Coordinate of the first point.
+     * @param z0  Z-Coordinate of the first point.
+     * @param dx  spacing between points along the X axis.
+     * @param dy  spacing between points along the Y axis.
+     * @param dz  spacing between points along the Z axis.
+     * @param nx  amount of points along the X axis.
+     * @param ny  amount of points along the Y axis.
+     * @param nz  amount of points along the Z axis.
+     * @throws IllegalArgumentException if the region does not fit into {@code out}.
+     */
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        generate(new Region(x0, y0, z0, dx, dy, dz, nx, ny, nz, true, null, out));
+    }
+
+    private void generate(Region region) {
+        int tiles = region.tiles;
+        if (tiles == 0) {
+            return;
+        }
+        AtomicInteger nextTile = new AtomicInteger();
+        CountDownLatch remainingTiles = new CountDownLatch(tiles);
+        AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> work(region, nextTile, remainingTiles, failure);
+
+        int helpers = Math.min(parallelism, tiles) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // The calling thread works as well, so the region is still generated.
+                break;
+            }
+        }
+        worker.run();
+
+        // Every tile has been claimed, so only tiles that are currently evaluated are awaited.
+        boolean interrupted = false;
+        while (true) {
+            try {
+                remainingTiles.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (cause instanceof Error error) {
+            throw error;
+        } else if (cause != null) {
+            throw new IllegalStateException("Failed to generate the region.", cause);
+        }
+    }
+
+    private void work(Region region, AtomicInteger nextTile, CountDownLatch remainingTiles, AtomicReference<@Nullable Throwable> failure) {
+        double[] scratch = null;
+        float[] floatScratch = null;
+        int tile;
+        while ((tile = nextTile.getAndIncrement()) < region.tiles) {
+            try {
+                if (failure.get() == null) {
+                    if (region.floatOut != null) {
+                        if (floatScratch == null) {
+                            floatScratch = new float[region.tileCapacity];
+                        }
+                        region.evaluate(tile, floatScratch, region.floatOut);
+                    } else if (region.out != null) {
+                        if (scratch == null) {
+                            scratch = new double[region.tileCapacity];
+                        }
+                        region.evaluate(tile, scratch, region.out);
+                    }
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                remainingTiles.countDown();
+            }
+        }
+    }
+
+    /**
+     * Gets a {@link RegionGeneratorBuilder} to build a {@link RegionGenerator}.
+     *
+     * @return {@link RegionGeneratorBuilder}.
+     */
+    public static RegionGeneratorBuilder newBuilder() {
+        return new RegionGeneratorBuilder();
+    }
+
+    /**
+     * A region split into tiles.
+     */
+    @NullMarked
+    private final class Region {
+        private final double x0;
+        private final double y0;
+        private final double z0;
+        private final double dx;
+        private final double dy;
+        private final double dz;
+        private final int nx;
+        private final int ny;
+        private final int nz;
+        private final boolean is3D;
+        // Exactly one of the outputs is set, single precision regions are evaluated with the single precision of the source.
+        private final double @Nullable [] out;
+        private final float @Nullable [] floatOut;
+        private final int tilesX;
+        private final int tilesY;
+        private final int tiles;
+        private final int tileCapacity;
+
+        private Region(
+            double x0, double y0, double z0,
+            double dx, double dy, double dz,
+            int nx, int ny, int nz,
+            boolean is3D,
+            double @Nullable [] out,
+            float @Nullable [] floatOut
+        ) {
+            this.x0 = x0;
+            this.y0 = y0;
+            this.z0 = z0;
+            this.dx = dx;
+            this.dy = dy;
+            this.dz = dz;
+            this.nx = nx;
+            this.ny = ny;
+            this.nz = nz;
+            this.is3D = is3D;
+            this.out = out;
+            this.floatOut = floatOut;
+            this.tilesX = (nx + tileSize - 1) / tileSize;
+            this.tilesY = (ny + tileSize - 1) / tileSize;
+            int tilesZ = is3D ? (nz + tileSize - 1) / tileSize : 1;
+            this.tiles = tilesX * tilesY * tilesZ;
+            this.tileCapacity = tileSize * tileSize * (is3D ? tileSize : 1);
+        }
+
+        private void evaluate(int tile, double[] scratch, double[] out) {
+            int i0 = (tile % tilesX) * tileSize;
+            int j0 = ((tile / tilesX) % tilesY) * tileSize;
+            int k0 = (tile / tilesX / tilesY) * tileSize;
+            int tx = Math.min(tileSize, nx - i0);
+            int ty = Math.min(tileSize, ny - j0);
+            int tz = is3D ? Math.min(tileSize, nz - k0) : 1;
+            if (is3D) {
+                source.fill3D(scratch, x0 + i0 * dx, y0 + j0 * dy, z0 + k0 * dz, dx, dy, dz, tx, ty, tz);
+            } else {
+                source.fill2D(scratch, x0 + i0 * dx, y0 + j0 * dy, dx, dy, tx, ty);
+            }
+            for (int k = 0; k < tz; k++) {
+                for (int j = 0; j < ty; j++) {
+                    System.arraycopy(scratch, tx * (j + ty * k), out, i0 + nx * (j0 + j + ny * (k0 + k)), tx);
+                }
+            }
+        }
+
+        private void evaluate(int tile, float[] scratch, float[] out) {
+            int i0 = (tile % tilesX) * tileSize;
+            int j0 = ((tile / tilesX) % tilesY) * tileSize;
+            int k0 = (tile / tilesX / tilesY) * tileSize;
+            int tx = Math.min(tileSize, nx - i0);
+            int ty = Math.min(tileSize, ny - j0);
+            int tz = is3D ? Math.min(tileSize, nz - k0) : 1;
+            if (is3D) {
+                source.fill3D(scratch, x0 + i0 * dx, y0 + j0 * dy, z0 + k0 * dz, dx, dy, dz, tx, ty, tz);
+            } else {
+                source.fill2D(scratch, x0 + i0 * dx, y0 + j0 * dy, dx, dy, tx, ty);
+            }
+            for (int k = 0; k < tz; k++) {
+                for (int j = 0; j < ty; j++) {
+                    System.arraycopy(scratch, tx * (j + ty * k), out, i0 + nx * (j0 + j + ny * (k0 + k)), tx);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder for the {@link RegionGenerator}.
+     */
+    @NullMarked
+    public static final class RegionGeneratorBuilder {
+        private @Nullable NoiseSource source;
+        private Executor executor = ForkJoinPool.commonPool();
+        private int parallelism = 0;
+        private int tileSize = 16;
+
+        private RegionGeneratorBuilder() {
+
+        }
+
+        /**
+         * Sets the noise source for the {@link RegionGenerator}.
+         *
+         * @param source {@link NoiseSource} to generate regions of.
+         * @return {@link RegionGeneratorBuilder} this
+         */
+        public RegionGeneratorBuilder setNoiseSource(NoiseSource source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets the noise source for the {@link RegionGenerator}.
+         *
+         * @param sourceBuilder {@link NoiseSourceBuilder} building the {@link NoiseSource} to generate regions of.
+         * @return {@link RegionGeneratorBuilder} this
+         */
+        public RegionGeneratorBuilder setNoiseSource(NoiseSourceBuilder sourceBuilder) {
+            this.source = sourceBuilder.build();
+            return this;
+        }
+
+        /**
+         * Sets the executor running the worker tasks of the {@link RegionGenerator}, defaults to the common {@link ForkJoinPool}.
+         *
+         * @param executor the new {@link Executor} for the {@link RegionGenerator}.
+         * @return {@link RegionGeneratorBuilder} this
+         */
+        public RegionGeneratorBuilder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of threads generating a region at once, including the calling thread.
+         * A parallelism of 0 (the default) uses the parallelism of a {@link ForkJoinPool}
+         * or the amount of available processors for any other {@link Executor}.
+         *
+         * @param parallelism the new parallelism for the {@link RegionGenerator}.
+         * @return {@link RegionGeneratorBuilder} this
+         */
+        public RegionGeneratorBuilder setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the edge length of the tiles a region is split into, defaults to 16.
+         * 2D regions use square tiles and 3D regions use cubic tiles.
+         *
+         * @param tileSize the new tile size for the {@link RegionGenerator}.
+         * @return {@link RegionGeneratorBuilder} this
+         */
+        public RegionGeneratorBuilder setTileSize(int tileSize) {
+            this.tileSize = tileSize;
+            return this;
+        }
+
+        public RegionGenerator build() {
+            if (source == null) {
+                throw new IllegalArgumentException("Source must be defined.");
+            }
+            if (parallelism < 0) {
+                throw new IllegalArgumentException("Parallelism must not be negative.");
+            }
+            if (tileSize <= 0 || tileSize > 1024) {
+                throw new IllegalArgumentException("Tile size must be between 1 and 1024.");
+            }
+            int effectiveParallelism = parallelism;
+            if (effectiveParallelism == 0) {
+                effectiveParallelism = executor instanceof ForkJoinPool pool
+                    ? pool.getParallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            }
+            return new RegionGenerator(source, executor, Math.max(1, effectiveParallelism), tileSize);
+        }
+    }
+}
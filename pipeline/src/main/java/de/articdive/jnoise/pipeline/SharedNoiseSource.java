@@ -0,0 +1,296 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.noisegen.SeededNoiseGenerator;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Wraps a {@link NoiseSource} which is evaluated by several stages of a pipeline.
+ * The last evaluation of every dimension is remembered per thread, so stages evaluating the source
+ * at the same coordinates within one sample, e.g. a blend using it as both control and operand, compute it only once.
+ * Coordinates are compared bitwise, hence the result is always exactly the value of the wrapped source.
+ * Everything but single evaluations is passed through to the wrapped source.
+ *
+ * @author Articdive
+ */
+@NullMarked
+class SharedNoiseSource implements NoiseSource, Definable {
+    private final NoiseSource source;
+    private final ThreadLocal<LastEvaluations> lastEvaluations = ThreadLocal.withInitial(LastEvaluations::new);
+
+    SharedNoiseSource(NoiseSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Wraps a source, keeping it seeded if it is a {@link SeededNoiseGenerator}.
+     *
+     * @param source source to wrap.
+     * @return a {@link SharedNoiseSource} evaluating exactly like the source.
+     */
+    static SharedNoiseSource of(NoiseSource source) {
+        if (source instanceof SeededNoiseGenerator seededSource) {
+            return new Seeded(seededSource);
+        }
+        return new SharedNoiseSource(source);
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        LastEvaluations last = lastEvaluations.get();
+        long bitsX = Double.doubleToRawLongBits(x);
+        if (last.evaluated1D && last.x1D == bitsX) {
+            return last.value1D;
+        }
+        double value = source.evaluateNoise(x);
+        last.evaluated1D = true;
+        last.x1D = bitsX;
+        last.value1D = value;
+        return value;
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        LastEvaluations last = lastEvaluations.get();
+        long bitsX = Double.doubleToRawLongBits(x);
+        long bitsY = Double.doubleToRawLongBits(y);
+        if (last.evaluated2D && last.x2D == bitsX && last.y2D == bitsY) {
+            return last.value2D;
+        }
+        double value = source.evaluateNoise(x, y);
+        last.evaluated2D = true;
+        last.x2D = bitsX;
+        last.y2D = bitsY;
+        last.value2D = value;
+        return value;
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        LastEvaluations last = lastEvaluations.get();
+        long bitsX = Double.doubleToRawLongBits(x);
+        long bitsY = Double.doubleToRawLongBits(y);
+        long bitsZ = Double.doubleToRawLongBits(z);
+        if (last.evaluated3D && last.x3D == bitsX && last.y3D == bitsY && last.z3D == bitsZ) {
+            return last.value3D;
+        }
+        double value = source.evaluateNoise(x, y, z);
+        last.evaluated3D = true;
+        last.x3D = bitsX;
+        last.y3D = bitsY;
+        last.z3D = bitsZ;
+        last.value3D = value;
+        return value;
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        LastEvaluations last = lastEvaluations.get();
+        long bitsX = Double.doubleToRawLongBits(x);
+        long bitsY = Double.doubleToRawLongBits(y);
+        long bitsZ = Double.doubleToRawLongBits(z);
+        long bitsW = Double.doubleToRawLongBits(w);
+        if (last.evaluated4D && last.x4D == bitsX && last.y4D == bitsY && last.z4D == bitsZ && last.w4D == bitsW) {
+            return last.value4D;
+        }
+        double value = source.evaluateNoise(x, y, z, w);
+        last.evaluated4D = true;
+        last.x4D = bitsX;
+        last.y4D = bitsY;
+        last.z4D = bitsZ;
+        last.w4D = bitsW;
+        last.value4D = value;
+        return value;
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return source.getBounds();
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return source.getBounds2D(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        source.fill1D(out, x0, dx, nx);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        source.fill2D(out, x0, y0, dx, dy, nx, ny);
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        source.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    @Override
+    public void fill1D(float[] out, double x0, double dx, int nx) {
+        source.fill1D(out, x0, dx, nx);
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        source.fill2D(out, x0, y0, dx, dy, nx, ny);
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        source.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        source.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    @Override
+    public double evaluateLattice(long x, double spacing) {
+        return source.evaluateLattice(x, spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, double spacing) {
+        return source.evaluateLattice(x, y, spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, double spacing) {
+        return source.evaluateLattice(x, y, z, spacing);
+    }
+
+    @Override
+    public double evaluateLattice(long x, long y, long z, long w, double spacing) {
+        return source.evaluateLattice(x, y, z, w, spacing);
+    }
+
+    @Override
+    public void fillLattice2D(double[] out, long x0, long y0, double spacing, int nx, int ny) {
+        source.fillLattice2D(out, x0, y0, spacing, nx, ny);
+    }
+
+    @Override
+    public void fillLattice3D(double[] out, long x0, long y0, long z0, double spacing, int nx, int ny, int nz) {
+        source.fillLattice3D(out, x0, y0, z0, spacing, nx, ny, nz);
+    }
+
+    // Sharing is a detail of the evaluation, so the wrapped source is defined.
+    @Override
+    public NoiseDefinition getDefinition() {
+        if (!(source instanceof Definable definable)) {
+            throw new IllegalArgumentException("Shared source cannot be defined, " + source.getClass().getName() + " is not definable.");
+        }
+        return definable.getDefinition();
+    }
+
+    /**
+     * Shared {@link SeededNoiseGenerator}, so modules evaluating explicit seeds, e.g. octavations, can still do so.
+     * Evaluations with explicit seeds are passed through.
+     */
+    @NullMarked
+    private static final class Seeded extends SharedNoiseSource implements SeededNoiseGenerator {
+        private final SeededNoiseGenerator source;
+
+        private Seeded(SeededNoiseGenerator source) {
+            super(source);
+            this.source = source;
+        }
+
+        @Override
+        public double evaluateNoise(double x, long seed) {
+            return source.evaluateNoise(x, seed);
+        }
+
+        @Override
+        public double evaluateNoise(double x, double y, long seed) {
+            return source.evaluateNoise(x, y, seed);
+        }
+
+        @Override
+        public double evaluateNoise(double x, double y, double z, long seed) {
+            return source.evaluateNoise(x, y, z, seed);
+        }
+
+        @Override
+        public double evaluateNoise(double x, double y, double z, double w, long seed) {
+            return source.evaluateNoise(x, y, z, w, seed);
+        }
+
+        @Override
+        public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY, long seed) {
+            return source.getBounds2D(minX, minY, maxX, maxY, seed);
+        }
+
+        @Override
+        public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, long seed) {
+            return source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ, seed);
+        }
+
+        @Override
+        public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+            return source.getBounds2D(minX, minY, maxX, maxY);
+        }
+
+        @Override
+        public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            return source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+        }
+
+        @Override
+        public long getSeed() {
+            return source.getSeed();
+        }
+    }
+
+    // The coordinates are kept as raw bits, so signed zeros and NaNs are only matched by themselves.
+    private static final class LastEvaluations {
+        private boolean evaluated1D;
+        private long x1D;
+        private double value1D;
+
+        private boolean evaluated2D;
+        private long x2D;
+        private long y2D;
+        private double value2D;
+
+        private boolean evaluated3D;
+        private long x3D;
+        private long y3D;
+        private long z3D;
+        private double value3D;
+
+        private boolean evaluated4D;
+        private long x4D;
+        private long y4D;
+        private long z4D;
+        private long w4D;
+        private double value4D;
+    }
+}
@@ -0,0 +1,141 @@
+package de.articdive.jnoise.pipeline;
+
+import de.articdive.jnoise.core.api.modules.NoiseModule;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
+import de.articdive.jnoise.modules.blend.BlendModule;
+import de.articdive.jnoise.modules.combination.CombinationModule;
+import de.articdive.jnoise.modules.selection.SelectionModule;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The graph of {@link NoiseSource}s a pipeline evaluates, i.e. its source and the sources of its
+ * {@link NoiseModule}s and {@link DetailedTransformer}s.
+ * Blend, combination and selection modules evaluate their sources at the coordinates of the sample,
+ * so nested ones form a group whose sources are all evaluated at the same coordinates.
+ * Sources referenced more than once within such a group are wrapped into a {@link SharedNoiseSource} when the graph is rebuilt,
+ * e.g. the control of a blend which is also one of its operands, so they are computed once per sample.
+ * Other references, e.g. by a domain warp or an octavation, evaluate their sources at other coordinates and are left as they are,
+ * as the cache would never hit for them.
+ * Sources are identified by instance, modules not exposing their sources are treated as leaves.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class SourceGraph {
+    private final Map<NoiseSource, NoiseSource> rebuilt = new IdentityHashMap<>();
+
+    /**
+     * Rebuilds a source, so that every source shared within a group of it is evaluated through a {@link SharedNoiseSource}.
+     * Rebuilding the same source again returns the same instance.
+     *
+     * @param source source to rebuild.
+     * @return the rebuilt {@link NoiseSource}, which evaluates exactly like the source.
+     */
+    NoiseSource share(NoiseSource source) {
+        NoiseSource shared = rebuilt.get(source);
+        if (shared != null) {
+            return shared;
+        }
+        if (isGrouping(source)) {
+            Map<NoiseSource, Integer> references = new IdentityHashMap<>();
+            reference(source, references);
+            shared = shareInGroup(source, references, new IdentityHashMap<>());
+        } else if (source instanceof NoiseModule module) {
+            shared = withSources(module, module.getSources(), this::share);
+        } else {
+            shared = source;
+        }
+        rebuilt.put(source, shared);
+        return shared;
+    }
+
+    /**
+     * Rebuilds detailed transformers, see {@link #share(NoiseSource)}.
+     *
+     * @param detailedTransformers detailed transformers to rebuild.
+     * @return the rebuilt detailed transformers.
+     */
+    DetailedTransformer[] share(DetailedTransformer[] detailedTransformers) {
+        DetailedTransformer[] shared = new DetailedTransformer[detailedTransformers.length];
+        for (int i = 0; i < detailedTransformers.length; i++) {
+            DetailedTransformer transformer = detailedTransformers[i];
+            List<NoiseSource> sources = transformer.getSources();
+            List<NoiseSource> sharedSources = new ArrayList<>(sources.size());
+            boolean changed = false;
+            for (NoiseSource transformerSource : sources) {
+                NoiseSource sharedSource = share(transformerSource);
+                sharedSources.add(sharedSource);
+                changed |= sharedSource != transformerSource;
+            }
+            shared[i] = changed ? transformer.withSources(sharedSources) : transformer;
+        }
+        return shared;
+    }
+
+    private NoiseSource shareInGroup(NoiseSource source, Map<NoiseSource, Integer> references, Map<NoiseSource, NoiseSource> group) {
+        NoiseSource shared = group.get(source);
+        if (shared != null) {
+            return shared;
+        }
+        if (isGrouping(source)) {
+            NoiseModule module = (NoiseModule) source;
+            shared = withSources(module, module.getSources(), moduleSource -> shareInGroup(moduleSource, references, group));
+        } else {
+            // Sources outside of the group form groups of their own.
+            shared = share(source);
+        }
+        if (references.getOrDefault(source, 0) > 1 && isWorthSharing(shared)) {
+            shared = SharedNoiseSource.of(shared);
+        }
+        group.put(source, shared);
+        return shared;
+    }
+
+    private static NoiseSource withSources(NoiseModule module, List<NoiseSource> sources, SourceRebuilder rebuilder) {
+        List<NoiseSource> sharedSources = new ArrayList<>(sources.size());
+        boolean changed = false;
+        for (NoiseSource moduleSource : sources) {
+            NoiseSource sharedSource = rebuilder.rebuild(moduleSource);
+            sharedSources.add(sharedSource);
+            changed |= sharedSource != moduleSource;
+        }
+        return changed ? module.withSources(sharedSources) : module;
+    }
+
+    private static void reference(NoiseSource source, Map<NoiseSource, Integer> references) {
+        for (NoiseSource moduleSource : ((NoiseModule) source).getSources()) {
+            int count = references.merge(moduleSource, 1, Integer::sum);
+            // The sources of a module are referenced once, no matter how often the module itself is.
+            if (count == 1 && isGrouping(moduleSource)) {
+                reference(moduleSource, references);
+            }
+        }
+    }
+
+    // These modules evaluate every source at the coordinates they are evaluated at.
+    private static boolean isGrouping(NoiseSource source) {
+        return source instanceof BlendModule || source instanceof CombinationModule || source instanceof SelectionModule;
+    }
+
+    // Already shared sources need no second cache and constants are cheaper to evaluate than to look up.
+    // Explicit sources are shared as well, the graph is only rebuilt for pipelines evaluating values.
+    private static boolean isWorthSharing(NoiseSource source) {
+        if (source instanceof SharedNoiseSource) {
+            return false;
+        }
+        NoiseBounds bounds = source.getBounds();
+        return bounds.getMin() != bounds.getMax();
+    }
+
+    @FunctionalInterface
+    private interface SourceRebuilder {
+        NoiseSource rebuild(NoiseSource source);
+    }
+}
@@ -0,0 +1,97 @@
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.pipeline.CachedNoiseSource;
+import de.articdive.jnoise.pipeline.JNoise;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedNoiseSourceTest {
+    private final JNoise noise = JNoise.newBuilder()
+        .perlin(PerlinNoiseGenerator.newBuilder().setSeed(1729))
+        .scale(0.03)
+        .build();
+
+    @Test
+    @DisplayName("Cached Noise Source - Matches Source")
+    public void testMatchesSource() {
+        CachedNoiseSource cached = CachedNoiseSource.newBuilder().setNoiseSource(noise).setTileSize(8).setSpacing(0.5).build();
+        double[] expected2D = new double[37 * 29];
+        double[] actual2D = new double[37 * 29];
+        noise.fill2D(expected2D, -6.5, 3, 0.5, 0.5, 37, 29);
+        cached.fill2D(actual2D, -6.5, 3, 0.5, 0.5, 37, 29);
+        assertArrayEquals(expected2D, actual2D);
+
+        double[] expected3D = new double[19 * 11 * 10];
+        double[] actual3D = new double[19 * 11 * 10];
+        noise.fillLattice3D(expected3D, -13, 6, 20, 0.5, 19, 11, 10);
+        cached.fillLattice3D(actual3D, -13, 6, 20, 0.5, 19, 11, 10);
+        assertArrayEquals(expected3D, actual3D);
+
+        assertEquals(noise.evaluateNoise(-6.5, 3), cached.evaluateNoise(-6.5, 3));
+        assertEquals(noise.evaluateNoise(-6.5, 3, 10), cached.evaluateNoise(-6.5, 3, 10));
+        assertEquals(noise.evaluateNoise(-6.3, 3), cached.evaluateNoise(-6.3, 3));
+        assertEquals(noise.evaluateLattice(-13, 6, 20, 0.5), cached.evaluateLattice(-13, 6, 20, 0.5));
+        assertEquals(noise.evaluateLattice(-13, 6, 0.25), cached.evaluateLattice(-13, 6, 0.25));
+        long misses = cached.getMisses();
+        assertTrue(misses > 0);
+        assertTrue(cached.getHits() > 0);
+
+        cached.fill2D(actual2D, -6.5, 3, 0.5, 0.5, 37, 29);
+        assertArrayEquals(expected2D, actual2D);
+        assertEquals(misses, cached.getMisses());
+    }
+
+    @Test
+    @DisplayName("Cached Noise Source - Eviction")
+    public void testEviction() {
+        CachedNoiseSource cached = CachedNoiseSource.newBuilder().setNoiseSource(noise).setTileSize(4).setMaximumBytes(4 * 16 * Double.BYTES).build();
+        double[] expected = new double[64 * 64];
+        double[] actual = new double[64 * 64];
+        noise.fill2D(expected, 0, 0, 1, 1, 64, 64);
+        cached.fill2D(actual, 0, 0, 1, 1, 64, 64);
+        assertArrayEquals(expected, actual);
+        assertTrue(cached.getEvictions() > 0);
+        assertTrue(cached.getCachedBytes() <= 4 * 16 * Double.BYTES);
+    }
+
+    @Test
+    @DisplayName("Cached Noise Source - Concurrent Access")
+    public void testConcurrentAccess() throws Exception {
+        CachedNoiseSource cached = CachedNoiseSource.newBuilder().setNoiseSource(noise).setMaximumBytes(1 << 20).build();
+        double[] expected = new double[48 * 48 * 48];
+        noise.fill3D(expected, -16, -16, -16, 1, 1, 1, 48, 48, 48);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    double[] actual = new double[48 * 48 * 48];
+                    cached.fill3D(actual, -16, -16, -16, 1, 1, 1, 48, 48, 48);
+                    assertArrayEquals(expected, actual);
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Cached Noise Source - Invalid Parameters")
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> CachedNoiseSource.newBuilder().build());
+        assertThrows(IllegalArgumentException.class, () -> CachedNoiseSource.newBuilder().setNoiseSource(noise).setTileSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> CachedNoiseSource.newBuilder().setNoiseSource(noise).setSpacing(0).build());
+        assertThrows(IllegalArgumentException.class, () -> CachedNoiseSource.newBuilder().setNoiseSource(noise).setMaximumBytes(0).build());
+    }
+}
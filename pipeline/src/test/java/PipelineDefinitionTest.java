@@ -0,0 +1,191 @@
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.functions.Combiner;
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noise_parameters.distance_functions.MinkowskiDistance;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
+import de.articdive.jnoise.modules.blend.BlendModule;
+import de.articdive.jnoise.modules.combination.CombinationModule;
+import de.articdive.jnoise.modules.octavation.OctavationModule;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import de.articdive.jnoise.pipeline.CachedNoiseSource;
+import de.articdive.jnoise.pipeline.JNoise;
+import de.articdive.jnoise.pipeline.JNoiseDetailed;
+import de.articdive.jnoise.pipeline.NoiseDefinitionReader;
+import de.articdive.jnoise.transformers.affine.AffineTransformer;
+import de.articdive.jnoise.transformers.affine.RotationPlane;
+import de.articdive.jnoise.transformers.domain_warp.DomainWarpTransformer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelineDefinitionTest {
+    private final PerlinNoiseGenerator perlin = PerlinNoiseGenerator.newBuilder()
+        .setSeed(1729)
+        .setInterpolation(Interpolation.COSINE)
+        .setFadeFunction(FadeFunction.IMPROVED_PERLIN_NOISE)
+        .build();
+
+    private JNoise pipeline() {
+        OctavationModule octavation = OctavationModule.newBuilder()
+            .setNoiseSource(perlin)
+            .setOctaves(5)
+            .setFractalFunction(FractalFunction.TURBULENCE)
+            .setIncrementSeed(true)
+            .build();
+        WorleyNoiseGenerator worley = WorleyNoiseGenerator.newBuilder().setSeed(-42).setDistanceFunction(new MinkowskiDistance(3)).build();
+        BlendModule blend = BlendModule.newBuilder().setA(octavation).setB(worley).setControl(perlin).build();
+        CombinationModule sum = CombinationModule.newBuilder().setA(blend).setB(perlin).setCombiner(Combiner.ADD).build();
+        return JNoise.newBuilder()
+            .setNoiseSource(CachedNoiseSource.newBuilder().setNoiseSource(sum).setTileSize(8).setSpacing(0.5).build())
+            .scale(0.05)
+            .addDetailedTransformer(AffineTransformer.newBuilder().rotate(RotationPlane.XY, 0.3).build())
+            .addDetailedTransformer(AffineTransformer.newBuilder().translate(1.5, -2, 0.25, 0).build())
+            .addDetailedTransformer(DomainWarpTransformer.newBuilder().setNoiseSource(perlin).build())
+            .clamp(-0.75, Double.POSITIVE_INFINITY)
+            .invert()
+            .build();
+    }
+
+    @Test
+    @DisplayName("Definition - Round trip")
+    public void testRoundTrip() {
+        JNoise noise = pipeline();
+        NoiseDefinition definition = noise.getDefinition();
+        NoiseDefinition fromBytes = NoiseDefinition.fromBytes(definition.toBytes());
+        NoiseDefinition fromJson = NoiseDefinition.fromJson(definition.toJson());
+        assertEquals(definition, fromBytes);
+        assertEquals(definition, fromJson);
+        assertEquals(definition.getStructuralHash(), fromBytes.getStructuralHash());
+        assertEquals(definition.getStructuralHash(), fromJson.getStructuralHash());
+        assertEquals(definition.getStructuralHash(), pipeline().getDefinition().getStructuralHash());
+
+        JNoise read = JNoise.fromDefinition(fromBytes);
+        assertEquals(definition, read.getDefinition());
+        assertAll("Does the read pipeline evaluate exactly like the defined one?",
+            () -> assertEquals(noise.evaluateNoise(1.2, 3.4), read.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(noise.evaluateNoise(-12.5, 30.25), read.evaluateNoise(-12.5, 30.25)),
+            () -> assertEquals(noise.evaluateNoise(1.2, 3.4, 5.6), read.evaluateNoise(1.2, 3.4, 5.6)),
+            () -> assertEquals(noise.evaluateNoise(1.2, 3.4, 5.6, 7.8), read.evaluateNoise(1.2, 3.4, 5.6, 7.8)),
+            () -> assertEquals(noise.getBounds(), read.getBounds())
+        );
+    }
+
+    @Test
+    @DisplayName("Definition - Detailed and compiled pipelines")
+    public void testDetailedPipelines() {
+        JNoise.JNoiseBuilder<?> builder = JNoise.newBuilder().superSimplex(SuperSimplexNoiseGenerator.newBuilder().setSeed(7)).scale(0.1).abs();
+        JNoise detailed = JNoise.fromDefinition(builder.buildDetailed().getDefinition());
+        assertInstanceOf(JNoiseDetailed.class, detailed);
+        assertEquals(builder.build().evaluateNoise(1.2, 3.4), detailed.evaluateNoise(1.2, 3.4));
+        NoiseSource compiled = builder.compile();
+        assertEquals(builder.build().getDefinition(), ((Definable) compiled).getDefinition());
+    }
+
+    @Test
+    @DisplayName("Definition - Shared definitions")
+    public void testSharedDefinitions() {
+        NoiseDefinition perlinDefinition = perlin.getDefinition();
+        NoiseDefinition combination = CombinationModule.newBuilder().setA(perlin).setB(perlin).build().getDefinition();
+        assertTrue(combination.toBytes().length < 2 * perlinDefinition.toBytes().length, "Equal definitions should be written once.");
+
+        NoiseDefinitionReader reader = NoiseDefinitionReader.newBuilder().build();
+        reader.read(NoiseDefinition.fromBytes(combination.toBytes()));
+        assertSame(reader.read(combination.getDefinition("a")), reader.read(combination.getDefinition("b")));
+        assertNotEquals(
+            perlinDefinition.getStructuralHash(),
+            PerlinNoiseGenerator.newBuilder().setSeed(1730).build().getDefinition().getStructuralHash()
+        );
+    }
+
+    @Test
+    @DisplayName("Definition - Custom types")
+    public void testCustomTypes() {
+        NoiseSource half = new HalfSource(perlin);
+        NoiseDefinition definition = JNoise.newBuilder().setNoiseSource(half).build().getDefinition();
+        assertThrows(IllegalArgumentException.class, () -> JNoise.fromDefinition(definition));
+
+        NoiseDefinitionReader reader = NoiseDefinitionReader.newBuilder()
+            .addType("half", (halfDefinition, halfReader) -> new HalfSource(halfReader.readSource(halfDefinition, "source")))
+            .build();
+        JNoise read = reader.read(definition, JNoise.class);
+        assertEquals(half.evaluateNoise(1.2, 3.4), read.evaluateNoise(1.2, 3.4));
+    }
+
+    @Test
+    @DisplayName("Definition - Undefinable components")
+    public void testUndefinableComponents() {
+        assertAll("Are custom functions rejected?",
+            () -> assertThrows(IllegalArgumentException.class, () -> PerlinNoiseGenerator.newBuilder().setFadeFunction(x -> x).build().getDefinition()),
+            () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().perlin(perlin).addModifier(x -> 2 * x).build().getDefinition()),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> JNoise.newBuilder().combination(perlin, perlin, (a, b) -> a - b).build().getDefinition()),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> WorleyNoiseGenerator.newBuilder().setFeaturePointAmountFunction(i -> 2).build().getDefinition())
+        );
+    }
+
+    @Test
+    @DisplayName("Definition - Malformed input")
+    public void testMalformedInput() {
+        byte[] bytes = pipeline().getDefinition().toBytes();
+        String json = pipeline().getDefinition().toJson();
+        assertAll("Is malformed input rejected?",
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseDefinition.fromBytes(Arrays.copyOf(bytes, bytes.length - 1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseDefinition.fromBytes(Arrays.copyOf(bytes, bytes.length + 1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseDefinition.fromBytes(new byte[]{1, 2, 3, 4, 5})),
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseDefinition.fromJson(json.substring(0, json.length() - 1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseDefinition.fromJson("{\"seed\":1}")),
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseDefinition.fromJson("[" + json + "]")),
+            () -> assertThrows(IllegalArgumentException.class, () -> JNoise.fromDefinition(perlin.getDefinition())),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> JNoise.fromDefinition(NoiseDefinition.fromJson(json.replace("\"COSINE\"", "\"SINE\""))))
+        );
+    }
+
+    private static final class HalfSource implements NoiseSource, Definable {
+        private final NoiseSource source;
+
+        private HalfSource(NoiseSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public double evaluateNoise(double x) {
+            return source.evaluateNoise(x) / 2;
+        }
+
+        @Override
+        public double evaluateNoise(double x, double y) {
+            return source.evaluateNoise(x, y) / 2;
+        }
+
+        @Override
+        public double evaluateNoise(double x, double y, double z) {
+            return source.evaluateNoise(x, y, z) / 2;
+        }
+
+        @Override
+        public double evaluateNoise(double x, double y, double z, double w) {
+            return source.evaluateNoise(x, y, z, w) / 2;
+        }
+
+        @Override
+        public NoiseDefinition getDefinition() {
+            return NoiseDefinition.newBuilder("half").setDefinition("source", source).build();
+        }
+    }
+}
@@ -0,0 +1,381 @@
+import de.articdive.jnoise.core.api.functions.Combiner;
+import de.articdive.jnoise.core.api.noisegen.DerivativeNoiseResult;
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noisegen.constant.ConstantNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
+import de.articdive.jnoise.modules.blend.BlendModule;
+import de.articdive.jnoise.modules.combination.CombinationModule;
+import de.articdive.jnoise.modules.octavation.OctavationModule;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
+import de.articdive.jnoise.modules.selection.SelectionModule;
+import de.articdive.jnoise.modules.upsampling.UpsamplingModule;
+import de.articdive.jnoise.pipeline.JNoise;
+import de.articdive.jnoise.pipeline.JNoiseDetailed;
+import de.articdive.jnoise.transformers.affine.AffineTransformer;
+import de.articdive.jnoise.transformers.affine.RotationPlane;
+import de.articdive.jnoise.transformers.domain_warp.DomainWarpTransformer;
+import de.articdive.jnoise.transformers.scale.ScaleTransformer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelineEvaluationTest {
+    private final PerlinNoiseGenerator perlin = PerlinNoiseGenerator.newBuilder().setSeed(1729).build();
+
+    @Test
+    @DisplayName("Evaluation - Simple Transformers")
+    public void testSimpleTransformers() {
+        JNoise noise = JNoise.newBuilder()
+            .perlin(perlin)
+            .addSimpleTransformer(new ScaleTransformer(0.5, 0.25, 0.125, 2))
+            .build();
+        assertAll("Is every axis transformed by its own simple transformer method?",
+            () -> assertEquals(perlin.evaluateNoise(0.6), noise.evaluateNoise(1.2)),
+            () -> assertEquals(perlin.evaluateNoise(0.6, 0.85), noise.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(perlin.evaluateNoise(0.6, 0.85, 0.7), noise.evaluateNoise(1.2, 3.4, 5.6)),
+            () -> assertEquals(perlin.evaluateNoise(0.6, 0.85, 0.7, 15.6), noise.evaluateNoise(1.2, 3.4, 5.6, 7.8))
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluation - Compiled Pipeline")
+    public void testCompiledPipeline() {
+        JNoise.JNoiseBuilder<?> builder = JNoise.newBuilder()
+            .perlin(perlin)
+            .scale(0.37)
+            .addDetailedTransformer(DomainWarpTransformer.newBuilder().setNoiseSource(perlin).build())
+            .clamp(-0.5, 0.5)
+            .abs();
+        JNoise noise = builder.build();
+        NoiseSource compiled = builder.compile();
+        assertAll("Does the compiled pipeline evaluate exactly like the built pipeline?",
+            () -> assertEquals(noise.evaluateNoise(1.2, 3.4), compiled.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(noise.evaluateNoise(1.2, 3.4, 5.6), compiled.evaluateNoise(1.2, 3.4, 5.6)),
+            () -> assertEquals(noise.evaluateNoise(1.2, 3.4, 5.6, 7.8), compiled.evaluateNoise(1.2, 3.4, 5.6, 7.8)),
+            () -> {
+                double[] expected = new double[64];
+                double[] actual = new double[64];
+                noise.fill2D(expected, -3.3, 4.4, 0.25, 0.5, 8, 8);
+                compiled.fill2D(actual, -3.3, 4.4, 0.25, 0.5, 8, 8);
+                assertArrayEquals(expected, actual);
+            }
+        );
+        assertNotSame(compiled.getClass(), builder.compile().getClass(), "Every compiled pipeline should have its own class.");
+    }
+
+    @Test
+    @DisplayName("Evaluation - Single Precision Regions")
+    public void testSinglePrecisionRegions() {
+        SuperSimplexNoiseGenerator superSimplex = SuperSimplexNoiseGenerator.newBuilder().setSeed(1729).build();
+        JNoise.JNoiseBuilder<?> plain = JNoise.newBuilder().setNoiseSource(superSimplex);
+        JNoise.JNoiseBuilder<?> modified = JNoise.newBuilder().setNoiseSource(perlin).scale(0.37).clamp(-0.25, 0.25);
+        for (NoiseSource noise : new NoiseSource[]{plain.build(), plain.compile(), modified.build(), modified.compile()}) {
+            float[] actual = new float[9 * 7];
+            noise.fill2D(actual, -3.3, 4.4, 0.25, 0.5, 9, 7);
+            for (int j = 0; j < 7; j++) {
+                for (int i = 0; i < 9; i++) {
+                    assertEquals((float) noise.evaluateNoise(-3.3 + i * 0.25, 4.4 + j * 0.5), actual[i + 9 * j]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Evaluation - Fused Affine Transformers")
+    public void testFusedAffineTransformers() {
+        AffineTransformer scale = AffineTransformer.newBuilder().scale(0.5, 0.25, 0.125, 2).build();
+        AffineTransformer rotation = AffineTransformer.newBuilder().rotate(RotationPlane.XY, Math.PI / 2).translate(1, 2, 3, 4).build();
+        JNoise noise = JNoise.newBuilder()
+            .perlin(perlin)
+            .addDetailedTransformer(scale)
+            .addDetailedTransformer(rotation)
+            .build();
+        // (1.2, 3.4, 5.6, 7.8) is scaled to (0.6, 0.85, 0.7, 15.6), rotated to (-0.85, 0.6, 0.7, 15.6) and then translated.
+        assertAll("Are consecutive affine transformers applied like a single transformer?",
+            () -> assertEquals(perlin.evaluateNoise(0.15, 2.6), noise.evaluateNoise(1.2, 3.4), 1E-10),
+            () -> assertEquals(perlin.evaluateNoise(0.15, 2.6, 3.7), noise.evaluateNoise(1.2, 3.4, 5.6), 1E-10),
+            () -> assertEquals(perlin.evaluateNoise(0.15, 2.6, 3.7, 19.6), noise.evaluateNoise(1.2, 3.4, 5.6, 7.8), 1E-10)
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluation - Octave Footprint")
+    public void testOctaveFootprint() {
+        OctavationModule.OctavationModuleBuilder builder = OctavationModule.newBuilder().setNoiseSource(perlin).setOctaves(8).setIncrementSeed(true);
+        OctavationModule full = builder.build();
+        // Octaves with frequencies 1 and 2 have features of at least 0.3 units, frequency 4 and above are skipped.
+        OctavationModule culled = full.withFootprint(0.3);
+        OctavationModule twoOctaves = builder.setOctaves(2).build();
+        OctavationModule unresolved = full.withFootprint(100);
+        assertAll("Are unresolved octaves skipped and the rest renormalized?",
+            () -> assertEquals(8, full.withFootprint(0.005).getEvaluatedOctaves()),
+            () -> assertEquals(2, culled.getEvaluatedOctaves()),
+            () -> assertEquals(1, unresolved.getEvaluatedOctaves()),
+            () -> assertEquals(full.evaluateNoise(1.2, 3.4), full.withFootprint(0).evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(twoOctaves.evaluateNoise(1.2), culled.evaluateNoise(1.2)),
+            () -> assertEquals(twoOctaves.evaluateNoise(1.2, 3.4), culled.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(twoOctaves.evaluateNoise(1.2, 3.4, 5.6), culled.evaluateNoise(1.2, 3.4, 5.6)),
+            () -> assertEquals(twoOctaves.evaluateNoise(1.2, 3.4, 5.6, 7.8), culled.evaluateNoise(1.2, 3.4, 5.6, 7.8)),
+            () -> assertEquals(perlin.evaluateNoise(1.2, 3.4), unresolved.evaluateNoise(1.2, 3.4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> full.withFootprint(-1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> builder.setFootprint(Double.NaN))
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluation - Bounds")
+    public void testBounds() {
+        JNoise clamped = JNoise.newBuilder().perlin(perlin).clamp(-8, 8).invert().build();
+        ConstantNoiseGenerator control = ConstantNoiseGenerator.newBuilder().setConstant(0.75).build();
+        SelectionModule selection = SelectionModule.newBuilder().setA(perlin).setB(control).setControl(control).setBoundary(0.5).build();
+        CombinationModule sum = CombinationModule.newBuilder().setA(perlin).setB(control).setCombiner(Combiner.ADD).build();
+        OctavationModule octavation = OctavationModule.newBuilder().setNoiseSource(perlin).setOctaves(4).build();
+        assertAll("Are the bounds of every stage propagated through the pipeline?",
+            () -> assertEquals(NoiseBounds.of(-4, 4), perlin.getBounds()),
+            () -> assertEquals(NoiseBounds.of(-4, 4), clamped.getBounds()),
+            () -> assertEquals(-perlin.evaluateNoise(1.2, 3.4), clamped.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(perlin.getBounds(), selection.getBounds()),
+            () -> assertEquals(perlin.evaluateNoise(1.2, 3.4), selection.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(NoiseBounds.of(-3.25, 4.75), sum.getBounds()),
+            () -> assertEquals(perlin.getBounds(), octavation.getBounds()),
+            () -> assertEquals(NoiseBounds.UNBOUNDED, JNoise.newBuilder().worley(WorleyNoiseGenerator.newBuilder().build()).build().getBounds()),
+            () -> assertThrows(IllegalArgumentException.class, () -> NoiseBounds.of(1, 0))
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluation - Decided tiles of selections and blends")
+    public void testDecidedTiles() {
+        int[] evaluations = new int[1];
+        NoiseSource control = counting(JNoise.newBuilder().perlin(perlin).scale(0.05).build(), evaluations);
+        CombinationModule steepControl = CombinationModule.newBuilder()
+            .setA(JNoise.newBuilder().perlin(perlin).scale(0.05).build())
+            .setB(ConstantNoiseGenerator.newBuilder().setConstant(16).build())
+            .setCombiner(Combiner.MULTIPLY)
+            .build();
+        NoiseSource clampedControl = counting(JNoise.newBuilder().setNoiseSource(steepControl).clamp(0, 1).build(), evaluations);
+        SuperSimplexNoiseGenerator simplex = SuperSimplexNoiseGenerator.newBuilder().setSeed(1729).build();
+        SelectionModule selection = SelectionModule.newBuilder().setA(perlin).setB(simplex).setControl(control).setBoundary(0).build();
+        BlendModule blend = BlendModule.newBuilder().setA(perlin).setB(simplex).setControl(clampedControl).build();
+        for (NoiseSource source : new NoiseSource[]{selection, blend}) {
+            double[] out2D = new double[64 * 64];
+            double[] out3D = new double[32 * 32 * 32];
+            evaluations[0] = 0;
+            source.fill2D(out2D, 12.3, -4.5, 0.25, 0.25, 64, 64);
+            source.fill3D(out3D, 12.3, -4.5, 6.7, 0.25, 0.25, 0.25, 32, 32, 32);
+            assertTrue(evaluations[0] < out2D.length + out3D.length);
+            for (int y = 0; y < 64; y++) {
+                for (int x = 0; x < 64; x++) {
+                    assertEquals(source.evaluateNoise(12.3 + x * 0.25, -4.5 + y * 0.25), out2D[y * 64 + x]);
+                }
+            }
+            for (int z = 0; z < 32; z++) {
+                for (int y = 0; y < 32; y++) {
+                    for (int x = 0; x < 32; x++) {
+                        assertEquals(source.evaluateNoise(12.3 + x * 0.25, -4.5 + y * 0.25, 6.7 + z * 0.25), out3D[(z * 32 + y) * 32 + x]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Evaluation - Shared sources")
+    public void testSharedSources() {
+        int[] evaluations = new int[1];
+        NoiseSource shared = counting(perlin, evaluations);
+        SuperSimplexNoiseGenerator simplex = SuperSimplexNoiseGenerator.newBuilder().setSeed(1729).build();
+        BlendModule blend = BlendModule.newBuilder().setA(shared).setB(simplex).setControl(shared).build();
+        CombinationModule sum = CombinationModule.newBuilder().setA(blend).setB(shared).setCombiner(Combiner.ADD).build();
+        OctavationModule octavation = OctavationModule.newBuilder().setNoiseSource(perlin).setOctaves(3).setIncrementSeed(true).build();
+        CombinationModule seeded = CombinationModule.newBuilder().setA(octavation).setB(perlin).setCombiner(Combiner.MAX).build();
+        JNoise noise = JNoise.newBuilder().setNoiseSource(sum).build();
+        NoiseSource compiled = JNoise.newBuilder().setNoiseSource(sum).compile();
+        JNoise seededNoise = JNoise.newBuilder().setNoiseSource(seeded).build();
+        evaluations[0] = 0;
+        double expected = sum.evaluateNoise(1.2, 3.4, 5.6);
+        assertEquals(3, evaluations[0]);
+        evaluations[0] = 0;
+        assertEquals(expected, noise.evaluateNoise(1.2, 3.4, 5.6));
+        assertEquals(1, evaluations[0]);
+        evaluations[0] = 0;
+        assertEquals(expected, compiled.evaluateNoise(1.2, 3.4, 5.6));
+        assertEquals(1, evaluations[0]);
+        // The warp evaluates its source at other coordinates, so only the operands of the combination are shared.
+        CombinationModule twice = CombinationModule.newBuilder().setA(shared).setB(shared).setCombiner(Combiner.MULTIPLY).build();
+        DomainWarpTransformer warp = DomainWarpTransformer.newBuilder().setNoiseSource(shared).build();
+        JNoise warpOnly = JNoise.newBuilder().setNoiseSource(perlin).addDetailedTransformer(warp).build();
+        JNoise warped = JNoise.newBuilder().setNoiseSource(twice).addDetailedTransformer(warp).build();
+        evaluations[0] = 0;
+        warpOnly.evaluateNoise(1.2, 3.4, 5.6);
+        int warpEvaluations = evaluations[0];
+        evaluations[0] = 0;
+        warped.evaluateNoise(1.2, 3.4, 5.6);
+        assertEquals(warpEvaluations + 1, evaluations[0]);
+        assertAll("Do shared sources evaluate exactly like the original graph?",
+            () -> assertEquals(sum.evaluateNoise(-0.0, 3.4), noise.evaluateNoise(-0.0, 3.4)),
+            () -> assertEquals(sum.evaluateNoise(0.0, 3.4), noise.evaluateNoise(0.0, 3.4)),
+            () -> assertEquals(seeded.evaluateNoise(1.2, 3.4), seededNoise.evaluateNoise(1.2, 3.4)),
+            () -> assertEquals(seeded.getBounds(), seededNoise.getBounds())
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluation - Upsampled coarse cells")
+    public void testUpsampling() {
+        int[] evaluations = new int[1];
+        NoiseSource density = counting(JNoise.newBuilder().perlin(perlin).scale(1.0 / 64).build(), evaluations);
+        UpsamplingModule upsampled = UpsamplingModule.newBuilder().setNoiseSource(density).setCellSize(4, 8, 4).build();
+        double[] out2D = new double[16 * 16];
+        double[] out3D = new double[16 * 64 * 16];
+        upsampled.fill2D(out2D, -8, 3, 1, 1, 16, 16);
+        evaluations[0] = 0;
+        upsampled.fill3D(out3D, -8, 3, 32, 1, 1, 1, 16, 64, 16);
+        assertEquals(5 * 10 * 5, evaluations[0]);
+        NoiseBounds bounds = upsampled.getBounds3D(-8, 3, 32, 7, 66, 47);
+        for (int z = 0; z < 16; z++) {
+            for (int y = 0; y < 64; y++) {
+                for (int x = 0; x < 16; x++) {
+                    double value = out3D[(z * 64 + y) * 16 + x];
+                    assertEquals(upsampled.evaluateNoise(-8 + x, 3 + y, 32 + z), value);
+                    assertTrue(bounds.contains(value));
+                }
+            }
+        }
+        for (int y = 0; y < 16; y++) {
+            for (int x = 0; x < 16; x++) {
+                assertEquals(upsampled.evaluateNoise(-8 + x, 3 + y), out2D[y * 16 + x]);
+            }
+        }
+        assertAll("Do upsampled values match the source at the corners of the cells?",
+            () -> assertEquals(density.evaluateNoise(-8, 8), upsampled.evaluateNoise(-8, 8)),
+            () -> assertEquals(density.evaluateNoise(-8, 8, 32), upsampled.evaluateNoise(-8, 8, 32)),
+            () -> assertEquals(density.evaluateNoise(1.5, 2.5, 3.5, 4.5), upsampled.evaluateNoise(1.5, 2.5, 3.5, 4.5)),
+            () -> assertThrows(IllegalArgumentException.class, () -> UpsamplingModule.newBuilder().setNoiseSource(perlin).setCellSize(0).build())
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluation - Derivatives")
+    public void testDerivatives() {
+        JNoiseDetailed<DerivativeNoiseResult> terrain = JNoise.newBuilder()
+            .octavation(PerlinNoiseGenerator.newBuilder().setSeed(1729).build(), 5, 0.5, 2, FractalFunction.FBM, true)
+            .scale(0.01)
+            .buildDetailed();
+        double step = 1E-4;
+        for (int x = -50; x < 50; x += 7) {
+            for (int y = -50; y < 50; y += 7) {
+                double sampleX = x + 0.25;
+                double sampleY = y + 0.5;
+                DerivativeNoiseResult result = terrain.evaluateNoiseResult(sampleX, sampleY);
+                assertEquals(terrain.evaluateNoise(sampleX, sampleY), result.getValue());
+                assertEquals((terrain.evaluateNoise(sampleX + step, sampleY) - terrain.evaluateNoise(sampleX - step, sampleY)) / (2 * step), result.getDerivatives()[0], 1E-6);
+                assertEquals((terrain.evaluateNoise(sampleX, sampleY + step) - terrain.evaluateNoise(sampleX, sampleY - step)) / (2 * step), result.getDerivatives()[1], 1E-6);
+            }
+        }
+        DerivativeNoiseResult warped = JNoise.newBuilder()
+            .perlin(PerlinNoiseGenerator.newBuilder().setSeed(1729))
+            .addDetailedTransformer(DomainWarpTransformer.newBuilder().setNoiseSource(perlin).build())
+            .buildDetailed()
+            .evaluateNoiseResult(0.25, 0.5);
+        assertTrue(Double.isNaN(warped.getDerivatives()[0]));
+        assertThrows(IllegalArgumentException.class, () -> OctavationModule.newBuilder()
+            .setNoiseSource(ConstantNoiseGenerator.newBuilder().setConstant(1).build())
+            .build()
+            .evaluateNoiseResult(0.25, 0.5));
+    }
+
+    @Test
+    @DisplayName("Evaluation - Derivatives through modifiers and affine transformers")
+    public void testModifiedDerivatives() {
+        AffineTransformer rotation = AffineTransformer.newBuilder().rotate(RotationPlane.XY, 0.5).rotate(RotationPlane.XZ, 0.3).build();
+        AffineTransformer shear = AffineTransformer.newBuilder().scale(0.5, 2, 1.5, 1).translate(0.25, 0.5, 0.75, 1).build();
+        List<JNoiseDetailed<DerivativeNoiseResult>> pipelines = List.of(
+            JNoise.newBuilder().perlin(perlin).scale(0.05).invert().buildDetailed(),
+            JNoise.newBuilder().perlin(perlin).scale(0.05).abs().buildDetailed(),
+            JNoise.newBuilder().perlin(perlin).scale(0.05).clamp(-0.2, 0.2).invert().buildDetailed(),
+            JNoise.newBuilder().perlin(perlin).scale(0.05).addDetailedTransformer(rotation).buildDetailed(),
+            JNoise.newBuilder().perlin(perlin).addDetailedTransformer(rotation).addDetailedTransformer(shear).scale(0.05).abs().buildDetailed()
+        );
+        double step = 1E-5;
+        for (JNoiseDetailed<DerivativeNoiseResult> noise : pipelines) {
+            for (int i = 0; i < 64; i++) {
+                double x = i * 1.37 - 40;
+                double y = i * 0.71 + 3;
+                double z = 20 - i * 0.53;
+                DerivativeNoiseResult result2D = noise.evaluateNoiseResult(x, y);
+                DerivativeNoiseResult result3D = noise.evaluateNoiseResult(x, y, z);
+                assertEquals(noise.evaluateNoise(x, y), result2D.getValue());
+                assertEquals(noise.evaluateNoise(x, y, z), result3D.getValue());
+                assertDerivative(noise.evaluateNoise(x - step, y), result2D.getValue(), noise.evaluateNoise(x + step, y), step, result2D.getDerivatives()[0]);
+                assertDerivative(noise.evaluateNoise(x, y - step), result2D.getValue(), noise.evaluateNoise(x, y + step), step, result2D.getDerivatives()[1]);
+                assertDerivative(noise.evaluateNoise(x - step, y, z), result3D.getValue(), noise.evaluateNoise(x + step, y, z), step, result3D.getDerivatives()[0]);
+                assertDerivative(noise.evaluateNoise(x, y - step, z), result3D.getValue(), noise.evaluateNoise(x, y + step, z), step, result3D.getDerivatives()[1]);
+                assertDerivative(noise.evaluateNoise(x, y, z - step), result3D.getValue(), noise.evaluateNoise(x, y, z + step), step, result3D.getDerivatives()[2]);
+            }
+        }
+    }
+
+    // Compares a partial derivative with the central difference, unless the sample lies on a kink of a modifier.
+    private static void assertDerivative(double before, double value, double after, double step, double derivative) {
+        double backward = (value - before) / step;
+        double forward = (after - value) / step;
+        if (Math.abs(forward - backward) < 1E-3) {
+            assertEquals((after - before) / (2 * step), derivative, 1E-5);
+        }
+    }
+
+    private static NoiseSource counting(NoiseSource source, int[] evaluations) {
+        return new NoiseSource() {
+            @Override
+            public double evaluateNoise(double x) {
+                evaluations[0]++;
+                return source.evaluateNoise(x);
+            }
+
+            @Override
+            public double evaluateNoise(double x, double y) {
+                evaluations[0]++;
+                return source.evaluateNoise(x, y);
+            }
+
+            @Override
+            public double evaluateNoise(double x, double y, double z) {
+                evaluations[0]++;
+                return source.evaluateNoise(x, y, z);
+            }
+
+            @Override
+            public double evaluateNoise(double x, double y, double z, double w) {
+                evaluations[0]++;
+                return source.evaluateNoise(x, y, z, w);
+            }
+
+            @Override
+            public NoiseBounds getBounds() {
+                return source.getBounds();
+            }
+
+            @Override
+            public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+                return source.getBounds2D(minX, minY, maxX, maxY);
+            }
+
+            @Override
+            public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+                return source.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+            }
+        };
+    }
+}
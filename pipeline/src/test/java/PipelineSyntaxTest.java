@@ -1,6 +1,7 @@
 import de.articdive.jnoise.core.api.functions.Interpolation;
 import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
 import de.articdive.jnoise.generators.noisegen.worley.WorleyNoiseGenerator;
+import de.articdive.jnoise.modules.octavation.fractal_functions.FractalFunction;
 import de.articdive.jnoise.pipeline.JNoise;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +15,12 @@ public class PipelineSyntaxTest {
     @DisplayName("Syntax - Return Types")
     public void testSyntaxReturnTypes() {
         assertAll("Is the JNoiseBuilder returning the correct types for the chaining syntax?",
-            () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().perlin(1729, Interpolation.LINEAR, FadeFunction.QUINTIC_POLY).buildDetailed()),
-            () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().value(1729, Interpolation.LINEAR, FadeFunction.QUINTIC_POLY).buildDetailed()),
+            () -> assertDoesNotThrow(() -> JNoise.newBuilder().perlin(1729, Interpolation.LINEAR, FadeFunction.QUINTIC_POLY).buildDetailed()),
+            () -> assertDoesNotThrow(() -> JNoise.newBuilder().value(1729, Interpolation.LINEAR, FadeFunction.QUINTIC_POLY).buildDetailed()),
             () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().constant(1729).buildDetailed()),
             () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().white(1729).buildDetailed()),
+            () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().white(1729).octavate(4, 0.5, 2, FractalFunction.FBM, false).buildDetailed()),
+            () -> assertDoesNotThrow(() -> JNoise.newBuilder().perlin(1729, Interpolation.LINEAR, FadeFunction.QUINTIC_POLY).octavate(4, 0.5, 2, FractalFunction.FBM, true).buildDetailed()),
             () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().build()),
             () -> assertThrows(IllegalArgumentException.class, () -> JNoise.newBuilder().buildDetailed()),
             () -> assertDoesNotThrow(() -> JNoise.newBuilder().worley(WorleyNoiseGenerator.newBuilder().build()).buildDetailed()),
@@ -0,0 +1,62 @@
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.pipeline.JNoise;
+import de.articdive.jnoise.pipeline.RegionGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RegionGeneratorTest {
+    private final JNoise noise = JNoise.newBuilder()
+        .perlin(PerlinNoiseGenerator.newBuilder().setSeed(1729))
+        .clamp(-0.3, 0.3)
+        .build();
+
+    @Test
+    @DisplayName("Region Generator - Matches Bulk Evaluation")
+    public void testMatchesBulkEvaluation() {
+        RegionGenerator generator = RegionGenerator.newBuilder().setNoiseSource(noise).setTileSize(8).build();
+        // Power of two spacings make the tile origins exact, so the tiles match a single bulk evaluation.
+        double[] expected2D = new double[37 * 29];
+        noise.fill2D(expected2D, 0.5, -3.25, 0.25, 0.125, 37, 29);
+        assertArrayEquals(expected2D, generator.generate2D(0.5, -3.25, 0.25, 0.125, 37, 29));
+
+        double[] expected3D = new double[19 * 11 * 10];
+        noise.fill3D(expected3D, 0.5, -3.25, 7, 0.25, 0.125, 0.5, 19, 11, 10);
+        assertArrayEquals(expected3D, generator.generate3D(0.5, -3.25, 7, 0.25, 0.125, 0.5, 19, 11, 10));
+
+        float[] floats = generator.generateFloat2D(0.5, -3.25, 0.25, 0.125, 37, 29);
+        for (int i = 0; i < floats.length; i++) {
+            assertEquals((float) expected2D[i], floats[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Region Generator - Deterministic Across Thread Counts")
+    public void testDeterministic() {
+        double[] reference = RegionGenerator.newBuilder().setNoiseSource(noise).setParallelism(1).build()
+            .generate3D(0.1, 0.2, 0.3, 0.013, 0.07, 0.11, 53, 47, 19);
+        for (int threads : new int[]{2, 3, 8}) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                RegionGenerator generator = RegionGenerator.newBuilder().setNoiseSource(noise).setExecutor(executor).build();
+                assertArrayEquals(reference, generator.generate3D(0.1, 0.2, 0.3, 0.013, 0.07, 0.11, 53, 47, 19));
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Region Generator - Invalid Regions")
+    public void testInvalidRegions() {
+        RegionGenerator generator = RegionGenerator.newBuilder().setNoiseSource(noise).build();
+        assertThrows(IllegalArgumentException.class, () -> generator.fill2D(new double[10], 0, 0, 1, 1, 4, 4));
+        assertThrows(IllegalArgumentException.class, () -> RegionGenerator.newBuilder().setNoiseSource(noise).setTileSize(0).build());
+    }
+}
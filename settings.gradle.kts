@@ -21,3 +21,6 @@ include("generators")
 include("modules")
 include("modifiers")
 include("pipeline")
+include("simd")
+include("persistence")
+include("benchmarks")
@@ -0,0 +1,22 @@
+plugins {
+    id("jnoise.publishing-conventions")
+}
+
+dependencies {
+    api(project(":generators"))
+}
+
+// The Vector API is still incubating in Java 17, so it has to be added explicitly wherever this module is used.
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks {
+    withType<JavaCompile> {
+        options.compilerArgs.addAll(vectorModule)
+    }
+    withType<Test> {
+        jvmArgs(vectorModule)
+    }
+    withType<Javadoc> {
+        (options as StandardJavadocDocletOptions).addStringOption("-add-modules", "jdk.incubator.vector")
+    }
+}
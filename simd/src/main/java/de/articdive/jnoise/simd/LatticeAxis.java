@@ -0,0 +1,56 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import org.jspecify.annotations.NullMarked;
+
+import static de.articdive.jnoise.core.util.HashUtil.X_PRIME;
+import static de.articdive.jnoise.simd.VectorSupport.LANES;
+
+/**
+ * Relative positions, fade values and hashes of the samples along the X axis, which are shared by every row of a region.
+ * All arrays are padded to a multiple of {@link VectorSupport#LANES}.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class LatticeAxis {
+    /**
+     * Positions relative to the lower lattice point, {@code x - floor(x)}.
+     */
+    final double[] relative;
+    /**
+     * Positions relative to the upper lattice point, {@code x - floor(x) - 1}.
+     */
+    final double[] relative1;
+    final double[] fades;
+    /**
+     * {@code X_PRIME * floor(x)} in the lower halves, see {@link VectorSupport#cells}.
+     */
+    final long[] hashes0;
+    /**
+     * {@code X_PRIME * (floor(x) + 1)} in the lower halves, see {@link VectorSupport#cells}.
+     */
+    final long[] hashes1;
+
+    LatticeAxis(double start, double step, int count, FadeFunction fadeFunction) {
+        int padded = VectorSupport.padded(count);
+        this.relative = new double[padded];
+        this.relative1 = new double[padded];
+        this.fades = new double[padded];
+        this.hashes0 = new long[padded];
+        this.hashes1 = new long[padded];
+        for (int i = 0; i < padded; i += LANES) {
+            DoubleVector coordinates = VectorSupport.coordinates(start, step, i);
+            DoubleVector floors = VectorSupport.floor(coordinates);
+            DoubleVector x = coordinates.sub(floors);
+            x.intoArray(relative, i);
+            x.sub(1).intoArray(relative1, i);
+            VectorSupport.fade(fadeFunction, x).intoArray(fades, i);
+            IntVector cells = VectorSupport.cells(floors);
+            cells.mul(X_PRIME).reinterpretAsLongs().intoArray(hashes0, i);
+            cells.add(1).mul(X_PRIME).reinterpretAsLongs().intoArray(hashes1, i);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import org.jspecify.annotations.NullMarked;
+
+import static de.articdive.jnoise.simd.VectorSupport.DOUBLES;
+import static de.articdive.jnoise.simd.VectorSupport.FLOATS;
+import static de.articdive.jnoise.simd.VectorSupport.INTS;
+import static de.articdive.jnoise.simd.VectorSupport.LANES;
+import static de.articdive.jnoise.simd.VectorSupport.LONGS;
+
+/**
+ * Lattice positions of a row of samples of the OpenSimplex2 generators and the noise values accumulated for them.
+ * The generators evaluate the vertices one at a time, computing the relative positions, falloffs and hashes of a vertex
+ * for the whole row before accumulating its contributions.
+ * The scalar generators skip vertices that do not contribute to a sample, which branches unpredictably,
+ * instead every vertex is evaluated and masked here.
+ * All arrays are padded to a multiple of {@link VectorSupport#LANES}.
+ * <p>
+ * Like the scalar generators, the lattice is evaluated with floats after skewing or rotating the coordinates with doubles.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class SimplexRow {
+    static final long PRIME_X = 0x5205402B9270C86FL;
+    static final long PRIME_Y = 0x598CD327003817B5L;
+    static final long PRIME_Z = 0x5BCC226E9FA0BACBL;
+    static final long SEED_FLIP_3D = -0x52D547B2E96ED629L;
+    static final double UNSKEW_2D = -0.21132486540518713;
+
+    private static final long HASH_MULTIPLIER = 0x53A3F72DEEC546F5L;
+    private static final double ROOT2OVER2 = 0.7071067811865476;
+    private static final double SKEW_2D = 0.366025403784439;
+    private static final double ROOT3OVER3 = 0.577350269189626;
+    private static final double FALLBACK_ROTATE_3D = 2.0 / 3.0;
+    private static final double ROTATE_3D_ORTHOGONALIZER = UNSKEW_2D;
+    // Skewing and rotating at most triples the coordinates, which must stay within the range of an int.
+    private static final double MAX_LATTICE_COORDINATE = 0x1p29;
+
+    /**
+     * Coordinates of the samples along the X axis.
+     */
+    final double[] coordinates;
+    /**
+     * Skewed or rotated coordinates of the samples.
+     */
+    private final double[] latticeX;
+    private final double[] latticeY;
+    private final double[] latticeZ;
+    /**
+     * Lattice points multiplied by the primes of their axis, like {@code xsb * PRIME_X}.
+     */
+    final long[] primesX;
+    final long[] primesY;
+    final long[] primesZ;
+    /**
+     * Positions relative to the lattice points, like {@code (float) (xs - xsb)}.
+     */
+    final float[] relativeX;
+    final float[] relativeY;
+    final float[] relativeZ;
+    /**
+     * Positions of the samples relative to the vertex that is evaluated.
+     */
+    final float[] vertexX;
+    final float[] vertexY;
+    final float[] vertexZ;
+    /**
+     * Falloffs of the vertex that is evaluated, {@code RSQUARED - dx * dx - dy * dy - dz * dz}.
+     */
+    final float[] falloffs;
+    /**
+     * Signs of the vertex that is evaluated, which the generators may store to derive further vertices from it.
+     * The passes of the generators store the vertices directly, the JIT compiler may give up on inlining helpers into them.
+     */
+    final float[] signX;
+    final float[] signY;
+    final float[] signZ;
+    /**
+     * Steps from the lattice points of the samples to the one of the vertex that is evaluated, between -1 and 2.
+     */
+    final float[] stepX;
+    final float[] stepY;
+    final float[] stepZ;
+    /**
+     * Gradients of the vertex that is evaluated.
+     */
+    private final int[] indices;
+    private final float[] gradientX;
+    private final float[] gradientY;
+    private final float[] gradientZ;
+    /**
+     * Noise values accumulated by the vertices.
+     */
+    final float[] value;
+    private final double[] result;
+
+    SimplexRow(double start, double step, int count) {
+        int padded = VectorSupport.padded(count);
+        this.coordinates = new double[padded];
+        this.latticeX = new double[padded];
+        this.latticeY = new double[padded];
+        this.latticeZ = new double[padded];
+        this.primesX = new long[padded];
+        this.primesY = new long[padded];
+        this.primesZ = new long[padded];
+        this.relativeX = new float[padded];
+        this.relativeY = new float[padded];
+        this.relativeZ = new float[padded];
+        this.vertexX = new float[padded];
+        this.vertexY = new float[padded];
+        this.vertexZ = new float[padded];
+        this.falloffs = new float[padded];
+        this.signX = new float[padded];
+        this.signY = new float[padded];
+        this.signZ = new float[padded];
+        this.stepX = new float[padded];
+        this.stepY = new float[padded];
+        this.stepZ = new float[padded];
+        this.indices = new int[padded];
+        this.gradientX = new float[padded];
+        this.gradientY = new float[padded];
+        this.gradientZ = new float[padded];
+        this.value = new float[padded];
+        this.result = new double[padded];
+        for (int i = 0; i < padded; i += LANES) {
+            VectorSupport.coordinates(start, step, i).intoArray(coordinates, i);
+        }
+    }
+
+    /**
+     * Checks whether the lattice points of an axis can be computed like the scalar generators, this is false for NaN as well.
+     */
+    static boolean fitsLattice(double start, double step, int count) {
+        return Math.abs(start) < MAX_LATTICE_COORDINATE && Math.abs(start + (count - 1) * step) < MAX_LATTICE_COORDINATE;
+    }
+
+    /**
+     * Skews the samples onto the 2D simplex lattice and finds the lattice points below them.
+     */
+    void skew2D(Simplex2DVariant variant, double y) {
+        for (int i = 0; i < coordinates.length; i += LANES) {
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, coordinates, i);
+            DoubleVector xs;
+            DoubleVector ys;
+            if (variant == Simplex2DVariant.IMPROVE_X) {
+                // Skew transform and rotation baked into one.
+                DoubleVector xx = x.mul(ROOT2OVER2);
+                double yy = y * (ROOT2OVER2 * (1 + 2 * SKEW_2D));
+                xs = xx.add(yy);
+                ys = xx.neg().add(yy);
+            } else {
+                DoubleVector s = x.add(y).mul(SKEW_2D);
+                xs = x.add(s);
+                ys = s.add(y);
+            }
+            xs.intoArray(latticeX, i);
+            ys.intoArray(latticeY, i);
+        }
+        // The axes share a single call site, the JIT compiler gives up on inlining the pass repeatedly.
+        for (int axis = 0; axis < 2; axis++) {
+            lattice(axis, false);
+        }
+    }
+
+    /**
+     * Rotates the samples onto the 3D lattice and finds the lattice points below them or, if round is set, closest to them.
+     */
+    void rotate3D(Simplex3DVariant variant, double y, double z, boolean round) {
+        for (int i = 0; i < coordinates.length; i += LANES) {
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, coordinates, i);
+            DoubleVector xr;
+            DoubleVector yr;
+            DoubleVector zr;
+            if (variant == Simplex3DVariant.IMPROVE_XY) {
+                DoubleVector xy = x.add(y);
+                DoubleVector s2 = xy.mul(ROTATE_3D_ORTHOGONALIZER);
+                double zz = z * ROOT3OVER3;
+                xr = x.add(s2).add(zz);
+                yr = s2.add(y).add(zz);
+                zr = xy.mul(-ROOT3OVER3).add(zz);
+            } else if (variant == Simplex3DVariant.IMPROVE_XZ) {
+                DoubleVector xz = x.add(z);
+                DoubleVector s2 = xz.mul(ROTATE_3D_ORTHOGONALIZER);
+                double yy = y * ROOT3OVER3;
+                xr = x.add(s2).add(yy);
+                zr = s2.add(z).add(yy);
+                yr = xz.mul(-ROOT3OVER3).add(yy);
+            } else {
+                DoubleVector r = x.add(y).add(z).mul(FALLBACK_ROTATE_3D);
+                xr = r.sub(x);
+                yr = r.sub(y);
+                zr = r.sub(z);
+            }
+            xr.intoArray(latticeX, i);
+            yr.intoArray(latticeY, i);
+            zr.intoArray(latticeZ, i);
+        }
+        for (int axis = 0; axis < 3; axis++) {
+            lattice(axis, round);
+        }
+    }
+
+    /**
+     * Finds the lattice points of an axis and the positions relative to them.
+     */
+    private void lattice(int axis, boolean round) {
+        double[] positions = axis == 0 ? latticeX : axis == 1 ? latticeY : latticeZ;
+        long[] primes = axis == 0 ? primesX : axis == 1 ? primesY : primesZ;
+        float[] relative = axis == 0 ? relativeX : axis == 1 ? relativeY : relativeZ;
+        long prime = axis == 0 ? PRIME_X : axis == 1 ? PRIME_Y : PRIME_Z;
+        for (int i = 0; i < positions.length; i += LANES) {
+            DoubleVector position = DoubleVector.fromArray(DOUBLES, positions, i);
+            DoubleVector base = round ? round(position) : VectorSupport.floor(position);
+            VectorSupport.toLongs(base).mul(prime).intoArray(primes, i);
+            VectorSupport.toFloats(position.sub(base)).intoArray(relative, i);
+        }
+    }
+
+    /**
+     * Evaluates the passes of a row one after another.
+     */
+    void evaluate(Pass[] passes, double y, double z) {
+        for (Pass pass : passes) {
+            pass.evaluate(this, y, z);
+        }
+    }
+
+    /**
+     * Converts the accumulated noise values to doubles and copies them to the output.
+     */
+    void store(double[] out, int offset, int count) {
+        for (int i = 0; i < value.length; i += LANES) {
+            VectorSupport.toDoubles(FloatVector.fromArray(FLOATS, value, i)).intoArray(result, i);
+        }
+        System.arraycopy(result, 0, out, offset, count);
+    }
+
+    /**
+     * Copies the accumulated noise values to a single precision output.
+     */
+    void store(float[] out, int offset, int count) {
+        System.arraycopy(value, 0, out, offset, count);
+    }
+
+    /**
+     * Hashes the lattice points of the 2D vertex that is evaluated and looks up their gradients, see {@link #gradients3D}.
+     */
+    void gradients2D(float[] gradients, long seed) {
+        for (int i = 0; i < value.length; i += LANES) {
+            LongVector xsvp = lattice(primesX, stepX, PRIME_X, i);
+            LongVector ysvp = lattice(primesY, stepY, PRIME_Y, i);
+            // N_GRADS_2D_EXPONENT = 7, gradients have two components.
+            gradientIndices(i, xsvp.lanewise(VectorOperators.XOR, ysvp).lanewise(VectorOperators.XOR, seed), 0xFE);
+        }
+        for (int i = 0; i < value.length; i++) {
+            int gi = indices[i];
+            gradientX[i] = gradients[gi];
+            gradientY[i] = gradients[gi | 1];
+        }
+    }
+
+    /**
+     * Hashes the lattice points of the vertex that is evaluated and looks up their gradients.
+     * The gradients are looked up one at a time, as gathers are not intrinsic in the Vector API of Java 17.
+     */
+    void gradients3D(float[] gradients, long seed) {
+        for (int i = 0; i < value.length; i += LANES) {
+            LongVector xrvp = lattice(primesX, stepX, PRIME_X, i);
+            LongVector yrvp = lattice(primesY, stepY, PRIME_Y, i);
+            LongVector zrvp = lattice(primesZ, stepZ, PRIME_Z, i);
+            // N_GRADS_3D_EXPONENT = 8, gradients are padded to four components.
+            gradientIndices(i, xrvp.lanewise(VectorOperators.XOR, yrvp).lanewise(VectorOperators.XOR, zrvp).lanewise(VectorOperators.XOR, seed), 0x3FC);
+        }
+        for (int i = 0; i < value.length; i++) {
+            int gi = indices[i];
+            gradientX[i] = gradients[gi];
+            gradientY[i] = gradients[gi | 1];
+            gradientZ[i] = gradients[gi | 2];
+        }
+    }
+
+    /**
+     * Adds the contributions of the 2D vertex that is evaluated to the noise values, see {@link #accumulate3D}.
+     */
+    void accumulate2D(boolean first, boolean masked) {
+        for (int i = 0; i < value.length; i += LANES) {
+            FloatVector dot = FloatVector.fromArray(FLOATS, gradientX, i).mul(FloatVector.fromArray(FLOATS, vertexX, i))
+                .add(FloatVector.fromArray(FLOATS, gradientY, i).mul(FloatVector.fromArray(FLOATS, vertexY, i)));
+            accumulate(i, FloatVector.fromArray(FLOATS, falloffs, i), dot, first, masked);
+        }
+    }
+
+    /**
+     * Adds the contributions of the vertex that is evaluated to the noise values, {@code (a * a) * (a * a) * dot}.
+     * Vertices that do not always contribute are masked by their falloff {@code a > 0}, the first vertex initializes the noise values.
+     */
+    void accumulate3D(boolean first, boolean masked) {
+        for (int i = 0; i < value.length; i += LANES) {
+            FloatVector dot = FloatVector.fromArray(FLOATS, gradientX, i).mul(FloatVector.fromArray(FLOATS, vertexX, i))
+                .add(FloatVector.fromArray(FLOATS, gradientY, i).mul(FloatVector.fromArray(FLOATS, vertexY, i)))
+                .add(FloatVector.fromArray(FLOATS, gradientZ, i).mul(FloatVector.fromArray(FLOATS, vertexZ, i)));
+            accumulate(i, FloatVector.fromArray(FLOATS, falloffs, i), dot, first, masked);
+        }
+    }
+
+    private void accumulate(int i, FloatVector a, FloatVector dot, boolean first, boolean masked) {
+        FloatVector square = a.mul(a);
+        FloatVector contribution = square.mul(square).mul(dot);
+        FloatVector value = first ? FloatVector.zero(FLOATS) : FloatVector.fromArray(FLOATS, this.value, i);
+        if (masked) {
+            // Assigning the first contribution would keep its sign if it is zero, which adding it to 0 does not.
+            value = value.blend(first ? contribution : value.add(contribution), a.compare(VectorOperators.GT, 0));
+        } else {
+            value = first ? contribution : value.add(contribution);
+        }
+        value.intoArray(this.value, i);
+    }
+
+    /**
+     * Computes the lattice points of the vertex that is evaluated multiplied by the prime of an axis, like {@code xsbp + PRIME_X}.
+     */
+    private static LongVector lattice(long[] primes, float[] steps, long prime, int i) {
+        return LongVector.fromArray(LONGS, primes, i).add(VectorSupport.toLongs(VectorSupport.toInts(FloatVector.fromArray(FLOATS, steps, i))).mul(prime));
+    }
+
+    private void gradientIndices(int i, LongVector hash, int mask) {
+        LongVector mixed = hash.mul(HASH_MULTIPLIER);
+        mixed = mixed.lanewise(VectorOperators.XOR, mixed.lanewise(VectorOperators.ASHR, 58));
+        ((IntVector) mixed.convertShape(VectorOperators.L2I, INTS, 0)).and(mask).intoArray(indices, i);
+    }
+
+    /**
+     * Rounds coordinates below 2^51 to the closest integer, with ties away from zero.
+     */
+    private static DoubleVector round(DoubleVector coordinates) {
+        // x < 0 ? (int) (x - 0.5) : (int) (x + 0.5), the casts truncate negative values towards zero.
+        DoubleVector up = VectorSupport.floor(coordinates.add(0.5));
+        DoubleVector down = VectorSupport.floor(coordinates.neg().add(0.5)).neg();
+        return up.blend(down, coordinates.compare(VectorOperators.LT, 0));
+    }
+
+    /**
+     * A pass over the samples of a row.
+     * The passes of a generator are different classes invoked from a single call site,
+     * so the JIT compiler compiles each of them on its own instead of inlining them into one loop,
+     * which exceeds its node budget and boxes the vectors of partially inlined passes.
+     */
+    @FunctionalInterface
+    interface Pass {
+        void evaluate(SimplexRow row, double y, double z);
+    }
+}
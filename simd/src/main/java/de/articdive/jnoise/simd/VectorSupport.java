@@ -0,0 +1,253 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Lane-wise building blocks shared by the vectorized generators.
+ * Every operation performs exactly the same floating point operations in the same order as its scalar counterpart,
+ * so the vectorized generators produce results identical to the scalar generators.
+ * <p>
+ * The Vector API of Java 17 neither has a floor operation nor intrinsic conversions between doubles and ints,
+ * so unit cells and hashes are derived from the bits of doubles, whose lanes have the same size as longs.
+ * Hashes are computed with 32-bit arithmetic in the lower half of each 64-bit lane.
+ *
+ * @author Articdive
+ */
+@NullMarked
+final class VectorSupport {
+    /**
+     * Species of the coordinates and noise values, the widest one supported by the CPU.
+     */
+    static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    /**
+     * Species of the hashes, with as many lanes as {@link #DOUBLES}.
+     */
+    static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    /**
+     * Amount of samples evaluated at once.
+     */
+    static final int LANES = DOUBLES.length();
+    /**
+     * Species of single precision values, with as many lanes as {@link #DOUBLES}.
+     */
+    static final VectorSpecies<Float> FLOATS = VectorSpecies.of(float.class, VectorShape.forBitSize(LANES * Float.SIZE));
+    /**
+     * Species of ints with as many lanes as {@link #DOUBLES}, with the same shape as {@link #FLOATS}.
+     */
+    static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LANES * Integer.SIZE));
+    /**
+     * Whether the CPU is wide enough to evaluate more than one sample at once.
+     */
+    static final boolean AVAILABLE = LANES >= 2 && LONGS.length() == LANES;
+    /**
+     * Bits of 1.0, the gradients are assembled from these and the sign bit.
+     */
+    static final long ONE_BITS = 0x3FF0000000000000L;
+    /**
+     * Sign bit of a double.
+     */
+    static final long SIGN_BIT = 0x8000000000000000L;
+
+    private static final DoubleVector IOTA = DoubleVector.zero(DOUBLES).addIndex(1);
+    // Adding 1.5 * 2^52 rounds coordinates below 2^51 to integers, which end up in the lower bits of the mantissa.
+    private static final double ROUNDING = 0x1.8p52;
+    private static final long ROUNDING_BITS = Double.doubleToRawLongBits(ROUNDING);
+    private static final double MAX_CELL_COORDINATE = 0x1p51;
+    // Adding 1.5 * 2^23 rounds small floats to integers in the same way.
+    private static final float FLOAT_ROUNDING = 0x1.8p23f;
+    private static final int FLOAT_ROUNDING_BITS = Float.floatToRawIntBits(FLOAT_ROUNDING);
+    // 2^52 + 2^31 has the bits 0x4330000080000000, ints are converted by placing them in the lower mantissa bits.
+    private static final long INT_CONVERSION_BITS = 0x4330000080000000L;
+    private static final double INT_CONVERSION = 0x1.000008p52;
+
+    private VectorSupport() {
+
+    }
+
+    /**
+     * Checks whether the vectorized generators can reproduce a configuration of a scalar generator.
+     * Only linear interpolation and polynomial fades are vectorized, trigonometric ones are not rounded like {@link Math}.
+     *
+     * @param interpolation {@link Interpolation} of the scalar generator.
+     * @param fadeFunction  {@link FadeFunction} of the scalar generator.
+     * @return true if the configuration can be vectorized.
+     */
+    static boolean isSupported(Interpolation interpolation, FadeFunction fadeFunction) {
+        return AVAILABLE && interpolation == Interpolation.LINEAR && (fadeFunction == FadeFunction.NONE
+            || fadeFunction == FadeFunction.CUBIC_POLY
+            || fadeFunction == FadeFunction.SQUARTIC_POLY
+            || fadeFunction == FadeFunction.QUINTIC_POLY);
+    }
+
+    /**
+     * Checks whether the unit cells of an axis can be computed by {@link #floor}, this is false for NaN as well.
+     */
+    static boolean fitsCells(double start, double step, int count) {
+        return Math.abs(start) < MAX_CELL_COORDINATE && Math.abs(start + (count - 1) * step) < MAX_CELL_COORDINATE;
+    }
+
+    /**
+     * Rounds a sample count up to a multiple of {@link #LANES}.
+     */
+    static int padded(int count) {
+        return (count + LANES - 1) / LANES * LANES;
+    }
+
+    /**
+     * Computes the coordinates {@code start + (i + lane) * step} of a chunk of samples.
+     */
+    static DoubleVector coordinates(double start, double step, int i) {
+        return IOTA.add(i).mul(step).add(start);
+    }
+
+    /**
+     * Computes {@code Math.floor(coordinate)} of coordinates below 2^51, by rounding them with an addition
+     * and correcting the ones that were rounded up.
+     */
+    static DoubleVector floor(DoubleVector coordinates) {
+        DoubleVector rounded = coordinates.add(ROUNDING).sub(ROUNDING);
+        return rounded.blend(rounded.sub(1), rounded.compare(VectorOperators.GT, coordinates));
+    }
+
+    /**
+     * Computes the unit cells of floored coordinates.
+     * The lower 32 bits of each unit cell are placed in the lower half of its 64-bit lane, i.e. in the even int lanes.
+     * The odd int lanes contain garbage, which never reaches the lower halves through multiplications and XORs.
+     */
+    static IntVector cells(DoubleVector floors) {
+        return floors.add(ROUNDING).reinterpretAsInts();
+    }
+
+    /**
+     * Converts floored coordinates below 2^51 to longs, like a {@code (long)} cast.
+     */
+    static LongVector toLongs(DoubleVector floors) {
+        return floors.add(ROUNDING).reinterpretAsLongs().sub(ROUNDING_BITS);
+    }
+
+    /**
+     * Converts floats holding integers below 2^22 to ints.
+     */
+    static IntVector toInts(FloatVector integers) {
+        return integers.add(FLOAT_ROUNDING).reinterpretAsInts().sub(FLOAT_ROUNDING_BITS);
+    }
+
+    /**
+     * Converts ints to longs, like a {@code (long)} cast.
+     */
+    static LongVector toLongs(IntVector values) {
+        return (LongVector) values.convertShape(VectorOperators.I2L, LONGS, 0);
+    }
+
+    /**
+     * Rounds doubles to floats, like a {@code (float)} cast.
+     */
+    static FloatVector toFloats(DoubleVector values) {
+        return (FloatVector) values.convertShape(VectorOperators.D2F, FLOATS, 0);
+    }
+
+    /**
+     * Converts floats to doubles, like a {@code (double)} cast.
+     */
+    static DoubleVector toDoubles(FloatVector values) {
+        return (DoubleVector) values.convertShape(VectorOperators.F2D, DOUBLES, 0);
+    }
+
+    /**
+     * Converts the ints in the lower halves of 64-bit lanes to doubles, like an {@code (double)} cast.
+     */
+    static DoubleVector toDoubles(IntVector values) {
+        return values.reinterpretAsLongs()
+            .and(0xFFFFFFFFL)
+            .lanewise(VectorOperators.XOR, INT_CONVERSION_BITS)
+            .reinterpretAsDoubles()
+            .sub(INT_CONVERSION);
+    }
+
+    /**
+     * Applies a fade function supported by {@link #isSupported}.
+     */
+    static DoubleVector fade(FadeFunction fadeFunction, DoubleVector x) {
+        if (fadeFunction == FadeFunction.QUINTIC_POLY) {
+            // x * x * x * (x * (x * 6 - 15) + 10)
+            return x.mul(x).mul(x).mul(x.mul(x.mul(6).sub(15)).add(10));
+        } else if (fadeFunction == FadeFunction.CUBIC_POLY) {
+            // x * x * (3 - 2 * x)
+            return x.mul(x).mul(DoubleVector.broadcast(DOUBLES, 3).sub(x.mul(2)));
+        } else if (fadeFunction == FadeFunction.SQUARTIC_POLY) {
+            // x * x * (2 - x * x)
+            DoubleVector square = x.mul(x);
+            return square.mul(DoubleVector.broadcast(DOUBLES, 2).sub(square));
+        }
+        return x;
+    }
+
+    /**
+     * Linear interpolation, see {@link Interpolation#LINEAR}.
+     */
+    static DoubleVector lerp(DoubleVector x, DoubleVector a, DoubleVector b) {
+        return a.add(x.mul(b.sub(a)));
+    }
+
+    /**
+     * Linear interpolation with a fraction shared by all lanes, see {@link Interpolation#LINEAR}.
+     */
+    static DoubleVector lerp(double x, DoubleVector a, DoubleVector b) {
+        return a.add(b.sub(a).mul(x));
+    }
+
+    /**
+     * Bilinearly interpolates the lattice values of a row, X first, then Y.
+     */
+    static void interpolate(double[] out, double[] fadesX, double fadeY, double[] v00, double[] v10, double[] v01, double[] v11) {
+        for (int i = 0; i < out.length; i += LANES) {
+            DoubleVector fadeX = DoubleVector.fromArray(DOUBLES, fadesX, i);
+            lerp(fadeY,
+                lerp(fadeX, DoubleVector.fromArray(DOUBLES, v00, i), DoubleVector.fromArray(DOUBLES, v10, i)),
+                lerp(fadeX, DoubleVector.fromArray(DOUBLES, v01, i), DoubleVector.fromArray(DOUBLES, v11, i))
+            ).intoArray(out, i);
+        }
+    }
+
+    /**
+     * Trilinearly interpolates the lattice values of a row, X first, then Y and finally Z.
+     */
+    static void interpolate(
+        double[] out, double[] fadesX, double fadeY, double fadeZ,
+        double[] v000, double[] v100, double[] v010, double[] v110,
+        double[] v001, double[] v101, double[] v011, double[] v111
+    ) {
+        for (int i = 0; i < out.length; i += LANES) {
+            DoubleVector fadeX = DoubleVector.fromArray(DOUBLES, fadesX, i);
+            DoubleVector lowerZ = lerp(fadeY,
+                lerp(fadeX, DoubleVector.fromArray(DOUBLES, v000, i), DoubleVector.fromArray(DOUBLES, v100, i)),
+                lerp(fadeX, DoubleVector.fromArray(DOUBLES, v010, i), DoubleVector.fromArray(DOUBLES, v110, i))
+            );
+            DoubleVector upperZ = lerp(fadeY,
+                lerp(fadeX, DoubleVector.fromArray(DOUBLES, v001, i), DoubleVector.fromArray(DOUBLES, v101, i)),
+                lerp(fadeX, DoubleVector.fromArray(DOUBLES, v011, i), DoubleVector.fromArray(DOUBLES, v111, i))
+            );
+            lerp(fadeZ, lowerZ, upperZ).intoArray(out, i);
+        }
+    }
+
+    /**
+     * Finalizes combined hashes like {@link de.articdive.jnoise.core.util.HashUtil#finalizeHash(long)}.
+     * Only the lower 32 bits of the combined hashes are used, which determine the lower 19 bits of the result,
+     * so the result may only be used with masks below 2^19.
+     * The results are returned in the lower halves of 64-bit lanes, see {@link #cells}.
+     */
+    static LongVector finalizeHash(IntVector hash) {
+        IntVector cubed = hash.mul(hash).mul(hash).mul(60493);
+        return cubed.lanewise(VectorOperators.ASHR, 13).lanewise(VectorOperators.XOR, cubed).reinterpretAsLongs();
+    }
+}
@@ -0,0 +1,346 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.util.RegionUtil;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.OpenSimplexGradients;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.articdive.jnoise.simd.SimplexRow.SEED_FLIP_3D;
+import static de.articdive.jnoise.simd.SimplexRow.UNSKEW_2D;
+import static de.articdive.jnoise.simd.VectorSupport.FLOATS;
+import static de.articdive.jnoise.simd.VectorSupport.LANES;
+
+/**
+ * Evaluates the 2D and 3D regions of a {@link FastSimplexNoiseGenerator} with the Vector API,
+ * processing as many samples at once as the CPU's vector registers hold.
+ * The results are identical to the {@link FastSimplexNoiseGenerator}, which evaluates everything that cannot be vectorized:
+ * single samples, 1D and 4D regions and coordinates beyond 2^29.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class VectorizedFastSimplexNoise implements NoiseSource {
+    private static final float[] GRADIENTS_2D = OpenSimplexGradients.fast2D();
+    private static final float[] GRADIENTS_3D = OpenSimplexGradients.fast3D();
+    private static final float RSQUARED_2D = 0.5f;
+    private static final float RSQUARED_3D = 0.6f;
+    private static final float UNSKEW_2D_FLOAT = (float) UNSKEW_2D;
+    private static final float UNSKEW_2D_PLUS_1 = (float) (UNSKEW_2D + 1);
+    private static final float OPPOSITE_2D = (float) (1 + 2 * UNSKEW_2D);
+    private static final float OPPOSITE_FALLOFF_2D = (float) (2 * (1 + 2 * UNSKEW_2D) * (1 / UNSKEW_2D + 2));
+    private static final float OPPOSITE_OFFSET_2D = (float) (-2 * (1 + 2 * UNSKEW_2D) * (1 + 2 * UNSKEW_2D));
+    // Offsets of each 2D vertex from the first one, {x, y} below the diagonal, then {x, y} above it.
+    private static final float[][] OFFSETS_2D = {
+        {0, 0, 0, 0},
+        {OPPOSITE_2D, OPPOSITE_2D, OPPOSITE_2D, OPPOSITE_2D},
+        {UNSKEW_2D_PLUS_1, UNSKEW_2D_FLOAT, UNSKEW_2D_FLOAT, UNSKEW_2D_PLUS_1}
+    };
+    // Steps of each 2D vertex from the lattice point below the samples, in the same order as the offsets.
+    private static final float[][] STEPS_2D = {
+        {0, 0, 0, 0},
+        {1, 1, 1, 1},
+        {1, 0, 0, 1}
+    };
+
+    private final FastSimplexNoiseGenerator generator;
+    private final long seed;
+    private final Simplex2DVariant variant2D;
+    private final Simplex3DVariant variant3D;
+    private final SimplexRow.Pass[] passes2D;
+    private final SimplexRow.Pass[] passes3D;
+
+    /**
+     * @param generator the {@link FastSimplexNoiseGenerator} to vectorize.
+     */
+    public VectorizedFastSimplexNoise(FastSimplexNoiseGenerator generator) {
+        this.generator = generator;
+        this.seed = generator.getSeed();
+        this.variant2D = generator.getVariant2D();
+        this.variant3D = generator.getVariant3D();
+        List<SimplexRow.Pass> passes2D = new ArrayList<>();
+        passes2D.add((row, y, z) -> row.skew2D(variant2D, y));
+        for (int vertex = 0; vertex < 3; vertex++) {
+            int v = vertex;
+            passes2D.add((row, y, z) -> vertex2D(row, v));
+            passes2D.add((row, y, z) -> row.gradients2D(GRADIENTS_2D, seed));
+            passes2D.add((row, y, z) -> row.accumulate2D(v == 0, true));
+        }
+        this.passes2D = passes2D.toArray(new SimplexRow.Pass[0]);
+        List<SimplexRow.Pass> passes3D = new ArrayList<>();
+        passes3D.add((row, y, z) -> row.rotate3D(variant3D, y, z, true));
+        // The scalar generator adds every contribution to 0, including the first one.
+        passes3D.add((row, y, z) -> Arrays.fill(row.value, 0));
+        for (int vertex = 0; vertex < 4; vertex++) {
+            int copy = vertex >> 1;
+            if ((vertex & 1) == 0) {
+                passes3D.add((row, y, z) -> closest3D(row, copy));
+            } else {
+                passes3D.add((row, y, z) -> secondClosest3D(row));
+            }
+            // The second copy of the lattice flips the seed.
+            long copySeed = copy == 0 ? seed : seed ^ SEED_FLIP_3D;
+            passes3D.add((row, y, z) -> row.gradients3D(GRADIENTS_3D, copySeed));
+            passes3D.add((row, y, z) -> row.accumulate3D(false, true));
+        }
+        this.passes3D = passes3D.toArray(new SimplexRow.Pass[0]);
+    }
+
+    /**
+     * Checks whether regions are evaluated with the Vector API.
+     * This is false if the CPU lacks vector registers, in which case regions are evaluated by the {@link FastSimplexNoiseGenerator}.
+     *
+     * @return true if regions are vectorized.
+     */
+    public boolean isVectorized() {
+        return VectorSupport.AVAILABLE;
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return generator.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        return generator.evaluateNoise(x, y);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        return generator.evaluateNoise(x, y, z);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return generator.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return generator.getBounds();
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return generator.getBounds2D(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return generator.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        generator.fill1D(out, x0, dx, nx);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!VectorSupport.AVAILABLE || !SimplexRow.fitsLattice(x0, dx, nx) || !SimplexRow.fitsLattice(y0, dy, ny)) {
+            generator.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny);
+        SimplexRow row = new SimplexRow(x0, dx, nx);
+        for (int j = 0; j < ny; j++) {
+            row.evaluate(passes2D, y0 + j * dy, 0);
+            row.store(out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!VectorSupport.AVAILABLE || !SimplexRow.fitsLattice(x0, dx, nx) || !SimplexRow.fitsLattice(y0, dy, ny)) {
+            generator.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny);
+        SimplexRow row = new SimplexRow(x0, dx, nx);
+        for (int j = 0; j < ny; j++) {
+            row.evaluate(passes2D, y0 + j * dy, 0);
+            row.store(out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (!VectorSupport.AVAILABLE || !SimplexRow.fitsLattice(x0, dx, nx)
+            || !SimplexRow.fitsLattice(y0, dy, ny) || !SimplexRow.fitsLattice(z0, dz, nz)) {
+            generator.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        SimplexRow row = new SimplexRow(x0, dx, nx);
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            for (int j = 0; j < ny; j++) {
+                row.evaluate(passes3D, y0 + j * dy, z);
+                row.store(out, nx * (j + ny * k), nx);
+            }
+        }
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (!VectorSupport.AVAILABLE || !SimplexRow.fitsLattice(x0, dx, nx)
+            || !SimplexRow.fitsLattice(y0, dy, ny) || !SimplexRow.fitsLattice(z0, dz, nz)) {
+            generator.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        SimplexRow row = new SimplexRow(x0, dx, nx);
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            for (int j = 0; j < ny; j++) {
+                row.evaluate(passes3D, y0 + j * dy, z);
+                row.store(out, nx * (j + ny * k), nx);
+            }
+        }
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        generator.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        generator.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    /**
+     * Computes a vertex of the 2D simplices containing a row of samples.
+     * The first vertex is the lattice point below the samples, the second one is opposite of it
+     * and the third one is either above or to the right of the first one.
+     * The vertices only differ by their offsets, which are selected per lane to avoid branching.
+     */
+    private static void vertex2D(SimplexRow row, int vertex) {
+        float[] offsets = OFFSETS_2D[vertex];
+        float[] steps = STEPS_2D[vertex];
+        VectorMask<Float> opposite = FloatVector.broadcast(FLOATS, vertex).compare(VectorOperators.EQ, 1);
+        FloatVector rSquared = FloatVector.broadcast(FLOATS, RSQUARED_2D);
+        for (int i = 0; i < row.value.length; i += LANES) {
+            FloatVector xi = FloatVector.fromArray(FLOATS, row.relativeX, i);
+            FloatVector yi = FloatVector.fromArray(FLOATS, row.relativeY, i);
+
+            // Unskew.
+            FloatVector t = xi.add(yi).mul(UNSKEW_2D_FLOAT);
+            FloatVector dx0 = xi.add(t);
+            FloatVector dy0 = yi.add(t);
+
+            VectorMask<Float> above = dy0.compare(VectorOperators.GT, dx0);
+            FloatVector dx = dx0.sub(FloatVector.broadcast(FLOATS, offsets[0]).blend(offsets[2], above));
+            FloatVector dy = dy0.sub(FloatVector.broadcast(FLOATS, offsets[1]).blend(offsets[3], above));
+            // The falloff of the opposite vertex is derived from the first one.
+            FloatVector a0 = rSquared.sub(dx0.mul(dx0)).sub(dy0.mul(dy0));
+            FloatVector a = rSquared.sub(dx.mul(dx)).sub(dy.mul(dy)).blend(t.mul(OPPOSITE_FALLOFF_2D).add(a0.add(OPPOSITE_OFFSET_2D)), opposite);
+            dx.intoArray(row.vertexX, i);
+            dy.intoArray(row.vertexY, i);
+            a.intoArray(row.falloffs, i);
+            FloatVector.broadcast(FLOATS, steps[0]).blend(steps[2], above).intoArray(row.stepX, i);
+            FloatVector.broadcast(FLOATS, steps[1]).blend(steps[3], above).intoArray(row.stepY, i);
+        }
+    }
+
+    /**
+     * Computes the closest vertex of a copy of the cubic lattices forming the BCC lattice,
+     * the second copy is offset by half a cube and the signs of its relative positions flip.
+     * The signs are stored for {@link #secondClosest3D}.
+     */
+    private static void closest3D(SimplexRow row, int copy) {
+        // Selected per lane instead of branching, see vertex2D.
+        VectorMask<Float> secondCopy = FloatVector.broadcast(FLOATS, copy).compare(VectorOperators.EQ, 1);
+        FloatVector copySign = FloatVector.broadcast(FLOATS, copy == 1 ? -1 : 1);
+        FloatVector copyStep = FloatVector.broadcast(FLOATS, copy == 1 ? 0.5f : 0);
+        FloatVector half = FloatVector.broadcast(FLOATS, 0.5f);
+        FloatVector one = FloatVector.broadcast(FLOATS, 1);
+        for (int i = 0; i < row.value.length; i += LANES) {
+            FloatVector xri = FloatVector.fromArray(FLOATS, row.relativeX, i);
+            FloatVector yri = FloatVector.fromArray(FLOATS, row.relativeY, i);
+            FloatVector zri = FloatVector.fromArray(FLOATS, row.relativeZ, i);
+
+            // -1 if positive, 1 if negative, computed like (int) (-1.0f - xri) | 1.
+            FloatVector xNSign = one.neg().blend(one, xri.neg().sub(1).compare(VectorOperators.GT, -1));
+            FloatVector yNSign = one.neg().blend(one, yri.neg().sub(1).compare(VectorOperators.GT, -1));
+            FloatVector zNSign = one.neg().blend(one, zri.neg().sub(1).compare(VectorOperators.GT, -1));
+
+            // Absolute values, for the second copy those relative to the opposite corner of the cube.
+            FloatVector ax0 = half.sub(xNSign.mul(xri.neg()));
+            FloatVector ay0 = half.sub(yNSign.mul(yri.neg()));
+            FloatVector az0 = half.sub(zNSign.mul(zri.neg()));
+            FloatVector a = FloatVector.broadcast(FLOATS, RSQUARED_3D).sub(xri.mul(xri)).sub(yri.mul(yri).add(zri.mul(zri)));
+            xri.blend(xNSign.mul(ax0), secondCopy).intoArray(row.vertexX, i);
+            yri.blend(yNSign.mul(ay0), secondCopy).intoArray(row.vertexY, i);
+            zri.blend(zNSign.mul(az0), secondCopy).intoArray(row.vertexZ, i);
+            a.blend(a.add(FloatVector.broadcast(FLOATS, 0.75f).sub(ax0).sub(ay0.add(az0))), secondCopy).intoArray(row.falloffs, i);
+            // The lattice points of positive signs move up by one in the second copy, like (xNSign >> 1) & PRIME_X.
+            one.sub(xNSign).mul(copyStep).intoArray(row.stepX, i);
+            one.sub(yNSign).mul(copyStep).intoArray(row.stepY, i);
+            one.sub(zNSign).mul(copyStep).intoArray(row.stepZ, i);
+            xNSign.mul(copySign).intoArray(row.signX, i);
+            yNSign.mul(copySign).intoArray(row.signY, i);
+            zNSign.mul(copySign).intoArray(row.signZ, i);
+        }
+    }
+
+    /**
+     * Moves the closest vertex of a copy of the cubic lattices to the second-closest one,
+     * along the axis with the largest absolute value of the relative positions.
+     * The falloffs of the second-closest vertices are reduced by one, so that they are masked like the others.
+     */
+    private static void secondClosest3D(SimplexRow row) {
+        FloatVector one = FloatVector.broadcast(FLOATS, 1);
+        FloatVector zero = FloatVector.zero(FLOATS);
+        for (int i = 0; i < row.value.length; i += LANES) {
+            FloatVector x0 = FloatVector.fromArray(FLOATS, row.vertexX, i);
+            FloatVector y0 = FloatVector.fromArray(FLOATS, row.vertexY, i);
+            FloatVector z0 = FloatVector.fromArray(FLOATS, row.vertexZ, i);
+            FloatVector a = FloatVector.fromArray(FLOATS, row.falloffs, i);
+            FloatVector xNSign = FloatVector.fromArray(FLOATS, row.signX, i);
+            FloatVector yNSign = FloatVector.fromArray(FLOATS, row.signY, i);
+            FloatVector zNSign = FloatVector.fromArray(FLOATS, row.signZ, i);
+            // Recovers the absolute values exactly, as the signs only negate them.
+            FloatVector ax0 = xNSign.mul(x0.neg());
+            FloatVector ay0 = yNSign.mul(y0.neg());
+            FloatVector az0 = zNSign.mul(z0.neg());
+
+            VectorMask<Float> alongX = ax0.compare(VectorOperators.GE, ay0).and(ax0.compare(VectorOperators.GE, az0));
+            VectorMask<Float> alongY = alongX.not().and(ay0.compare(VectorOperators.GT, ax0)).and(ay0.compare(VectorOperators.GE, az0));
+            VectorMask<Float> alongZ = alongX.or(alongY).not();
+            FloatVector b = a.add(az0).add(az0).blend(a.add(ay0).add(ay0), alongY).blend(a.add(ax0).add(ax0), alongX);
+            FloatVector moveX = zero.blend(xNSign, alongX);
+            FloatVector moveY = zero.blend(yNSign, alongY);
+            FloatVector moveZ = zero.blend(zNSign, alongZ);
+            x0.add(moveX).intoArray(row.vertexX, i);
+            y0.add(moveY).intoArray(row.vertexY, i);
+            z0.add(moveZ).intoArray(row.vertexZ, i);
+            b.sub(one).intoArray(row.falloffs, i);
+            // Moving away from the closest point, the lattice point moves by -xNSign.
+            FloatVector.fromArray(FLOATS, row.stepX, i).sub(moveX).intoArray(row.stepX, i);
+            FloatVector.fromArray(FLOATS, row.stepY, i).sub(moveY).intoArray(row.stepY, i);
+            FloatVector.fromArray(FLOATS, row.stepZ, i).sub(moveZ).intoArray(row.stepZ, i);
+        }
+    }
+}
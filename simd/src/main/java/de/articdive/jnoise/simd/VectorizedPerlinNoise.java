@@ -0,0 +1,226 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.util.RegionUtil;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import org.jspecify.annotations.NullMarked;
+
+import static de.articdive.jnoise.core.util.HashUtil.Y_PRIME;
+import static de.articdive.jnoise.core.util.HashUtil.Z_PRIME;
+import static de.articdive.jnoise.simd.VectorSupport.DOUBLES;
+import static de.articdive.jnoise.simd.VectorSupport.LANES;
+import static de.articdive.jnoise.simd.VectorSupport.LONGS;
+import static de.articdive.jnoise.simd.VectorSupport.ONE_BITS;
+import static de.articdive.jnoise.simd.VectorSupport.SIGN_BIT;
+
+/**
+ * Evaluates the 2D and 3D regions of a {@link PerlinNoiseGenerator} with the Vector API,
+ * processing as many samples at once as the CPU's vector registers hold.
+ * The results are identical to the {@link PerlinNoiseGenerator}, which evaluates everything that cannot be vectorized:
+ * single samples, 1D and 4D regions, trigonometric interpolations and fades and coordinates beyond 2^51.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class VectorizedPerlinNoise implements NoiseSource {
+    private final PerlinNoiseGenerator generator;
+    private final long seed;
+    private final FadeFunction fadeFunction;
+    private final boolean vectorized;
+
+    /**
+     * @param generator the {@link PerlinNoiseGenerator} to vectorize.
+     */
+    public VectorizedPerlinNoise(PerlinNoiseGenerator generator) {
+        this.generator = generator;
+        this.seed = generator.getSeed();
+        this.fadeFunction = generator.getFadeFunction();
+        this.vectorized = VectorSupport.isSupported(generator.getInterpolation(), fadeFunction);
+    }
+
+    /**
+     * Checks whether regions are evaluated with the Vector API.
+     * This is false if the CPU lacks vector registers or the generator's configuration cannot be vectorized,
+     * in which case regions are evaluated by the {@link PerlinNoiseGenerator}.
+     *
+     * @return true if regions are vectorized.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return generator.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        return generator.evaluateNoise(x, y);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        return generator.evaluateNoise(x, y, z);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return generator.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return generator.getBounds();
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return generator.getBounds2D(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return generator.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        generator.fill1D(out, x0, dx, nx);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!vectorized || !VectorSupport.fitsCells(x0, dx, nx)) {
+            generator.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny);
+        LatticeAxis axis = new LatticeAxis(x0, dx, nx, fadeFunction);
+        int padded = axis.fades.length;
+        double[][] dots = new double[4][padded];
+        double[] row = new double[padded];
+        for (int j = 0; j < ny; j++) {
+            double y = y0 + j * dy;
+            long iY = (long) Math.floor(y);
+            double relativeY = y - iY;
+            int hashY0 = (int) (seed ^ (Y_PRIME * iY));
+            int hashY1 = (int) (seed ^ (Y_PRIME * (iY + 1)));
+            // The lattice corners share a single call site, the JIT compiler gives up on inlining the passes repeatedly.
+            for (int corner = 0; corner < 4; corner++) {
+                boolean upperX = (corner & 1) != 0;
+                boolean upperY = (corner & 2) != 0;
+                gradientDots(
+                    dots[corner],
+                    upperX ? axis.relative1 : axis.relative,
+                    upperX ? axis.hashes1 : axis.hashes0,
+                    upperY ? relativeY - 1 : relativeY,
+                    upperY ? hashY1 : hashY0
+                );
+            }
+            VectorSupport.interpolate(row, axis.fades, fadeFunction.fade(relativeY), dots[0], dots[1], dots[2], dots[3]);
+            System.arraycopy(row, 0, out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (!vectorized || !VectorSupport.fitsCells(x0, dx, nx)) {
+            generator.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        LatticeAxis axis = new LatticeAxis(x0, dx, nx, fadeFunction);
+        int padded = axis.fades.length;
+        double[][] dots = new double[8][padded];
+        double[] row = new double[padded];
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            long iZ = (long) Math.floor(z);
+            double relativeZ = z - iZ;
+            double fadeZ = fadeFunction.fade(relativeZ);
+            long hashZ0 = Z_PRIME * iZ;
+            long hashZ1 = Z_PRIME * (iZ + 1);
+            for (int j = 0; j < ny; j++) {
+                double y = y0 + j * dy;
+                long iY = (long) Math.floor(y);
+                double relativeY = y - iY;
+                long hashY0 = seed ^ (Y_PRIME * iY);
+                long hashY1 = seed ^ (Y_PRIME * (iY + 1));
+                for (int corner = 0; corner < 8; corner++) {
+                    boolean upperX = (corner & 1) != 0;
+                    boolean upperY = (corner & 2) != 0;
+                    boolean upperZ = (corner & 4) != 0;
+                    gradientDots(
+                        dots[corner],
+                        upperX ? axis.relative1 : axis.relative,
+                        upperX ? axis.hashes1 : axis.hashes0,
+                        upperY ? relativeY - 1 : relativeY,
+                        upperZ ? relativeZ - 1 : relativeZ,
+                        (int) ((upperY ? hashY1 : hashY0) ^ (upperZ ? hashZ1 : hashZ0))
+                    );
+                }
+                VectorSupport.interpolate(
+                    row, axis.fades, fadeFunction.fade(relativeY), fadeZ,
+                    dots[0], dots[1], dots[2], dots[3], dots[4], dots[5], dots[6], dots[7]
+                );
+                System.arraycopy(row, 0, out, nx * (j + ny * k), nx);
+            }
+        }
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        generator.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    /**
+     * Selects the gradients of a lattice corner along a row and computes their dot products with the relative positions.
+     * The gradients are assembled from the bits of their index, as gathers are not intrinsic in the Vector API of Java 17.
+     */
+    private static void gradientDots(double[] out, double[] relativeX, long[] hashesX, double y, int hashY) {
+        for (int i = 0; i < out.length; i += LANES) {
+            // (VECTOR_2D.length - 1) = 7.
+            LongVector index = VectorSupport.finalizeHash(
+                LongVector.fromArray(LONGS, hashesX, i).reinterpretAsInts().lanewise(VectorOperators.XOR, hashY)
+            ).and(7);
+            // VECTOR_2D: (±1, ±1) with signs from bits 0 and 1, then (0, ±1) and (±1, 0) with signs from bit 0.
+            DoubleVector gradientX = index.lanewise(VectorOperators.LSHL, 63).or(ONE_BITS)
+                .blend(0, index.lanewise(VectorOperators.LSHR, 1).compare(VectorOperators.EQ, 2))
+                .reinterpretAsDoubles();
+            DoubleVector gradientY = index.lanewise(VectorOperators.LSHL, 62)
+                .blend(index.lanewise(VectorOperators.LSHL, 63), index.compare(VectorOperators.GE, 4))
+                .and(SIGN_BIT)
+                .or(ONE_BITS)
+                .blend(0, index.compare(VectorOperators.GE, 6))
+                .reinterpretAsDoubles();
+            DoubleVector.fromArray(DOUBLES, relativeX, i).mul(gradientX).add(gradientY.mul(y)).intoArray(out, i);
+        }
+    }
+
+    private static void gradientDots(double[] out, double[] relativeX, long[] hashesX, double y, double z, int hashYZ) {
+        for (int i = 0; i < out.length; i += LANES) {
+            // (VECTOR_3D.length - 1) = 19, which only selects (±1, ±1, 1) and (±1, ±1, 0) with signs from bits 0 and 1.
+            LongVector index = VectorSupport.finalizeHash(
+                LongVector.fromArray(LONGS, hashesX, i).reinterpretAsInts().lanewise(VectorOperators.XOR, hashYZ)
+            ).and(19);
+            DoubleVector gradientX = index.lanewise(VectorOperators.LSHL, 63).or(ONE_BITS).reinterpretAsDoubles();
+            DoubleVector gradientY = index.lanewise(VectorOperators.LSHL, 62).and(SIGN_BIT).or(ONE_BITS).reinterpretAsDoubles();
+            DoubleVector gradientZ = LongVector.broadcast(LONGS, ONE_BITS)
+                .blend(0, index.compare(VectorOperators.GE, 16))
+                .reinterpretAsDoubles();
+            DoubleVector.fromArray(DOUBLES, relativeX, i).mul(gradientX).add(gradientY.mul(y)).add(gradientZ.mul(z))
+                .intoArray(out, i);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.util.RegionUtil;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noisegen.opensimplex.OpenSimplexGradients;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.articdive.jnoise.simd.SimplexRow.UNSKEW_2D;
+import static de.articdive.jnoise.simd.VectorSupport.FLOATS;
+import static de.articdive.jnoise.simd.VectorSupport.LANES;
+
+/**
+ * Evaluates the 2D regions of a {@link SuperSimplexNoiseGenerator} with the Vector API,
+ * processing as many samples at once as the CPU's vector registers hold.
+ * The results are identical to the {@link SuperSimplexNoiseGenerator}, which evaluates everything that cannot be vectorized:
+ * single samples, 1D, 3D and 4D regions and coordinates beyond 2^29.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class VectorizedSuperSimplexNoise implements NoiseSource {
+    private static final float[] GRADIENTS_2D = OpenSimplexGradients.super2D();
+    private static final float RSQUARED_2D = 2.0f / 3.0f;
+    // The scalar generator compares the float t with the double UNSKEW_2D, i.e. with the smallest float not below it.
+    private static final float LOWER_THRESHOLD_2D = (float) UNSKEW_2D >= UNSKEW_2D ? (float) UNSKEW_2D : Math.nextUp((float) UNSKEW_2D);
+    private static final float UNSKEW_2D_FLOAT = (float) UNSKEW_2D;
+    private static final float UNSKEW_2D_PLUS_1 = (float) (UNSKEW_2D + 1);
+    private static final float OPPOSITE_2D = (float) (1 + 2 * UNSKEW_2D);
+    private static final float OPPOSITE_FALLOFF_2D = (float) (2 * (1 + 2 * UNSKEW_2D) * (1 / UNSKEW_2D + 2));
+    private static final float OPPOSITE_OFFSET_2D = (float) (-2 * (1 + 2 * UNSKEW_2D) * (1 + 2 * UNSKEW_2D));
+    private static final float FAR_2D_MAJOR = (float) (3 * UNSKEW_2D + 2);
+    private static final float FAR_2D_MINOR = (float) (3 * UNSKEW_2D + 1);
+    // Offsets of each 2D vertex from the first one, for samples below the diagonal the near and the far vertex,
+    // then the same for samples above it. The far vertices above the diagonal lie behind the first one.
+    private static final float[][] OFFSETS_X_2D = {
+        {0, 0, 0, 0},
+        {OPPOSITE_2D, OPPOSITE_2D, OPPOSITE_2D, OPPOSITE_2D},
+        {UNSKEW_2D_FLOAT, FAR_2D_MAJOR, UNSKEW_2D_PLUS_1, -(float) (1 + UNSKEW_2D)},
+        {UNSKEW_2D_PLUS_1, FAR_2D_MINOR, UNSKEW_2D_FLOAT, -UNSKEW_2D_FLOAT}
+    };
+    private static final float[][] OFFSETS_Y_2D = {
+        {0, 0, 0, 0},
+        {OPPOSITE_2D, OPPOSITE_2D, OPPOSITE_2D, OPPOSITE_2D},
+        {UNSKEW_2D_PLUS_1, FAR_2D_MINOR, UNSKEW_2D_FLOAT, -UNSKEW_2D_FLOAT},
+        {UNSKEW_2D_FLOAT, FAR_2D_MAJOR, UNSKEW_2D_PLUS_1, -(float) (UNSKEW_2D + 1)}
+    };
+    // Steps of each 2D vertex from the lattice point below the samples, in the same order as the offsets.
+    private static final float[][] STEPS_X_2D = {
+        {0, 0, 0, 0},
+        {1, 1, 1, 1},
+        {0, 2, 1, -1},
+        {1, 1, 0, 0}
+    };
+    private static final float[][] STEPS_Y_2D = {
+        {0, 0, 0, 0},
+        {1, 1, 1, 1},
+        {1, 1, 0, 0},
+        {0, 2, 1, -1}
+    };
+
+    private final SuperSimplexNoiseGenerator generator;
+    private final SimplexRow.Pass[] passes2D;
+
+    /**
+     * @param generator the {@link SuperSimplexNoiseGenerator} to vectorize.
+     */
+    public VectorizedSuperSimplexNoise(SuperSimplexNoiseGenerator generator) {
+        this.generator = generator;
+        long seed = generator.getSeed();
+        Simplex2DVariant variant2D = generator.getVariant2D();
+        List<SimplexRow.Pass> passes2D = new ArrayList<>();
+        passes2D.add((row, y, z) -> row.skew2D(variant2D, y));
+        for (int vertex = 0; vertex < 4; vertex++) {
+            int v = vertex;
+            passes2D.add((row, y, z) -> vertex2D(row, v));
+            passes2D.add((row, y, z) -> row.gradients2D(GRADIENTS_2D, seed));
+            // The first two vertices always contribute.
+            passes2D.add((row, y, z) -> row.accumulate2D(v == 0, v >= 2));
+        }
+        this.passes2D = passes2D.toArray(new SimplexRow.Pass[0]);
+    }
+
+    /**
+     * Checks whether regions are evaluated with the Vector API.
+     * This is false if the CPU lacks vector registers, in which case regions are evaluated by the {@link SuperSimplexNoiseGenerator}.
+     *
+     * @return true if regions are vectorized.
+     */
+    public boolean isVectorized() {
+        return VectorSupport.AVAILABLE;
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return generator.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        return generator.evaluateNoise(x, y);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        return generator.evaluateNoise(x, y, z);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return generator.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return generator.getBounds();
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return generator.getBounds2D(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return generator.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        generator.fill1D(out, x0, dx, nx);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!VectorSupport.AVAILABLE || !SimplexRow.fitsLattice(x0, dx, nx) || !SimplexRow.fitsLattice(y0, dy, ny)) {
+            generator.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny);
+        SimplexRow row = new SimplexRow(x0, dx, nx);
+        for (int j = 0; j < ny; j++) {
+            row.evaluate(passes2D, y0 + j * dy, 0);
+            row.store(out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill2D(float[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!VectorSupport.AVAILABLE || !SimplexRow.fitsLattice(x0, dx, nx) || !SimplexRow.fitsLattice(y0, dy, ny)) {
+            generator.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny);
+        SimplexRow row = new SimplexRow(x0, dx, nx);
+        for (int j = 0; j < ny; j++) {
+            row.evaluate(passes2D, y0 + j * dy, 0);
+            row.store(out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        generator.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+    }
+
+    @Override
+    public void fill3D(float[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        generator.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        generator.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    @Override
+    public void fill4D(
+        float[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        generator.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    /**
+     * Computes a vertex of the 2D simplices containing a row of samples.
+     * The first vertex is the lattice point below the samples and the second one is opposite of it.
+     * The third and fourth vertex depend on the side of the diagonal and on whether the samples are close to
+     * the far corners of the rhombus, the scalar generator's nested conditionals are selected per lane instead.
+     */
+    private static void vertex2D(SimplexRow row, int vertex) {
+        float[] offsetsX = OFFSETS_X_2D[vertex];
+        float[] offsetsY = OFFSETS_Y_2D[vertex];
+        float[] stepsX = STEPS_X_2D[vertex];
+        float[] stepsY = STEPS_Y_2D[vertex];
+        VectorMask<Float> opposite = FloatVector.broadcast(FLOATS, vertex).compare(VectorOperators.EQ, 1);
+        VectorMask<Float> fourth = FloatVector.broadcast(FLOATS, vertex).compare(VectorOperators.EQ, 3);
+        FloatVector rSquared = FloatVector.broadcast(FLOATS, RSQUARED_2D);
+        for (int i = 0; i < row.value.length; i += LANES) {
+            FloatVector xi = FloatVector.fromArray(FLOATS, row.relativeX, i);
+            FloatVector yi = FloatVector.fromArray(FLOATS, row.relativeY, i);
+
+            // Unskew.
+            FloatVector t = xi.add(yi).mul(UNSKEW_2D_FLOAT);
+            FloatVector dx0 = xi.add(t);
+            FloatVector dy0 = yi.add(t);
+
+            // xi + xmyi for the third vertex, yi - xmyi for the fourth one, yi < xmyi is the same as yi - xmyi < 0.
+            FloatVector xmyi = xi.sub(yi);
+            FloatVector s = xi.add(xmyi).blend(yi.sub(xmyi), fourth);
+            VectorMask<Float> above = t.compare(VectorOperators.GE, LOWER_THRESHOLD_2D);
+            VectorMask<Float> far = s.compare(VectorOperators.GT, 1).andNot(above).or(s.compare(VectorOperators.LT, 0).and(above));
+
+            // The cases are blended inline, the JIT compiler may give up on inlining helpers into the pass.
+            FloatVector dx = dx0.sub(FloatVector.broadcast(FLOATS, offsetsX[0]).blend(offsetsX[2], above)
+                .blend(FloatVector.broadcast(FLOATS, offsetsX[1]).blend(offsetsX[3], above), far));
+            FloatVector dy = dy0.sub(FloatVector.broadcast(FLOATS, offsetsY[0]).blend(offsetsY[2], above)
+                .blend(FloatVector.broadcast(FLOATS, offsetsY[1]).blend(offsetsY[3], above), far));
+            // The falloff of the opposite vertex is derived from the first one.
+            FloatVector a0 = rSquared.sub(dx0.mul(dx0)).sub(dy0.mul(dy0));
+            FloatVector a = rSquared.sub(dx.mul(dx)).sub(dy.mul(dy)).blend(t.mul(OPPOSITE_FALLOFF_2D).add(a0.add(OPPOSITE_OFFSET_2D)), opposite);
+            dx.intoArray(row.vertexX, i);
+            dy.intoArray(row.vertexY, i);
+            a.intoArray(row.falloffs, i);
+            FloatVector.broadcast(FLOATS, stepsX[0]).blend(stepsX[2], above)
+                .blend(FloatVector.broadcast(FLOATS, stepsX[1]).blend(stepsX[3], above), far)
+                .intoArray(row.stepX, i);
+            FloatVector.broadcast(FLOATS, stepsY[0]).blend(stepsY[2], above)
+                .blend(FloatVector.broadcast(FLOATS, stepsY[1]).blend(stepsY[3], above), far)
+                .intoArray(row.stepY, i);
+        }
+    }
+}
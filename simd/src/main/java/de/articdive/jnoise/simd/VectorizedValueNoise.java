@@ -0,0 +1,181 @@
+package de.articdive.jnoise.simd;
+
+import de.articdive.jnoise.core.api.pipeline.NoiseBounds;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.core.util.RegionUtil;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import org.jspecify.annotations.NullMarked;
+
+import static de.articdive.jnoise.core.util.HashUtil.Y_PRIME;
+import static de.articdive.jnoise.core.util.HashUtil.Z_PRIME;
+import static de.articdive.jnoise.simd.VectorSupport.LANES;
+import static de.articdive.jnoise.simd.VectorSupport.LONGS;
+
+/**
+ * Evaluates the 2D and 3D regions of a {@link ValueNoiseGenerator} with the Vector API,
+ * processing as many samples at once as the CPU's vector registers hold.
+ * The results are identical to the {@link ValueNoiseGenerator}, which evaluates everything that cannot be vectorized:
+ * single samples, 1D and 4D regions, trigonometric interpolations and fades and coordinates beyond 2^51.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class VectorizedValueNoise implements NoiseSource {
+    private final ValueNoiseGenerator generator;
+    private final long seed;
+    private final FadeFunction fadeFunction;
+    private final boolean vectorized;
+
+    /**
+     * @param generator the {@link ValueNoiseGenerator} to vectorize.
+     */
+    public VectorizedValueNoise(ValueNoiseGenerator generator) {
+        this.generator = generator;
+        this.seed = generator.getSeed();
+        this.fadeFunction = generator.getFadeFunction();
+        this.vectorized = VectorSupport.isSupported(generator.getInterpolation(), fadeFunction);
+    }
+
+    /**
+     * Checks whether regions are evaluated with the Vector API.
+     * This is false if the CPU lacks vector registers or the generator's configuration cannot be vectorized,
+     * in which case regions are evaluated by the {@link ValueNoiseGenerator}.
+     *
+     * @return true if regions are vectorized.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    @Override
+    public double evaluateNoise(double x) {
+        return generator.evaluateNoise(x);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y) {
+        return generator.evaluateNoise(x, y);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z) {
+        return generator.evaluateNoise(x, y, z);
+    }
+
+    @Override
+    public double evaluateNoise(double x, double y, double z, double w) {
+        return generator.evaluateNoise(x, y, z, w);
+    }
+
+    @Override
+    public NoiseBounds getBounds() {
+        return generator.getBounds();
+    }
+
+    @Override
+    public NoiseBounds getBounds2D(double minX, double minY, double maxX, double maxY) {
+        return generator.getBounds2D(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public NoiseBounds getBounds3D(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return generator.getBounds3D(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Override
+    public void fill1D(double[] out, double x0, double dx, int nx) {
+        generator.fill1D(out, x0, dx, nx);
+    }
+
+    @Override
+    public void fill2D(double[] out, double x0, double y0, double dx, double dy, int nx, int ny) {
+        if (!vectorized || !VectorSupport.fitsCells(x0, dx, nx)) {
+            generator.fill2D(out, x0, y0, dx, dy, nx, ny);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny);
+        LatticeAxis axis = new LatticeAxis(x0, dx, nx, fadeFunction);
+        int padded = axis.fades.length;
+        double[][] values = new double[4][padded];
+        double[] row = new double[padded];
+        for (int j = 0; j < ny; j++) {
+            double y = y0 + j * dy;
+            long iY = (long) Math.floor(y);
+            int hashY0 = (int) (seed ^ (Y_PRIME * iY));
+            int hashY1 = (int) (seed ^ (Y_PRIME * (iY + 1)));
+            // The lattice corners share a single call site, the JIT compiler gives up on inlining the passes repeatedly.
+            for (int corner = 0; corner < 4; corner++) {
+                latticeValues(
+                    values[corner],
+                    (corner & 1) != 0 ? axis.hashes1 : axis.hashes0,
+                    (corner & 2) != 0 ? hashY1 : hashY0
+                );
+            }
+            VectorSupport.interpolate(row, axis.fades, fadeFunction.fade(y - iY), values[0], values[1], values[2], values[3]);
+            System.arraycopy(row, 0, out, nx * j, nx);
+        }
+    }
+
+    @Override
+    public void fill3D(double[] out, double x0, double y0, double z0, double dx, double dy, double dz, int nx, int ny, int nz) {
+        if (!vectorized || !VectorSupport.fitsCells(x0, dx, nx)) {
+            generator.fill3D(out, x0, y0, z0, dx, dy, dz, nx, ny, nz);
+            return;
+        }
+        RegionUtil.checkRegion(out.length, nx, ny, nz);
+        LatticeAxis axis = new LatticeAxis(x0, dx, nx, fadeFunction);
+        int padded = axis.fades.length;
+        double[][] values = new double[8][padded];
+        double[] row = new double[padded];
+        for (int k = 0; k < nz; k++) {
+            double z = z0 + k * dz;
+            long iZ = (long) Math.floor(z);
+            double fadeZ = fadeFunction.fade(z - iZ);
+            int hashZ0 = (int) (Z_PRIME * iZ);
+            int hashZ1 = (int) (Z_PRIME * (iZ + 1));
+            for (int j = 0; j < ny; j++) {
+                double y = y0 + j * dy;
+                long iY = (long) Math.floor(y);
+                int hashY0 = (int) (seed ^ (Y_PRIME * iY));
+                int hashY1 = (int) (seed ^ (Y_PRIME * (iY + 1)));
+                for (int corner = 0; corner < 8; corner++) {
+                    latticeValues(
+                        values[corner],
+                        (corner & 1) != 0 ? axis.hashes1 : axis.hashes0,
+                        ((corner & 2) != 0 ? hashY1 : hashY0) ^ ((corner & 4) != 0 ? hashZ1 : hashZ0)
+                    );
+                }
+                VectorSupport.interpolate(
+                    row, axis.fades, fadeFunction.fade(y - iY), fadeZ,
+                    values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]
+                );
+                System.arraycopy(row, 0, out, nx * (j + ny * k), nx);
+            }
+        }
+    }
+
+    @Override
+    public void fill4D(
+        double[] out,
+        double x0, double y0, double z0, double w0,
+        double dx, double dy, double dz, double dw,
+        int nx, int ny, int nz, int nw
+    ) {
+        generator.fill4D(out, x0, y0, z0, w0, dx, dy, dz, dw, nx, ny, nz, nw);
+    }
+
+    /**
+     * Converts the combined hashes of a lattice corner along a row to lattice values like the {@link ValueNoiseGenerator}.
+     */
+    private static void latticeValues(double[] out, long[] hashesX, int hashYZ) {
+        for (int i = 0; i < out.length; i += LANES) {
+            IntVector hash = LongVector.fromArray(LONGS, hashesX, i).reinterpretAsInts().lanewise(VectorOperators.XOR, hashYZ);
+            IntVector cubed = hash.mul(hash).mul(hash).mul(60493);
+            VectorSupport.toDoubles(cubed).div(2147483648.0).intoArray(out, i);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * The "simd" JNoise module.
+ * 
+ * Requires the "generators" JNoise module and the incubating "jdk.incubator.vector" module,
+ * which has to be added with "--add-modules jdk.incubator.vector" at compile- and runtime.
+ */
+module de.articdive.jnoise.simd {
+  exports de.articdive.jnoise.simd;
+
+  requires transitive de.articdive.jnoise.generators;
+  requires jdk.incubator.vector;
+}
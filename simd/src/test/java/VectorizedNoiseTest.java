@@ -0,0 +1,114 @@
+import de.articdive.jnoise.core.api.functions.Interpolation;
+import de.articdive.jnoise.core.api.pipeline.NoiseSource;
+import de.articdive.jnoise.generators.noise_parameters.fade_functions.FadeFunction;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex2DVariant;
+import de.articdive.jnoise.generators.noise_parameters.simplex_variants.Simplex3DVariant;
+import de.articdive.jnoise.generators.noisegen.opensimplex.FastSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.opensimplex.SuperSimplexNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.perlin.PerlinNoiseGenerator;
+import de.articdive.jnoise.generators.noisegen.value.ValueNoiseGenerator;
+import de.articdive.jnoise.simd.VectorizedFastSimplexNoise;
+import de.articdive.jnoise.simd.VectorizedPerlinNoise;
+import de.articdive.jnoise.simd.VectorizedSuperSimplexNoise;
+import de.articdive.jnoise.simd.VectorizedValueNoise;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class VectorizedNoiseTest {
+    private static final FadeFunction[] FADE_FUNCTIONS = new FadeFunction[]{
+        FadeFunction.NONE, FadeFunction.CUBIC_POLY, FadeFunction.SQUARTIC_POLY, FadeFunction.QUINTIC_POLY
+    };
+    // Origins crossing zero, far away from zero and beyond the range of an int.
+    private static final double[] ORIGINS = new double[]{-3.7, 0.0, 1234567.891, -3.5e9, 1e17};
+
+    @Test
+    @DisplayName("Vectorized Perlin Noise - Matches Scalar")
+    public void testPerlin() {
+        for (FadeFunction fadeFunction : FADE_FUNCTIONS) {
+            PerlinNoiseGenerator generator = PerlinNoiseGenerator.newBuilder().setSeed(1729).setFadeFunction(fadeFunction).build();
+            assertMatches(generator, new VectorizedPerlinNoise(generator));
+        }
+    }
+
+    @Test
+    @DisplayName("Vectorized Value Noise - Matches Scalar")
+    public void testValue() {
+        for (FadeFunction fadeFunction : FADE_FUNCTIONS) {
+            ValueNoiseGenerator generator = ValueNoiseGenerator.newBuilder().setSeed(1729).setFadeFunction(fadeFunction).build();
+            assertMatches(generator, new VectorizedValueNoise(generator));
+        }
+    }
+
+    @Test
+    @DisplayName("Vectorized Fast Simplex Noise - Matches Scalar")
+    public void testFastSimplex() {
+        for (Simplex2DVariant variant2D : Simplex2DVariant.values()) {
+            for (Simplex3DVariant variant3D : Simplex3DVariant.values()) {
+                FastSimplexNoiseGenerator generator = FastSimplexNoiseGenerator.newBuilder()
+                    .setSeed(1729)
+                    .setVariant2D(variant2D)
+                    .setVariant3D(variant3D)
+                    .build();
+                assertMatches(generator, new VectorizedFastSimplexNoise(generator));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Vectorized Super Simplex Noise - Matches Scalar")
+    public void testSuperSimplex() {
+        for (Simplex2DVariant variant2D : Simplex2DVariant.values()) {
+            SuperSimplexNoiseGenerator generator = SuperSimplexNoiseGenerator.newBuilder().setSeed(1729).setVariant2D(variant2D).build();
+            assertMatches(generator, new VectorizedSuperSimplexNoise(generator));
+        }
+    }
+
+    @Test
+    @DisplayName("Vectorized Noise - Unsupported Configurations")
+    public void testUnsupported() {
+        PerlinNoiseGenerator perlin = PerlinNoiseGenerator.newBuilder().setInterpolation(Interpolation.COSINE).build();
+        VectorizedPerlinNoise vectorizedPerlin = new VectorizedPerlinNoise(perlin);
+        assertFalse(vectorizedPerlin.isVectorized());
+        assertMatches(perlin, vectorizedPerlin);
+
+        ValueNoiseGenerator value = ValueNoiseGenerator.newBuilder().setFadeFunction(FadeFunction.TRIGONOMETRIC).build();
+        VectorizedValueNoise vectorizedValue = new VectorizedValueNoise(value);
+        assertFalse(vectorizedValue.isVectorized());
+        assertMatches(value, vectorizedValue);
+    }
+
+    @Test
+    @DisplayName("Vectorized Noise - Invalid Regions")
+    public void testInvalidRegions() {
+        VectorizedPerlinNoise noise = new VectorizedPerlinNoise(PerlinNoiseGenerator.newBuilder().build());
+        assertThrows(IllegalArgumentException.class, () -> noise.fill2D(new double[10], 0, 0, 1, 1, 4, 4));
+        assertThrows(IllegalArgumentException.class, () -> noise.fill3D(new double[10], 0, 0, 0, 1, 1, 1, 4, 4, 4));
+    }
+
+    private static void assertMatches(NoiseSource scalar, NoiseSource vectorized) {
+        // Odd region sizes leave a partial chunk at the end of every row.
+        for (double origin : ORIGINS) {
+            double[] expected2D = new double[37 * 5];
+            double[] actual2D = new double[37 * 5];
+            scalar.fill2D(expected2D, origin, -origin, 0.173, 0.41, 37, 5);
+            vectorized.fill2D(actual2D, origin, -origin, 0.173, 0.41, 37, 5);
+            assertArrayEquals(expected2D, actual2D);
+
+            double[] expected3D = new double[21 * 4 * 3];
+            double[] actual3D = new double[21 * 4 * 3];
+            scalar.fill3D(expected3D, origin, 0.5, -origin, -0.29, 0.37, 0.61, 21, 4, 3);
+            vectorized.fill3D(actual3D, origin, 0.5, -origin, -0.29, 0.37, 0.61, 21, 4, 3);
+            assertArrayEquals(expected3D, actual3D);
+
+            float[] expectedFloat2D = new float[37 * 5];
+            float[] actualFloat2D = new float[37 * 5];
+            scalar.fill2D(expectedFloat2D, origin, -origin, 0.173, 0.41, 37, 5);
+            vectorized.fill2D(actualFloat2D, origin, -origin, 0.173, 0.41, 37, 5);
+            assertArrayEquals(expectedFloat2D, actualFloat2D);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package de.articdive.jnoise.transformers.affine;
+
+import de.articdive.jnoise.core.api.annotations.Vector1D;
+import de.articdive.jnoise.core.api.annotations.Vector2D;
+import de.articdive.jnoise.core.api.annotations.Vector3D;
+import de.articdive.jnoise.core.api.annotations.Vector4D;
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
+import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Affine transformer, which applies any combination of scales, rotations, shears and translations as a single step.
+ * The transform is defined in 4D, lower dimensional coordinates are transformed by the part of it acting on their axes,
+ * e.g. 2D coordinates by the upper left 2x2 matrix and the X and Y translation.
+ * Consecutive affine transformers in a pipeline are fused into one, see {@link #andThen(AffineTransformer)}.
+ *
+ * @author Articdive
+ */
+@NullMarked
+public final class AffineTransformer implements DetailedTransformer, Definable {
+    // Row-major n x (n + 1) matrices for n dimensions, the last column is the translation.
+    private final double[] matrix1D;
+    private final double[] matrix2D;
+    private final double[] matrix3D;
+    private final double[] matrix4D;
+
+    private AffineTransformer(double[] matrix1D, double[] matrix2D, double[] matrix3D, double[] matrix4D) {
+        this.matrix1D = matrix1D;
+        this.matrix2D = matrix2D;
+        this.matrix3D = matrix3D;
+        this.matrix4D = matrix4D;
+    }
+
+    @Override
+    public void transform1D(@Vector1D double[] vec1D) {
+        double[] m = matrix1D;
+        vec1D[0] = m[0] * vec1D[0] + m[1];
+    }
+
+    @Override
+    public void transform2D(@Vector2D double[] vec2D) {
+        double[] m = matrix2D;
+        double x = vec2D[0];
+        double y = vec2D[1];
+        vec2D[0] = m[0] * x + m[1] * y + m[2];
+        vec2D[1] = m[3] * x + m[4] * y + m[5];
+    }
+
+    @Override
+    public void transform3D(@Vector3D double[] vec3D) {
+        double[] m = matrix3D;
+        double x = vec3D[0];
+        double y = vec3D[1];
+        double z = vec3D[2];
+        vec3D[0] = m[0] * x + m[1] * y + m[2] * z + m[3];
+        vec3D[1] = m[4] * x + m[5] * y + m[6] * z + m[7];
+        vec3D[2] = m[8] * x + m[9] * y + m[10] * z + m[11];
+    }
+
+    @Override
+    public void transform4D(@Vector4D double[] vec4D) {
+        double[] m = matrix4D;
+        double x = vec4D[0];
+        double y = vec4D[1];
+        double z = vec4D[2];
+        double w = vec4D[3];
+        vec4D[0] = m[0] * x + m[1] * y + m[2] * z + m[3] * w + m[4];
+        vec4D[1] = m[5] * x + m[6] * y + m[7] * z + m[8] * w + m[9];
+        vec4D[2] = m[10] * x + m[11] * y + m[12] * z + m[13] * w + m[14];
+        vec4D[3] = m[15] * x + m[16] * y + m[17] * z + m[18] * w + m[19];
+    }
+
+    // The Jacobian is the linear part of the matrix, so derivatives are multiplied by its transpose.
+    @Override
+    public boolean propagateDerivatives1D(@Vector1D double[] derivatives1D) {
+        derivatives1D[0] *= matrix1D[0];
+        return true;
+    }
+
+    @Override
+    public boolean propagateDerivatives2D(@Vector2D double[] derivatives2D) {
+        double[] m = matrix2D;
+        double dX = derivatives2D[0];
+        double dY = derivatives2D[1];
+        derivatives2D[0] = m[0] * dX + m[3] * dY;
+        derivatives2D[1] = m[1] * dX + m[4] * dY;
+        return true;
+    }
+
+    @Override
+    public boolean propagateDerivatives3D(@Vector3D double[] derivatives3D) {
+        double[] m = matrix3D;
+        double dX = derivatives3D[0];
+        double dY = derivatives3D[1];
+        double dZ = derivatives3D[2];
+        derivatives3D[0] = m[0] * dX + m[4] * dY + m[8] * dZ;
+        derivatives3D[1] = m[1] * dX + m[5] * dY + m[9] * dZ;
+        derivatives3D[2] = m[2] * dX + m[6] * dY + m[10] * dZ;
+        return true;
+    }
+
+    @Override
+    public boolean propagateDerivatives4D(@Vector4D double[] derivatives4D) {
+        double[] m = matrix4D;
+        double dX = derivatives4D[0];
+        double dY = derivatives4D[1];
+        double dZ = derivatives4D[2];
+        double dW = derivatives4D[3];
+        derivatives4D[0] = m[0] * dX + m[5] * dY + m[10] * dZ + m[15] * dW;
+        derivatives4D[1] = m[1] * dX + m[6] * dY + m[11] * dZ + m[16] * dW;
+        derivatives4D[2] = m[2] * dX + m[7] * dY + m[12] * dZ + m[17] * dW;
+        derivatives4D[3] = m[3] * dX + m[8] * dY + m[13] * dZ + m[18] * dW;
+        return true;
+    }
+
+    /**
+     * Fuses this transformer with a transformer applied after it.
+     * The result transforms coordinates like applying both transformers in order, up to floating point rounding.
+     *
+     * @param next the transformer applied after this one.
+     * @return an {@link AffineTransformer} applying this transformer and then the next one.
+     */
+    public AffineTransformer andThen(AffineTransformer next) {
+        return new AffineTransformer(
+            compose(next.matrix1D, matrix1D, 1),
+            compose(next.matrix2D, matrix2D, 2),
+            compose(next.matrix3D, matrix3D, 3),
+            compose(next.matrix4D, matrix4D, 4)
+        );
+    }
+
+    /**
+     * Composes two affine n x (n + 1) matrices, the result applies b and then a.
+     */
+    private static double[] compose(double[] a, double[] b, int n) {
+        int columns = n + 1;
+        double[] result = new double[n * columns];
+        for (int row = 0; row < n; row++) {
+            for (int column = 0; column < columns; column++) {
+                // The implicit last row of b is (0, ..., 0, 1).
+                double value = column == n ? a[row * columns + n] : 0;
+                for (int k = 0; k < n; k++) {
+                    value += a[row * columns + k] * b[k * columns + column];
+                }
+                result[row * columns + column] = value;
+            }
+        }
+        return result;
+    }
+
+    // Fused transformers are not a single 4D transform truncated to lower dimensions, so every matrix is defined.
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("affine")
+            .setDoubles("matrix1D", matrix1D)
+            .setDoubles("matrix2D", matrix2D)
+            .setDoubles("matrix3D", matrix3D)
+            .setDoubles("matrix4D", matrix4D)
+            .build();
+    }
+
+    /**
+     * Creates an {@link AffineTransformer} from its row-major n x (n + 1) matrices, the last column being the translation.
+     * Unlike the {@link AffineTransformerBuilder} this can recreate fused transformers, e.g. from their definition.
+     *
+     * @param matrix1D the 1 x 2 matrix transforming 1D coordinates.
+     * @param matrix2D the 2 x 3 matrix transforming 2D coordinates.
+     * @param matrix3D the 3 x 4 matrix transforming 3D coordinates.
+     * @param matrix4D the 4 x 5 matrix transforming 4D coordinates.
+     * @return an {@link AffineTransformer} applying the matrices.
+     */
+    public static AffineTransformer fromMatrices(double[] matrix1D, double[] matrix2D, double[] matrix3D, double[] matrix4D) {
+        return new AffineTransformer(checkMatrix(matrix1D, 1), checkMatrix(matrix2D, 2), checkMatrix(matrix3D, 3), checkMatrix(matrix4D, 4));
+    }
+
+    private static double[] checkMatrix(double[] matrix, int n) {
+        if (matrix.length != n * (n + 1)) {
+            throw new IllegalArgumentException("The " + n + "D matrix must have " + n * (n + 1) + " entries.");
+        }
+        return matrix.clone();
+    }
+
+    /**
+     * Gets an {@link AffineTransformerBuilder} to build an {@link AffineTransformer}.
+     *
+     * @return {@link AffineTransformerBuilder}.
+     */
+    public static AffineTransformerBuilder newBuilder() {
+        return new AffineTransformerBuilder();
+    }
+
+    /**
+     * Builder for the {@link AffineTransformer}.
+     * Every operation is applied after the operations added before it, the builder starts out with the identity.
+     */
+    @NullMarked
+    public static final class AffineTransformerBuilder {
+        // Row-major 4 x 5 matrix, the last column is the translation.
+        private double[] matrix = identity();
+
+        private AffineTransformerBuilder() {
+
+        }
+
+        /**
+         * Scales all axes by the same value.
+         *
+         * @param scale scale value for all dimensions.
+         * @return {@link AffineTransformerBuilder} this
+         */
+        public AffineTransformerBuilder scale(double scale) {
+            return scale(scale, scale, scale, scale);
+        }
+
+        /**
+         * Scales every axis by its own value.
+         *
+         * @param scaleX scale value for the X-dimension.
+         * @param scaleY scale value for the Y-dimension.
+         * @param scaleZ scale value for the Z-dimension.
+         * @param scaleW scale value for the W-dimension.
+         * @return {@link AffineTransformerBuilder} this
+         */
+        public AffineTransformerBuilder scale(double scaleX, double scaleY, double scaleZ, double scaleW) {
+            if (scaleX == 0 || scaleY == 0 || scaleZ == 0 || scaleW == 0) {
+                throw new IllegalArgumentException("A scale value must be a non-zero value");
+            }
+            double[] operation = identity();
+            operation[0] = scaleX;
+            operation[6] = scaleY;
+            operation[12] = scaleZ;
+            operation[18] = scaleW;
+            return apply(operation);
+        }
+
+        /**
+         * Rotates around the origin within a plane.
+         *
+         * @param plane the {@link RotationPlane} to rotate within.
+         * @param angle angle of the rotation in radians.
+         * @return {@link AffineTransformerBuilder} this
+         */
+        public AffineTransformerBuilder rotate(RotationPlane plane, double angle) {
+            int a = plane.getFirstAxis();
+            int b = plane.getSecondAxis();
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            double[] operation = identity();
+            operation[a * 5 + a] = cos;
+            operation[a * 5 + b] = -sin;
+            operation[b * 5 + a] = sin;
+            operation[b * 5 + b] = cos;
+            return apply(operation);
+        }
+
+        /**
+         * Translates every axis.
+         *
+         * @param translateX translation along the X-axis.
+         * @param translateY translation along the Y-axis.
+         * @param translateZ translation along the Z-axis.
+         * @param translateW translation along the W-axis.
+         * @return {@link AffineTransformerBuilder} this
+         */
+        public AffineTransformerBuilder translate(double translateX, double translateY, double translateZ, double translateW) {
+            double[] operation = identity();
+            operation[4] = translateX;
+            operation[9] = translateY;
+            operation[14] = translateZ;
+            operation[19] = translateW;
+            return apply(operation);
+        }
+
+        /**
+         * Applies an arbitrary linear transformation, e.g. a shear.
+         *
+         * @param linear a 4x4 matrix, indexed by row and then column, multiplied with the coordinate column vector (x, y, z, w).
+         * @return {@link AffineTransformerBuilder} this
+         */
+        public AffineTransformerBuilder linear(double[][] linear) {
+            if (linear.length != 4) {
+                throw new IllegalArgumentException("The linear transformation must be a 4x4 matrix.");
+            }
+            double[] operation = identity();
+            for (int row = 0; row < 4; row++) {
+                if (linear[row].length != 4) {
+                    throw new IllegalArgumentException("The linear transformation must be a 4x4 matrix.");
+                }
+                System.arraycopy(linear[row], 0, operation, row * 5, 4);
+            }
+            return apply(operation);
+        }
+
+        private AffineTransformerBuilder apply(double[] operation) {
+            matrix = compose(operation, matrix, 4);
+            return this;
+        }
+
+        public AffineTransformer build() {
+            return new AffineTransformer(truncate(1), truncate(2), truncate(3), matrix.clone());
+        }
+
+        /**
+         * Gets the part of the 4D transform acting on the first n axes.
+         */
+        private double[] truncate(int n) {
+            double[] truncated = new double[n * (n + 1)];
+            for (int row = 0; row < n; row++) {
+                System.arraycopy(matrix, row * 5, truncated, row * (n + 1), n);
+                truncated[row * (n + 1) + n] = matrix[row * 5 + 4];
+            }
+            return truncated;
+        }
+
+        private static double[] identity() {
+            double[] identity = new double[20];
+            for (int i = 0; i < 4; i++) {
+                identity[i * 5 + i] = 1;
+            }
+            return identity;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package de.articdive.jnoise.transformers.affine;
+
+/**
+ * Enum representing the planes a rotation of an {@link AffineTransformer} can take place in.
+ * A rotation by a positive angle rotates the first axis of the plane towards the second axis.
+ *
+ * @author Articdive
+ */
+public enum RotationPlane {
+    /**
+     * Plane spanned by the X-axis and the Y-axis.
+     */
+    XY(0, 1),
+    /**
+     * Plane spanned by the X-axis and the Z-axis.
+     */
+    XZ(0, 2),
+    /**
+     * Plane spanned by the X-axis and the W-axis.
+     */
+    XW(0, 3),
+    /**
+     * Plane spanned by the Y-axis and the Z-axis.
+     */
+    YZ(1, 2),
+    /**
+     * Plane spanned by the Y-axis and the W-axis.
+     */
+    YW(1, 3),
+    /**
+     * Plane spanned by the Z-axis and the W-axis.
+     */
+    ZW(2, 3);
+
+    private final int firstAxis;
+    private final int secondAxis;
+
+    RotationPlane(int firstAxis, int secondAxis) {
+        this.firstAxis = firstAxis;
+        this.secondAxis = secondAxis;
+    }
+
+    int getFirstAxis() {
+        return firstAxis;
+    }
+
+    int getSecondAxis() {
+        return secondAxis;
+    }
+}
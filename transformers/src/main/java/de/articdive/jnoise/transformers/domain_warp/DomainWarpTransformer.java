@@ -4,18 +4,22 @@ import de.articdive.jnoise.core.api.annotations.Vector1D;
 import de.articdive.jnoise.core.api.annotations.Vector2D;
 import de.articdive.jnoise.core.api.annotations.Vector3D;
 import de.articdive.jnoise.core.api.annotations.Vector4D;
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.pipeline.NoiseSource;
 import de.articdive.jnoise.core.api.pipeline.NoiseSourceBuilder;
 import de.articdive.jnoise.core.api.transformers.DetailedTransformer;
 import org.jspecify.annotations.NullMarked;
 
+import java.util.List;
+
 /**
  * Domain warping transformer. This will allow for pinching, streching, twisting, bending and basically any deformation on noise.
  *
  * @author Articdive
  */
 @NullMarked
-public final class DomainWarpTransformer implements DetailedTransformer {
+public final class DomainWarpTransformer implements DetailedTransformer, Definable {
     private final NoiseSource noiseSource;
     private final @Vector4D double[] warpingVector;
     private final @Vector2D double[] offset2D;
@@ -97,6 +101,40 @@ public final class DomainWarpTransformer implements DetailedTransformer {
         vec4D[3] += warpingVector[2] * q3;
     }
 
+    @Override
+    public List<NoiseSource> getSources() {
+        return List.of(noiseSource);
+    }
+
+    @Override
+    public DetailedTransformer withSources(List<NoiseSource> sources) {
+        if (sources.size() != 1) {
+            throw new IllegalArgumentException("A domain warp transformer evaluates exactly 1 source.");
+        }
+        return new DomainWarpTransformer(sources.get(0), warpingVector, offset2D, offset3D, offset4D);
+    }
+
+    // The offset vectors of each dimension are defined one after another.
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("domainWarp")
+            .setDefinition("noiseSource", noiseSource)
+            .setDoubles("warpingVector", warpingVector)
+            .setDoubles("offset2D", offset2D)
+            .setDoubles("offset3D", flatten(offset3D))
+            .setDoubles("offset4D", flatten(offset4D))
+            .build();
+    }
+
+    private static double[] flatten(double[][] vectors) {
+        int dimensions = vectors[0].length;
+        double[] flattened = new double[vectors.length * dimensions];
+        for (int i = 0; i < vectors.length; i++) {
+            System.arraycopy(vectors[i], 0, flattened, i * dimensions, dimensions);
+        }
+        return flattened;
+    }
+
     /**
      * Gets a {@link DomainWarpTransformerBuilder} to build a {@link DomainWarpTransformer}.
      *
@@ -1,5 +1,7 @@
 package de.articdive.jnoise.transformers.scale;
 
+import de.articdive.jnoise.core.api.definition.Definable;
+import de.articdive.jnoise.core.api.definition.NoiseDefinition;
 import de.articdive.jnoise.core.api.transformers.SimpleTransformer;
 import org.jspecify.annotations.NullMarked;
 
@@ -9,7 +11,7 @@ import org.jspecify.annotations.NullMarked;
  * @author Articdive
  */
 @NullMarked
-public final class ScaleTransformer implements SimpleTransformer {
+public final class ScaleTransformer implements SimpleTransformer, Definable {
     private final double scaleX;
     private final double scaleY;
     private final double scaleZ;
@@ -57,4 +59,36 @@ public final class ScaleTransformer implements SimpleTransformer {
     public double transformW(double w) {
         return w * scaleW;
     }
+
+    @Override
+    public boolean isMonotonic() {
+        return true;
+    }
+
+    @Override
+    public double derivativeX(double x) {
+        return scaleX;
+    }
+
+    @Override
+    public double derivativeY(double y) {
+        return scaleY;
+    }
+
+    @Override
+    public double derivativeZ(double z) {
+        return scaleZ;
+    }
+
+    @Override
+    public double derivativeW(double w) {
+        return scaleW;
+    }
+
+    @Override
+    public NoiseDefinition getDefinition() {
+        return NoiseDefinition.newBuilder("scale")
+            .setDoubles("scale", scaleX, scaleY, scaleZ, scaleW)
+            .build();
+    }
 }
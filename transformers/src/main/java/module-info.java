@@ -4,6 +4,7 @@
  * Requires the core JNoise module.
  */
 module de.articdive.jnoise.transformers {
+  exports de.articdive.jnoise.transformers.affine;
   exports de.articdive.jnoise.transformers.domain_warp;
   exports de.articdive.jnoise.transformers.scale;
 